@@ -1,13 +1,46 @@
 package br.com.nimblebaas.payment_gateway.clients.configuration;
 
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import feign.Client;
 import feign.Logger;
+import feign.Request;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
 
 @Configuration
 public class FeignClientConfig {
-    
+
+    @Value("${app.api.authorizer.pool.max-connections}")
+    private Integer maxConnections;
+
+    @Value("${app.api.authorizer.pool.max-connections-per-route}")
+    private Integer maxConnectionsPerRoute;
+
+    @Value("${app.api.authorizer.pool.idle-timeout-millis}")
+    private Long idleTimeout;
+
+    @Value("${app.api.authorizer.timeout.connect-millis}")
+    private Long connectTimeout;
+
+    @Value("${app.api.authorizer.timeout.read-millis}")
+    private Long readTimeout;
+
+    @Value("${app.api.authorizer.timeout.connection-request-millis}")
+    private Long connectionRequestTimeout;
+
     @Bean
     Logger.Level feignLoggerLevel() {
         return Logger.Level.FULL;
@@ -17,4 +50,47 @@ public class FeignClientConfig {
     Logger feignLogger() {
         return new CustomFeignLogger();
     }
+
+    @Bean
+    PoolingHttpClientConnectionManager feignConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(idleTimeout))
+                .build())
+            .build();
+    }
+
+    @Bean
+    CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager feignConnectionManager) {
+        return HttpClients.custom()
+            .setConnectionManager(feignConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout))
+            .disableAutomaticRetries()
+            .disableCookieManagement()
+            .build();
+    }
+
+    @Bean
+    Client feignClient(CloseableHttpClient feignHttpClient) {
+        return new ApacheHttp5Client(feignHttpClient);
+    }
+
+    @Bean
+    Request.Options feignRequestOptions() {
+        return new Request.Options(connectTimeout, TimeUnit.MILLISECONDS, readTimeout, TimeUnit.MILLISECONDS, false);
+    }
+
+    @Bean
+    Retryer feignRetryer() {
+        return Retryer.NEVER_RETRY;
+    }
 }
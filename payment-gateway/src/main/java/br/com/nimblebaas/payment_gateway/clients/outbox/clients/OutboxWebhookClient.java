@@ -0,0 +1,17 @@
+package br.com.nimblebaas.payment_gateway.clients.outbox.clients;
+
+import java.util.List;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import br.com.nimblebaas.payment_gateway.clients.configuration.FeignClientConfig;
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.OutboxEventRecord;
+
+@FeignClient(value = "outbox-webhook", url = "${app.outbox.sink.webhook.url}", configuration = FeignClientConfig.class)
+public interface OutboxWebhookClient {
+
+    @PostMapping
+    void send(@RequestBody List<OutboxEventRecord> events);
+}
@@ -0,0 +1,109 @@
+package br.com.nimblebaas.payment_gateway.configs.async;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import br.com.nimblebaas.payment_gateway.enums.async.AsyncRejectionPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    private static final String EXECUTOR_NAME = "async";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private Boolean virtualThreadsEnabled;
+
+    @Value("${app.async.executor.pool-size}")
+    private Integer poolSize;
+
+    @Value("${app.async.executor.queue-capacity}")
+    private Integer queueCapacity;
+
+    @Value("${app.async.executor.rejection-policy}")
+    private AsyncRejectionPolicy rejectionPolicy;
+
+    private Executor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = useVirtualThreads() ? new VirtualThreadTaskExecutor(EXECUTOR_NAME + "-") : buildThreadPool();
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return executor;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (throwable, method, params) -> log.error("Erro ao executar tarefa assíncrona {}", method.getName(), throwable);
+    }
+
+    private boolean useVirtualThreads() {
+        return Boolean.TRUE.equals(virtualThreadsEnabled)
+            && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+    }
+
+    private ExecutorService buildThreadPool() {
+        var threadPoolExecutor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory(EXECUTOR_NAME + "-"),
+            countingRejections(buildRejectionHandler()));
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, EXECUTOR_NAME);
+    }
+
+    private RejectedExecutionHandler buildRejectionHandler() {
+        return switch (rejectionPolicy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+    }
+
+    private RejectedExecutionHandler countingRejections(RejectedExecutionHandler rejectedExecutionHandler) {
+        var rejectedCounter = Counter.builder("executor.rejected.tasks")
+            .tag("name", EXECUTOR_NAME)
+            .tag("policy", rejectionPolicy.name())
+            .register(meterRegistry);
+        return (task, threadPoolExecutor) -> {
+            rejectedCounter.increment();
+            log.warn("Fila de tarefas assíncronas cheia, aplicando política {}", rejectionPolicy);
+            rejectedExecutionHandler.rejectedExecution(task, threadPoolExecutor);
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService)
+            executorService.shutdown();
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.nimblebaas.payment_gateway.configs.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String EXECUTOR_NAME = "password-hashing";
+    private static final String HASH_METRIC = "password.hash.duration";
+    private static final String REJECTED_METRIC = "password.hash.rejected";
+
+    private final PasswordEncoder delegate;
+    private final long maxWaitMillis;
+    private final long maxWaitNanos;
+    private final ExecutorService executor;
+    private final Timer queueWaitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry, int poolSize, int queueCapacity, long maxWaitMillis) {
+        this.delegate = delegate;
+        this.maxWaitMillis = maxWaitMillis;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+
+        var threadPoolExecutor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory(EXECUTOR_NAME + "-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, EXECUTOR_NAME);
+
+        queueWaitTimer = Timer.builder("password.hash.queue.wait")
+            .publishPercentileHistogram()
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        encodeTimer = Timer.builder(HASH_METRIC)
+            .tag("operation", "encode")
+            .publishPercentileHistogram()
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        matchesTimer = Timer.builder(HASH_METRIC)
+            .tag("operation", "matches")
+            .publishPercentileHistogram()
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        queueFullCounter = Counter.builder(REJECTED_METRIC).tag("reason", "queue_full").register(meterRegistry);
+        timeoutCounter = Counter.builder(REJECTED_METRIC).tag("reason", "timeout").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void verifyHashFitsMaxWait() {
+        var start = System.nanoTime();
+        delegate.encode("password-hashing-startup-check");
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        if (elapsedMillis > maxWaitMillis)
+            throw new IllegalStateException(String.format(
+                "Hashing de senha levou %d ms, acima do limite de espera de %d ms; reduza o custo do hash ou aumente o limite",
+                elapsedMillis,
+                maxWaitMillis));
+
+        log.info("Hashing de senha levou {} ms na inicialização, limite de espera na fila de {} ms", elapsedMillis, maxWaitMillis);
+    }
+
+    private <T> T execute(Timer hashTimer, Supplier<T> hashOperation) {
+        var submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                var queueWait = System.nanoTime() - submittedAt;
+                queueWaitTimer.record(queueWait, TimeUnit.NANOSECONDS);
+                if (queueWait > maxWaitNanos) {
+                    timeoutCounter.increment();
+                    log.warn("Hashing de senha esperou mais de {} ms na fila, requisição rejeitada", maxWaitMillis);
+                    throw capacityExceeded();
+                }
+                return hashTimer.record(hashOperation);
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            log.warn("Fila de hashing de senhas cheia, requisição rejeitada");
+            throw capacityExceeded();
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw capacityExceeded();
+        }
+    }
+
+    private BusinessRuleException capacityExceeded() {
+        return new BusinessRuleException(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            getClass(),
+            BusinessRules.PASSWORD_HASHING_CAPACITY_EXCEEDED,
+            "Serviço de autenticação sobrecarregado, tente novamente em instantes");
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
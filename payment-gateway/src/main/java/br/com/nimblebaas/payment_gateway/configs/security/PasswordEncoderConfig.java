@@ -1,16 +1,51 @@
 package br.com.nimblebaas.payment_gateway.configs.security;
 
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class PasswordEncoderConfig {
-    
-    @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String PBKDF2_ID = "pbkdf2";
+
+    @Value("${app.security.password.encoder-id}")
+    private String encoderId;
+
+    @Value("${app.security.password.bcrypt.strength}")
+    private Integer bcryptStrength;
+
+    @Value("${app.security.password.hashing.pool-size}")
+    private Integer hashingPoolSize;
+
+    @Value("${app.security.password.hashing.queue-capacity}")
+    private Integer hashingQueueCapacity;
+
+    @Value("${app.security.password.hashing.max-wait-millis}")
+    private Long hashingMaxWait;
+
+    @Bean(destroyMethod = "shutdown")
+    BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        var passwordEncoder = new BoundedPasswordEncoder(delegatingPasswordEncoder(), meterRegistry, hashingPoolSize, hashingQueueCapacity, hashingMaxWait);
+        passwordEncoder.verifyHashFitsMaxWait();
+        return passwordEncoder;
     }
-}
 
+    PasswordEncoder delegatingPasswordEncoder() {
+        var bcryptPasswordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        var passwordEncoder = new DelegatingPasswordEncoder(encoderId, Map.of(
+            BCRYPT_ID, bcryptPasswordEncoder,
+            PBKDF2_ID, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcryptPasswordEncoder);
+        return passwordEncoder;
+    }
+}
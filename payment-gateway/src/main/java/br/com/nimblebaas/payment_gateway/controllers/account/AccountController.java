@@ -1,18 +1,33 @@
 package br.com.nimblebaas.payment_gateway.controllers.account;
 
+import static java.util.Objects.isNull;
+
+import java.time.LocalDateTime;
+
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.nimblebaas.payment_gateway.configs.authentication.UserAuthenticated;
 import br.com.nimblebaas.payment_gateway.dtos.input.account.MakeSelfDepositInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.account.StatementFilterInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.export.ExportFilterInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.output.account.BalanceOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.account.StatementOutputRecord;
 import br.com.nimblebaas.payment_gateway.services.account.AccountService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -32,7 +47,8 @@ public class AccountController {
     @GetMapping("/balance")
     @Operation(
         summary = "Consultar saldo",
-        description = "Retorna o saldo atual da conta do usuário autenticado",
+        description = "Retorna o saldo atual da conta do usuário autenticado ou, quando informado o parâmetro at, " +
+                      "o saldo naquele instante calculado a partir do último saldo diário consolidado",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
@@ -44,11 +60,67 @@ public class AccountController {
         @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
-    public ResponseEntity<BalanceOutputRecord> getBalance(@AuthenticationPrincipal UserAuthenticated userAuthenticated) {
-        var balance = accountService.getBalance(userAuthenticated);
+    public ResponseEntity<BalanceOutputRecord> getBalance(
+            @AuthenticationPrincipal UserAuthenticated userAuthenticated,
+            @Parameter(description = "Data e hora para consultar o saldo histórico", example = "2025-10-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        var balance = isNull(at)
+            ? accountService.getBalance(userAuthenticated)
+            : accountService.getBalanceAt(userAuthenticated, at);
         return ResponseEntity.ok(balance);
     }
 
+    @GetMapping("/statement")
+    @Operation(
+        summary = "Consultar extrato",
+        description = "Retorna as transações concluídas da conta do usuário autenticado, da mais antiga para a mais recente, " +
+                      "paginadas por cursor e com o saldo após cada lançamento. Use o nextCursor da resposta para buscar a próxima página.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Extrato retornado com sucesso",
+            content = @Content(schema = @Schema(implementation = StatementOutputRecord.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Período ou cursor inválido, ou conta não encontrada"),
+        @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<StatementOutputRecord> getStatement(
+            @AuthenticationPrincipal UserAuthenticated userAuthenticated,
+            @ParameterObject StatementFilterInputRecord statementFilterInputRecord) {
+        var statement = accountService.getStatement(userAuthenticated, statementFilterInputRecord);
+        return ResponseEntity.ok(statement);
+    }
+
+    @GetMapping("/transactions/export")
+    @Operation(
+        summary = "Exportar transações",
+        description = "Exporta todas as transações da conta do usuário autenticado, da mais antiga para a mais recente, " +
+                      "em NDJSON (padrão) ou CSV. As linhas são enviadas conforme são lidas do banco, sem carregar a exportação inteira em memória.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido ou conta não encontrada"),
+        @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @AuthenticationPrincipal UserAuthenticated userAuthenticated,
+            @ParameterObject ExportFilterInputRecord exportFilterInputRecord) {
+        var export = accountService.exportTransactions(userAuthenticated, exportFilterInputRecord);
+        var format = exportFilterInputRecord.format();
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("transactions." + format.getExtension())
+                .build()
+                .toString())
+            .body(export);
+    }
+
     @PostMapping("/deposit")
     @Operation(
         summary = "Realizar depósito",
@@ -59,13 +131,17 @@ public class AccountController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Depósito realizado com sucesso"),
         @ApiResponse(responseCode = "400", description = "Dados do cartão inválidos ou depósito não autorizado"),
+        @ApiResponse(responseCode = "409", description = "Requisição com a mesma chave de idempotência ainda em processamento"),
+        @ApiResponse(responseCode = "422", description = "Chave de idempotência já utilizada em outra requisição"),
         @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     public ResponseEntity<Void> makeSelfDeposit(
             @AuthenticationPrincipal UserAuthenticated userAuthenticated, 
+            @Parameter(description = "Chave para repetir a requisição sem reprocessá-la", example = "6f1c2a9e-3b7d-4c55-9a0e-8d2f4b1e7c30")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody MakeSelfDepositInputRecord makeSelfDepositInputRecord) {
-        accountService.makeSelfDeposit(makeSelfDepositInputRecord, userAuthenticated);
+        accountService.makeSelfDeposit(makeSelfDepositInputRecord, userAuthenticated, idempotencyKey);
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,27 +1,36 @@
 package br.com.nimblebaas.payment_gateway.controllers.charge;
 
-import java.util.List;
-
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import br.com.nimblebaas.payment_gateway.configs.authentication.UserAuthenticated;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeCancelInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeFilterInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargePaymentInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.export.ExportFilterInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargeOutputDTO;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargePageOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargePaymentStatusOutputRecord;
 import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
 import br.com.nimblebaas.payment_gateway.services.charge.ChargeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -52,80 +61,161 @@ public class ChargeController {
             content = @Content(schema = @Schema(implementation = ChargeOutputDTO.class))
         ),
         @ApiResponse(responseCode = "400", description = "Dados inválidos ou destinatário não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Requisição com a mesma chave de idempotência ainda em processamento"),
+        @ApiResponse(responseCode = "422", description = "Chave de idempotência já utilizada em outra requisição"),
         @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
-    public ResponseEntity<ChargeOutputDTO> create(@AuthenticationPrincipal UserAuthenticated userAuthenticated, @RequestBody ChargeInputRecord chargeInputRecord) {
-        var charge = chargeService.create(userAuthenticated, chargeInputRecord);
+    public ResponseEntity<ChargeOutputDTO> create(
+            @AuthenticationPrincipal UserAuthenticated userAuthenticated,
+            @Parameter(description = "Chave para repetir a requisição sem reprocessá-la", example = "6f1c2a9e-3b7d-4c55-9a0e-8d2f4b1e7c30")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody ChargeInputRecord chargeInputRecord) {
+        var charge = chargeService.create(userAuthenticated, chargeInputRecord, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(charge);
     }
 
     @GetMapping("/sent")
     @Operation(
         summary = "Listar cobranças enviadas",
-        description = "Retorna a lista de cobranças criadas pelo usuário autenticado. " +
-                      "Pode filtrar por status (PENDING, PAID, CANCELLED).",
+        description = "Retorna uma página de cobranças criadas pelo usuário autenticado, da mais recente para a mais antiga. " +
+                      "Pode filtrar por status (PENDING, PAID, CANCELLED), período de criação e faixa de valor. " +
+                      "Use o nextCursor da resposta no parâmetro cursor para buscar a próxima página.",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Lista de cobranças retornada com sucesso",
-            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ChargeOutputDTO.class)))
+            description = "Página de cobranças retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = ChargePageOutputRecord.class))
         ),
+        @ApiResponse(responseCode = "400", description = "Filtros ou cursor inválidos"),
         @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
-    public ResponseEntity<List<ChargeOutputDTO>> getSentCharges(
+    public ResponseEntity<ChargePageOutputRecord> getSentCharges(
             @AuthenticationPrincipal UserAuthenticated userAuthenticated,
-            @Parameter(description = "Lista de status para filtrar (PENDING, PAID, CANCELLED)")
-            @RequestParam(required = false) List<ChargeStatus> statuses) {
-        var sentCharges = chargeService.getSentChargesByUser(userAuthenticated, statuses);
+            @ParameterObject ChargeFilterInputRecord chargeFilterInputRecord) {
+        var sentCharges = chargeService.getSentChargesByUser(userAuthenticated, chargeFilterInputRecord);
         return ResponseEntity.ok(sentCharges);
     }
 
     @GetMapping("/received")
     @Operation(
         summary = "Listar cobranças recebidas",
-        description = "Retorna a lista de cobranças recebidas pelo usuário autenticado. " +
-                      "Pode filtrar por status (PENDING, PAID, CANCELLED).",
+        description = "Retorna uma página de cobranças recebidas pelo usuário autenticado, da mais recente para a mais antiga. " +
+                      "Pode filtrar por status (PENDING, PAID, CANCELLED), período de criação e faixa de valor. " +
+                      "Use o nextCursor da resposta no parâmetro cursor para buscar a próxima página.",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Lista de cobranças retornada com sucesso",
-            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ChargeOutputDTO.class)))
+            description = "Página de cobranças retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = ChargePageOutputRecord.class))
         ),
+        @ApiResponse(responseCode = "400", description = "Filtros ou cursor inválidos"),
         @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
-    public ResponseEntity<List<ChargeOutputDTO>> getReceivedCharges(
+    public ResponseEntity<ChargePageOutputRecord> getReceivedCharges(
             @AuthenticationPrincipal UserAuthenticated userAuthenticated,
-            @Parameter(description = "Lista de status para filtrar (PENDING, PAID, CANCELLED)")
-            @RequestParam(required = false) List<ChargeStatus> statuses) {
-        var receivedCharges = chargeService.getReceivedChargesByUser(userAuthenticated, statuses);
+            @ParameterObject ChargeFilterInputRecord chargeFilterInputRecord) {
+        var receivedCharges = chargeService.getReceivedChargesByUser(userAuthenticated, chargeFilterInputRecord);
         return ResponseEntity.ok(receivedCharges);
     }
 
+    @GetMapping("/export")
+    @Operation(
+        summary = "Exportar cobranças",
+        description = "Exporta todas as cobranças enviadas e recebidas pelo usuário autenticado, da mais antiga para a mais recente, " +
+                      "em NDJSON (padrão) ou CSV. As linhas são enviadas conforme são lidas do banco, sem carregar a exportação inteira em memória.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Período inválido"),
+        @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<StreamingResponseBody> exportCharges(
+            @AuthenticationPrincipal UserAuthenticated userAuthenticated,
+            @ParameterObject ExportFilterInputRecord exportFilterInputRecord) {
+        var export = chargeService.exportCharges(userAuthenticated, exportFilterInputRecord);
+        var format = exportFilterInputRecord.format();
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("charges." + format.getExtension())
+                .build()
+                .toString())
+            .body(export);
+    }
+
     @PostMapping("/pay")
     @Operation(
         summary = "Pagar cobrança",
         description = "Realiza o pagamento de uma cobrança usando saldo ou cartão de crédito. " +
                       "Para pagamento com saldo, o valor é debitado da conta e creditado ao destinatário. " +
-                      "Para pagamento com cartão, é feita validação com autorizador externo.",
+                      "Para pagamento com cartão, é feita validação com autorizador externo. " +
+                      "Quando o pagamento com cartão é processado de forma assíncrona, a cobrança fica em PAYMENT_PROCESSING " +
+                      "e o resultado deve ser consultado em GET /charges/{identifier}.",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Pagamento realizado com sucesso"),
+        @ApiResponse(
+            responseCode = "202",
+            description = "Pagamento com cartão aceito para processamento assíncrono",
+            content = @Content(schema = @Schema(implementation = ChargePaymentStatusOutputRecord.class))
+        ),
         @ApiResponse(responseCode = "400", description = "Cobrança inválida, saldo insuficiente ou pagamento não autorizado"),
+        @ApiResponse(responseCode = "409", description = "Requisição com a mesma chave de idempotência ainda em processamento"),
+        @ApiResponse(responseCode = "422", description = "Chave de idempotência já utilizada em outra requisição"),
         @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
         @ApiResponse(responseCode = "404", description = "Cobrança não encontrada"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
-    public ResponseEntity<Void> pay(@AuthenticationPrincipal UserAuthenticated userAuthenticated, @RequestBody ChargePaymentInputRecord chargePaymentInputRecord) {
-        chargeService.pay(userAuthenticated, chargePaymentInputRecord);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<ChargePaymentStatusOutputRecord> pay(
+            @AuthenticationPrincipal UserAuthenticated userAuthenticated,
+            @Parameter(description = "Chave para repetir a requisição sem reprocessá-la", example = "6f1c2a9e-3b7d-4c55-9a0e-8d2f4b1e7c30")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody ChargePaymentInputRecord chargePaymentInputRecord) {
+        var payment = chargeService.pay(userAuthenticated, chargePaymentInputRecord, idempotencyKey);
+        if (payment.status() != ChargeStatus.PAYMENT_PROCESSING)
+            return ResponseEntity.noContent().build();
+
+        var location = UriComponentsBuilder.fromPath("/charges/{identifier}")
+            .buildAndExpand(payment.identifier())
+            .toUri();
+        return ResponseEntity.accepted().location(location).body(payment);
+    }
+
+    @GetMapping("/{identifier}")
+    @Operation(
+        summary = "Consultar cobrança",
+        description = "Retorna uma cobrança enviada ou recebida pelo usuário autenticado. " +
+                      "Com waitSeconds, a resposta aguarda até o pagamento em processamento ser concluído ou o tempo acabar, " +
+                      "retornando o status atual da cobrança.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cobrança retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = ChargeOutputDTO.class))
+        ),
+        @ApiResponse(responseCode = "401", description = "Usuário não autenticado"),
+        @ApiResponse(responseCode = "404", description = "Cobrança não encontrada"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public DeferredResult<ChargeOutputDTO> getCharge(
+            @AuthenticationPrincipal UserAuthenticated userAuthenticated,
+            @Parameter(description = "Identificador único da cobrança", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable String identifier,
+            @Parameter(description = "Tempo máximo, em segundos, para aguardar a conclusão de um pagamento em processamento", example = "10")
+            @RequestParam(required = false) Integer waitSeconds) {
+        return chargeService.getCharge(userAuthenticated, identifier, waitSeconds);
     }
 
     @PostMapping("/cancel")
@@ -0,0 +1,26 @@
+package br.com.nimblebaas.payment_gateway.dtos.input.account;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Período e paginação por cursor para o extrato da conta")
+public record StatementFilterInputRecord(
+
+    @Schema(description = "Data e hora inicial do extrato (inclusiva)", example = "2025-10-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime createdFrom,
+
+    @Schema(description = "Data e hora final do extrato (exclusiva)", example = "2025-11-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime createdTo,
+
+    @Schema(description = "Cursor retornado em nextCursor pela página anterior")
+    String cursor,
+
+    @Schema(description = "Quantidade de lançamentos por página", example = "50")
+    Integer size
+) {
+}
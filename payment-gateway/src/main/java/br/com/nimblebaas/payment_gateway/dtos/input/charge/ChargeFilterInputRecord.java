@@ -0,0 +1,38 @@
+package br.com.nimblebaas.payment_gateway.dtos.input.charge;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Filtros e paginação por cursor para listagem de cobranças")
+public record ChargeFilterInputRecord(
+
+    @Schema(description = "Lista de status para filtrar (PENDING, PAID, CANCELLED)", example = "PENDING")
+    List<ChargeStatus> statuses,
+
+    @Schema(description = "Data e hora inicial de criação (inclusiva)", example = "2025-10-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime createdFrom,
+
+    @Schema(description = "Data e hora final de criação (exclusiva)", example = "2025-11-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime createdTo,
+
+    @Schema(description = "Valor mínimo da cobrança em reais", example = "10.00")
+    BigDecimal minAmount,
+
+    @Schema(description = "Valor máximo da cobrança em reais", example = "500.00")
+    BigDecimal maxAmount,
+
+    @Schema(description = "Cursor retornado em nextCursor pela página anterior")
+    String cursor,
+
+    @Schema(description = "Quantidade de cobranças por página", example = "50")
+    Integer size
+) {
+}
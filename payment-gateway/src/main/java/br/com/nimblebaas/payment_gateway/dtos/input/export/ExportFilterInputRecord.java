@@ -0,0 +1,31 @@
+package br.com.nimblebaas.payment_gateway.dtos.input.export;
+
+import static java.util.Objects.isNull;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import br.com.nimblebaas.payment_gateway.enums.export.ExportFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Formato e período da exportação")
+public record ExportFilterInputRecord(
+
+    @Schema(description = "Formato do arquivo exportado (NDJSON, CSV)", example = "NDJSON", defaultValue = "NDJSON")
+    ExportFormat format,
+
+    @Schema(description = "Data e hora inicial de criação (inclusiva)", example = "2025-10-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime createdFrom,
+
+    @Schema(description = "Data e hora final de criação (exclusiva)", example = "2025-11-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    LocalDateTime createdTo
+) {
+
+    public ExportFilterInputRecord {
+        if (isNull(format))
+            format = ExportFormat.NDJSON;
+    }
+}
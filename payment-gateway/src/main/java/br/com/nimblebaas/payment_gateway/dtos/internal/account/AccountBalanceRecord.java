@@ -0,0 +1,15 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.account;
+
+import java.math.BigDecimal;
+
+public record AccountBalanceRecord(BigDecimal totalBalance, BigDecimal holdBalance, BigDecimal pendingCreditBalance) {
+
+    public AccountBalanceRecord(BigDecimal totalBalance, BigDecimal holdBalance) {
+        this(totalBalance, holdBalance, BigDecimal.ZERO);
+    }
+
+    public BigDecimal availableBalance() {
+        var availableBalance = totalBalance.subtract(holdBalance);
+        return availableBalance.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : availableBalance;
+    }
+}
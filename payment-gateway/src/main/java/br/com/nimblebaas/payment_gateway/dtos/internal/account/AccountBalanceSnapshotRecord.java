@@ -0,0 +1,17 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.account;
+
+import java.math.BigDecimal;
+
+public record AccountBalanceSnapshotRecord(BigDecimal totalBalance, BigDecimal holdBalance, Long version) {
+
+    public boolean canApply(BigDecimal totalBalanceDelta, BigDecimal holdBalanceDelta) {
+        var newTotalBalance = totalBalance.add(totalBalanceDelta);
+        var newHoldBalance = holdBalance.add(holdBalanceDelta);
+
+        if (newTotalBalance.compareTo(BigDecimal.ZERO) < 0 || newHoldBalance.compareTo(BigDecimal.ZERO) < 0)
+            return false;
+
+        return holdBalanceDelta.compareTo(BigDecimal.ZERO) <= 0 
+            || newTotalBalance.subtract(newHoldBalance).compareTo(BigDecimal.ZERO) >= 0;
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.account;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyAmountRecord(LocalDate day, BigDecimal amount) {
+}
@@ -0,0 +1,34 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.account;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+
+public record StatementCursorRecord(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public StatementCursorRecord(StatementEntryRecord entry) {
+        this(entry.createdAt(), entry.id());
+    }
+
+    public String encode() {
+        var value = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static StatementCursorRecord decode(String cursor) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = value.indexOf(SEPARATOR);
+            return new StatementCursorRecord(
+                LocalDateTime.parse(value.substring(0, separator)),
+                Long.valueOf(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessRuleException(StatementCursorRecord.class, BusinessRules.INVALID_INPUT_DATA, "Cursor de paginação inválido");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.account;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
+
+public record StatementEntryRecord(
+    Long id,
+    LocalDateTime createdAt,
+    TransactionType type,
+    TransactionPurpose purpose,
+    BigDecimal amount,
+    String counterpartCpf,
+    String chargeIdentifier) {
+
+    public BigDecimal signedAmount() {
+        return TransactionType.CREDIT.equals(type) ? amount : amount.negate();
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.account;
+
+import java.time.LocalDateTime;
+
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus;
+
+public record SweptHoldBalanceRecord(Long id, HoldBalanceStatus status, LocalDateTime createdAt) {
+}
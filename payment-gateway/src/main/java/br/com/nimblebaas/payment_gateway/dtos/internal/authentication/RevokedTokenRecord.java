@@ -0,0 +1,6 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.authentication;
+
+import java.time.Instant;
+
+public record RevokedTokenRecord(String jti, Instant revokedAt) {
+}
@@ -0,0 +1,36 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.charge;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+
+public record ChargeCursorRecord(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static final ChargeCursorRecord FIRST_PAGE = new ChargeCursorRecord(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public ChargeCursorRecord(ChargeListItemRecord charge) {
+        this(charge.createdAt(), charge.id());
+    }
+
+    public String encode() {
+        var value = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChargeCursorRecord decode(String cursor) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = value.indexOf(SEPARATOR);
+            return new ChargeCursorRecord(
+                LocalDateTime.parse(value.substring(0, separator)),
+                Long.valueOf(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessRuleException(ChargeCursorRecord.class, BusinessRules.INVALID_INPUT_DATA, "Cursor de paginação inválido");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.charge;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.enums.charge.PaymentMethod;
+
+public record ChargeListItemRecord(
+    Long id,
+    String identifier,
+    String originatorCpf,
+    String destinationCpf,
+    BigDecimal amount,
+    String description,
+    ChargeStatus status,
+    LocalDateTime createdAt,
+    PaymentMethod paymentMethod,
+    String authorizationIdentifier,
+    String cardNumber,
+    LocalDateTime paidAt,
+    LocalDateTime cancelledAt) {
+}
@@ -0,0 +1,13 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.charge;
+
+public record ChargePaymentCardRecord(String cardNumber, String cardExpirationDate, String cardCvv) {
+
+    public ChargePaymentCardRecord(ChargePaymentDTO chargePaymentDTO) {
+        this(chargePaymentDTO.getCardNumber(), chargePaymentDTO.getCardExpirationDate(), chargePaymentDTO.getCardCvv());
+    }
+
+    @Override
+    public String toString() {
+        return "ChargePaymentCardRecord[****]";
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargePaymentInputRecord;
 import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.charge.ChargePaymentRequest;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,4 +35,12 @@ public class ChargePaymentDTO {
         setCardCvv(chargePaymentInputRecord.cardCvv());
         setInstallments(chargePaymentInputRecord.installments());
     }
+
+    public ChargePaymentDTO(ChargePaymentRequest chargePaymentRequest, ChargePaymentCardRecord card) {
+        setCharge(chargePaymentRequest.getCharge());
+        setCardNumber(card.cardNumber());
+        setCardExpirationDate(card.cardExpirationDate());
+        setCardCvv(card.cardCvv());
+        setInstallments(chargePaymentRequest.getInstallments());
+    }
 }
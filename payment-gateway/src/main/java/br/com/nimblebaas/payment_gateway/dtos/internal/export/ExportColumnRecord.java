@@ -0,0 +1,6 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.export;
+
+import java.util.function.Function;
+
+public record ExportColumnRecord<T>(String name, Function<T, Object> value) {
+}
@@ -0,0 +1,11 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.idempotency;
+
+import br.com.nimblebaas.payment_gateway.entities.idempotency.IdempotencyKey;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotentOperation;
+
+public record IdempotentResponseRecord(IdempotentOperation operation, String requestHash, String responseBody) {
+
+    public IdempotentResponseRecord(IdempotencyKey idempotencyKey) {
+        this(idempotencyKey.getOperation(), idempotencyKey.getRequestHash(), idempotencyKey.getResponseBody());
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.outbox;
+
+import java.math.BigDecimal;
+
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+
+public record ChargeEventPayloadRecord(
+    String identifier,
+    String originatorCpf,
+    String destinationCpf,
+    BigDecimal amount,
+    ChargeStatus status,
+    String errorMessage) {
+
+    public ChargeEventPayloadRecord(Charge charge) {
+        this(
+            charge.getIdentifier(),
+            charge.getOriginatorUser().getCpf(),
+            charge.getDestinationUser().getCpf(),
+            charge.getAmount(),
+            charge.getStatus(),
+            charge.getErrorMessage());
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.outbox;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import br.com.nimblebaas.payment_gateway.entities.outbox.OutboxEvent;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxAggregateType;
+
+public record OutboxEventRecord(
+    Long id,
+    OutboxAggregateType aggregateType,
+    String aggregateId,
+    String eventType,
+    @JsonRawValue String payload,
+    LocalDateTime createdAt) {
+
+    public OutboxEventRecord(OutboxEvent outboxEvent) {
+        this(
+            outboxEvent.getId(),
+            outboxEvent.getAggregateType(),
+            outboxEvent.getAggregateId(),
+            outboxEvent.getEventType(),
+            outboxEvent.getPayload(),
+            outboxEvent.getCreatedAt());
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.outbox;
+
+public record OutboxRelayResultRecord(int claimed, int published) {
+}
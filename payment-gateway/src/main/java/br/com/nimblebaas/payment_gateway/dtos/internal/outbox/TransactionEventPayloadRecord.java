@@ -0,0 +1,37 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.outbox;
+
+import static java.util.Objects.isNull;
+
+import java.math.BigDecimal;
+
+import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
+
+public record TransactionEventPayloadRecord(
+    Long id,
+    Long partyAccountId,
+    Long counterpartAccountId,
+    BigDecimal amount,
+    TransactionType type,
+    TransactionPurpose purpose,
+    TransactionStatus status,
+    String chargeIdentifier,
+    String authorizationIdentifier,
+    String errorMessage) {
+
+    public TransactionEventPayloadRecord(Transaction transaction) {
+        this(
+            transaction.getId(),
+            isNull(transaction.getPartyAccount()) ? null : transaction.getPartyAccount().getId(),
+            isNull(transaction.getCounterpartAccount()) ? null : transaction.getCounterpartAccount().getId(),
+            transaction.getAmount(),
+            transaction.getType(),
+            transaction.getPurpose(),
+            transaction.getStatus(),
+            isNull(transaction.getCharge()) ? null : transaction.getCharge().getIdentifier(),
+            transaction.getAuthorizationIdentifier(),
+            transaction.getErrorMessage());
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.nimblebaas.payment_gateway.dtos.internal.transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
+
+public record TransactionExportRecord(
+    Long id,
+    LocalDateTime createdAt,
+    TransactionType type,
+    TransactionPurpose purpose,
+    TransactionStatus status,
+    BigDecimal amount,
+    String counterpartCpf,
+    String chargeIdentifier,
+    String authorizationIdentifier,
+    String errorMessage) {
+}
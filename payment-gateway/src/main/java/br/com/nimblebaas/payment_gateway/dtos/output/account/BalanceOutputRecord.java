@@ -2,7 +2,7 @@ package br.com.nimblebaas.payment_gateway.dtos.output.account;
 
 import java.math.BigDecimal;
 
-import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceRecord;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Informações de saldo da conta")
@@ -14,10 +14,17 @@ public record BalanceOutputRecord(
     BigDecimal holdBalance,
     
     @Schema(description = "Saldo disponível para uso em reais", example = "950.00")
-    BigDecimal availableBalance
+    BigDecimal availableBalance,
+
+    @Schema(description = "Créditos recebidos ainda não consolidados no saldo total em reais", example = "25.00")
+    BigDecimal pendingCreditBalance
 ) {
 
-    public BalanceOutputRecord(Account account) {
-        this(account.getTotalBalance(), account.getHoldBalance(), account.getAvailableBalance());
+    public BalanceOutputRecord(AccountBalanceRecord accountBalanceRecord) {
+        this(
+            accountBalanceRecord.totalBalance(),
+            accountBalanceRecord.holdBalance(),
+            accountBalanceRecord.availableBalance(),
+            accountBalanceRecord.pendingCreditBalance());
     }
 }
@@ -0,0 +1,45 @@
+package br.com.nimblebaas.payment_gateway.dtos.output.account;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.StatementEntryRecord;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Lançamento do extrato da conta")
+public record StatementEntryOutputRecord(
+    @Schema(description = "Data e hora do lançamento", example = "2025-10-28T10:30:00")
+    LocalDateTime createdAt,
+
+    @Schema(description = "Tipo do lançamento (CREDIT, DEBIT)", example = "CREDIT")
+    TransactionType type,
+
+    @Schema(description = "Finalidade do lançamento", example = "CHARGE_PAYMENT")
+    TransactionPurpose purpose,
+
+    @Schema(description = "Valor do lançamento em reais", example = "100.00")
+    BigDecimal amount,
+
+    @Schema(description = "CPF da contraparte", example = "98765432100")
+    String counterpartCpf,
+
+    @Schema(description = "Identificador da cobrança relacionada", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+    String chargeIdentifier,
+
+    @Schema(description = "Saldo da conta após o lançamento em reais", example = "1100.00")
+    BigDecimal balance
+) {
+
+    public StatementEntryOutputRecord(StatementEntryRecord statementEntryRecord, BigDecimal balance) {
+        this(
+            statementEntryRecord.createdAt(),
+            statementEntryRecord.type(),
+            statementEntryRecord.purpose(),
+            statementEntryRecord.amount(),
+            statementEntryRecord.counterpartCpf(),
+            statementEntryRecord.chargeIdentifier(),
+            balance);
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.nimblebaas.payment_gateway.dtos.output.account;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Página do extrato ordenada do lançamento mais antigo para o mais recente")
+public record StatementOutputRecord(
+    @Schema(description = "Saldo da conta antes do primeiro lançamento da página em reais", example = "1000.00")
+    BigDecimal openingBalance,
+
+    @Schema(description = "Lançamentos da página com o saldo após cada um")
+    List<StatementEntryOutputRecord> items,
+
+    @Schema(description = "Cursor para buscar a próxima página; nulo quando não há mais lançamentos", example = "MjAyNS0xMC0yOFQxMDozMDp8NDI")
+    String nextCursor
+) {
+}
@@ -5,6 +5,7 @@ import static java.util.Objects.nonNull;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeListItemRecord;
 import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
 import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -34,7 +35,7 @@ public class ChargeOutputDTO {
     @Schema(description = "Descrição da cobrança", example = "Pagamento de serviço prestado")
     private String description;
     
-    @Schema(description = "Status da cobrança (PENDING, PAID, CANCELLED)", example = "PENDING")
+    @Schema(description = "Status da cobrança (PENDING, PAYMENT_PROCESSING, PAID, CANCELLED)", example = "PENDING")
     private ChargeStatus status;
     
     @Schema(description = "Data e hora de criação da cobrança", example = "2025-10-28T10:30:00")
@@ -55,4 +56,17 @@ public class ChargeOutputDTO {
         if (nonNull(charge.getPayment()))
             setPayment(new ChargePaymentOutputDTO(charge.getPayment()));
     }
+
+    public ChargeOutputDTO(ChargeListItemRecord charge) {
+        setIdentifier(charge.identifier());
+        setOriginatorCpf(charge.originatorCpf());
+        setDestinationCpf(charge.destinationCpf());
+        setAmount(charge.amount());
+        setDescription(charge.description());
+        setStatus(charge.status());
+        setCreatedAt(charge.createdAt());
+
+        if (nonNull(charge.paymentMethod()))
+            setPayment(new ChargePaymentOutputDTO(charge));
+    }
 }
\ No newline at end of file
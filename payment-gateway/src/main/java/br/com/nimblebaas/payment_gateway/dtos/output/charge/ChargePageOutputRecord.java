@@ -0,0 +1,15 @@
+package br.com.nimblebaas.payment_gateway.dtos.output.charge;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Página de cobranças ordenada da mais recente para a mais antiga")
+public record ChargePageOutputRecord(
+    @Schema(description = "Cobranças da página")
+    List<ChargeOutputDTO> items,
+
+    @Schema(description = "Cursor para buscar a próxima página; nulo quando não há mais cobranças", example = "MjAyNS0xMC0yOFQxMDozMDp8NDI")
+    String nextCursor
+) {
+}
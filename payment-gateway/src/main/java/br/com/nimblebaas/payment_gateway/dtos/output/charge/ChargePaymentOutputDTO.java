@@ -4,6 +4,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import java.time.LocalDateTime;
 
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeListItemRecord;
 import br.com.nimblebaas.payment_gateway.entities.charge.ChargePayment;
 import br.com.nimblebaas.payment_gateway.enums.charge.PaymentMethod;
 import br.com.nimblebaas.payment_gateway.helpers.StringHelper;
@@ -33,4 +34,14 @@ public class ChargePaymentOutputDTO {
         if (isNotBlank(chargePayment.getCardNumber()))
             setLastCardDigits(StringHelper.lastFourDigits(chargePayment.getCardNumber()));
     }
+
+    public ChargePaymentOutputDTO(ChargeListItemRecord charge) {
+        setAuthorizationIdentifier(charge.authorizationIdentifier());
+        setPaymentMethod(charge.paymentMethod());
+        setPaidAt(charge.paidAt());
+        setCancelledAt(charge.cancelledAt());
+
+        if (isNotBlank(charge.cardNumber()))
+            setLastCardDigits(StringHelper.lastFourDigits(charge.cardNumber()));
+    }
 }
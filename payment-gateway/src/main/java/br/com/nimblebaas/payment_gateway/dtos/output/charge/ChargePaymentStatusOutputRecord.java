@@ -0,0 +1,14 @@
+package br.com.nimblebaas.payment_gateway.dtos.output.charge;
+
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Situação do pagamento de uma cobrança")
+public record ChargePaymentStatusOutputRecord(
+    @Schema(description = "Identificador único da cobrança", example = "550e8400-e29b-41d4-a716-446655440000")
+    String identifier,
+
+    @Schema(description = "Status da cobrança após o pedido de pagamento (PAID ou PAYMENT_PROCESSING)", example = "PAYMENT_PROCESSING")
+    ChargeStatus status
+) {
+}
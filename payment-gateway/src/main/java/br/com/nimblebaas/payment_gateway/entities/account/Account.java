@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceSnapshotRecord;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 import br.com.nimblebaas.payment_gateway.enums.account.AccountStatus;
 import jakarta.persistence.Column;
@@ -19,7 +20,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -36,7 +39,8 @@ public class Account implements Serializable {
     
     @Setter(AccessLevel.NONE)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_id_seq")
+    @SequenceGenerator(name = "accounts_id_seq", sequenceName = "accounts_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -54,6 +58,12 @@ public class Account implements Serializable {
     private User user;
 
     @Setter(AccessLevel.NONE)
+    @Version
+    @Column(nullable = false)
+    private Long version = 0L;
+
+    @Setter(AccessLevel.NONE)
+    @Column(updatable = false)
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -66,6 +76,12 @@ public class Account implements Serializable {
         setStatus(AccountStatus.ACTIVE);
     }
 
+    public void applyBalanceSnapshot(AccountBalanceSnapshotRecord snapshot) {
+        setTotalBalance(snapshot.totalBalance());
+        setHoldBalance(snapshot.holdBalance());
+        this.version = snapshot.version();
+    }
+
     public BigDecimal getAvailableBalance() {
         var availableBalance = getTotalBalance().subtract(getHoldBalance());
         return availableBalance.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : availableBalance;
@@ -17,6 +17,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -36,7 +37,8 @@ public class HoldBalance {
 
     @Setter(AccessLevel.NONE)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hold_balances_id_seq")
+    @SequenceGenerator(name = "hold_balances_id_seq", sequenceName = "hold_balances_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -54,7 +56,7 @@ public class HoldBalance {
     @Enumerated(EnumType.STRING)
     private HoldBalanceStatus status;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @CreationTimestamp
     private LocalDateTime createdAt;
 
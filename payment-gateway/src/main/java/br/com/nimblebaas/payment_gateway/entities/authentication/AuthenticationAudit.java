@@ -15,6 +15,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -30,7 +31,8 @@ public class AuthenticationAudit {
     
     @Setter(AccessLevel.NONE)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "authentication_audits_id_seq")
+    @SequenceGenerator(name = "authentication_audits_id_seq", sequenceName = "authentication_audits_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -50,6 +52,7 @@ public class AuthenticationAudit {
     private String message;
 
     @Setter(AccessLevel.NONE)
+    @Column(updatable = false)
     @CreationTimestamp
     private LocalDateTime createdAt;
 }
@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -26,7 +27,8 @@ public class RefreshToken {
 
     @Setter(AccessLevel.NONE)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_id_seq")
+    @SequenceGenerator(name = "refresh_tokens_id_seq", sequenceName = "refresh_tokens_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -48,10 +50,17 @@ public class RefreshToken {
     @Column(nullable = false)
     private Boolean revoked = Boolean.FALSE;
 
+    private Instant revokedAt;
+
     private String userAgent;
 
     private String ips;
 
+    public void revoke() {
+        setRevoked(true);
+        setRevokedAt(Instant.now());
+    }
+
     public boolean isUsedOrRevoked() {
         return used || revoked;
     }
@@ -21,6 +21,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -40,7 +41,8 @@ public class Charge {
 
     @Setter(AccessLevel.NONE)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "charges_id_seq")
+    @SequenceGenerator(name = "charges_id_seq", sequenceName = "charges_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -68,7 +70,7 @@ public class Charge {
     @OneToOne(mappedBy = "charge", fetch = FetchType.LAZY)
     private ChargePayment payment;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -80,6 +82,10 @@ public class Charge {
         return getDestinationUser().getCpf().equals(user.getCpf());
     }
 
+    public boolean isUserAllowedToView(User user) {
+        return isUserAllowedToPay(user) || isUserAllowedToCancel(user);
+    }
+
     public boolean isUserAllowedToCancel(User user) {
         return getOriginatorUser().getCpf().equals(user.getCpf());
     }
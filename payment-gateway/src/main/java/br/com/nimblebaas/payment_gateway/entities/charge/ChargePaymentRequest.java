@@ -0,0 +1,73 @@
+package br.com.nimblebaas.payment_gateway.entities.charge;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargePaymentRequestStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "charge_payment_requests")
+public class ChargePaymentRequest {
+
+    @Setter(AccessLevel.NONE)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "charge_payment_requests_id_seq")
+    @SequenceGenerator(name = "charge_payment_requests_id_seq", sequenceName = "charge_payment_requests_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "charge_id", nullable = false)
+    private Charge charge;
+
+    private Integer installments;
+
+    private String ownerNode;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ChargePaymentRequestStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    private String errorMessage;
+
+    @Column(nullable = false, updatable = false)
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public boolean isPending() {
+        return getStatus().equals(ChargePaymentRequestStatus.PENDING);
+    }
+}
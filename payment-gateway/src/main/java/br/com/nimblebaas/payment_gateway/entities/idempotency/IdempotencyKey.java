@@ -0,0 +1,81 @@
+package br.com.nimblebaas.payment_gateway.entities.idempotency;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotencyStatus;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotentOperation;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyKey {
+
+    @Setter(AccessLevel.NONE)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotency_keys_id_seq")
+    @SequenceGenerator(name = "idempotency_keys_id_seq", sequenceName = "idempotency_keys_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String key;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private IdempotentOperation operation;
+
+    @Column(nullable = false)
+    private String requestHash;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private IdempotencyStatus status;
+
+    private String responseBody;
+
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(nullable = false, updatable = false)
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public boolean isLeaseExpired() {
+        return status == IdempotencyStatus.IN_PROGRESS
+            && (leaseExpiresAt == null || !leaseExpiresAt.isAfter(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.nimblebaas.payment_gateway.entities.reconciliation;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "reconciliation_mismatches")
+public class ReconciliationMismatch {
+
+    @Setter(AccessLevel.NONE)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reconciliation_mismatches_id_seq")
+    @SequenceGenerator(name = "reconciliation_mismatches_id_seq", sequenceName = "reconciliation_mismatches_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(nullable = false)
+    private BigDecimal expectedTotalBalance;
+
+    @Column(nullable = false)
+    private BigDecimal actualTotalBalance;
+
+    @Column(nullable = false)
+    private BigDecimal expectedHoldBalance;
+
+    @Column(nullable = false)
+    private BigDecimal actualHoldBalance;
+
+    @Column(nullable = false)
+    private LocalDateTime detectedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime checkedAt;
+
+    private LocalDateTime resolvedAt;
+}
@@ -0,0 +1,52 @@
+package br.com.nimblebaas.payment_gateway.entities.reconciliation;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "reconciliation_runs")
+public class ReconciliationRun {
+
+    @Setter(AccessLevel.NONE)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reconciliation_runs_id_seq")
+    @SequenceGenerator(name = "reconciliation_runs_id_seq", sequenceName = "reconciliation_runs_id_seq", allocationSize = 50)
+    private Long id;
+
+    private LocalDateTime watermark;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long checkedAccounts = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long mismatchedAccounts = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long skippedAccounts = 0L;
+}
@@ -0,0 +1,7 @@
+package br.com.nimblebaas.payment_gateway.enums.account;
+
+public enum AccountConcurrencyMode {
+
+    ATOMIC,
+    OPTIMISTIC;
+}
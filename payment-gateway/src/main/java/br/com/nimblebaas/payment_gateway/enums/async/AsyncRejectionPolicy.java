@@ -0,0 +1,9 @@
+package br.com.nimblebaas.payment_gateway.enums.async;
+
+public enum AsyncRejectionPolicy {
+
+    ABORT,
+    CALLER_RUNS,
+    DISCARD,
+    DISCARD_OLDEST;
+}
@@ -0,0 +1,8 @@
+package br.com.nimblebaas.payment_gateway.enums.authentication;
+
+public enum AuditOverflowPolicy {
+
+    BLOCK,
+    DROP_OLDEST,
+    SAMPLE_FAILURES;
+}
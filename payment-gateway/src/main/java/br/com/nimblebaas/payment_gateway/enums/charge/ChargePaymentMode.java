@@ -0,0 +1,7 @@
+package br.com.nimblebaas.payment_gateway.enums.charge;
+
+public enum ChargePaymentMode {
+
+    SYNC,
+    ASYNC;
+}
@@ -0,0 +1,8 @@
+package br.com.nimblebaas.payment_gateway.enums.charge;
+
+public enum ChargePaymentRequestStatus {
+
+    PENDING,
+    COMPLETED,
+    FAILED
+}
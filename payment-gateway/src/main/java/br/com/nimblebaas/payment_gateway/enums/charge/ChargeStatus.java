@@ -3,6 +3,7 @@ package br.com.nimblebaas.payment_gateway.enums.charge;
 public enum ChargeStatus {
 
     PENDING,
+    PAYMENT_PROCESSING,
     PAID,
     CANCELLED,
     PAYMENT_FAILED,
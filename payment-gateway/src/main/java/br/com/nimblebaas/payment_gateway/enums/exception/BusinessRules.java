@@ -22,5 +22,13 @@ public enum BusinessRules {
     CHARGE_PAYMENT_ERROR,
     CHARGE_NOT_ALLOWED_TO_PAY,
     CHARGE_NOT_ALLOWED_TO_CANCEL,
-    CHARGE_CANCEL_ERROR
+    CHARGE_CANCEL_ERROR,
+    ACCOUNT_CONCURRENT_UPDATE,
+    ACCOUNT_LOCK_TIMEOUT,
+    INVALID_IDEMPOTENCY_KEY,
+    IDEMPOTENCY_KEY_REUSED,
+    IDEMPOTENCY_KEY_IN_PROGRESS,
+    OUTBOX_SINK_NOT_FOUND,
+    LOGIN_RATE_LIMITED,
+    PASSWORD_HASHING_CAPACITY_EXCEEDED
 }
@@ -0,0 +1,7 @@
+package br.com.nimblebaas.payment_gateway.enums.idempotency;
+
+public enum IdempotencyStatus {
+
+    IN_PROGRESS,
+    COMPLETED
+}
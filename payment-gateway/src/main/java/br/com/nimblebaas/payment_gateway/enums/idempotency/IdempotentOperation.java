@@ -0,0 +1,8 @@
+package br.com.nimblebaas.payment_gateway.enums.idempotency;
+
+public enum IdempotentOperation {
+
+    CHARGE_CREATE,
+    CHARGE_PAY,
+    ACCOUNT_DEPOSIT
+}
@@ -0,0 +1,7 @@
+package br.com.nimblebaas.payment_gateway.enums.outbox;
+
+public enum OutboxAggregateType {
+
+    CHARGE,
+    TRANSACTION
+}
@@ -0,0 +1,8 @@
+package br.com.nimblebaas.payment_gateway.enums.outbox;
+
+public enum OutboxSinkType {
+
+    LOG,
+    MEMORY,
+    WEBHOOK;
+}
@@ -0,0 +1,8 @@
+package br.com.nimblebaas.payment_gateway.enums.reconciliation;
+
+public enum ReconciliationResult {
+
+    MATCHED,
+    MISMATCHED,
+    SKIPPED
+}
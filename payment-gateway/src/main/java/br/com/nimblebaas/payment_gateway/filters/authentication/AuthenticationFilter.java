@@ -1,24 +1,22 @@
 package br.com.nimblebaas.payment_gateway.filters.authentication;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.nimblebaas.payment_gateway.configs.authentication.UserAuthenticated;
-import br.com.nimblebaas.payment_gateway.configs.security.SecurityConfig;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.exceptions.ErrorDTO;
+import br.com.nimblebaas.payment_gateway.services.authentication.AuthenticationCacheService;
 import br.com.nimblebaas.payment_gateway.services.authentication.JwtService;
 import br.com.nimblebaas.payment_gateway.services.authentication.RefreshTokenService;
 import br.com.nimblebaas.payment_gateway.services.user.UserService;
@@ -38,19 +36,20 @@ public class AuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
     private final UserService userService;
+    private final AuthenticationCacheService authenticationCacheService;
     private final ObjectMapper objectMapper;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final PublicEndpointMatcher publicEndpointMatcher;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return publicEndpointMatcher.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request, 
             @NonNull HttpServletResponse response, 
             @NonNull FilterChain filterChain) throws ServletException, IOException {
-        if (isPublicEndpoint(request)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         try {
             String token = extractToken(request);
 
@@ -79,12 +78,6 @@ public class AuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private boolean isPublicEndpoint(HttpServletRequest request) {
-        String requestURI = request.getRequestURI();
-        return Arrays.stream(SecurityConfig.getPublicEndpoints())
-            .anyMatch(endpoint -> pathMatcher.match(endpoint, requestURI));
-    }
-
     private String extractToken(HttpServletRequest request) {
         String authorizationHeader = request.getHeader("Authorization");
         if (authorizationHeader != null)
@@ -94,7 +87,7 @@ public class AuthenticationFilter extends OncePerRequestFilter {
     }
 
     private User getUser(String cpf) {
-        return userService.findByCpf(cpf)
+        return authenticationCacheService.getUser(cpf, userService::findByCpf)
             .orElseThrow(() -> new BusinessRuleException(HttpStatus.UNAUTHORIZED, getClass(), BusinessRules.USER_NOT_FOUND, "Usuário não encontrado com o CPF: %s", cpf));
     }
 
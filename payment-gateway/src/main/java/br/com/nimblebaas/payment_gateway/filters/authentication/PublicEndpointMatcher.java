@@ -0,0 +1,56 @@
+package br.com.nimblebaas.payment_gateway.filters.authentication;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import br.com.nimblebaas.payment_gateway.configs.security.SecurityConfig;
+import jakarta.servlet.http.HttpServletRequest;
+
+@Component
+public class PublicEndpointMatcher {
+
+    private final Set<String> exactPaths;
+    private final List<PathPattern> patterns;
+
+    public PublicEndpointMatcher() {
+        this(SecurityConfig.getPublicEndpoints());
+    }
+
+    PublicEndpointMatcher(String... endpoints) {
+        var parser = PathPatternParser.defaultInstance;
+        var parsedPatterns = Arrays.stream(endpoints).map(parser::parse).toList();
+
+        exactPaths = parsedPatterns.stream()
+            .filter(pattern -> !pattern.hasPatternSyntax())
+            .map(PathPattern::getPatternString)
+            .collect(Collectors.toUnmodifiableSet());
+        patterns = parsedPatterns.stream()
+            .filter(PathPattern::hasPatternSyntax)
+            .toList();
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        return matches(request.getRequestURI());
+    }
+
+    public boolean matches(String path) {
+        if (exactPaths.contains(path))
+            return true;
+        if (patterns.isEmpty())
+            return false;
+
+        var pathContainer = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(pathContainer))
+                return true;
+        }
+        return false;
+    }
+}
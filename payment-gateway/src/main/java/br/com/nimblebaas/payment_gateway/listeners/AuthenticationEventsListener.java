@@ -1,7 +1,6 @@
 package br.com.nimblebaas.payment_gateway.listeners;
 
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import br.com.nimblebaas.payment_gateway.enums.authentication.AuthenticationAction;
@@ -20,7 +19,6 @@ public class AuthenticationEventsListener {
 
     private final AuthenticationAuditService authenticationAuditService;
 
-    @Async
     @EventListener
     public void handleLoginSuccess(LoginSuccessEvent event) {
         log.debug("Processando evento de login bem-sucedido para: {}", event.getCpfOrEmail());
@@ -35,7 +33,6 @@ public class AuthenticationEventsListener {
         );
     }
 
-    @Async
     @EventListener
     public void handleLoginFailure(LoginFailureEvent event) {
         log.debug("Processando evento de login falho para: {}", event.getCpfOrEmail());
@@ -55,7 +52,6 @@ public class AuthenticationEventsListener {
         );
     }
 
-    @Async
     @EventListener
     public void handleRefreshToken(RefreshTokenEvent event) {
         log.debug("Processando evento de refresh token para: {}", event.getCpfOrEmail());
@@ -70,7 +66,6 @@ public class AuthenticationEventsListener {
         );
     }
 
-    @Async
     @EventListener
     public void handlePasswordChange(PasswordChangeEvent event) {
         log.debug("Processando evento de alteração de senha para: {}", event.getCpfOrEmail());
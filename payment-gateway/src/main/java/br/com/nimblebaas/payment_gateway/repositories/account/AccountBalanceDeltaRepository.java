@@ -0,0 +1,46 @@
+package br.com.nimblebaas.payment_gateway.repositories.account;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.AccountBalanceDelta;
+
+public interface AccountBalanceDeltaRepository extends JpaRepository<AccountBalanceDelta, Long> {
+
+    @Query("""
+        select distinct d.account.id
+        from AccountBalanceDelta d
+        """)
+    List<Long> findPendingAccountIds(Pageable pageable);
+
+    @Query(nativeQuery = true, value = """
+        with claimed as (
+            delete from account_balance_deltas
+            where id in (
+                select id
+                from account_balance_deltas
+                where account_id = :accountId
+                order by id
+                limit :batchSize
+                for update skip locked
+            )
+            returning amount
+        )
+        select coalesce(sum(amount), 0)
+        from claimed
+        """)
+    BigDecimal claimPendingAmount(@Param("accountId") Long accountId, @Param("batchSize") Integer batchSize);
+
+    @Query("""
+        select coalesce(sum(d.amount), 0)
+        from AccountBalanceDelta d
+        where d.account = :account
+        """)
+    BigDecimal sumPendingAmount(@Param("account") Account account);
+}
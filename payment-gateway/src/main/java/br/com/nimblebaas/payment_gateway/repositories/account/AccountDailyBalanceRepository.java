@@ -0,0 +1,27 @@
+package br.com.nimblebaas.payment_gateway.repositories.account;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.AccountDailyBalance;
+
+public interface AccountDailyBalanceRepository extends JpaRepository<AccountDailyBalance, Long> {
+
+    Optional<AccountDailyBalance> findFirstByAccountAndBalanceDateLessThanOrderByBalanceDateDesc(Account account, LocalDate balanceDate);
+
+    Optional<AccountDailyBalance> findFirstByAccountOrderByBalanceDateDesc(Account account);
+
+    @Modifying
+    @Query("""
+        delete from AccountDailyBalance d
+        where d.account = :account
+            and d.balanceDate >= :balanceDateFrom
+        """)
+    int deleteFromBalanceDate(@Param("account") Account account, @Param("balanceDateFrom") LocalDate balanceDateFrom);
+}
@@ -1,13 +1,96 @@
 package br.com.nimblebaas.payment_gateway.repositories.account;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceSnapshotRecord;
 import br.com.nimblebaas.payment_gateway.entities.account.Account;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByUser(User user);
+
+    @Query("""
+        select coalesce(max(a.id), 0)
+        from Account a
+        """)
+    Long findMaxId();
+
+    @Query("""
+        select a.id
+        from Account a
+        where a.id between :fromId and :toId
+        order by a.id
+        """)
+    List<Long> findIdsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("""
+        select a.id
+        from Account a
+        where a.id between :fromId and :toId
+            and a.updatedAt >= :updatedSince
+        """)
+    List<Long> findIdsUpdatedSince(
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId,
+        @Param("updatedSince") LocalDateTime updatedSince);
+
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceRecord(
+            a.totalBalance,
+            a.holdBalance,
+            coalesce((select sum(d.amount) from AccountBalanceDelta d where d.account = a), 0))
+        from Account a
+        where a.user = :user
+        """)
+    Optional<AccountBalanceRecord> findBalanceByUser(@Param("user") User user);
+
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceSnapshotRecord(a.totalBalance, a.holdBalance, a.version)
+        from Account a
+        where a.id = :id
+        """)
+    Optional<AccountBalanceSnapshotRecord> findBalanceSnapshotById(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+        update Account a
+        set a.totalBalance = a.totalBalance + :totalBalanceDelta,
+            a.holdBalance = a.holdBalance + :holdBalanceDelta,
+            a.version = a.version + 1,
+            a.updatedAt = local datetime
+        where a.id = :id
+            and a.totalBalance + :totalBalanceDelta >= 0
+            and a.holdBalance + :holdBalanceDelta >= 0
+            and (:holdBalanceDelta <= 0 or a.totalBalance + :totalBalanceDelta - (a.holdBalance + :holdBalanceDelta) >= 0)
+        """)
+    int addBalances(
+        @Param("id") Long id, 
+        @Param("totalBalanceDelta") BigDecimal totalBalanceDelta, 
+        @Param("holdBalanceDelta") BigDecimal holdBalanceDelta);
+
+    @Modifying
+    @Query("""
+        update Account a
+        set a.totalBalance = :totalBalance,
+            a.holdBalance = :holdBalance,
+            a.version = a.version + 1,
+            a.updatedAt = local datetime
+        where a.id = :id
+            and a.version = :version
+        """)
+    int updateBalancesIfVersionMatches(
+        @Param("id") Long id, 
+        @Param("totalBalance") BigDecimal totalBalance, 
+        @Param("holdBalance") BigDecimal holdBalance, 
+        @Param("version") Long version);
 }
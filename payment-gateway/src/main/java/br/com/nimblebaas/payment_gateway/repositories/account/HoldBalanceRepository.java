@@ -1,9 +1,101 @@
 package br.com.nimblebaas.payment_gateway.repositories.account;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.DailyAmountRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
 import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
 
 public interface HoldBalanceRepository extends JpaRepository<HoldBalance, Long> {
-    
+
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.account.DailyAmountRecord(cast(h.createdAt as LocalDate), sum(h.amount))
+        from HoldBalance h
+        where h.account = :account
+            and h.createdAt >= :createdFrom
+            and h.createdAt < :createdTo
+        group by cast(h.createdAt as LocalDate)
+        """)
+    List<DailyAmountRecord> sumCreatedAmountByDay(
+        @Param("account") Account account,
+        @Param("createdFrom") LocalDateTime createdFrom,
+        @Param("createdTo") LocalDateTime createdTo);
+
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.account.DailyAmountRecord(cast(h.updatedAt as LocalDate), sum(h.amount))
+        from HoldBalance h
+        where h.account = :account
+            and h.status <> br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus.PENDING
+            and h.updatedAt >= :updatedFrom
+            and h.updatedAt < :updatedTo
+        group by cast(h.updatedAt as LocalDate)
+        """)
+    List<DailyAmountRecord> sumReleasedAmountByDay(
+        @Param("account") Account account,
+        @Param("updatedFrom") LocalDateTime updatedFrom,
+        @Param("updatedTo") LocalDateTime updatedTo);
+
+    @Query("""
+        select coalesce(sum(h.amount), 0)
+        from HoldBalance h
+        where h.account = :account
+            and h.createdAt >= :from
+            and h.createdAt < :to
+        """)
+    BigDecimal sumCreatedAmount(
+        @Param("account") Account account,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to);
+
+    @Query("""
+        select coalesce(sum(h.amount), 0)
+        from HoldBalance h
+        where h.account = :account
+            and h.status <> br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus.PENDING
+            and h.updatedAt >= :from
+            and h.updatedAt < :to
+        """)
+    BigDecimal sumReleasedAmount(
+        @Param("account") Account account,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to);
+
+    @Query("""
+        select coalesce(sum(h.amount), 0)
+        from HoldBalance h
+        where h.account = :account
+            and h.status = br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus.PENDING
+        """)
+    BigDecimal sumPendingAmount(@Param("account") Account account);
+
+    @Query("""
+        select h
+        from HoldBalance h
+        where h.status = br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus.PENDING
+            and h.createdAt < :expiredBefore
+            and (h.createdAt, h.id) > (:cursorCreatedAt, :cursorId)
+        order by h.createdAt, h.id
+        """)
+    List<HoldBalance> findExpiredPending(
+        @Param("expiredBefore") LocalDateTime expiredBefore,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Limit limit);
+
+    @Query(nativeQuery = true, value = """
+        select *
+        from hold_balances
+        where id = :id
+            and status = 'PENDING'
+        for update skip locked
+        """)
+    Optional<HoldBalance> claimPending(@Param("id") Long id);
 }
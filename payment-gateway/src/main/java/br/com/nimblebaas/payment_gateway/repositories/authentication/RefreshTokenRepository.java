@@ -1,10 +1,14 @@
 package br.com.nimblebaas.payment_gateway.repositories.authentication;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import br.com.nimblebaas.payment_gateway.dtos.internal.authentication.RevokedTokenRecord;
 import br.com.nimblebaas.payment_gateway.entities.authentication.RefreshToken;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 
@@ -13,5 +17,15 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     Optional<RefreshToken> findByJtiAndUser(String jti, User user);
 
     List<RefreshToken> findByUserAndRevokedIsFalse(User user);
+
+    @Query("select r.jti from RefreshToken r where r.revoked = true and r.issuedAt > :issuedAfter")
+    List<String> findRevokedJtisIssuedAfter(@Param("issuedAfter") Instant issuedAfter);
+
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.authentication.RevokedTokenRecord(r.jti, r.revokedAt)
+        from RefreshToken r
+        where r.revokedAt > :revokedAfter
+        """)
+    List<RevokedTokenRecord> findRevokedAfter(@Param("revokedAfter") Instant revokedAfter);
 }
 
@@ -0,0 +1,46 @@
+package br.com.nimblebaas.payment_gateway.repositories.charge;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.nimblebaas.payment_gateway.entities.charge.ChargePaymentRequest;
+
+public interface ChargePaymentRequestRepository extends JpaRepository<ChargePaymentRequest, Long> {
+
+    @Query(nativeQuery = true, value = """
+        select *
+        from charge_payment_requests
+        where status = 'PENDING'
+            and owner_node = :ownerNode
+            and available_at <= :now
+        order by available_at, id
+        limit :batchSize
+        for update skip locked
+        """)
+    List<ChargePaymentRequest> claimAvailable(@Param("ownerNode") String ownerNode, @Param("now") LocalDateTime now, @Param("batchSize") Integer batchSize);
+
+    @Query(nativeQuery = true, value = """
+        select *
+        from charge_payment_requests
+        where status = 'PENDING'
+            and (owner_node is null or owner_node <> :ownerNode)
+            and available_at <= :availableBefore
+        order by available_at, id
+        limit :batchSize
+        for update skip locked
+        """)
+    List<ChargePaymentRequest> claimOrphaned(@Param("ownerNode") String ownerNode, @Param("availableBefore") LocalDateTime availableBefore, @Param("batchSize") Integer batchSize);
+
+    @Query(nativeQuery = true, value = """
+        select *
+        from charge_payment_requests
+        where id = :id
+        for update
+        """)
+    Optional<ChargePaymentRequest> findByIdForUpdate(@Param("id") Long id);
+}
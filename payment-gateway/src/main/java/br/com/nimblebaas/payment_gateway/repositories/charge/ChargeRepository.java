@@ -1,19 +1,113 @@
 package br.com.nimblebaas.payment_gateway.repositories.charge;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeListItemRecord;
 import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import jakarta.persistence.QueryHint;
 
 public interface ChargeRepository extends JpaRepository<Charge, Long> {
 
-    List<Charge> findByOriginatorUserAndStatusIn(User user, List<ChargeStatus> statuses);
-    
-    List<Charge> findByDestinationUserAndStatusIn(User user, List<ChargeStatus> statuses);
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeListItemRecord(
+            c.id, c.identifier, o.cpf, d.cpf, c.amount, c.description, c.status, c.createdAt,
+            p.paymentMethod, p.authorizationIdentifier, p.cardNumber, p.paidAt, p.cancelledAt)
+        from Charge c
+        join c.originatorUser o
+        join c.destinationUser d
+        left join c.payment p
+        where c.originatorUser = :user
+            and c.status in :statuses
+            and c.createdAt >= :createdFrom
+            and c.createdAt < :createdTo
+            and c.amount between :minAmount and :maxAmount
+            and (c.createdAt, c.id) < (:cursorCreatedAt, :cursorId)
+        order by c.createdAt desc, c.id desc
+        """)
+    List<ChargeListItemRecord> findSentPage(
+        @Param("user") User user,
+        @Param("statuses") List<ChargeStatus> statuses,
+        @Param("createdFrom") LocalDateTime createdFrom,
+        @Param("createdTo") LocalDateTime createdTo,
+        @Param("minAmount") BigDecimal minAmount,
+        @Param("maxAmount") BigDecimal maxAmount,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Limit limit);
+
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeListItemRecord(
+            c.id, c.identifier, o.cpf, d.cpf, c.amount, c.description, c.status, c.createdAt,
+            p.paymentMethod, p.authorizationIdentifier, p.cardNumber, p.paidAt, p.cancelledAt)
+        from Charge c
+        join c.originatorUser o
+        join c.destinationUser d
+        left join c.payment p
+        where c.destinationUser = :user
+            and c.status in :statuses
+            and c.createdAt >= :createdFrom
+            and c.createdAt < :createdTo
+            and c.amount between :minAmount and :maxAmount
+            and (c.createdAt, c.id) < (:cursorCreatedAt, :cursorId)
+        order by c.createdAt desc, c.id desc
+        """)
+    List<ChargeListItemRecord> findReceivedPage(
+        @Param("user") User user,
+        @Param("statuses") List<ChargeStatus> statuses,
+        @Param("createdFrom") LocalDateTime createdFrom,
+        @Param("createdTo") LocalDateTime createdTo,
+        @Param("minAmount") BigDecimal minAmount,
+        @Param("maxAmount") BigDecimal maxAmount,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Limit limit);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeListItemRecord(
+            c.id, c.identifier, o.cpf, d.cpf, c.amount, c.description, c.status, c.createdAt,
+            p.paymentMethod, p.authorizationIdentifier, p.cardNumber, p.paidAt, p.cancelledAt)
+        from Charge c
+        join c.originatorUser o
+        join c.destinationUser d
+        left join c.payment p
+        where (c.originatorUser = :user or c.destinationUser = :user)
+            and c.createdAt >= :createdFrom
+            and c.createdAt < :createdTo
+        order by c.createdAt, c.id
+        """)
+    Stream<ChargeListItemRecord> streamByUser(
+        @Param("user") User user,
+        @Param("createdFrom") LocalDateTime createdFrom,
+        @Param("createdTo") LocalDateTime createdTo);
 
     Optional<Charge> findByIdentifier(String identifier);
+
+    @Modifying
+    @Query("""
+        update Charge c
+        set c.status = br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus.PAYMENT_PROCESSING,
+            c.errorMessage = null,
+            c.updatedAt = local datetime
+        where c.id = :id
+            and c.status in (
+                br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus.PENDING,
+                br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus.PAYMENT_FAILED,
+                br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus.CANCELLED_FAILED)
+        """)
+    int markPaymentProcessing(@Param("id") Long id);
 }
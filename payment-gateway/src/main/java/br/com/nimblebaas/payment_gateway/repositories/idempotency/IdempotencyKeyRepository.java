@@ -0,0 +1,57 @@
+package br.com.nimblebaas.payment_gateway.repositories.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.nimblebaas.payment_gateway.entities.idempotency.IdempotencyKey;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+
+    Optional<IdempotencyKey> findByUserAndKey(User user, String key);
+
+    @Modifying
+    @Query("""
+        update IdempotencyKey i
+        set i.leaseOwner = :leaseOwner, i.leaseExpiresAt = :leaseExpiresAt, i.updatedAt = :now
+        where i.id = :id
+            and i.status = br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotencyStatus.IN_PROGRESS
+            and (i.leaseExpiresAt is null or i.leaseExpiresAt <= :now)
+        """)
+    int takeOverExpiredLease(@Param("id") Long id, @Param("leaseOwner") String leaseOwner, @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        update IdempotencyKey i
+        set i.status = br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotencyStatus.COMPLETED,
+            i.responseBody = :responseBody,
+            i.leaseOwner = null,
+            i.leaseExpiresAt = null,
+            i.updatedAt = :now
+        where i.id = :id
+            and i.leaseOwner = :leaseOwner
+            and i.status = br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotencyStatus.IN_PROGRESS
+        """)
+    int complete(@Param("id") Long id, @Param("leaseOwner") String leaseOwner, @Param("responseBody") String responseBody, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        delete from IdempotencyKey i
+        where i.id = :id
+            and i.leaseOwner = :leaseOwner
+            and i.status = br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotencyStatus.IN_PROGRESS
+        """)
+    int release(@Param("id") Long id, @Param("leaseOwner") String leaseOwner);
+
+    @Modifying
+    @Query("""
+        delete from IdempotencyKey i
+        where i.createdAt < :createdBefore
+        """)
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
@@ -0,0 +1,41 @@
+package br.com.nimblebaas.payment_gateway.repositories.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.nimblebaas.payment_gateway.entities.outbox.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(nativeQuery = true, value = """
+        select *
+        from outbox_events e
+        where e.status = 'PENDING'
+            and e.available_at <= :now
+            and not exists (
+                select 1
+                from outbox_events previous
+                where previous.aggregate_type = e.aggregate_type
+                    and previous.aggregate_id = e.aggregate_id
+                    and previous.status = 'PENDING'
+                    and previous.id < e.id
+            )
+        order by e.id
+        limit :batchSize
+        for update skip locked
+        """)
+    List<OutboxEvent> claimAvailable(@Param("now") LocalDateTime now, @Param("batchSize") Integer batchSize);
+
+    @Modifying
+    @Query("""
+        delete from OutboxEvent e
+        where e.status = br.com.nimblebaas.payment_gateway.enums.outbox.OutboxEventStatus.PUBLISHED
+            and e.publishedAt < :publishedBefore
+        """)
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
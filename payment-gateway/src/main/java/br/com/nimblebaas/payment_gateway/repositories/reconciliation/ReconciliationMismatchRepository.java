@@ -0,0 +1,15 @@
+package br.com.nimblebaas.payment_gateway.repositories.reconciliation;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.reconciliation.ReconciliationMismatch;
+
+public interface ReconciliationMismatchRepository extends JpaRepository<ReconciliationMismatch, Long> {
+
+    Optional<ReconciliationMismatch> findFirstByAccountAndResolvedAtIsNull(Account account);
+
+    long countByResolvedAtIsNull();
+}
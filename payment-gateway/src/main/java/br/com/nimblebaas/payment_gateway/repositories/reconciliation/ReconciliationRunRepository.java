@@ -0,0 +1,12 @@
+package br.com.nimblebaas.payment_gateway.repositories.reconciliation;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import br.com.nimblebaas.payment_gateway.entities.reconciliation.ReconciliationRun;
+
+public interface ReconciliationRunRepository extends JpaRepository<ReconciliationRun, Long> {
+
+    Optional<ReconciliationRun> findFirstByFinishedAtIsNotNullOrderByStartedAtDesc();
+}
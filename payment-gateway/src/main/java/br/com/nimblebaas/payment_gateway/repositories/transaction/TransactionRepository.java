@@ -1,8 +1,124 @@
 package br.com.nimblebaas.payment_gateway.repositories.transaction;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.DailyAmountRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.StatementEntryRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.transaction.TransactionExportRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
 import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
+import jakarta.persistence.QueryHint;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.transaction.TransactionExportRecord(
+            t.id, t.createdAt, t.type, t.purpose, t.status, t.amount,
+            u.cpf, c.identifier, t.authorizationIdentifier, t.errorMessage)
+        from Transaction t
+        left join t.counterpartAccount a
+        left join a.user u
+        left join t.charge c
+        where t.partyAccount = :account
+            and t.createdAt >= :createdFrom
+            and t.createdAt < :createdTo
+        order by t.createdAt, t.id
+        """)
+    Stream<TransactionExportRecord> streamByPartyAccount(
+        @Param("account") Account account,
+        @Param("createdFrom") LocalDateTime createdFrom,
+        @Param("createdTo") LocalDateTime createdTo);
+
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.account.StatementEntryRecord(
+            t.id, t.createdAt, t.type, t.purpose, t.amount, u.cpf, c.identifier)
+        from Transaction t
+        left join t.counterpartAccount a
+        left join a.user u
+        left join t.charge c
+        where t.partyAccount = :account
+            and t.status = br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus.SUCCESS
+            and t.createdAt < :createdTo
+            and (t.createdAt, t.id) > (:cursorCreatedAt, :cursorId)
+        order by t.createdAt, t.id
+        """)
+    List<StatementEntryRecord> findStatementPage(
+        @Param("account") Account account,
+        @Param("createdTo") LocalDateTime createdTo,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Limit limit);
+
+    @Query("""
+        select coalesce(sum(case
+            when t.type = br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType.CREDIT then t.amount
+            else -t.amount end), 0)
+        from Transaction t
+        where t.partyAccount = :account
+            and t.status = br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus.SUCCESS
+            and t.createdAt >= :createdFrom
+            and (t.createdAt, t.id) <= (:cursorCreatedAt, :cursorId)
+        """)
+    BigDecimal sumSignedAmountUpTo(
+        @Param("account") Account account,
+        @Param("createdFrom") LocalDateTime createdFrom,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId);
+
+    @Query("""
+        select new br.com.nimblebaas.payment_gateway.dtos.internal.account.DailyAmountRecord(
+            cast(t.createdAt as LocalDate),
+            sum(case
+                when t.type = br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType.CREDIT then t.amount
+                else -t.amount end))
+        from Transaction t
+        where t.partyAccount = :account
+            and t.status = br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus.SUCCESS
+            and t.createdAt >= :createdFrom
+            and t.createdAt < :createdTo
+        group by cast(t.createdAt as LocalDate)
+        """)
+    List<DailyAmountRecord> sumSignedAmountByDay(
+        @Param("account") Account account,
+        @Param("createdFrom") LocalDateTime createdFrom,
+        @Param("createdTo") LocalDateTime createdTo);
+
+    @Query("""
+        select min(t.createdAt)
+        from Transaction t
+        where t.partyAccount = :account
+            and t.status = br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus.SUCCESS
+            and t.createdAt < :createdTo
+            and t.updatedAt >= :updatedSince
+        """)
+    Optional<LocalDateTime> findFirstCreatedAtCompletedSince(
+        @Param("account") Account account,
+        @Param("createdTo") LocalDateTime createdTo,
+        @Param("updatedSince") LocalDateTime updatedSince);
+
+    @Query("""
+        select distinct t.partyAccount.id
+        from Transaction t
+        where t.updatedAt >= :updatedSince
+            and t.partyAccount.id between :fromId and :toId
+        """)
+    List<Long> findPartyAccountIdsUpdatedSince(
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId,
+        @Param("updatedSince") LocalDateTime updatedSince);
+
+    Optional<Transaction> findFirstByHoldBalance(HoldBalance holdBalance);
 }
@@ -1,21 +1,40 @@
 package br.com.nimblebaas.payment_gateway.services.account;
 
+import static java.util.Objects.requireNonNullElse;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.nimblebaas.payment_gateway.configs.authentication.UserAuthenticated;
 import br.com.nimblebaas.payment_gateway.dtos.input.account.MakeSelfDepositInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.account.StatementFilterInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.export.ExportFilterInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.StatementCursorRecord;
 import br.com.nimblebaas.payment_gateway.dtos.internal.authorizer.GetAuthorizerDTO;
 import br.com.nimblebaas.payment_gateway.dtos.output.account.BalanceOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.account.StatementOutputRecord;
 import br.com.nimblebaas.payment_gateway.entities.account.Account;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.account.AccountCreditMode;
 import br.com.nimblebaas.payment_gateway.enums.authorizer.AuthorizerPurpose;
 import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotentOperation;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountBalanceDeltaService;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountBalanceUpdateService;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountDailyBalanceService;
+import br.com.nimblebaas.payment_gateway.services.account.lock.AccountLockManager;
 import br.com.nimblebaas.payment_gateway.services.authorizer.AuthorizerService;
+import br.com.nimblebaas.payment_gateway.services.idempotency.IdempotencyService;
+import br.com.nimblebaas.payment_gateway.services.transaction.TransactionExportService;
 import br.com.nimblebaas.payment_gateway.services.transaction.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -23,10 +42,23 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Service
 public class AccountService {
+
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
     
     private final AccountRepository accountRepository;
     private final AuthorizerService authorizerServiceFactory;
     private final TransactionService transactionService;
+    private final AccountBalanceUpdateService accountBalanceUpdateService;
+    private final AccountLockManager accountLockManager;
+    private final AccountBalanceDeltaService accountBalanceDeltaService;
+    private final TransactionExportService transactionExportService;
+    private final AccountStatementService accountStatementService;
+    private final AccountDailyBalanceService accountDailyBalanceService;
+    private final IdempotencyService idempotencyService;
+
+    @Value("${app.account.credit.mode}")
+    private AccountCreditMode accountCreditMode;
 
     public void openAccount(User user) {
         var account = new Account(user);
@@ -34,12 +66,70 @@ public class AccountService {
     }
 
     public BalanceOutputRecord getBalance(UserAuthenticated userAuthenticated) {
+        var accountBalance = accountRepository.findBalanceByUser(userAuthenticated.getUser())
+            .orElseThrow(() -> new BusinessRuleException(
+                getClass(), 
+                BusinessRules.ACCOUNT_NOT_FOUND, 
+                "Conta não encontrada"));
+        return new BalanceOutputRecord(accountBalance);
+    }
+
+    public BalanceOutputRecord getBalanceAt(UserAuthenticated userAuthenticated, LocalDateTime at) {
+        var account = accountRepository.findByUser(userAuthenticated.getUser())
+            .orElseThrow(() -> new BusinessRuleException(
+                getClass(), 
+                BusinessRules.ACCOUNT_NOT_FOUND, 
+                "Conta não encontrada"));
+        return new BalanceOutputRecord(accountDailyBalanceService.getBalanceAt(account, at));
+    }
+
+    public StatementOutputRecord getStatement(UserAuthenticated userAuthenticated, StatementFilterInputRecord statementFilterInputRecord) {
+        var createdFrom = requireNonNullElse(statementFilterInputRecord.createdFrom(), MIN_CREATED_AT);
+        var createdTo = requireNonNullElse(statementFilterInputRecord.createdTo(), MAX_CREATED_AT);
+        validateCreatedRange(createdFrom, createdTo);
+
+        var cursor = isBlank(statementFilterInputRecord.cursor())
+            ? new StatementCursorRecord(createdFrom, 0L)
+            : StatementCursorRecord.decode(statementFilterInputRecord.cursor());
+
+        var account = accountRepository.findByUser(userAuthenticated.getUser())
+            .orElseThrow(() -> new BusinessRuleException(
+                getClass(), 
+                BusinessRules.ACCOUNT_NOT_FOUND, 
+                "Conta não encontrada"));
+
+        return accountStatementService.getStatement(account, createdTo, cursor, statementFilterInputRecord.size());
+    }
+
+    public StreamingResponseBody exportTransactions(UserAuthenticated userAuthenticated, ExportFilterInputRecord exportFilterInputRecord) {
+        var createdFrom = requireNonNullElse(exportFilterInputRecord.createdFrom(), MIN_CREATED_AT);
+        var createdTo = requireNonNullElse(exportFilterInputRecord.createdTo(), MAX_CREATED_AT);
+        validateCreatedRange(createdFrom, createdTo);
+
         var account = accountRepository.findByUser(userAuthenticated.getUser())
             .orElseThrow(() -> new BusinessRuleException(
                 getClass(), 
                 BusinessRules.ACCOUNT_NOT_FOUND, 
                 "Conta não encontrada"));
-        return new BalanceOutputRecord(account);
+
+        return outputStream -> transactionExportService.export(account, createdFrom, createdTo, exportFilterInputRecord.format(), outputStream);
+    }
+
+    private void validateCreatedRange(LocalDateTime createdFrom, LocalDateTime createdTo) {
+        if (!createdFrom.isBefore(createdTo))
+            throw new BusinessRuleException(
+                getClass(), 
+                BusinessRules.INVALID_INPUT_DATA, 
+                "A data inicial deve ser anterior à data final");
+    }
+
+    public void makeSelfDeposit(@Valid MakeSelfDepositInputRecord makeSelfDepositInputRecord, UserAuthenticated userAuthenticated, String idempotencyKey) {
+        idempotencyService.execute(
+            userAuthenticated.getUser(),
+            idempotencyKey,
+            IdempotentOperation.ACCOUNT_DEPOSIT,
+            makeSelfDepositInputRecord,
+            () -> makeSelfDeposit(makeSelfDepositInputRecord, userAuthenticated));
     }
 
     public void makeSelfDeposit(@Valid MakeSelfDepositInputRecord makeSelfDepositInputRecord, UserAuthenticated userAuthenticated) {
@@ -76,15 +166,16 @@ public class AccountService {
                 "O valor do saque deve ser maior que 0");
         }
 
-        if (account.getTotalBalance().subtract(amount).compareTo(BigDecimal.ZERO) < 0) {
+        var updated = accountLockManager.executeLocked(
+            List.of(account), 
+            () -> accountBalanceUpdateService.update(account, amount.negate(), BigDecimal.ZERO));
+
+        if (!updated) {
             throw new BusinessRuleException(
                 getClass(), 
                 BusinessRules.INSUFFICIENT_BALANCE, 
                 "Saldo insuficiente");
         }
-
-        account.setTotalBalance(account.getTotalBalance().subtract(amount));
-        save(account);
     }
 
     public void makeDeposit(Account account, BigDecimal amount) {
@@ -95,8 +186,14 @@ public class AccountService {
                 "O valor do depósito deve ser maior que 0");
         }
 
-        account.setTotalBalance(account.getTotalBalance().add(amount));
-        save(account);
+        if (AccountCreditMode.AGGREGATED.equals(accountCreditMode)) {
+            accountBalanceDeltaService.append(account, amount);
+            return;
+        }
+
+        accountLockManager.executeLocked(
+            List.of(account), 
+            () -> accountBalanceUpdateService.update(account, amount, BigDecimal.ZERO));
     }
 
     private boolean authorizeDeposit(String cpf, String identifier, BigDecimal amount) {
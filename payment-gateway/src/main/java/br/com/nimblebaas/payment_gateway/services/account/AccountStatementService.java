@@ -0,0 +1,67 @@
+package br.com.nimblebaas.payment_gateway.services.account;
+
+import static java.util.Objects.isNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.StatementCursorRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.account.StatementEntryOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.account.StatementOutputRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.AccountDailyBalance;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountDailyBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class AccountStatementService {
+
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TransactionRepository transactionRepository;
+    private final AccountDailyBalanceRepository accountDailyBalanceRepository;
+
+    @Value("${app.account.statement.page.default-size}")
+    private Integer defaultPageSize;
+
+    @Value("${app.account.statement.page.max-size}")
+    private Integer maxPageSize;
+
+    public StatementOutputRecord getStatement(Account account, LocalDateTime createdTo, StatementCursorRecord cursor, Integer size) {
+        var pageSize = isNull(size) || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        var entries = transactionRepository.findStatementPage(account, createdTo, cursor.createdAt(), cursor.id(), Limit.of(pageSize + 1));
+        var hasNext = entries.size() > pageSize;
+        var page = hasNext ? entries.subList(0, pageSize) : entries;
+
+        var openingBalance = getBalanceUpTo(account, cursor);
+        var balance = openingBalance;
+        var items = new ArrayList<StatementEntryOutputRecord>(page.size());
+        for (var entry : page) {
+            balance = balance.add(entry.signedAmount());
+            items.add(new StatementEntryOutputRecord(entry, balance));
+        }
+
+        return new StatementOutputRecord(
+            openingBalance,
+            items,
+            hasNext ? new StatementCursorRecord(page.get(page.size() - 1)).encode() : null);
+    }
+
+    private BigDecimal getBalanceUpTo(Account account, StatementCursorRecord cursor) {
+        var snapshot = accountDailyBalanceRepository.findFirstByAccountAndBalanceDateLessThanOrderByBalanceDateDesc(
+            account, cursor.createdAt().toLocalDate());
+
+        var closingBalance = snapshot.map(AccountDailyBalance::getClosingBalance).orElse(BigDecimal.ZERO);
+        var createdFrom = snapshot.map(dailyBalance -> dailyBalance.getBalanceDate().plusDays(1).atStartOfDay()).orElse(MIN_CREATED_AT);
+
+        return closingBalance.add(transactionRepository.sumSignedAmountUpTo(account, createdFrom, cursor.createdAt(), cursor.id()));
+    }
+}
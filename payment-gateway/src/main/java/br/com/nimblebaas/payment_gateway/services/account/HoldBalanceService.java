@@ -1,6 +1,7 @@
 package br.com.nimblebaas.payment_gateway.services.account;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import org.springframework.stereotype.Service;
 
@@ -8,7 +9,11 @@ import br.com.nimblebaas.payment_gateway.entities.account.Account;
 import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
 import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus;
 import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceType;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountBalanceUpdateService;
+import br.com.nimblebaas.payment_gateway.services.account.lock.AccountLockManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
@@ -17,13 +22,21 @@ import lombok.RequiredArgsConstructor;
 public class HoldBalanceService {
     
     private final HoldBalanceRepository holdBalanceRepository;
-    private final AccountService accountService;
+    private final AccountBalanceUpdateService accountBalanceUpdateService;
+    private final AccountLockManager accountLockManager;
 
     @Transactional
     public HoldBalance createHold(Account account, BigDecimal amount, HoldBalanceType type) {
-        var newHoldBalance = account.getHoldBalance().add(amount); 
-        account.setHoldBalance(newHoldBalance);
-        accountService.save(account);
+        var updated = accountLockManager.executeLocked(
+            List.of(account), 
+            () -> accountBalanceUpdateService.update(account, BigDecimal.ZERO, amount));
+
+        if (!updated) {
+            throw new BusinessRuleException(
+                getClass(), 
+                BusinessRules.INSUFFICIENT_BALANCE, 
+                "Saldo insuficiente");
+        }
 
         var holdBalance = HoldBalance.builder()
             .account(account)
@@ -38,12 +51,18 @@ public class HoldBalanceService {
 
     @Transactional
     public void confirmHold(HoldBalance holdBalance) {
-        accountService.makeWithdrawal(holdBalance.getAccount(), holdBalance.getAmount());
-
         var account = holdBalance.getAccount();
-        var newHoldBalance = account.getHoldBalance().subtract(holdBalance.getAmount());
-        account.setHoldBalance(newHoldBalance);
-        accountService.save(account);
+        var amount = holdBalance.getAmount().negate();
+        var updated = accountLockManager.executeLocked(
+            List.of(account), 
+            () -> accountBalanceUpdateService.update(account, amount, amount));
+
+        if (!updated) {
+            throw new BusinessRuleException(
+                getClass(), 
+                BusinessRules.INSUFFICIENT_BALANCE, 
+                "Saldo insuficiente");
+        }
 
         holdBalance.setStatus(HoldBalanceStatus.CONFIRMED);
         holdBalanceRepository.save(holdBalance);
@@ -52,9 +71,16 @@ public class HoldBalanceService {
     @Transactional
     public void cancelHold(HoldBalance holdBalance) {
         var account = holdBalance.getAccount();
-        var newHoldBalance = account.getHoldBalance().subtract(holdBalance.getAmount());
-        account.setHoldBalance(newHoldBalance);
-        accountService.save(account);
+        var updated = accountLockManager.executeLocked(
+            List.of(account), 
+            () -> accountBalanceUpdateService.update(account, BigDecimal.ZERO, holdBalance.getAmount().negate()));
+
+        if (!updated) {
+            throw new BusinessRuleException(
+                getClass(), 
+                BusinessRules.INSUFFICIENT_BALANCE, 
+                "Saldo bloqueado insuficiente para liberar a reserva");
+        }
 
         holdBalance.setStatus(HoldBalanceStatus.CANCELLED);
         holdBalanceRepository.save(holdBalance);
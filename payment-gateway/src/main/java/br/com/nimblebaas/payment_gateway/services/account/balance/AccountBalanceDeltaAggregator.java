@@ -0,0 +1,54 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountBalanceDeltaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AccountBalanceDeltaAggregator {
+
+    private final AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+    private final AccountBalanceDeltaService accountBalanceDeltaService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.account.credit.aggregation.max-accounts}")
+    private Integer maxAccounts;
+
+    private Timer aggregationTimer;
+    private Counter foldedAccountsCounter;
+    private Counter failedAccountsCounter;
+
+    @PostConstruct
+    public void init() {
+        aggregationTimer = Timer.builder("account.credit.aggregation").register(meterRegistry);
+        foldedAccountsCounter = Counter.builder("account.credit.aggregation.accounts").tag("result", "folded").register(meterRegistry);
+        failedAccountsCounter = Counter.builder("account.credit.aggregation.accounts").tag("result", "failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.account.credit.aggregation.interval-millis}")
+    public void aggregate() {
+        aggregationTimer.record(() -> accountBalanceDeltaRepository.findPendingAccountIds(PageRequest.of(0, maxAccounts))
+            .forEach(this::fold));
+    }
+
+    private void fold(Long accountId) {
+        try {
+            accountBalanceDeltaService.fold(accountId);
+            foldedAccountsCounter.increment();
+        } catch (Exception e) {
+            failedAccountsCounter.increment();
+            log.error("Erro ao consolidar créditos pendentes da conta {}", accountId, e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import java.math.BigDecimal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.AccountBalanceDelta;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountBalanceDeltaRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class AccountBalanceDeltaService {
+
+    private final AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+    private final AccountRepository accountRepository;
+
+    @Value("${app.account.credit.aggregation.batch-size}")
+    private Integer batchSize;
+
+    public void append(Account account, BigDecimal amount) {
+        var accountBalanceDelta = AccountBalanceDelta.builder()
+            .account(account)
+            .amount(amount)
+            .build();
+        accountBalanceDeltaRepository.save(accountBalanceDelta);
+    }
+
+    @Transactional
+    public BigDecimal fold(Long accountId) {
+        var amount = accountBalanceDeltaRepository.claimPendingAmount(accountId, batchSize);
+
+        if (amount.compareTo(BigDecimal.ZERO) != 0)
+            accountRepository.addBalances(accountId, amount, BigDecimal.ZERO);
+
+        return amount;
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.enums.account.AccountConcurrencyMode;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class AccountBalanceUpdateService {
+
+    private final List<IAccountBalanceUpdater> accountBalanceUpdaters;
+    private final AccountRepository accountRepository;
+    private final EntityManager entityManager;
+
+    @Value("${app.account.concurrency.mode}")
+    private AccountConcurrencyMode accountConcurrencyMode;
+
+    private IAccountBalanceUpdater getAccountBalanceUpdater() {
+        return accountBalanceUpdaters.stream()
+            .filter(updater -> updater.isResponsible(accountConcurrencyMode))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(
+                String.format("Nenhuma estratégia de atualização de saldo para o modo: %s", accountConcurrencyMode)));
+    }
+
+    @Transactional
+    public boolean update(Account account, BigDecimal totalBalanceDelta, BigDecimal holdBalanceDelta) {
+        var updated = getAccountBalanceUpdater().update(account, totalBalanceDelta, holdBalanceDelta);
+
+        if (updated)
+            synchronize(account);
+
+        return updated;
+    }
+
+    private void synchronize(Account account) {
+        if (entityManager.contains(account)) {
+            entityManager.refresh(account);
+            return;
+        }
+
+        accountRepository.findBalanceSnapshotById(account.getId())
+            .ifPresent(account::applyBalanceSnapshot);
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AccountDailyBalanceJob {
+
+    private static final String EXECUTOR_NAME = "account-daily-balance";
+
+    private final AccountRepository accountRepository;
+    private final AccountDailyBalanceService accountDailyBalanceService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.account.daily-balance.parallelism}")
+    private Integer parallelism;
+
+    @Value("${app.account.daily-balance.partition-size}")
+    private Integer partitionSize;
+
+    @Value("${app.account.daily-balance.settlement-lag-minutes}")
+    private Long settlementLagMinutes;
+
+    private ExecutorService executor;
+    private Timer runTimer;
+    private Counter snapshotsCounter;
+    private Counter rolledAccountsCounter;
+    private Counter failedAccountsCounter;
+
+    @PostConstruct
+    public void init() {
+        var threadPoolExecutor = new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(parallelism),
+            new CustomizableThreadFactory(EXECUTOR_NAME + "-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, EXECUTOR_NAME);
+
+        runTimer = Timer.builder("account.daily-balance.run").register(meterRegistry);
+        snapshotsCounter = Counter.builder("account.daily-balance.snapshots").register(meterRegistry);
+        rolledAccountsCounter = Counter.builder("account.daily-balance.accounts").tag("result", "rolled").register(meterRegistry);
+        failedAccountsCounter = Counter.builder("account.daily-balance.accounts").tag("result", "failed").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Scheduled(cron = "${app.account.daily-balance.cron}")
+    public void run() {
+        var balanceDate = LocalDateTime.now().minus(Duration.ofMinutes(settlementLagMinutes)).toLocalDate().minusDays(1);
+        runTimer.record(() -> rollForward(balanceDate));
+    }
+
+    public void rollForward(LocalDate balanceDate) {
+        var maxId = accountRepository.findMaxId();
+        var partitions = new ArrayList<CompletableFuture<Void>>();
+        for (long fromId = 1; fromId <= maxId; fromId += partitionSize) {
+            var toId = fromId + partitionSize - 1;
+            var partitionFromId = fromId;
+            partitions.add(CompletableFuture.runAsync(() -> rollForwardPartition(partitionFromId, toId, balanceDate), executor));
+        }
+        CompletableFuture.allOf(partitions.toArray(CompletableFuture[]::new)).join();
+        log.info("Saldos diários consolidados até {} em {} partições", balanceDate, partitions.size());
+    }
+
+    private void rollForwardPartition(Long fromId, Long toId, LocalDate balanceDate) {
+        accountRepository.findIdsBetween(fromId, toId).forEach(accountId -> {
+            try {
+                snapshotsCounter.increment(accountDailyBalanceService.rollForward(accountId, balanceDate));
+                rolledAccountsCounter.increment();
+            } catch (Exception e) {
+                failedAccountsCounter.increment();
+                log.error("Erro ao consolidar o saldo diário da conta {}", accountId, e);
+            }
+        });
+    }
+}
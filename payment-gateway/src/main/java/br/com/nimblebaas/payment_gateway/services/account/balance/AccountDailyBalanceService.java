@@ -0,0 +1,124 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.DailyAmountRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.AccountDailyBalance;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountDailyBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class AccountDailyBalanceService {
+
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final AccountDailyBalanceRepository accountDailyBalanceRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final HoldBalanceRepository holdBalanceRepository;
+
+    @Value("${app.account.daily-balance.settlement-lag-minutes}")
+    private Long settlementLagMinutes;
+
+    @Transactional
+    public int rollForward(Long accountId, LocalDate balanceDate) {
+        var account = accountRepository.getReferenceById(accountId);
+        var lastSnapshot = accountDailyBalanceRepository.findFirstByAccountOrderByBalanceDateDesc(account);
+        var lateCompletionDay = lastSnapshot.flatMap(snapshot -> findLateCompletionDay(account, snapshot));
+        if (lateCompletionDay.isPresent()) {
+            accountDailyBalanceRepository.deleteFromBalanceDate(account, lateCompletionDay.get());
+            lastSnapshot = accountDailyBalanceRepository.findFirstByAccountAndBalanceDateLessThanOrderByBalanceDateDesc(
+                account, lateCompletionDay.get());
+        }
+        if (lastSnapshot.isPresent() && !lastSnapshot.get().getBalanceDate().isBefore(balanceDate))
+            return 0;
+
+        var from = lastSnapshot.map(this::getTailStart).orElse(MIN_CREATED_AT);
+        var to = balanceDate.plusDays(1).atStartOfDay();
+
+        var totalDeltas = new TreeMap<LocalDate, BigDecimal>();
+        var holdDeltas = new TreeMap<LocalDate, BigDecimal>();
+        totalDeltas.put(balanceDate, BigDecimal.ZERO);
+        merge(totalDeltas, transactionRepository.sumSignedAmountByDay(account, from, to), false);
+        merge(holdDeltas, holdBalanceRepository.sumCreatedAmountByDay(account, from, to), false);
+        merge(holdDeltas, holdBalanceRepository.sumReleasedAmountByDay(account, from, to), true);
+        holdDeltas.keySet().forEach(day -> totalDeltas.putIfAbsent(day, BigDecimal.ZERO));
+
+        var closingBalance = lastSnapshot.map(AccountDailyBalance::getClosingBalance).orElse(BigDecimal.ZERO);
+        var closingHoldBalance = lastSnapshot.map(AccountDailyBalance::getClosingHoldBalance).orElse(BigDecimal.ZERO);
+        var snapshots = new ArrayList<AccountDailyBalance>(totalDeltas.size());
+        for (var entry : totalDeltas.entrySet()) {
+            closingBalance = closingBalance.add(entry.getValue());
+            closingHoldBalance = closingHoldBalance.add(holdDeltas.getOrDefault(entry.getKey(), BigDecimal.ZERO));
+            snapshots.add(AccountDailyBalance.builder()
+                .account(account)
+                .balanceDate(entry.getKey())
+                .closingBalance(closingBalance)
+                .closingHoldBalance(closingHoldBalance)
+                .build());
+        }
+
+        accountDailyBalanceRepository.saveAll(snapshots);
+        return snapshots.size();
+    }
+
+    public AccountBalanceRecord getBalanceAt(Account account, LocalDateTime at) {
+        var snapshot = findSnapshotBefore(account, at);
+        var from = snapshot.map(this::getTailStart).orElse(MIN_CREATED_AT);
+
+        var totalBalance = getTotalBalanceAt(account, snapshot, at);
+        var holdBalance = snapshot.map(AccountDailyBalance::getClosingHoldBalance).orElse(BigDecimal.ZERO)
+            .add(holdBalanceRepository.sumCreatedAmount(account, from, at))
+            .subtract(holdBalanceRepository.sumReleasedAmount(account, from, at));
+
+        return new AccountBalanceRecord(totalBalance, holdBalance);
+    }
+
+    public BigDecimal getTotalBalanceAt(Account account, LocalDateTime at) {
+        return getTotalBalanceAt(account, findSnapshotBefore(account, at), at);
+    }
+
+    private BigDecimal getTotalBalanceAt(Account account, Optional<AccountDailyBalance> snapshot, LocalDateTime at) {
+        var from = snapshot.map(this::getTailStart).orElse(MIN_CREATED_AT);
+        return snapshot.map(AccountDailyBalance::getClosingBalance).orElse(BigDecimal.ZERO)
+            .add(transactionRepository.sumSignedAmountUpTo(account, from, at, 0L));
+    }
+
+    private Optional<AccountDailyBalance> findSnapshotBefore(Account account, LocalDateTime at) {
+        return accountDailyBalanceRepository.findFirstByAccountAndBalanceDateLessThanOrderByBalanceDateDesc(
+            account, at.toLocalDate());
+    }
+
+    private Optional<LocalDate> findLateCompletionDay(Account account, AccountDailyBalance lastSnapshot) {
+        var updatedSince = lastSnapshot.getUpdatedAt().minusMinutes(settlementLagMinutes);
+        return transactionRepository.findFirstCreatedAtCompletedSince(account, getTailStart(lastSnapshot), updatedSince)
+            .map(LocalDateTime::toLocalDate);
+    }
+
+    private LocalDateTime getTailStart(AccountDailyBalance snapshot) {
+        return snapshot.getBalanceDate().plusDays(1).atStartOfDay();
+    }
+
+    private void merge(TreeMap<LocalDate, BigDecimal> deltas, List<DailyAmountRecord> dailyAmounts, boolean negate) {
+        dailyAmounts.forEach(dailyAmount -> deltas.merge(
+            dailyAmount.day(),
+            negate ? dailyAmount.amount().negate() : dailyAmount.amount(),
+            BigDecimal::add));
+    }
+}
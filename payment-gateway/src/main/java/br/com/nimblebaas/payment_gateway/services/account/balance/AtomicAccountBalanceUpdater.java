@@ -0,0 +1,27 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import java.math.BigDecimal;
+
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.enums.account.AccountConcurrencyMode;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class AtomicAccountBalanceUpdater implements IAccountBalanceUpdater {
+
+    private final AccountRepository accountRepository;
+
+    @Override
+    public boolean isResponsible(AccountConcurrencyMode accountConcurrencyMode) {
+        return AccountConcurrencyMode.ATOMIC.equals(accountConcurrencyMode);
+    }
+
+    @Override
+    public boolean update(Account account, BigDecimal totalBalanceDelta, BigDecimal holdBalanceDelta) {
+        return accountRepository.addBalances(account.getId(), totalBalanceDelta, holdBalanceDelta) > 0;
+    }
+}
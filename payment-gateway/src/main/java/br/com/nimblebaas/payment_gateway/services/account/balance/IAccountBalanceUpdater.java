@@ -0,0 +1,12 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import java.math.BigDecimal;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.enums.account.AccountConcurrencyMode;
+
+public interface IAccountBalanceUpdater {
+
+    boolean isResponsible(AccountConcurrencyMode accountConcurrencyMode);
+    boolean update(Account account, BigDecimal totalBalanceDelta, BigDecimal holdBalanceDelta);
+}
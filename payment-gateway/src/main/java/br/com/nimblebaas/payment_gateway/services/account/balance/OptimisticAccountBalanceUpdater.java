@@ -0,0 +1,63 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import java.math.BigDecimal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.enums.account.AccountConcurrencyMode;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OptimisticAccountBalanceUpdater implements IAccountBalanceUpdater {
+
+    private final AccountRepository accountRepository;
+
+    @Value("${app.account.concurrency.max-retries}")
+    private Integer maxRetries;
+
+    @Override
+    public boolean isResponsible(AccountConcurrencyMode accountConcurrencyMode) {
+        return AccountConcurrencyMode.OPTIMISTIC.equals(accountConcurrencyMode);
+    }
+
+    @Override
+    public boolean update(Account account, BigDecimal totalBalanceDelta, BigDecimal holdBalanceDelta) {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            var snapshot = accountRepository.findBalanceSnapshotById(account.getId())
+                .orElseThrow(() -> new BusinessRuleException(
+                    getClass(), 
+                    BusinessRules.ACCOUNT_NOT_FOUND, 
+                    "Conta não encontrada"));
+
+            if (!snapshot.canApply(totalBalanceDelta, holdBalanceDelta))
+                return false;
+
+            var updated = accountRepository.updateBalancesIfVersionMatches(
+                account.getId(),
+                snapshot.totalBalance().add(totalBalanceDelta),
+                snapshot.holdBalance().add(holdBalanceDelta),
+                snapshot.version());
+
+            if (updated > 0)
+                return true;
+
+            log.debug("Conflito de versão ao atualizar saldo da conta {}: tentativa {}", account.getId(), attempt + 1);
+        }
+
+        throw new BusinessRuleException(
+            HttpStatus.CONFLICT,
+            getClass(), 
+            BusinessRules.ACCOUNT_CONCURRENT_UPDATE, 
+            "Não foi possível atualizar o saldo da conta após %d tentativas", 
+            maxRetries + 1);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.nimblebaas.payment_gateway.services.account.hold;
+
+import static java.util.Objects.nonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.SweptHoldBalanceRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
+import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
+import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import br.com.nimblebaas.payment_gateway.services.account.HoldBalanceService;
+import br.com.nimblebaas.payment_gateway.services.transaction.TransactionService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class HoldBalanceSweepService {
+
+    private final HoldBalanceRepository holdBalanceRepository;
+    private final TransactionRepository transactionRepository;
+    private final HoldBalanceService holdBalanceService;
+    private final TransactionService transactionService;
+
+    public List<HoldBalance> findExpiredPending(LocalDateTime expiredBefore, LocalDateTime cursorCreatedAt, Long cursorId, Integer batchSize) {
+        return holdBalanceRepository.findExpiredPending(expiredBefore, cursorCreatedAt, cursorId, Limit.of(batchSize));
+    }
+
+    @Transactional
+    public Optional<SweptHoldBalanceRecord> sweep(Long holdBalanceId) {
+        return holdBalanceRepository.claimPending(holdBalanceId)
+            .map(holdBalance -> resolve(holdBalance, transactionRepository.findFirstByHoldBalance(holdBalance).orElse(null)));
+    }
+
+    private SweptHoldBalanceRecord resolve(HoldBalance holdBalance, Transaction transaction) {
+        if (nonNull(transaction) && transaction.getStatus() == TransactionStatus.SUCCESS) {
+            holdBalanceService.confirmHold(holdBalance);
+        } else {
+            holdBalanceService.cancelHold(holdBalance);
+            if (nonNull(transaction) && transaction.getStatus() == TransactionStatus.PENDING)
+                transactionService.completeFailedTransaction(transaction, "Reserva de saldo expirada");
+        }
+
+        return new SweptHoldBalanceRecord(holdBalance.getId(), holdBalance.getStatus(), holdBalance.getCreatedAt());
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.nimblebaas.payment_gateway.services.account.hold;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.SweptHoldBalanceRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HoldBalanceSweeper {
+
+    private static final String RESULT_TAG = "result";
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final HoldBalanceSweepService holdBalanceSweepService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.account.hold.sweeper.expiration-seconds}")
+    private Long expirationSeconds;
+
+    @Value("${app.account.hold.sweeper.batch-size}")
+    private Integer batchSize;
+
+    @Value("${app.account.hold.sweeper.max-batches}")
+    private Integer maxBatches;
+
+    private Timer runTimer;
+    private Counter failedBatchesCounter;
+    private Counter failedHoldsCounter;
+    private Map<HoldBalanceStatus, Counter> sweptCounters;
+    private Map<HoldBalanceStatus, Timer> ageTimers;
+
+    @PostConstruct
+    public void init() {
+        runTimer = Timer.builder("account.hold.sweeper.run").register(meterRegistry);
+        failedBatchesCounter = Counter.builder("account.hold.sweeper.batches").tag(RESULT_TAG, "failed").register(meterRegistry);
+        failedHoldsCounter = Counter.builder("account.hold.sweeper.holds").tag(RESULT_TAG, "failed").register(meterRegistry);
+
+        sweptCounters = new EnumMap<>(HoldBalanceStatus.class);
+        ageTimers = new EnumMap<>(HoldBalanceStatus.class);
+        for (var status : new HoldBalanceStatus[] { HoldBalanceStatus.CONFIRMED, HoldBalanceStatus.CANCELLED }) {
+            var result = status.name().toLowerCase();
+            sweptCounters.put(status, Counter.builder("account.hold.sweeper.holds").tag(RESULT_TAG, result).register(meterRegistry));
+            ageTimers.put(status, Timer.builder("account.hold.sweeper.age")
+                .tag(RESULT_TAG, result)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.account.hold.sweeper.interval-millis}")
+    public void run() {
+        runTimer.record(this::sweep);
+    }
+
+    public int sweep() {
+        var now = LocalDateTime.now();
+        var expiredBefore = now.minusSeconds(expirationSeconds);
+        var cursorCreatedAt = MIN_CREATED_AT;
+        var cursorId = 0L;
+        var swept = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<HoldBalance> holdBalances;
+            try {
+                holdBalances = holdBalanceSweepService.findExpiredPending(expiredBefore, cursorCreatedAt, cursorId, batchSize);
+            } catch (Exception e) {
+                failedBatchesCounter.increment();
+                log.error("Erro ao buscar reservas de saldo expiradas antes de {}", expiredBefore, e);
+                break;
+            }
+
+            for (var holdBalance : holdBalances)
+                swept += resolve(holdBalance, now);
+
+            if (holdBalances.size() < batchSize)
+                break;
+
+            var last = holdBalances.get(holdBalances.size() - 1);
+            cursorCreatedAt = last.getCreatedAt();
+            cursorId = last.getId();
+        }
+
+        if (swept > 0)
+            log.warn("{} reservas de saldo expiradas foram resolvidas", swept);
+        return swept;
+    }
+
+    private int resolve(HoldBalance holdBalance, LocalDateTime now) {
+        try {
+            var sweptHoldBalance = holdBalanceSweepService.sweep(holdBalance.getId());
+            sweptHoldBalance.ifPresent(swept -> record(swept, now));
+            return sweptHoldBalance.isPresent() ? 1 : 0;
+        } catch (Exception e) {
+            failedHoldsCounter.increment();
+            log.error("Erro ao resolver a reserva de saldo expirada {}", holdBalance.getId(), e);
+            return 0;
+        }
+    }
+
+    private void record(SweptHoldBalanceRecord holdBalance, LocalDateTime now) {
+        sweptCounters.get(holdBalance.status()).increment();
+        ageTimers.get(holdBalance.status()).record(Duration.between(holdBalance.createdAt(), now));
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.nimblebaas.payment_gateway.services.account.lock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class AccountLockManager {
+
+    private static final String STRIPE_TAG = "stripe";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.account.lock.stripes}")
+    private Integer stripes;
+
+    @Value("${app.account.lock.timeout-millis}")
+    private Long timeoutMillis;
+
+    private ReentrantLock[] locks;
+    private Timer[] waitTimers;
+    private Counter[] contentionCounters;
+    private Counter[] timeoutCounters;
+
+    @PostConstruct
+    public void init() {
+        locks = new ReentrantLock[stripes];
+        waitTimers = new Timer[stripes];
+        contentionCounters = new Counter[stripes];
+        timeoutCounters = new Counter[stripes];
+
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            var tag = String.valueOf(stripe);
+            locks[stripe] = new ReentrantLock();
+            waitTimers[stripe] = Timer.builder("account.lock.wait").tag(STRIPE_TAG, tag).register(meterRegistry);
+            contentionCounters[stripe] = Counter.builder("account.lock.contended").tag(STRIPE_TAG, tag).register(meterRegistry);
+            timeoutCounters[stripe] = Counter.builder("account.lock.timeouts").tag(STRIPE_TAG, tag).register(meterRegistry);
+        }
+    }
+
+    public <T> T executeLocked(Collection<Account> accounts, Supplier<T> action) {
+        var acquired = acquire(accounts);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(acquired);
+                }
+            });
+            return action.get();
+        }
+
+        try {
+            return action.get();
+        } finally {
+            release(acquired);
+        }
+    }
+
+    public void executeLocked(Collection<Account> accounts, Runnable action) {
+        executeLocked(accounts, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    int getStripe(Long accountId) {
+        var hash = Objects.hashCode(accountId);
+        return Math.floorMod(hash ^ (hash >>> 16), stripes);
+    }
+
+    private List<Integer> acquire(Collection<Account> accounts) {
+        var orderedStripes = accounts.stream()
+            .map(account -> getStripe(account.getId()))
+            .distinct()
+            .sorted()
+            .toList();
+
+        var acquired = new ArrayList<Integer>(orderedStripes.size());
+        try {
+            for (var stripe : orderedStripes) {
+                lock(stripe);
+                acquired.add(stripe);
+            }
+        } catch (RuntimeException e) {
+            release(acquired);
+            throw e;
+        }
+        return acquired;
+    }
+
+    private void lock(int stripe) {
+        var lock = locks[stripe];
+        if (lock.tryLock())
+            return;
+
+        contentionCounters[stripe].increment();
+        var startedAt = System.nanoTime();
+        boolean locked;
+        try {
+            locked = lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            locked = false;
+        } finally {
+            waitTimers[stripe].record(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+
+        if (!locked) {
+            timeoutCounters[stripe].increment();
+            throw new BusinessRuleException(
+                HttpStatus.CONFLICT,
+                getClass(), 
+                BusinessRules.ACCOUNT_LOCK_TIMEOUT, 
+                "Conta ocupada por outra operação, tente novamente");
+        }
+    }
+
+    private void release(List<Integer> acquired) {
+        for (int i = acquired.size() - 1; i >= 0; i--)
+            locks[acquired.get(i)].unlock();
+    }
+}
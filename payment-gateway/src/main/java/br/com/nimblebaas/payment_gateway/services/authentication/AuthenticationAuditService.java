@@ -1,11 +1,17 @@
 package br.com.nimblebaas.payment_gateway.services.authentication;
 
+import java.util.List;
+
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
 
 import br.com.nimblebaas.payment_gateway.entities.authentication.AuthenticationAudit;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 import br.com.nimblebaas.payment_gateway.enums.authentication.AuthenticationAction;
 import br.com.nimblebaas.payment_gateway.repositories.authentication.AuthenticationAuditRepository;
+import br.com.nimblebaas.payment_gateway.services.authentication.audit.AuthenticationAuditBuffer;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,6 +21,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthenticationAuditService {
 
     private final AuthenticationAuditRepository authenticationAuditRepository;
+    private final AuthenticationAuditBuffer authenticationAuditBuffer;
+    private final EntityManager entityManager;
 
     public void registerAuditEvent(
             User user, 
@@ -32,10 +40,13 @@ public class AuthenticationAuditService {
             audit.setSuccess(success);
             audit.setMessage(message);
             
-            authenticationAuditRepository.save(audit);
-            
-            log.info("Evento de auditoria registrado: action={}, cpfOrEmail={}, success={}", 
-                action, cpfOrEmail, success);
+            if (authenticationAuditBuffer.offer(audit)) {
+                log.debug("Evento de auditoria enfileirado: action={}, cpfOrEmail={}, success={}", 
+                    action, cpfOrEmail, success);
+            } else {
+                log.debug("Evento de auditoria descartado por fila cheia: action={}, cpfOrEmail={}, success={}", 
+                    action, cpfOrEmail, success);
+            }
         } catch (Exception e) {
             log.error("Erro ao registrar auditoria: action={}, cpfOrEmail={}, success={}", 
                 action, cpfOrEmail, success, e);
@@ -50,5 +61,10 @@ public class AuthenticationAuditService {
             String message) {
         registerAuditEvent(null, cpfOrEmail, ips, action, success, message);
     }
-}
 
+    @Transactional
+    public void saveBatch(List<AuthenticationAudit> audits) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(audits.size());
+        authenticationAuditRepository.saveAll(audits);
+    }
+}
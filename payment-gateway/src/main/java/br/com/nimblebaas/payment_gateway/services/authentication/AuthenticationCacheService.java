@@ -0,0 +1,57 @@
+package br.com.nimblebaas.payment_gateway.services.authentication;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class AuthenticationCacheService {
+
+    private static final String USERS_CACHE_NAME = "authentication.users";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.authentication.cache.maximum-size}")
+    private Long maximumSize;
+
+    @Value("${app.security.authentication.cache.expiration}")
+    private Long expiration;
+
+    private Cache<String, User> usersByCpf;
+
+    @PostConstruct
+    public void init() {
+        usersByCpf = buildCache();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByCpf, USERS_CACHE_NAME);
+    }
+
+    private <V> Cache<String, V> buildCache() {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expiration))
+            .recordStats()
+            .build();
+    }
+
+    public Optional<User> getUser(String cpf, Function<String, Optional<User>> loader) {
+        return Optional.ofNullable(usersByCpf.get(cpf, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void evictUser(String cpf) {
+        usersByCpf.invalidate(cpf);
+    }
+}
@@ -18,11 +18,14 @@ import br.com.nimblebaas.payment_gateway.events.authentication.LoginSuccessEvent
 import br.com.nimblebaas.payment_gateway.events.authentication.RefreshTokenEvent;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.helpers.HttpRequestHelper;
+import br.com.nimblebaas.payment_gateway.services.authentication.login.LoginAdmissionService;
 import br.com.nimblebaas.payment_gateway.services.user.UserService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class AuthenticationService {
@@ -33,14 +36,18 @@ public class AuthenticationService {
     private final RefreshTokenService refreshTokenService;
     private final ApplicationEventPublisher eventPublisher;
     private final HttpServletRequest httpServletRequest;
+    private final LoginAdmissionService loginAdmissionService;
 
     @Value("${app.security.jwt.expiration.access}")
     private Long accessTokenExpiration;
 
     public LoginResponseRecord login(LoginRequestRecord loginRequest) {
         String requestInfo = HttpRequestHelper.formatRequestInfo(httpServletRequest);
+        String clientIp = httpServletRequest.getRemoteAddr();
         
         try {
+            loginAdmissionService.admit(clientIp, loginRequest.cpfOrEmail());
+
             User user = userService.findByCpfOrEmail(loginRequest.cpfOrEmail())
                 .orElseThrow(() -> {
                     BusinessRuleException ex = new BusinessRuleException(
@@ -50,6 +57,7 @@ public class AuthenticationService {
                         "CPF/e-mail ou senha inválidos"
                     );
                     
+                    loginAdmissionService.recordFailure(clientIp, loginRequest.cpfOrEmail());
                     eventPublisher.publishEvent(new LoginFailureEvent(
                         loginRequest.cpfOrEmail(),
                         "Usuário não encontrado",
@@ -68,6 +76,7 @@ public class AuthenticationService {
                     "CPF/e-mail ou senha inválidos"
                 );
                 
+                loginAdmissionService.recordFailure(clientIp, loginRequest.cpfOrEmail());
                 eventPublisher.publishEvent(new LoginFailureEvent(
                     loginRequest.cpfOrEmail(),
                     "Senha incorreta",
@@ -78,6 +87,8 @@ public class AuthenticationService {
                 throw ex;
             }
 
+            upgradePasswordHashIfNeeded(user, loginRequest.password());
+
             refreshTokenService.revokeUserRefreshTokens(user);
 
             String jti = UUID.randomUUID().toString();
@@ -106,6 +117,17 @@ public class AuthenticationService {
         }
     }
 
+    private void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword()))
+            return;
+
+        try {
+            userService.upgradePasswordHash(user, passwordEncoder.encode(rawPassword));
+        } catch (Exception e) {
+            log.warn("Não foi possível atualizar o hash da senha do usuário {}: {}", user.getCpf(), e.getMessage());
+        }
+    }
+
     public LoginResponseRecord refreshToken(String refreshTokenString) {
         String requestInfo = HttpRequestHelper.formatRequestInfo(httpServletRequest);
         
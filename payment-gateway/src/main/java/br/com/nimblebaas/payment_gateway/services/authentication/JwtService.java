@@ -1,8 +1,15 @@
 package br.com.nimblebaas.payment_gateway.services.authentication;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.crypto.SecretKey;
 
@@ -12,36 +19,91 @@ import org.springframework.stereotype.Service;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 import br.com.nimblebaas.payment_gateway.enums.authentication.TokenType;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class JwtService {
-    
+
     @Value("${app.security.jwt.secret}")
     private String secret;
 
+    @Value("${app.security.jwt.key-id}")
+    private String keyId;
+
+    @Value("${app.security.jwt.retired-keys}")
+    private String retiredKeys;
+
     @Value("${app.security.jwt.expiration.access}")
     private Long accessTokenExpiration;
 
     @Value("${app.security.jwt.expiration.refresh}")
     private Long refreshTokenExpiration;
-    
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+
+    private SecretKey signingKey;
+    private Map<String, SecretKey> verificationKeys;
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = buildKey(secret);
+
+        var keys = new HashMap<String, SecretKey>();
+        if (nonNull(retiredKeys) && !retiredKeys.isBlank()) {
+            Arrays.stream(retiredKeys.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> {
+                    var separator = entry.indexOf(':');
+                    if (separator <= 0)
+                        throw new IllegalStateException("Chave JWT aposentada inválida, formato esperado <kid>:<secret>");
+                    keys.put(entry.substring(0, separator), buildKey(entry.substring(separator + 1)));
+                });
+        }
+        keys.put(keyId, signingKey);
+        verificationKeys = Map.copyOf(keys);
+
+        parser = Jwts.parser()
+            .keyLocator(new LocatorAdapter<Key>() {
+                @Override
+                protected Key locate(JwsHeader header) {
+                    return getVerificationKey(header.getKeyId());
+                }
+            })
+            .build();
+    }
+
+    private SecretKey buildKey(String value) {
+        return Keys.hmacShaKeyFor(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private SecretKey getVerificationKey(String kid) {
+        if (isNull(kid))
+            return signingKey;
+
+        var key = verificationKeys.get(kid);
+        if (isNull(key))
+            throw new UnsupportedJwtException(String.format("Chave de assinatura desconhecida: %s", kid));
+        return key;
     }
 
     public String generateAccessToken(User user, String jti) {
         Instant now = Instant.now();
-        
+
         return Jwts.builder()
+            .header().keyId(keyId).and()
             .id(jti)
             .subject(user.getCpf())
             .claim("email", user.getEmail())
             .claim("tokenType", TokenType.ACCESS.name())
             .issuedAt(Date.from(now))
             .expiration(Date.from(now.plusSeconds(accessTokenExpiration)))
-            .signWith(getSigningKey())
+            .signWith(signingKey)
             .compact();
     }
 
@@ -49,19 +111,18 @@ public class JwtService {
         Instant now = Instant.now();
 
         return Jwts.builder()
+            .header().keyId(keyId).and()
             .id(jti)
             .subject(user.getCpf())
             .claim("tokenType", TokenType.REFRESH.name())
             .issuedAt(Date.from(now))
             .expiration(Date.from(now.plusSeconds(refreshTokenExpiration)))
-            .signWith(getSigningKey())
+            .signWith(signingKey)
             .compact();
     }
-    
+
     public Claims parseToken(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
+        return parser
             .parseSignedClaims(token)
             .getPayload();
     }
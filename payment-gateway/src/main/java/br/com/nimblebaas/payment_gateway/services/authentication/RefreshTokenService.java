@@ -1,7 +1,5 @@
 package br.com.nimblebaas.payment_gateway.services.authentication;
 
-import static org.apache.commons.lang3.BooleanUtils.isTrue;
-
 import java.time.Instant;
 import java.util.List;
 
@@ -15,6 +13,7 @@ import br.com.nimblebaas.payment_gateway.enums.authentication.TokenType;
 import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.authentication.RefreshTokenRepository;
+import br.com.nimblebaas.payment_gateway.services.authentication.revocation.TokenRevocationService;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
 
     @Value("${app.security.jwt.expiration.refresh}")
     private Long refreshTokenExpiration;
@@ -57,9 +57,7 @@ public class RefreshTokenService {
             );
         }
 
-        RefreshToken refreshToken = findByJtiAndUser(claims.getId(), user);
-
-        if (isTrue(refreshToken.getRevoked())) {
+        if (tokenRevocationService.isRevoked(claims.getId())) {
             throw new BusinessRuleException(
                 HttpStatus.UNAUTHORIZED,
                 getClass(),
@@ -116,13 +114,15 @@ public class RefreshTokenService {
 
     public void saveAsUsedAndRevoked(RefreshToken refreshToken) {
         refreshToken.setUsed(true);
-        refreshToken.setRevoked(true);
+        refreshToken.revoke();
         refreshTokenRepository.save(refreshToken);
+        tokenRevocationService.revoke(refreshToken.getJti());
     }
 
     public void revokeUserRefreshTokens(User user) {
         List<RefreshToken> refreshTokens = refreshTokenRepository.findByUserAndRevokedIsFalse(user);
-        refreshTokens.forEach(refreshToken -> refreshToken.setRevoked(true));
+        refreshTokens.forEach(RefreshToken::revoke);
         refreshTokenRepository.saveAll(refreshTokens);
+        tokenRevocationService.revoke(refreshTokens.stream().map(RefreshToken::getJti).toList());
     }
 }
@@ -0,0 +1,114 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.audit;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import br.com.nimblebaas.payment_gateway.entities.authentication.AuthenticationAudit;
+import br.com.nimblebaas.payment_gateway.enums.authentication.AuditOverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Component
+public class AuthenticationAuditBuffer {
+
+    private static final String DROPPED_METRIC = "authentication.audit.dropped";
+    private static final String REASON_TAG = "reason";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.authentication.audit.buffer.capacity}")
+    private Integer capacity;
+
+    @Value("${app.security.authentication.audit.buffer.overflow-policy}")
+    private AuditOverflowPolicy overflowPolicy;
+
+    @Value("${app.security.authentication.audit.buffer.block-timeout-millis}")
+    private Long blockTimeout;
+
+    @Value("${app.security.authentication.audit.buffer.sample-rate}")
+    private Integer sampleRate;
+
+    private BlockingQueue<AuthenticationAudit> queue;
+    private AtomicLong failuresSeen;
+    private Counter droppedOldestCounter;
+    private Counter droppedTimeoutCounter;
+    private Counter droppedSampledCounter;
+    private Counter droppedFullCounter;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        failuresSeen = new AtomicLong();
+
+        Gauge.builder("authentication.audit.queue.depth", queue, Collection::size).register(meterRegistry);
+        droppedOldestCounter = Counter.builder(DROPPED_METRIC).tag(REASON_TAG, "oldest").register(meterRegistry);
+        droppedTimeoutCounter = Counter.builder(DROPPED_METRIC).tag(REASON_TAG, "timeout").register(meterRegistry);
+        droppedSampledCounter = Counter.builder(DROPPED_METRIC).tag(REASON_TAG, "sampled").register(meterRegistry);
+        droppedFullCounter = Counter.builder(DROPPED_METRIC).tag(REASON_TAG, "full").register(meterRegistry);
+    }
+
+    public boolean offer(AuthenticationAudit audit) {
+        return switch (overflowPolicy) {
+            case BLOCK -> offerBlocking(audit);
+            case DROP_OLDEST -> offerDroppingOldest(audit);
+            case SAMPLE_FAILURES -> offerSamplingFailures(audit);
+        };
+    }
+
+    private boolean offerBlocking(AuthenticationAudit audit) {
+        try {
+            if (queue.offer(audit, blockTimeout, TimeUnit.MILLISECONDS))
+                return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedTimeoutCounter.increment();
+        return false;
+    }
+
+    private boolean offerDroppingOldest(AuthenticationAudit audit) {
+        while (!queue.offer(audit)) {
+            if (nonNull(queue.poll()))
+                droppedOldestCounter.increment();
+        }
+        return true;
+    }
+
+    private boolean offerSamplingFailures(AuthenticationAudit audit) {
+        if (isFalse(audit.getSuccess())
+                && queue.size() >= capacity / 2
+                && failuresSeen.incrementAndGet() % sampleRate != 0) {
+            droppedSampledCounter.increment();
+            return false;
+        }
+        if (queue.offer(audit))
+            return true;
+        droppedFullCounter.increment();
+        return false;
+    }
+
+    public List<AuthenticationAudit> drain(int maxElements) {
+        var batch = new ArrayList<AuthenticationAudit>(Math.min(maxElements, queue.size()));
+        queue.drainTo(batch, maxElements);
+        return batch;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+}
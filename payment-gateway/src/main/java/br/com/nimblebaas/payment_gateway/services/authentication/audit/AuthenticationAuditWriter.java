@@ -0,0 +1,66 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.audit;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.nimblebaas.payment_gateway.entities.authentication.AuthenticationAudit;
+import br.com.nimblebaas.payment_gateway.services.authentication.AuthenticationAuditService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AuthenticationAuditWriter {
+
+    private final AuthenticationAuditBuffer authenticationAuditBuffer;
+    private final AuthenticationAuditService authenticationAuditService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.authentication.audit.writer.batch-size}")
+    private Integer batchSize;
+
+    private Timer flushTimer;
+    private Counter writtenCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        flushTimer = Timer.builder("authentication.audit.flush").register(meterRegistry);
+        writtenCounter = Counter.builder("authentication.audit.written").register(meterRegistry);
+        failedCounter = Counter.builder("authentication.audit.dropped").tag("reason", "write_error").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.authentication.audit.writer.interval-millis}")
+    public void flush() {
+        flushTimer.record(() -> {
+            List<AuthenticationAudit> batch;
+            while (!(batch = authenticationAuditBuffer.drain(batchSize)).isEmpty())
+                write(batch);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        log.info("Auditorias pendentes gravadas no encerramento, restantes={}", authenticationAuditBuffer.size());
+    }
+
+    private void write(List<AuthenticationAudit> batch) {
+        try {
+            authenticationAuditService.saveBatch(batch);
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("Erro ao gravar lote de {} eventos de auditoria", batch.size(), e);
+        }
+    }
+}
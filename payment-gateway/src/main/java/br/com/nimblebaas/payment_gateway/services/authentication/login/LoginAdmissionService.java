@@ -0,0 +1,113 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.login;
+
+import static java.util.Objects.nonNull;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class LoginAdmissionService {
+
+    private static final String ADMISSION_METRIC = "authentication.login.admission";
+    private static final String RESULT_TAG = "result";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.authentication.login.ip.capacity}")
+    private Long ipCapacity;
+
+    @Value("${app.security.authentication.login.ip.refill-per-minute}")
+    private Long ipRefillPerMinute;
+
+    @Value("${app.security.authentication.login.identifier.capacity}")
+    private Long identifierCapacity;
+
+    @Value("${app.security.authentication.login.identifier.refill-per-minute}")
+    private Long identifierRefillPerMinute;
+
+    @Value("${app.security.authentication.login.buckets.maximum-size}")
+    private Long bucketsMaximumSize;
+
+    @Value("${app.security.authentication.login.buckets.expiration-minutes}")
+    private Long bucketsExpiration;
+
+    private Cache<String, LoginTokenBucket> bucketsByIp;
+    private Cache<String, LoginTokenBucket> failureBucketsByIpAndIdentifier;
+    private Counter admittedCounter;
+    private Counter ipLimitedCounter;
+    private Counter identifierLimitedCounter;
+
+    @PostConstruct
+    public void init() {
+        bucketsByIp = buildBuckets();
+        failureBucketsByIpAndIdentifier = buildBuckets();
+
+        admittedCounter = Counter.builder(ADMISSION_METRIC).tag(RESULT_TAG, "admitted").register(meterRegistry);
+        ipLimitedCounter = Counter.builder(ADMISSION_METRIC).tag(RESULT_TAG, "ip_limited").register(meterRegistry);
+        identifierLimitedCounter = Counter.builder(ADMISSION_METRIC).tag(RESULT_TAG, "identifier_limited").register(meterRegistry);
+    }
+
+    private Cache<String, LoginTokenBucket> buildBuckets() {
+        return Caffeine.newBuilder()
+            .maximumSize(bucketsMaximumSize)
+            .expireAfterAccess(Duration.ofMinutes(bucketsExpiration))
+            .build();
+    }
+
+    public void admit(String clientIp, String identifier) {
+        var now = System.nanoTime();
+
+        var ipBucket = bucketsByIp.get(Objects.toString(clientIp, ""), key -> new LoginTokenBucket(ipCapacity, ipRefillPerMinute, now));
+        if (!ipBucket.tryConsume(now)) {
+            ipLimitedCounter.increment();
+            log.warn("Tentativas de login bloqueadas para o IP {}", clientIp);
+            throw tooManyAttempts();
+        }
+
+        var failureBucket = failureBucketsByIpAndIdentifier.getIfPresent(failureKey(clientIp, identifier));
+        if (nonNull(failureBucket) && !failureBucket.hasTokens(now)) {
+            identifierLimitedCounter.increment();
+            log.warn("Tentativas de login bloqueadas para o identificador {} a partir do IP {}", identifier, clientIp);
+            throw tooManyAttempts();
+        }
+
+        admittedCounter.increment();
+    }
+
+    public void recordFailure(String clientIp, String identifier) {
+        var now = System.nanoTime();
+        failureBucketsByIpAndIdentifier
+            .get(failureKey(clientIp, identifier), key -> new LoginTokenBucket(identifierCapacity, identifierRefillPerMinute, now))
+            .tryConsume(now);
+    }
+
+    private String failureKey(String clientIp, String identifier) {
+        return Objects.toString(clientIp, "") + "|" + Objects.toString(identifier, "").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private BusinessRuleException tooManyAttempts() {
+        return new BusinessRuleException(
+            HttpStatus.TOO_MANY_REQUESTS,
+            getClass(),
+            BusinessRules.LOGIN_RATE_LIMITED,
+            "Muitas tentativas de login, tente novamente mais tarde");
+    }
+}
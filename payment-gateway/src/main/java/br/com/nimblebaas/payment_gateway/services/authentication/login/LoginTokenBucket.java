@@ -0,0 +1,36 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.login;
+
+public class LoginTokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    public LoginTokenBucket(long capacity, long refillPerMinute, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / 60_000_000_000d;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    public synchronized boolean tryConsume(long now) {
+        refill(now);
+
+        if (tokens < 1)
+            return false;
+
+        tokens--;
+        return true;
+    }
+
+    public synchronized boolean hasTokens(long now) {
+        refill(now);
+        return tokens >= 1;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + Math.max(0, now - refilledAt) * refillPerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class RevokedTokenBloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public RevokedTokenBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        var ln2 = Math.log(2);
+        var bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2));
+        this.words = new AtomicLongArray((int) Math.max(1, (bits + 63) / 64));
+        this.bitCount = words.length() * 64L;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    public void put(String value) {
+        var hash = hash(value);
+        var step = mix(hash) | 1;
+        for (int index = 0; index < hashCount; index++)
+            setBit(Math.floorMod(hash + index * step, bitCount));
+    }
+
+    public boolean mightContain(String value) {
+        var hash = hash(value);
+        var step = mix(hash) | 1;
+        for (int index = 0; index < hashCount; index++) {
+            if (!getBit(Math.floorMod(hash + index * step, bitCount)))
+                return false;
+        }
+        return true;
+    }
+
+    private void setBit(long bit) {
+        var word = (int) (bit >>> 6);
+        var mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0)
+                return;
+        } while (!words.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long bit) {
+        return (words.get((int) (bit >>> 6)) & (1L << bit)) != 0;
+    }
+
+    private long hash(String value) {
+        var hash = FNV_OFFSET_BASIS;
+        for (int index = 0; index < value.length(); index++) {
+            hash ^= value.charAt(index);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
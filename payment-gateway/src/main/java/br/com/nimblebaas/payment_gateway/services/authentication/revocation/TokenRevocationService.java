@@ -0,0 +1,144 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.revocation;
+
+import static java.util.Objects.nonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.authentication.RevokedTokenRecord;
+import br.com.nimblebaas.payment_gateway.repositories.authentication.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TokenRevocationService {
+
+    private static final String CHECKS_METRIC = "authentication.token.revocation.checks";
+    private static final String RESULT_TAG = "result";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.jwt.expiration.access}")
+    private Long accessTokenExpiration;
+
+    @Value("${app.security.authentication.revocation.expected-insertions}")
+    private Long expectedInsertions;
+
+    @Value("${app.security.authentication.revocation.false-positive-probability}")
+    private Double falsePositiveProbability;
+
+    @Value("${app.security.authentication.revocation.refresh.overlap-seconds}")
+    private Long refreshOverlapSeconds;
+
+    private Cache<String, Boolean> revokedJtis;
+    private volatile RevokedTokenBloomFilter currentFilter;
+    private volatile RevokedTokenBloomFilter previousFilter;
+    private volatile long filterCreatedAt;
+    private long filterLifetimeNanos;
+    private volatile Instant revokedWatermark;
+    private Counter notRevokedCounter;
+    private Counter revokedCounter;
+    private Counter falsePositiveCounter;
+
+    @PostConstruct
+    public void init() {
+        revokedJtis = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(accessTokenExpiration))
+            .build();
+        filterLifetimeNanos = TimeUnit.SECONDS.toNanos(accessTokenExpiration);
+        currentFilter = new RevokedTokenBloomFilter(expectedInsertions, falsePositiveProbability);
+        previousFilter = new RevokedTokenBloomFilter(expectedInsertions, falsePositiveProbability);
+        filterCreatedAt = System.nanoTime();
+
+        notRevokedCounter = Counter.builder(CHECKS_METRIC).tag(RESULT_TAG, "not_revoked").register(meterRegistry);
+        revokedCounter = Counter.builder(CHECKS_METRIC).tag(RESULT_TAG, "revoked").register(meterRegistry);
+        falsePositiveCounter = Counter.builder(CHECKS_METRIC).tag(RESULT_TAG, "false_positive").register(meterRegistry);
+        Gauge.builder("authentication.token.revocation.size", revokedJtis, Cache::estimatedSize)
+            .register(meterRegistry);
+
+        revokedWatermark = Instant.now();
+        var jtis = refreshTokenRepository.findRevokedJtisIssuedAfter(revokedWatermark.minusSeconds(accessTokenExpiration));
+        revoke(jtis);
+        log.info("{} tokens revogados carregados em memória", jtis.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.authentication.revocation.refresh.interval-millis}")
+    public void refresh() {
+        try {
+            var revokedTokens = refreshTokenRepository.findRevokedAfter(revokedWatermark.minusSeconds(refreshOverlapSeconds));
+            if (revokedTokens.isEmpty())
+                return;
+
+            revoke(revokedTokens.stream().map(RevokedTokenRecord::jti).toList());
+            revokedTokens.stream()
+                .map(RevokedTokenRecord::revokedAt)
+                .max(Instant::compareTo)
+                .filter(revokedAt -> revokedAt.isAfter(revokedWatermark))
+                .ifPresent(revokedAt -> revokedWatermark = revokedAt);
+        } catch (Exception e) {
+            log.error("Erro ao carregar tokens revogados por outros nós", e);
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        rotateFiltersIfExpired();
+
+        if (!currentFilter.mightContain(jti) && !previousFilter.mightContain(jti)) {
+            notRevokedCounter.increment();
+            return false;
+        }
+
+        if (nonNull(revokedJtis.getIfPresent(jti))) {
+            revokedCounter.increment();
+            return true;
+        }
+
+        falsePositiveCounter.increment();
+        return false;
+    }
+
+    public void revoke(String jti) {
+        revoke(List.of(jti));
+    }
+
+    public void revoke(Collection<String> jtis) {
+        rotateFiltersIfExpired();
+
+        jtis.forEach(jti -> {
+            revokedJtis.put(jti, Boolean.TRUE);
+            currentFilter.put(jti);
+        });
+    }
+
+    private void rotateFiltersIfExpired() {
+        if (System.nanoTime() - filterCreatedAt < filterLifetimeNanos)
+            return;
+
+        synchronized (this) {
+            var now = System.nanoTime();
+            if (now - filterCreatedAt < filterLifetimeNanos)
+                return;
+
+            previousFilter = currentFilter;
+            currentFilter = new RevokedTokenBloomFilter(expectedInsertions, falsePositiveProbability);
+            filterCreatedAt = now;
+        }
+    }
+}
@@ -1,20 +1,163 @@
 package br.com.nimblebaas.payment_gateway.services.authorizer;
 
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 import br.com.nimblebaas.payment_gateway.dtos.internal.authorizer.GetAuthorizerDTO;
 import br.com.nimblebaas.payment_gateway.enums.authorizer.AuthorizerPurpose;
 import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class AuthorizerService {
 
+    private static final String EXECUTOR_NAME = "authorizer";
+
     private final List<IAuthorizerService> authorizerServices;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private Boolean virtualThreadsEnabled;
+
+    @Value("${app.api.authorizer.executor.pool-size}")
+    private Integer poolSize;
+
+    @Value("${app.api.authorizer.executor.queue-capacity}")
+    private Integer queueCapacity;
+
+    @Value("${app.api.authorizer.circuit-breaker.failure-rate-threshold}")
+    private Float failureRateThreshold;
+
+    @Value("${app.api.authorizer.circuit-breaker.slow-call-duration-threshold-millis}")
+    private Long slowCallDurationThreshold;
+
+    @Value("${app.api.authorizer.circuit-breaker.sliding-window-size}")
+    private Integer slidingWindowSize;
+
+    @Value("${app.api.authorizer.circuit-breaker.minimum-number-of-calls}")
+    private Integer minimumNumberOfCalls;
+
+    @Value("${app.api.authorizer.circuit-breaker.wait-duration-in-open-state-millis}")
+    private Long waitDurationInOpenState;
+
+    @Value("${app.api.authorizer.circuit-breaker.permitted-calls-in-half-open-state}")
+    private Integer permittedCallsInHalfOpenState;
+
+    @Value("${app.api.authorizer.bulkhead.max-concurrent-calls}")
+    private Integer maxConcurrentCalls;
+
+    @Value("${app.api.authorizer.bulkhead.max-wait-millis}")
+    private Long maxWait;
+
+    private Executor executor;
+    private Map<AuthorizerPurpose, CircuitBreaker> circuitBreakers;
+    private Map<AuthorizerPurpose, Bulkhead> bulkheads;
+
+    @PostConstruct
+    public void init() {
+        executor = useVirtualThreads() ? new VirtualThreadTaskExecutor(EXECUTOR_NAME + "-") : buildThreadPool();
+
+        var circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallRateThreshold(failureRateThreshold)
+            .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationThreshold))
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumNumberOfCalls)
+            .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenState))
+            .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+            .automaticTransitionFromOpenToHalfOpenEnabled(true)
+            .recordException(this::isAuthorizerFailure)
+            .build());
+        var bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(maxConcurrentCalls)
+            .maxWaitDuration(Duration.ofMillis(maxWait))
+            .build());
+
+        circuitBreakers = new EnumMap<>(AuthorizerPurpose.class);
+        bulkheads = new EnumMap<>(AuthorizerPurpose.class);
+        for (AuthorizerPurpose purpose : AuthorizerPurpose.values()) {
+            var circuitBreaker = circuitBreakerRegistry.circuitBreaker(purpose.name());
+            circuitBreaker.getEventPublisher().onStateTransition(event -> {
+                var transition = event.getStateTransition();
+                log.warn("Circuit breaker do autorizador {} mudou de {} para {}", purpose, transition.getFromState(), transition.getToState());
+                Counter.builder("authorizer.circuit-breaker.transitions")
+                    .tag("purpose", purpose.name())
+                    .tag("from", transition.getFromState().name())
+                    .tag("to", transition.getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+            });
+            circuitBreakers.put(purpose, circuitBreaker);
+            bulkheads.put(purpose, bulkheadRegistry.bulkhead(purpose.name()));
+        }
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    private boolean useVirtualThreads() {
+        return Boolean.TRUE.equals(virtualThreadsEnabled)
+            && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+    }
+
+    private ExecutorService buildThreadPool() {
+        var threadPoolExecutor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory(EXECUTOR_NAME + "-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, EXECUTOR_NAME);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService)
+            executorService.shutdown();
+    }
+
+    private boolean isAuthorizerFailure(Throwable throwable) {
+        return !(throwable instanceof BusinessRuleException exception)
+            || BusinessRules.AUTHORIZER_SERVICE_ERROR.name().equals(exception.getErrorDTO().getReason());
+    }
 
     private IAuthorizerService getAuthorizerService(AuthorizerPurpose authorizerPurpose) {
         return authorizerServices.stream()
@@ -30,6 +173,38 @@ public class AuthorizerService {
 
     public boolean authorize(AuthorizerPurpose authorizerPurpose, GetAuthorizerDTO getAuthorizerDTO) {
         var authorizerService = getAuthorizerService(authorizerPurpose);
-        return authorizerService.authorize(getAuthorizerDTO);
+        var call = CircuitBreaker.decorateSupplier(
+            circuitBreakers.get(authorizerPurpose),
+            () -> authorizerService.authorize(getAuthorizerDTO));
+
+        try {
+            return Bulkhead.decorateSupplier(bulkheads.get(authorizerPurpose), call).get();
+        } catch (CallNotPermittedException e) {
+            throw new BusinessRuleException(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                getClass(),
+                BusinessRules.AUTHORIZER_SERVICE_ERROR,
+                "Autorizador indisponível para %s, tente novamente em instantes",
+                authorizerPurpose.name());
+        } catch (BulkheadFullException e) {
+            throw new BusinessRuleException(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                getClass(),
+                BusinessRules.AUTHORIZER_SERVICE_ERROR,
+                "Limite de autorizações simultâneas atingido para %s, tente novamente em instantes",
+                authorizerPurpose.name());
+        }
+    }
+
+    public CompletableFuture<Boolean> authorizeAsync(AuthorizerPurpose authorizerPurpose, GetAuthorizerDTO getAuthorizerDTO) {
+        try {
+            return CompletableFuture.supplyAsync(() -> authorize(authorizerPurpose, getAuthorizerDTO), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new BusinessRuleException(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                getClass(),
+                BusinessRules.AUTHORIZER_SERVICE_ERROR,
+                "Fila de autorização cheia, tente novamente em instantes"));
+        }
     }
 }
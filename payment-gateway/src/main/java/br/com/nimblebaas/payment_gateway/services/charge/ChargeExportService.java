@@ -0,0 +1,52 @@
+package br.com.nimblebaas.payment_gateway.services.charge;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeListItemRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.export.ExportColumnRecord;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.export.ExportFormat;
+import br.com.nimblebaas.payment_gateway.helpers.StringHelper;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.services.export.StreamExportWriter;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class ChargeExportService {
+
+    private static final String EXPORT_NAME = "charges";
+
+    private static final List<ExportColumnRecord<ChargeListItemRecord>> COLUMNS = List.of(
+        new ExportColumnRecord<>("identifier", ChargeListItemRecord::identifier),
+        new ExportColumnRecord<>("originatorCpf", ChargeListItemRecord::originatorCpf),
+        new ExportColumnRecord<>("destinationCpf", ChargeListItemRecord::destinationCpf),
+        new ExportColumnRecord<>("amount", ChargeListItemRecord::amount),
+        new ExportColumnRecord<>("description", ChargeListItemRecord::description),
+        new ExportColumnRecord<>("status", ChargeListItemRecord::status),
+        new ExportColumnRecord<>("createdAt", ChargeListItemRecord::createdAt),
+        new ExportColumnRecord<>("paymentMethod", ChargeListItemRecord::paymentMethod),
+        new ExportColumnRecord<>("authorizationIdentifier", ChargeListItemRecord::authorizationIdentifier),
+        new ExportColumnRecord<>("lastCardDigits", charge -> isNotBlank(charge.cardNumber()) ? StringHelper.lastFourDigits(charge.cardNumber()) : null),
+        new ExportColumnRecord<>("paidAt", ChargeListItemRecord::paidAt),
+        new ExportColumnRecord<>("cancelledAt", ChargeListItemRecord::cancelledAt)
+    );
+
+    private final ChargeRepository chargeRepository;
+    private final StreamExportWriter streamExportWriter;
+
+    @Transactional
+    public long export(User user, LocalDateTime createdFrom, LocalDateTime createdTo, ExportFormat format, OutputStream outputStream) throws IOException {
+        try (var charges = chargeRepository.streamByUser(user, createdFrom, createdTo)) {
+            return streamExportWriter.write(EXPORT_NAME, charges, format, COLUMNS, outputStream);
+        }
+    }
+}
@@ -1,24 +1,46 @@
 package br.com.nimblebaas.payment_gateway.services.charge;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNullElse;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.nimblebaas.payment_gateway.configs.authentication.UserAuthenticated;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeCancelInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeFilterInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargePaymentInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.export.ExportFilterInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeCursorRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeListItemRecord;
 import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentDTO;
 import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargeOutputDTO;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargePageOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargePaymentStatusOutputRecord;
 import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargePaymentMode;
 import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.enums.charge.PaymentMethod;
 import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotentOperation;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.services.charge.payment.ChargePaymentRequestService;
 import br.com.nimblebaas.payment_gateway.services.charge.payment.ChargePaymentService;
+import br.com.nimblebaas.payment_gateway.services.idempotency.IdempotencyService;
 import br.com.nimblebaas.payment_gateway.services.user.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -26,10 +48,40 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Service
 public class ChargeService {
+
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("999999999999999999");
     
     private final ChargeRepository chargeRepository;
     private final UserService userService;
     private final ChargePaymentService chargePaymentService;
+    private final ChargeExportService chargeExportService;
+    private final IdempotencyService idempotencyService;
+    private final ChargePaymentRequestService chargePaymentRequestService;
+    private final ChargeStatusNotifier chargeStatusNotifier;
+    private final ChargeStatusService chargeStatusService;
+
+    @Value("${app.charge.page.default-size}")
+    private Integer defaultPageSize;
+
+    @Value("${app.charge.page.max-size}")
+    private Integer maxPageSize;
+
+    @Value("${app.charge.payment.card.mode}")
+    private ChargePaymentMode cardPaymentMode;
+
+    @Value("${app.charge.payment.poll.max-wait-seconds}")
+    private Integer maxPollWaitSeconds;
+
+    public ChargeOutputDTO create(UserAuthenticated userAuthenticated, @Valid ChargeInputRecord chargeInputRecord, String idempotencyKey) {
+        return idempotencyService.execute(
+            userAuthenticated.getUser(),
+            idempotencyKey,
+            IdempotentOperation.CHARGE_CREATE,
+            chargeInputRecord,
+            ChargeOutputDTO.class,
+            () -> create(userAuthenticated, chargeInputRecord));
+    }
 
     public ChargeOutputDTO create(UserAuthenticated userAuthenticated, @Valid ChargeInputRecord chargeInputRecord) {
         var destinationCpf = chargeInputRecord.getDestinationCpfOnlyNumbers();
@@ -57,25 +109,110 @@ public class ChargeService {
         return new ChargeOutputDTO(charge);
     }
 
-    public List<ChargeOutputDTO> getSentChargesByUser(UserAuthenticated userAuthenticated, List<ChargeStatus> statuses) {
-        if (isNull(statuses) || statuses.isEmpty())
-            statuses = List.of(ChargeStatus.PENDING, ChargeStatus.PAID, ChargeStatus.CANCELLED);
+    public DeferredResult<ChargeOutputDTO> getCharge(UserAuthenticated userAuthenticated, String identifier, Integer waitSeconds) {
+        var user = userAuthenticated.getUser();
+        var charge = getVisibleCharge(user, identifier);
+        var wait = isNull(waitSeconds) ? 0 : Math.min(Math.max(waitSeconds, 0), maxPollWaitSeconds);
+        var result = new DeferredResult<ChargeOutputDTO>(TimeUnit.SECONDS.toMillis(wait));
+
+        if (wait == 0 || charge.getStatus() != ChargeStatus.PAYMENT_PROCESSING) {
+            result.setResult(new ChargeOutputDTO(charge));
+            return result;
+        }
+
+        var unsubscribe = chargeStatusNotifier.subscribe(identifier, () -> result.setResult(new ChargeOutputDTO(getVisibleCharge(user, identifier))));
+        result.onTimeout(() -> result.setResult(new ChargeOutputDTO(getVisibleCharge(user, identifier))));
+        result.onCompletion(unsubscribe);
+
+        var current = getVisibleCharge(user, identifier);
+        if (current.getStatus() != ChargeStatus.PAYMENT_PROCESSING)
+            result.setResult(new ChargeOutputDTO(current));
 
-        return chargeRepository.findByOriginatorUserAndStatusIn(userAuthenticated.getUser(), statuses)
-            .stream().map(ChargeOutputDTO::new)
-            .toList();
+        return result;
     }
 
-    public List<ChargeOutputDTO> getReceivedChargesByUser(UserAuthenticated userAuthenticated, List<ChargeStatus> statuses) {
+    private Charge getVisibleCharge(User user, String identifier) {
+        return chargeRepository.findByIdentifier(identifier)
+            .filter(charge -> charge.isUserAllowedToView(user))
+            .orElseThrow(() -> new BusinessRuleException(
+                HttpStatus.NOT_FOUND,
+                getClass(), 
+                BusinessRules.CHARGE_NOT_FOUND, 
+                "Cobrança não encontrada"
+            ));
+    }
+
+    public ChargePageOutputRecord getSentChargesByUser(UserAuthenticated userAuthenticated, ChargeFilterInputRecord chargeFilterInputRecord) {
+        var user = userAuthenticated.getUser();
+        return getChargesPage(chargeFilterInputRecord, (statuses, createdFrom, createdTo, minAmount, maxAmount, cursor, limit) ->
+            chargeRepository.findSentPage(user, statuses, createdFrom, createdTo, minAmount, maxAmount, cursor.createdAt(), cursor.id(), limit));
+    }
+
+    public ChargePageOutputRecord getReceivedChargesByUser(UserAuthenticated userAuthenticated, ChargeFilterInputRecord chargeFilterInputRecord) {
+        var user = userAuthenticated.getUser();
+        return getChargesPage(chargeFilterInputRecord, (statuses, createdFrom, createdTo, minAmount, maxAmount, cursor, limit) ->
+            chargeRepository.findReceivedPage(user, statuses, createdFrom, createdTo, minAmount, maxAmount, cursor.createdAt(), cursor.id(), limit));
+    }
+
+    private ChargePageOutputRecord getChargesPage(ChargeFilterInputRecord filter, ChargePageQuery query) {
+        var statuses = filter.statuses();
         if (isNull(statuses) || statuses.isEmpty())
             statuses = List.of(ChargeStatus.PENDING, ChargeStatus.PAID, ChargeStatus.CANCELLED);
 
-        return chargeRepository.findByDestinationUserAndStatusIn(userAuthenticated.getUser(), statuses)
-            .stream().map(ChargeOutputDTO::new)
-            .toList();
+        var createdFrom = requireNonNullElse(filter.createdFrom(), MIN_CREATED_AT);
+        var createdTo = requireNonNullElse(filter.createdTo(), ChargeCursorRecord.FIRST_PAGE.createdAt());
+        validateCreatedRange(createdFrom, createdTo);
+
+        var minAmount = requireNonNullElse(filter.minAmount(), BigDecimal.ZERO);
+        var maxAmount = requireNonNullElse(filter.maxAmount(), MAX_AMOUNT);
+        if (minAmount.compareTo(maxAmount) > 0)
+            throw new BusinessRuleException(
+                getClass(), 
+                BusinessRules.INVALID_INPUT_DATA, 
+                "O valor mínimo não pode ser maior que o valor máximo"
+            );
+
+        var cursor = isBlank(filter.cursor()) ? ChargeCursorRecord.FIRST_PAGE : ChargeCursorRecord.decode(filter.cursor());
+        var size = isNull(filter.size()) || filter.size() < 1 ? defaultPageSize : Math.min(filter.size(), maxPageSize);
+
+        var charges = query.find(statuses, createdFrom, createdTo, minAmount, maxAmount, cursor, Limit.of(size + 1));
+        var hasNext = charges.size() > size;
+        var page = hasNext ? charges.subList(0, size) : charges;
+
+        return new ChargePageOutputRecord(
+            page.stream().map(ChargeOutputDTO::new).toList(),
+            hasNext ? new ChargeCursorRecord(page.get(page.size() - 1)).encode() : null);
     }
 
-    public void pay(UserAuthenticated userAuthenticated, @Valid ChargePaymentInputRecord chargePaymentInputRecord) {
+    private void validateCreatedRange(LocalDateTime createdFrom, LocalDateTime createdTo) {
+        if (!createdFrom.isBefore(createdTo))
+            throw new BusinessRuleException(
+                getClass(), 
+                BusinessRules.INVALID_INPUT_DATA, 
+                "A data inicial deve ser anterior à data final"
+            );
+    }
+
+    public StreamingResponseBody exportCharges(UserAuthenticated userAuthenticated, ExportFilterInputRecord exportFilterInputRecord) {
+        var user = userAuthenticated.getUser();
+        var createdFrom = requireNonNullElse(exportFilterInputRecord.createdFrom(), MIN_CREATED_AT);
+        var createdTo = requireNonNullElse(exportFilterInputRecord.createdTo(), ChargeCursorRecord.FIRST_PAGE.createdAt());
+        validateCreatedRange(createdFrom, createdTo);
+
+        return outputStream -> chargeExportService.export(user, createdFrom, createdTo, exportFilterInputRecord.format(), outputStream);
+    }
+
+    public ChargePaymentStatusOutputRecord pay(UserAuthenticated userAuthenticated, @Valid ChargePaymentInputRecord chargePaymentInputRecord, String idempotencyKey) {
+        return idempotencyService.execute(
+            userAuthenticated.getUser(),
+            idempotencyKey,
+            IdempotentOperation.CHARGE_PAY,
+            chargePaymentInputRecord,
+            ChargePaymentStatusOutputRecord.class,
+            () -> pay(userAuthenticated, chargePaymentInputRecord));
+    }
+
+    public ChargePaymentStatusOutputRecord pay(UserAuthenticated userAuthenticated, @Valid ChargePaymentInputRecord chargePaymentInputRecord) {
         var charge = chargeRepository.findByIdentifier(chargePaymentInputRecord.identifier())
             .orElseThrow(() -> new BusinessRuleException(
                 getClass(), 
@@ -97,17 +234,22 @@ public class ChargeService {
                 "A cobrança não está permitida para ser paga"
             );
 
+        if (isAsyncCardPayment(chargePaymentInputRecord)) {
+            chargePaymentRequestService.enqueue(new ChargePaymentDTO(chargePaymentInputRecord, charge));
+            return new ChargePaymentStatusOutputRecord(charge.getIdentifier(), ChargeStatus.PAYMENT_PROCESSING);
+        }
+
         try {
             chargePaymentService.pay(new ChargePaymentDTO(chargePaymentInputRecord, charge), chargePaymentInputRecord.paymentMethod());
         } catch (BusinessRuleException e) {
             charge.setStatus(ChargeStatus.PAYMENT_FAILED);
             charge.setErrorMessage(e.getErrorDTO().getDetails());
-            chargeRepository.save(charge);
+            chargeStatusService.save(charge);
             throw e;
         } catch (Exception e) {
             charge.setStatus(ChargeStatus.PAYMENT_FAILED);
             charge.setErrorMessage(e.getMessage());
-            chargeRepository.save(charge);
+            chargeStatusService.save(charge);
             throw new BusinessRuleException(
                 getClass(), 
                 BusinessRules.CHARGE_PAYMENT_ERROR, 
@@ -117,7 +259,14 @@ public class ChargeService {
 
         charge.setStatus(ChargeStatus.PAID);
         charge.setErrorMessage(null);
-        chargeRepository.save(charge);
+        chargeStatusService.save(charge);
+
+        return new ChargePaymentStatusOutputRecord(charge.getIdentifier(), ChargeStatus.PAID);
+    }
+
+    private boolean isAsyncCardPayment(ChargePaymentInputRecord chargePaymentInputRecord) {
+        return ChargePaymentMode.ASYNC.equals(cardPaymentMode)
+            && PaymentMethod.CREDIT_CARD.equals(chargePaymentInputRecord.paymentMethod());
     }
 
     public void cancel(UserAuthenticated userAuthenticated, @Valid ChargeCancelInputRecord chargeCancelInputRecord) {
@@ -145,7 +294,7 @@ public class ChargeService {
         if (charge.isStatusPending()) {
             charge.setStatus(ChargeStatus.CANCELLED);
             charge.setErrorMessage(null);
-            chargeRepository.save(charge);
+            chargeStatusService.save(charge);
             return;
         }
             
@@ -154,12 +303,12 @@ public class ChargeService {
         } catch (BusinessRuleException e) {
             charge.setStatus(ChargeStatus.CANCELLED_FAILED);
             charge.setErrorMessage(e.getErrorDTO().getDetails());
-            chargeRepository.save(charge);
+            chargeStatusService.save(charge);
             throw e;
         } catch (Exception e) {
             charge.setStatus(ChargeStatus.CANCELLED_FAILED);
             charge.setErrorMessage(e.getMessage());
-            chargeRepository.save(charge);
+            chargeStatusService.save(charge);
             throw new BusinessRuleException(
                 getClass(), 
                 BusinessRules.CHARGE_CANCEL_ERROR, 
@@ -169,6 +318,18 @@ public class ChargeService {
 
         charge.setStatus(ChargeStatus.CANCELLED);
         charge.setErrorMessage(null);
-        chargeRepository.save(charge);
+        chargeStatusService.save(charge);
+    }
+
+    @FunctionalInterface
+    private interface ChargePageQuery {
+        List<ChargeListItemRecord> find(
+            List<ChargeStatus> statuses,
+            LocalDateTime createdFrom,
+            LocalDateTime createdTo,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            ChargeCursorRecord cursor,
+            Limit limit);
     }
 }
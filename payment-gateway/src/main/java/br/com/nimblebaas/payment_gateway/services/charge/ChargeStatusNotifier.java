@@ -0,0 +1,40 @@
+package br.com.nimblebaas.payment_gateway.services.charge;
+
+import static java.util.Objects.isNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class ChargeStatusNotifier {
+
+    private final Map<String, Set<Runnable>> listeners = new ConcurrentHashMap<>();
+
+    public Runnable subscribe(String identifier, Runnable listener) {
+        listeners.computeIfAbsent(identifier, key -> ConcurrentHashMap.newKeySet()).add(listener);
+        return () -> listeners.computeIfPresent(identifier, (key, subscribed) -> {
+            subscribed.remove(listener);
+            return subscribed.isEmpty() ? null : subscribed;
+        });
+    }
+
+    public void publish(String identifier) {
+        var subscribed = listeners.remove(identifier);
+        if (isNull(subscribed))
+            return;
+
+        subscribed.forEach(listener -> {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.error("Erro ao notificar a mudança de status da cobrança {}", identifier, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.nimblebaas.payment_gateway.services.charge;
+
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.services.outbox.OutboxService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class ChargeStatusService {
+
+    private final ChargeRepository chargeRepository;
+    private final OutboxService outboxService;
+
+    @Transactional
+    public Charge save(Charge charge) {
+        var savedCharge = chargeRepository.save(charge);
+        outboxService.record(savedCharge);
+        return savedCharge;
+    }
+}
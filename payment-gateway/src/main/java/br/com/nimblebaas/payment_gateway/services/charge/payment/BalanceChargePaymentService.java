@@ -2,6 +2,7 @@ package br.com.nimblebaas.payment_gateway.services.charge.payment;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.stereotype.Service;
 
@@ -16,6 +17,7 @@ import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.charge.ChargePaymentRepository;
 import br.com.nimblebaas.payment_gateway.services.account.AccountService;
 import br.com.nimblebaas.payment_gateway.services.account.HoldBalanceService;
+import br.com.nimblebaas.payment_gateway.services.account.lock.AccountLockManager;
 import br.com.nimblebaas.payment_gateway.services.transaction.TransactionService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +30,7 @@ public class BalanceChargePaymentService implements IChargePaymentService {
     private final TransactionService transactionService;
     private final AccountService accountService;
     private final ChargePaymentRepository chargePaymentRepository;
+    private final AccountLockManager accountLockManager;
     
     @Override
     public boolean isResponsible(PaymentMethod paymentMethod) {
@@ -39,7 +42,14 @@ public class BalanceChargePaymentService implements IChargePaymentService {
     public void pay(ChargePaymentDTO chargePaymentDTO) {
         var charge = chargePaymentDTO.getCharge();
         var destinationAccount = charge.getDestinationUser().getAccount();
+        var originatorAccount = charge.getOriginatorUser().getAccount();
+
+        accountLockManager.executeLocked(
+            List.of(destinationAccount, originatorAccount), 
+            () -> pay(charge, destinationAccount));
+    }
 
+    private void pay(Charge charge, Account destinationAccount) {
         verifyDestinationAccountBalance(destinationAccount, charge.getAmount());
 
         var holdBalance = holdBalanceService.createHold(destinationAccount, charge.getAmount(), HoldBalanceType.CHARGE_PAYMENT);
@@ -93,10 +103,18 @@ public class BalanceChargePaymentService implements IChargePaymentService {
         chargePaymentRepository.save(chargePayment);
     }
 
+    @Transactional
     @Override
     public void cancel(Charge charge) {
         var originatorAccount = charge.getOriginatorUser().getAccount();
+        var destinationAccount = charge.getDestinationUser().getAccount();
 
+        accountLockManager.executeLocked(
+            List.of(originatorAccount, destinationAccount), 
+            () -> cancel(charge, originatorAccount));
+    }
+
+    private void cancel(Charge charge, Account originatorAccount) {
         verifyOriginatorAccountBalance(originatorAccount, charge.getAmount());
 
         var holdBalance = holdBalanceService.createHold(originatorAccount, charge.getAmount(), HoldBalanceType.CHARGE_REFUND);
@@ -125,6 +143,8 @@ public class BalanceChargePaymentService implements IChargePaymentService {
             transactionService.completeFailedTransaction(creditTransaction, e.getMessage());
             throw e;
         }
+
+        transactionService.completeSuccessTransaction(creditTransaction);
     }
 
     private void saveChargeRefund(ChargePayment chargePayment) {
@@ -2,6 +2,7 @@ package br.com.nimblebaas.payment_gateway.services.charge.payment;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Service;
 
@@ -42,9 +43,7 @@ public class CardChargePaymentService implements IChargePaymentService {
     public void pay(ChargePaymentDTO chargePaymentDTO) {
         var charge = chargePaymentDTO.getCharge();
 
-        var authorizationIdentifier = String.format("%s_%s", AuthorizerPurpose.CARD_PAYMENT.name(), charge.getIdentifier());
-
-        var authorized = authorizeChargePayment(charge.getDestinationUser().getCpf(), authorizationIdentifier, charge.getAmount(), chargePaymentDTO);
+        var authorized = authorizerService.authorize(AuthorizerPurpose.CARD_PAYMENT, buildPaymentAuthorization(chargePaymentDTO));
 
         if (!authorized) {            
             throw new BusinessRuleException(
@@ -53,16 +52,31 @@ public class CardChargePaymentService implements IChargePaymentService {
                 "Cobrança não autorizada");
         }
 
+        completePayment(charge, chargePaymentDTO.getCardNumber());
+    }
+
+    public CompletableFuture<Boolean> authorizeAsync(ChargePaymentDTO chargePaymentDTO) {
+        return authorizerService.authorizeAsync(AuthorizerPurpose.CARD_PAYMENT, buildPaymentAuthorization(chargePaymentDTO));
+    }
+
+    public void completePayment(Charge charge, String cardNumber) {
+        var authorizationIdentifier = getPaymentAuthorizationIdentifier(charge);
+
         makeDeposit(charge, charge.getAmount(), authorizationIdentifier);
 
-        saveChargePayment(charge, authorizationIdentifier, chargePaymentDTO.getCardNumber());
+        saveChargePayment(charge, authorizationIdentifier, cardNumber);
     }
 
-    private boolean authorizeChargePayment(String cpf, String authorizationIdentifier, BigDecimal amount, ChargePaymentDTO chargePaymentDTO) {
-        var getAuthorizerDTO = GetAuthorizerDTO.builder()
-            .cpf(cpf)
-            .amount(amount)
-            .identifier(authorizationIdentifier)
+    private String getPaymentAuthorizationIdentifier(Charge charge) {
+        return String.format("%s_%s", AuthorizerPurpose.CARD_PAYMENT.name(), charge.getIdentifier());
+    }
+
+    private GetAuthorizerDTO buildPaymentAuthorization(ChargePaymentDTO chargePaymentDTO) {
+        var charge = chargePaymentDTO.getCharge();
+        return GetAuthorizerDTO.builder()
+            .cpf(charge.getDestinationUser().getCpf())
+            .amount(charge.getAmount())
+            .identifier(getPaymentAuthorizationIdentifier(charge))
             .cardDetails(AuthorizerCardDetailsDTO.builder()
                 .cardNumber(chargePaymentDTO.getCardNumber())
                 .cardExpirationDate(chargePaymentDTO.getCardExpirationDate())
@@ -70,7 +84,6 @@ public class CardChargePaymentService implements IChargePaymentService {
                 .installments(chargePaymentDTO.getInstallments())
                 .build())
             .build();
-        return authorizerService.authorize(AuthorizerPurpose.CARD_PAYMENT, getAuthorizerDTO);
     }
 
     private void makeDeposit(Charge charge, BigDecimal amount, String authorizationIdentifier) {
@@ -150,6 +163,8 @@ public class CardChargePaymentService implements IChargePaymentService {
             transactionService.completeFailedTransaction(creditTransaction, e.getMessage());
             throw e;
         }
+
+        transactionService.completeSuccessTransaction(creditTransaction);
     }
 
     private void saveChargeRefund(ChargePayment chargePayment) {
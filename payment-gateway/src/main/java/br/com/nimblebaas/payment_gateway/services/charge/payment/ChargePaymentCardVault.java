@@ -0,0 +1,44 @@
+package br.com.nimblebaas.payment_gateway.services.charge.payment;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentCardRecord;
+import lombok.Getter;
+
+@Component
+public class ChargePaymentCardVault {
+
+    @Getter
+    private final String owner = UUID.randomUUID().toString();
+
+    private final Cache<Long, ChargePaymentCardRecord> cardsByRequestId;
+
+    public ChargePaymentCardVault(
+        @Value("${app.charge.payment.worker.lease-seconds}") Long leaseSeconds,
+        @Value("${app.charge.payment.worker.max-attempts}") Integer maxAttempts
+    ) {
+        cardsByRequestId = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(leaseSeconds * maxAttempts))
+            .build();
+    }
+
+    public void put(Long chargePaymentRequestId, ChargePaymentCardRecord card) {
+        cardsByRequestId.put(chargePaymentRequestId, card);
+    }
+
+    public Optional<ChargePaymentCardRecord> get(Long chargePaymentRequestId) {
+        return Optional.ofNullable(cardsByRequestId.getIfPresent(chargePaymentRequestId));
+    }
+
+    public void evict(Long chargePaymentRequestId) {
+        cardsByRequestId.invalidate(chargePaymentRequestId);
+    }
+}
@@ -0,0 +1,159 @@
+package br.com.nimblebaas.payment_gateway.services.charge.payment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentCardRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentDTO;
+import br.com.nimblebaas.payment_gateway.entities.charge.ChargePaymentRequest;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargePaymentRequestStatus;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargePaymentRequestRepository;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.services.charge.ChargeStatusService;
+import br.com.nimblebaas.payment_gateway.services.outbox.OutboxService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ChargePaymentRequestService {
+
+    private static final String CARD_DATA_UNAVAILABLE = "Dados do cartão indisponíveis, refaça o pagamento";
+
+    private final ChargePaymentRequestRepository chargePaymentRequestRepository;
+    private final ChargeRepository chargeRepository;
+    private final CardChargePaymentService cardChargePaymentService;
+    private final ChargeStatusService chargeStatusService;
+    private final OutboxService outboxService;
+    private final ChargePaymentCardVault chargePaymentCardVault;
+
+    @Value("${app.charge.payment.worker.lease-seconds}")
+    private Long leaseSeconds;
+
+    @Value("${app.charge.payment.worker.max-attempts}")
+    private Integer maxAttempts;
+
+    @Transactional
+    public ChargePaymentRequest enqueue(ChargePaymentDTO chargePaymentDTO) {
+        var charge = chargePaymentDTO.getCharge();
+
+        if (chargeRepository.markPaymentProcessing(charge.getId()) == 0)
+            throw new BusinessRuleException(
+                getClass(), 
+                BusinessRules.CHARGE_NOT_ALLOWED_TO_PAY, 
+                "A cobrança não está permitida para ser paga"
+            );
+
+        charge.setStatus(ChargeStatus.PAYMENT_PROCESSING);
+        outboxService.record(charge);
+
+        var chargePaymentRequest = ChargePaymentRequest.builder()
+            .charge(charge)
+            .installments(chargePaymentDTO.getInstallments())
+            .ownerNode(chargePaymentCardVault.getOwner())
+            .status(ChargePaymentRequestStatus.PENDING)
+            .attempts(0)
+            .availableAt(LocalDateTime.now())
+            .build();
+
+        chargePaymentRequestRepository.save(chargePaymentRequest);
+        chargePaymentCardVault.put(chargePaymentRequest.getId(), new ChargePaymentCardRecord(chargePaymentDTO));
+        return chargePaymentRequest;
+    }
+
+    @Transactional
+    public List<ChargePaymentRequest> claim(Integer batchSize) {
+        var now = LocalDateTime.now();
+        var chargePaymentRequests = chargePaymentRequestRepository.claimAvailable(chargePaymentCardVault.getOwner(), now, batchSize);
+
+        chargePaymentRequests.forEach(chargePaymentRequest -> {
+            chargePaymentRequest.setAttempts(chargePaymentRequest.getAttempts() + 1);
+            chargePaymentRequest.setAvailableAt(now.plusSeconds(leaseSeconds));
+        });
+
+        return chargePaymentRequestRepository.saveAll(chargePaymentRequests);
+    }
+
+    @Transactional
+    public List<ChargePaymentRequest> failOrphaned(Integer batchSize) {
+        var availableBefore = LocalDateTime.now().minusSeconds(leaseSeconds);
+        var chargePaymentRequests = chargePaymentRequestRepository.claimOrphaned(chargePaymentCardVault.getOwner(), availableBefore, batchSize);
+
+        chargePaymentRequests.forEach(chargePaymentRequest -> {
+            log.warn("Pedido de pagamento da cobrança {} abandonado pelo nó {}, cancelando",
+                chargePaymentRequest.getCharge().getIdentifier(), chargePaymentRequest.getOwnerNode());
+            finish(chargePaymentRequest, ChargePaymentRequestStatus.FAILED, ChargeStatus.PAYMENT_FAILED, CARD_DATA_UNAVAILABLE);
+        });
+
+        return chargePaymentRequests;
+    }
+
+    @Transactional
+    public ChargeStatus failWithoutCardData(Long chargePaymentRequestId) {
+        var chargePaymentRequest = findForUpdate(chargePaymentRequestId);
+        if (!chargePaymentRequest.isPending())
+            return chargePaymentRequest.getCharge().getStatus();
+
+        return finish(chargePaymentRequest, ChargePaymentRequestStatus.FAILED, ChargeStatus.PAYMENT_FAILED, CARD_DATA_UNAVAILABLE);
+    }
+
+    @Transactional
+    public ChargeStatus complete(Long chargePaymentRequestId, boolean authorized) {
+        var chargePaymentRequest = findForUpdate(chargePaymentRequestId);
+        if (!chargePaymentRequest.isPending())
+            return chargePaymentRequest.getCharge().getStatus();
+
+        if (!authorized)
+            return finish(chargePaymentRequest, ChargePaymentRequestStatus.FAILED, ChargeStatus.PAYMENT_FAILED, "Cobrança não autorizada");
+
+        var cardNumber = chargePaymentCardVault.get(chargePaymentRequestId).map(ChargePaymentCardRecord::cardNumber).orElse(null);
+        cardChargePaymentService.completePayment(chargePaymentRequest.getCharge(), cardNumber);
+        return finish(chargePaymentRequest, ChargePaymentRequestStatus.COMPLETED, ChargeStatus.PAID, null);
+    }
+
+    @Transactional
+    public ChargeStatus retryOrFail(Long chargePaymentRequestId, String errorMessage) {
+        var chargePaymentRequest = findForUpdate(chargePaymentRequestId);
+        if (!chargePaymentRequest.isPending())
+            return chargePaymentRequest.getCharge().getStatus();
+
+        if (chargePaymentRequest.getAttempts() >= maxAttempts)
+            return finish(chargePaymentRequest, ChargePaymentRequestStatus.FAILED, ChargeStatus.PAYMENT_FAILED, errorMessage);
+
+        log.warn("Tentativa {} de pagamento da cobrança {} falhou, nova tentativa em até {} segundos: {}",
+            chargePaymentRequest.getAttempts(), chargePaymentRequest.getCharge().getIdentifier(), leaseSeconds, errorMessage);
+        chargePaymentRequest.setErrorMessage(errorMessage);
+        chargePaymentRequestRepository.save(chargePaymentRequest);
+        return ChargeStatus.PAYMENT_PROCESSING;
+    }
+
+    private ChargePaymentRequest findForUpdate(Long chargePaymentRequestId) {
+        return chargePaymentRequestRepository.findByIdForUpdate(chargePaymentRequestId)
+            .orElseThrow(() -> new BusinessRuleException(
+                getClass(), 
+                BusinessRules.CHARGE_NOT_FOUND, 
+                "Pedido de pagamento %d não encontrado", 
+                chargePaymentRequestId));
+    }
+
+    private ChargeStatus finish(ChargePaymentRequest chargePaymentRequest, ChargePaymentRequestStatus requestStatus, ChargeStatus chargeStatus, String errorMessage) {
+        chargePaymentRequest.setStatus(requestStatus);
+        chargePaymentRequest.setErrorMessage(errorMessage);
+        chargePaymentRequestRepository.save(chargePaymentRequest);
+        chargePaymentCardVault.evict(chargePaymentRequest.getId());
+
+        var charge = chargePaymentRequest.getCharge();
+        charge.setStatus(chargeStatus);
+        charge.setErrorMessage(errorMessage);
+        chargeStatusService.save(charge);
+        return chargeStatus;
+    }
+}
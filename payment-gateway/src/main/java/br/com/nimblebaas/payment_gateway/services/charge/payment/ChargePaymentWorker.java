@@ -0,0 +1,175 @@
+package br.com.nimblebaas.payment_gateway.services.charge.payment;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentDTO;
+import br.com.nimblebaas.payment_gateway.entities.charge.ChargePaymentRequest;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.services.charge.ChargeStatusNotifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ChargePaymentWorker {
+
+    private static final String EXECUTOR_NAME = "charge-payment-worker";
+    private static final String RESULT_TAG = "result";
+
+    private final ChargePaymentRequestService chargePaymentRequestService;
+    private final ChargePaymentCardVault chargePaymentCardVault;
+    private final CardChargePaymentService cardChargePaymentService;
+    private final ChargeStatusNotifier chargeStatusNotifier;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.charge.payment.worker.batch-size}")
+    private Integer batchSize;
+
+    @Value("${app.charge.payment.worker.pool-size}")
+    private Integer poolSize;
+
+    @Value("${app.charge.payment.worker.queue-capacity}")
+    private Integer queueCapacity;
+
+    private ExecutorService executor;
+    private Counter paidCounter;
+    private Counter failedCounter;
+    private Counter retriedCounter;
+    private Timer durationTimer;
+
+    @PostConstruct
+    public void init() {
+        var threadPoolExecutor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory(EXECUTOR_NAME + "-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, EXECUTOR_NAME);
+
+        paidCounter = Counter.builder("charge.payment.async.requests").tag(RESULT_TAG, "paid").register(meterRegistry);
+        failedCounter = Counter.builder("charge.payment.async.requests").tag(RESULT_TAG, "failed").register(meterRegistry);
+        retriedCounter = Counter.builder("charge.payment.async.requests").tag(RESULT_TAG, "retried").register(meterRegistry);
+        durationTimer = Timer.builder("charge.payment.async.duration")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${app.charge.payment.worker.interval-millis}")
+    public void run() {
+        drain();
+    }
+
+    public int drain() {
+        failOrphaned();
+
+        List<ChargePaymentRequest> chargePaymentRequests;
+        try {
+            chargePaymentRequests = chargePaymentRequestService.claim(batchSize);
+        } catch (Exception e) {
+            log.error("Erro ao buscar pedidos de pagamento de cobrança pendentes", e);
+            return 0;
+        }
+
+        CompletableFuture.allOf(chargePaymentRequests.stream()
+            .map(this::process)
+            .toArray(CompletableFuture[]::new))
+            .join();
+        return chargePaymentRequests.size();
+    }
+
+    private void failOrphaned() {
+        try {
+            chargePaymentRequestService.failOrphaned(batchSize)
+                .forEach(chargePaymentRequest -> record(chargePaymentRequest, ChargeStatus.PAYMENT_FAILED));
+        } catch (Exception e) {
+            log.error("Erro ao cancelar pedidos de pagamento de cobrança abandonados", e);
+        }
+    }
+
+    private CompletableFuture<Void> process(ChargePaymentRequest chargePaymentRequest) {
+        var card = chargePaymentCardVault.get(chargePaymentRequest.getId());
+        if (card.isEmpty())
+            return CompletableFuture.runAsync(() -> failWithoutCardData(chargePaymentRequest), executor);
+
+        return cardChargePaymentService.authorizeAsync(new ChargePaymentDTO(chargePaymentRequest, card.get()))
+            .handleAsync((authorized, throwable) -> {
+                complete(chargePaymentRequest, authorized, throwable);
+                return null;
+            }, executor);
+    }
+
+    private void complete(ChargePaymentRequest chargePaymentRequest, Boolean authorized, Throwable throwable) {
+        try {
+            var status = isNull(throwable)
+                ? chargePaymentRequestService.complete(chargePaymentRequest.getId(), authorized)
+                : chargePaymentRequestService.retryOrFail(chargePaymentRequest.getId(), getErrorMessage(throwable));
+            record(chargePaymentRequest, status);
+        } catch (Exception e) {
+            log.error("Erro ao concluir o pagamento da cobrança {}", chargePaymentRequest.getCharge().getIdentifier(), e);
+            if (isNull(throwable))
+                complete(chargePaymentRequest, null, e);
+        }
+    }
+
+    private void failWithoutCardData(ChargePaymentRequest chargePaymentRequest) {
+        try {
+            record(chargePaymentRequest, chargePaymentRequestService.failWithoutCardData(chargePaymentRequest.getId()));
+        } catch (Exception e) {
+            log.error("Erro ao cancelar o pagamento da cobrança {}", chargePaymentRequest.getCharge().getIdentifier(), e);
+        }
+    }
+
+    private void record(ChargePaymentRequest chargePaymentRequest, ChargeStatus status) {
+        switch (status) {
+            case PAID -> paidCounter.increment();
+            case PAYMENT_FAILED -> failedCounter.increment();
+            default -> {
+                retriedCounter.increment();
+                return;
+            }
+        }
+
+        durationTimer.record(Duration.between(chargePaymentRequest.getCreatedAt(), LocalDateTime.now()));
+        chargeStatusNotifier.publish(chargePaymentRequest.getCharge().getIdentifier());
+    }
+
+    private String getErrorMessage(Throwable throwable) {
+        var cause = throwable instanceof CompletionException && nonNull(throwable.getCause()) ? throwable.getCause() : throwable;
+        if (cause instanceof BusinessRuleException exception)
+            return exception.getErrorDTO().getDetails();
+        return cause.getMessage();
+    }
+}
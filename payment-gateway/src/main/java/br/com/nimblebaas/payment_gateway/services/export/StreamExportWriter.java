@@ -0,0 +1,118 @@
+package br.com.nimblebaas.payment_gateway.services.export;
+
+import static java.util.Objects.isNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.export.ExportColumnRecord;
+import br.com.nimblebaas.payment_gateway.enums.export.ExportFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StreamExportWriter {
+
+    private static final String CSV_SEPARATOR = ",";
+    private static final String CSV_QUOTE = "\"";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.export.flush-interval-rows}")
+    private Integer flushIntervalRows;
+
+    public <T> long write(String name, Stream<T> rows, ExportFormat format, List<ExportColumnRecord<T>> columns, OutputStream outputStream) throws IOException {
+        var sample = Timer.start(meterRegistry);
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        var count = switch (format) {
+            case NDJSON -> writeNdjson(rows.iterator(), columns, writer);
+            case CSV -> writeCsv(rows.iterator(), columns, writer);
+        };
+
+        var nanos = sample.stop(Timer.builder("export.duration")
+            .tag("name", name)
+            .tag("format", format.name())
+            .register(meterRegistry));
+        Counter.builder("export.rows")
+            .tag("name", name)
+            .tag("format", format.name())
+            .register(meterRegistry)
+            .increment(count);
+        log.info("Exportação de {} em {} concluída: {} linhas em {} ms", name, format, count, nanos / 1_000_000);
+        return count;
+    }
+
+    private <T> long writeNdjson(Iterator<T> rows, List<ExportColumnRecord<T>> columns, Writer writer) throws IOException {
+        var generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        long count = 0;
+        while (rows.hasNext()) {
+            var row = rows.next();
+            generator.writeStartObject();
+            for (var column : columns)
+                generator.writeObjectField(column.name(), column.value().apply(row));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            if (++count % flushIntervalRows == 0)
+                generator.flush();
+        }
+        generator.flush();
+        return count;
+    }
+
+    private <T> long writeCsv(Iterator<T> rows, List<ExportColumnRecord<T>> columns, Writer writer) throws IOException {
+        writer.write(columns.stream().map(ExportColumnRecord::name).collect(Collectors.joining(CSV_SEPARATOR)));
+        writer.write('\n');
+
+        long count = 0;
+        while (rows.hasNext()) {
+            var row = rows.next();
+            for (int index = 0; index < columns.size(); index++) {
+                if (index > 0)
+                    writer.write(CSV_SEPARATOR);
+                writer.write(toCsvValue(columns.get(index).value().apply(row)));
+            }
+            writer.write('\n');
+
+            if (++count % flushIntervalRows == 0)
+                writer.flush();
+        }
+        writer.flush();
+        return count;
+    }
+
+    private String toCsvValue(Object value) {
+        if (isNull(value))
+            return "";
+
+        var text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.contains(CSV_SEPARATOR) || text.contains(CSV_QUOTE) || text.contains("\n") || text.contains("\r"))
+            return CSV_QUOTE + text.replace(CSV_QUOTE, CSV_QUOTE + CSV_QUOTE) + CSV_QUOTE;
+        return text;
+    }
+}
@@ -0,0 +1,325 @@
+package br.com.nimblebaas.payment_gateway.services.idempotency;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.idempotency.IdempotentResponseRecord;
+import br.com.nimblebaas.payment_gateway.entities.idempotency.IdempotencyKey;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotencyStatus;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotentOperation;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.idempotency.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class IdempotencyService {
+
+    private static final String CACHE_NAME = "idempotency.responses";
+    private static final String RESULT_TAG = "result";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String REQUEST_HASH_ALGORITHM = "HmacSHA256";
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.idempotency.cache.maximum-size}")
+    private Long cacheMaximumSize;
+
+    @Value("${app.idempotency.wait-timeout-millis}")
+    private Long waitTimeoutMillis;
+
+    @Value("${app.idempotency.poll-interval-millis}")
+    private Long pollIntervalMillis;
+
+    @Value("${app.idempotency.retention-hours}")
+    private Long retentionHours;
+
+    @Value("${app.idempotency.lease-seconds}")
+    private Long leaseSeconds;
+
+    @Value("${app.idempotency.request-hash-secret}")
+    private String requestHashSecret;
+
+    private TransactionTemplate transactionTemplate;
+    private SecretKeySpec requestHashKey;
+    private Cache<String, IdempotentResponseRecord> completedResponses;
+    private Map<String, CompletableFuture<IdempotentResponseRecord>> inFlightResponses;
+    private Counter executedCounter;
+    private Counter replayedCounter;
+    private Counter awaitedCounter;
+    private Counter takenOverCounter;
+
+    @PostConstruct
+    public void init() {
+        completedResponses = Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(Duration.ofHours(retentionHours))
+            .recordStats()
+            .build();
+        inFlightResponses = new ConcurrentHashMap<>();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        requestHashKey = new SecretKeySpec(requestHashSecret.getBytes(StandardCharsets.UTF_8), REQUEST_HASH_ALGORITHM);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, completedResponses, CACHE_NAME);
+        executedCounter = Counter.builder("idempotency.requests").tag(RESULT_TAG, "executed").register(meterRegistry);
+        replayedCounter = Counter.builder("idempotency.requests").tag(RESULT_TAG, "replayed").register(meterRegistry);
+        awaitedCounter = Counter.builder("idempotency.requests").tag(RESULT_TAG, "awaited").register(meterRegistry);
+        takenOverCounter = Counter.builder("idempotency.requests").tag(RESULT_TAG, "taken_over").register(meterRegistry);
+    }
+
+    public void execute(User user, String key, IdempotentOperation operation, Object request, Runnable action) {
+        execute(user, key, operation, request, Void.class, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(User user, String key, IdempotentOperation operation, Object request, Class<T> responseType, Supplier<T> action) {
+        if (isBlank(key))
+            return action.get();
+
+        if (key.length() > MAX_KEY_LENGTH)
+            throw new BusinessRuleException(
+                getClass(),
+                BusinessRules.INVALID_IDEMPOTENCY_KEY,
+                "A chave de idempotência deve ter no máximo %d caracteres",
+                MAX_KEY_LENGTH);
+
+        var requestHash = hash(request);
+        var cacheKey = user.getId() + ":" + key;
+
+        var cached = completedResponses.getIfPresent(cacheKey);
+        if (nonNull(cached)) {
+            replayedCounter.increment();
+            return replay(cached, operation, requestHash, responseType);
+        }
+
+        var inFlight = new CompletableFuture<IdempotentResponseRecord>();
+        var running = inFlightResponses.putIfAbsent(cacheKey, inFlight);
+        if (nonNull(running)) {
+            awaitedCounter.increment();
+            return replay(await(running), operation, requestHash, responseType);
+        }
+
+        try {
+            var response = executeOnce(user, key, operation, requestHash, action);
+            completedResponses.put(cacheKey, response);
+            inFlight.complete(response);
+            return replay(response, operation, requestHash, responseType);
+        } catch (RuntimeException e) {
+            inFlight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightResponses.remove(cacheKey, inFlight);
+        }
+    }
+
+    private IdempotentResponseRecord executeOnce(User user, String key, IdempotentOperation operation, String requestHash, Supplier<?> action) {
+        var leaseOwner = UUID.randomUUID().toString();
+
+        var existing = idempotencyKeyRepository.findByUserAndKey(user, key);
+        if (existing.isPresent()) {
+            var idempotencyKey = existing.get();
+            if (idempotencyKey.isLeaseExpired() && takeOverExpiredLease(idempotencyKey, operation, requestHash, leaseOwner)) {
+                takenOverCounter.increment();
+                return run(idempotencyKey.getId(), leaseOwner, operation, requestHash, action);
+            }
+
+            replayedCounter.increment();
+            return awaitCompletion(idempotencyKey, user, key);
+        }
+
+        var idempotencyKey = IdempotencyKey.builder()
+            .user(user)
+            .key(key)
+            .operation(operation)
+            .requestHash(requestHash)
+            .status(IdempotencyStatus.IN_PROGRESS)
+            .leaseOwner(leaseOwner)
+            .leaseExpiresAt(LocalDateTime.now().plusSeconds(leaseSeconds))
+            .build();
+
+        try {
+            idempotencyKeyRepository.saveAndFlush(idempotencyKey);
+        } catch (DataIntegrityViolationException e) {
+            awaitedCounter.increment();
+            return awaitCompletion(null, user, key);
+        }
+
+        return run(idempotencyKey.getId(), leaseOwner, operation, requestHash, action);
+    }
+
+    private boolean takeOverExpiredLease(IdempotencyKey idempotencyKey, IdempotentOperation operation, String requestHash, String leaseOwner) {
+        if (idempotencyKey.getOperation() != operation || !idempotencyKey.getRequestHash().equals(requestHash))
+            throw reused();
+
+        var now = LocalDateTime.now();
+        var takenOver = transactionTemplate.execute(status ->
+            idempotencyKeyRepository.takeOverExpiredLease(idempotencyKey.getId(), leaseOwner, now.plusSeconds(leaseSeconds), now));
+        if (takenOver == 0)
+            return false;
+
+        log.warn("Chave de idempotência {} abandonada por outra requisição, reexecutando", idempotencyKey.getKey());
+        return true;
+    }
+
+    private IdempotentResponseRecord run(Long idempotencyKeyId, String leaseOwner, IdempotentOperation operation, String requestHash, Supplier<?> action) {
+        executedCounter.increment();
+        String responseBody;
+        try {
+            responseBody = serialize(action.get());
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> idempotencyKeyRepository.release(idempotencyKeyId, leaseOwner));
+            throw e;
+        }
+
+        var completed = transactionTemplate.execute(status ->
+            idempotencyKeyRepository.complete(idempotencyKeyId, leaseOwner, responseBody, LocalDateTime.now()));
+        if (completed == 0)
+            log.warn("Chave de idempotência {} assumida por outra requisição antes da conclusão, resposta não registrada", idempotencyKeyId);
+
+        return new IdempotentResponseRecord(operation, requestHash, responseBody);
+    }
+
+    private IdempotentResponseRecord awaitCompletion(IdempotencyKey idempotencyKey, User user, String key) {
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+
+        while (true) {
+            if (nonNull(idempotencyKey) && idempotencyKey.getStatus() == IdempotencyStatus.COMPLETED)
+                return new IdempotentResponseRecord(idempotencyKey);
+
+            if (System.nanoTime() >= deadline)
+                throw inProgress();
+
+            sleep();
+            idempotencyKey = idempotencyKeyRepository.findByUserAndKey(user, key).orElse(null);
+        }
+    }
+
+    private IdempotentResponseRecord await(CompletableFuture<IdempotentResponseRecord> running) {
+        try {
+            return running.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private BusinessRuleException inProgress() {
+        return new BusinessRuleException(
+            HttpStatus.CONFLICT,
+            getClass(),
+            BusinessRules.IDEMPOTENCY_KEY_IN_PROGRESS,
+            "Requisição com a mesma chave de idempotência ainda em processamento, tente novamente");
+    }
+
+    private BusinessRuleException reused() {
+        return new BusinessRuleException(
+            HttpStatus.UNPROCESSABLE_ENTITY,
+            getClass(),
+            BusinessRules.IDEMPOTENCY_KEY_REUSED,
+            "Chave de idempotência já utilizada em outra requisição");
+    }
+
+    private <T> T replay(IdempotentResponseRecord response, IdempotentOperation operation, String requestHash, Class<T> responseType) {
+        if (response.operation() != operation || !response.requestHash().equals(requestHash))
+            throw reused();
+
+        if (isNull(response.responseBody()))
+            return null;
+
+        try {
+            return objectMapper.readValue(response.responseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Resposta idempotente inválida", e);
+        }
+    }
+
+    private String serialize(Object response) {
+        if (isNull(response))
+            return null;
+
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar a resposta idempotente", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            var mac = Mac.getInstance(REQUEST_HASH_ALGORITHM);
+            mac.init(requestHashKey);
+            return HexFormat.of().formatHex(mac.doFinal(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | InvalidKeyException | JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível calcular o hash da requisição", e);
+        }
+    }
+
+    @Transactional
+    @Scheduled(cron = "${app.idempotency.purge-cron}")
+    public void purgeExpired() {
+        var purged = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (purged > 0)
+            log.info("{} chaves de idempotência expiradas removidas", purged);
+    }
+}
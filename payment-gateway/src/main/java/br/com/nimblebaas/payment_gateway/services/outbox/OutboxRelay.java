@@ -0,0 +1,66 @@
+package br.com.nimblebaas.payment_gateway.services.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OutboxRelay {
+
+    private static final String RESULT_TAG = "result";
+
+    private final OutboxRelayService outboxRelayService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.outbox.relay.batch-size}")
+    private Integer batchSize;
+
+    @Value("${app.outbox.relay.max-batches}")
+    private Integer maxBatches;
+
+    private Timer runTimer;
+    private Counter publishedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        runTimer = Timer.builder("outbox.relay.run").register(meterRegistry);
+        publishedCounter = Counter.builder("outbox.relay.events").tag(RESULT_TAG, "published").register(meterRegistry);
+        failedCounter = Counter.builder("outbox.relay.events").tag(RESULT_TAG, "failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval-millis}")
+    public void run() {
+        runTimer.record(this::drain);
+    }
+
+    public int drain() {
+        var published = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            try {
+                var result = outboxRelayService.relay(batchSize);
+                publishedCounter.increment(result.published());
+                failedCounter.increment(result.claimed() - result.published());
+                published += result.published();
+
+                if (result.claimed() < batchSize || result.published() < result.claimed())
+                    break;
+            } catch (Exception e) {
+                log.error("Erro ao buscar eventos de saída pendentes", e);
+                break;
+            }
+        }
+
+        return published;
+    }
+}
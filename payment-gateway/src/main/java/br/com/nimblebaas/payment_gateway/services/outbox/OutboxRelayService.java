@@ -0,0 +1,98 @@
+package br.com.nimblebaas.payment_gateway.services.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.OutboxEventRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.OutboxRelayResultRecord;
+import br.com.nimblebaas.payment_gateway.entities.outbox.OutboxEvent;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxEventStatus;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxSinkType;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.outbox.OutboxEventRepository;
+import br.com.nimblebaas.payment_gateway.services.outbox.sink.IOutboxSink;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OutboxRelayService {
+
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<IOutboxSink> outboxSinks;
+
+    @Value("${app.outbox.sink}")
+    private OutboxSinkType outboxSinkType;
+
+    @Value("${app.outbox.relay.retry-base-millis}")
+    private Long retryBaseMillis;
+
+    @Value("${app.outbox.relay.retry-max-millis}")
+    private Long retryMaxMillis;
+
+    @Value("${app.outbox.retention-hours}")
+    private Long retentionHours;
+
+    private IOutboxSink getOutboxSink() {
+        return outboxSinks.stream()
+            .filter(sink -> sink.isResponsible(outboxSinkType))
+            .findFirst()
+            .orElseThrow(() -> new BusinessRuleException(
+                getClass(), 
+                BusinessRules.OUTBOX_SINK_NOT_FOUND, 
+                "No outbox sink found for type: %s", 
+                outboxSinkType.name()));
+    }
+
+    @Transactional
+    public OutboxRelayResultRecord relay(Integer batchSize) {
+        var outboxSink = getOutboxSink();
+        var now = LocalDateTime.now();
+        var outboxEvents = outboxEventRepository.claimAvailable(now, batchSize);
+        if (outboxEvents.isEmpty())
+            return new OutboxRelayResultRecord(0, 0);
+
+        try {
+            outboxSink.send(outboxEvents.stream().map(OutboxEventRecord::new).toList());
+        } catch (Exception e) {
+            log.error("Erro ao publicar {} eventos de saída a partir do evento {}", outboxEvents.size(), outboxEvents.get(0).getId(), e);
+            outboxEvents.forEach(outboxEvent -> scheduleRetry(outboxEvent, now, e.getMessage()));
+            outboxEventRepository.saveAll(outboxEvents);
+            return new OutboxRelayResultRecord(outboxEvents.size(), 0);
+        }
+
+        outboxEvents.forEach(outboxEvent -> {
+            outboxEvent.setStatus(OutboxEventStatus.PUBLISHED);
+            outboxEvent.setAttempts(outboxEvent.getAttempts() + 1);
+            outboxEvent.setErrorMessage(null);
+            outboxEvent.setPublishedAt(now);
+        });
+        outboxEventRepository.saveAll(outboxEvents);
+        return new OutboxRelayResultRecord(outboxEvents.size(), outboxEvents.size());
+    }
+
+    private void scheduleRetry(OutboxEvent outboxEvent, LocalDateTime now, String errorMessage) {
+        var attempts = outboxEvent.getAttempts() + 1;
+        var backoffMillis = Math.min(retryBaseMillis << Math.min(attempts - 1, MAX_BACKOFF_SHIFT), retryMaxMillis);
+        outboxEvent.setAttempts(attempts);
+        outboxEvent.setErrorMessage(errorMessage);
+        outboxEvent.setAvailableAt(now.plusNanos(backoffMillis * 1_000_000));
+    }
+
+    @Transactional
+    @Scheduled(cron = "${app.outbox.purge-cron}")
+    public void purgePublished() {
+        var purged = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (purged > 0)
+            log.info("{} eventos de saída publicados removidos", purged);
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.nimblebaas.payment_gateway.services.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.ChargeEventPayloadRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.TransactionEventPayloadRecord;
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.outbox.OutboxEvent;
+import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxAggregateType;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxEventStatus;
+import br.com.nimblebaas.payment_gateway.repositories.outbox.OutboxEventRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public OutboxEvent record(Charge charge) {
+        return record(
+            OutboxAggregateType.CHARGE,
+            charge.getIdentifier(),
+            charge.getStatus().name(),
+            new ChargeEventPayloadRecord(charge));
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public OutboxEvent record(Transaction transaction) {
+        return record(
+            OutboxAggregateType.TRANSACTION,
+            transaction.getId().toString(),
+            transaction.getStatus().name(),
+            new TransactionEventPayloadRecord(transaction));
+    }
+
+    private OutboxEvent record(OutboxAggregateType aggregateType, String aggregateId, String status, Object payload) {
+        var outboxEvent = OutboxEvent.builder()
+            .aggregateType(aggregateType)
+            .aggregateId(aggregateId)
+            .eventType(aggregateType.name() + "_" + status)
+            .payload(serialize(payload))
+            .status(OutboxEventStatus.PENDING)
+            .attempts(0)
+            .availableAt(LocalDateTime.now())
+            .build();
+        return outboxEventRepository.save(outboxEvent);
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar o evento de saída", e);
+        }
+    }
+}
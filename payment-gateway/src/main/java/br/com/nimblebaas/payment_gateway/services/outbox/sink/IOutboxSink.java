@@ -0,0 +1,12 @@
+package br.com.nimblebaas.payment_gateway.services.outbox.sink;
+
+import java.util.List;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.OutboxEventRecord;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxSinkType;
+
+public interface IOutboxSink {
+    
+    boolean isResponsible(OutboxSinkType outboxSinkType);
+    void send(List<OutboxEventRecord> events);
+}
@@ -0,0 +1,25 @@
+package br.com.nimblebaas.payment_gateway.services.outbox.sink;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.OutboxEventRecord;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxSinkType;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class LogOutboxSink implements IOutboxSink {
+
+    @Override
+    public boolean isResponsible(OutboxSinkType outboxSinkType) {
+        return OutboxSinkType.LOG.equals(outboxSinkType);
+    }
+
+    @Override
+    public void send(List<OutboxEventRecord> events) {
+        events.forEach(event -> log.info("Evento {} {} de {} {}: {}",
+            event.id(), event.eventType(), event.aggregateType(), event.aggregateId(), event.payload()));
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.nimblebaas.payment_gateway.services.outbox.sink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.OutboxEventRecord;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxSinkType;
+
+@Service
+public class MemoryOutboxSink implements IOutboxSink {
+
+    private final Deque<OutboxEventRecord> events = new ArrayDeque<>();
+
+    @Value("${app.outbox.sink.memory.capacity}")
+    private Integer capacity;
+
+    @Override
+    public boolean isResponsible(OutboxSinkType outboxSinkType) {
+        return OutboxSinkType.MEMORY.equals(outboxSinkType);
+    }
+
+    @Override
+    public synchronized void send(List<OutboxEventRecord> events) {
+        events.forEach(event -> {
+            if (this.events.size() >= capacity)
+                this.events.removeFirst();
+            this.events.addLast(event);
+        });
+    }
+
+    public synchronized List<OutboxEventRecord> getEvents() {
+        return List.copyOf(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.nimblebaas.payment_gateway.services.outbox.sink;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.clients.outbox.clients.OutboxWebhookClient;
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.OutboxEventRecord;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxSinkType;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class WebhookOutboxSink implements IOutboxSink {
+
+    private final OutboxWebhookClient outboxWebhookClient;
+
+    @Override
+    public boolean isResponsible(OutboxSinkType outboxSinkType) {
+        return OutboxSinkType.WEBHOOK.equals(outboxSinkType);
+    }
+
+    @Override
+    public void send(List<OutboxEventRecord> events) {
+        outboxWebhookClient.send(events);
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.nimblebaas.payment_gateway.services.reconciliation;
+
+import static java.util.Objects.nonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.reconciliation.ReconciliationMismatch;
+import br.com.nimblebaas.payment_gateway.enums.reconciliation.ReconciliationResult;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountBalanceDeltaRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.reconciliation.ReconciliationMismatchRepository;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountDailyBalanceService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class AccountReconciliationService {
+
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+    private final HoldBalanceRepository holdBalanceRepository;
+    private final AccountDailyBalanceService accountDailyBalanceService;
+    private final ReconciliationMismatchRepository reconciliationMismatchRepository;
+
+    @Value("${app.reconciliation.grace-seconds}")
+    private Long graceSeconds;
+
+    @Transactional
+    public ReconciliationResult reconcile(Long accountId, LocalDateTime checkedAt) {
+        var optionalAccount = accountRepository.findById(accountId);
+        if (optionalAccount.isEmpty() || isRecentlyUpdated(optionalAccount.get(), checkedAt))
+            return ReconciliationResult.SKIPPED;
+
+        var account = optionalAccount.get();
+
+        var expectedTotalBalance = accountDailyBalanceService.getTotalBalanceAt(account, MAX_CREATED_AT);
+        var expectedHoldBalance = holdBalanceRepository.sumPendingAmount(account);
+        var actualTotalBalance = account.getTotalBalance().add(accountBalanceDeltaRepository.sumPendingAmount(account));
+        var actualHoldBalance = account.getHoldBalance();
+
+        var current = accountRepository.findBalanceSnapshotById(accountId);
+        if (current.isEmpty() || !current.get().version().equals(account.getVersion()))
+            return ReconciliationResult.SKIPPED;
+
+        var openMismatch = reconciliationMismatchRepository.findFirstByAccountAndResolvedAtIsNull(account);
+        if (expectedTotalBalance.compareTo(actualTotalBalance) == 0 && expectedHoldBalance.compareTo(actualHoldBalance) == 0) {
+            openMismatch.ifPresent(mismatch -> {
+                mismatch.setCheckedAt(checkedAt);
+                mismatch.setResolvedAt(checkedAt);
+                reconciliationMismatchRepository.save(mismatch);
+            });
+            return ReconciliationResult.MATCHED;
+        }
+
+        var mismatch = openMismatch.orElseGet(() -> newMismatch(account, checkedAt));
+        mismatch.setExpectedTotalBalance(expectedTotalBalance);
+        mismatch.setActualTotalBalance(actualTotalBalance);
+        mismatch.setExpectedHoldBalance(expectedHoldBalance);
+        mismatch.setActualHoldBalance(actualHoldBalance);
+        mismatch.setCheckedAt(checkedAt);
+        reconciliationMismatchRepository.save(mismatch);
+        return ReconciliationResult.MISMATCHED;
+    }
+
+    private boolean isRecentlyUpdated(Account account, LocalDateTime checkedAt) {
+        return nonNull(account.getUpdatedAt())
+            && account.getUpdatedAt().isAfter(checkedAt.minus(Duration.ofSeconds(graceSeconds)));
+    }
+
+    private ReconciliationMismatch newMismatch(Account account, LocalDateTime checkedAt) {
+        return ReconciliationMismatch.builder()
+            .account(account)
+            .detectedAt(checkedAt)
+            .build();
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.nimblebaas.payment_gateway.services.reconciliation;
+
+import static java.util.Objects.isNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import br.com.nimblebaas.payment_gateway.entities.reconciliation.ReconciliationRun;
+import br.com.nimblebaas.payment_gateway.enums.reconciliation.ReconciliationResult;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.reconciliation.ReconciliationMismatchRepository;
+import br.com.nimblebaas.payment_gateway.repositories.reconciliation.ReconciliationRunRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ReconciliationJob {
+
+    private static final String EXECUTOR_NAME = "reconciliation";
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final ReconciliationRunRepository reconciliationRunRepository;
+    private final ReconciliationMismatchRepository reconciliationMismatchRepository;
+    private final AccountReconciliationService accountReconciliationService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.reconciliation.parallelism}")
+    private Integer parallelism;
+
+    @Value("${app.reconciliation.partition-size}")
+    private Integer partitionSize;
+
+    @Value("${app.reconciliation.grace-seconds}")
+    private Long graceSeconds;
+
+    private ExecutorService executor;
+    private Timer runTimer;
+    private Map<ReconciliationResult, Counter> resultCounters;
+    private Counter failedAccountsCounter;
+    private final AtomicLong openMismatches = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        var threadPoolExecutor = new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(parallelism),
+            new CustomizableThreadFactory(EXECUTOR_NAME + "-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, EXECUTOR_NAME);
+
+        runTimer = Timer.builder("reconciliation.run").register(meterRegistry);
+        resultCounters = new EnumMap<>(ReconciliationResult.class);
+        for (ReconciliationResult result : ReconciliationResult.values())
+            resultCounters.put(result, Counter.builder("reconciliation.accounts")
+                .tag("result", result.name().toLowerCase())
+                .register(meterRegistry));
+        failedAccountsCounter = Counter.builder("reconciliation.accounts").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("reconciliation.mismatches.open", openMismatches, AtomicLong::get).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Scheduled(cron = "${app.reconciliation.cron}")
+    public void run() {
+        runTimer.record(this::reconcile);
+    }
+
+    public ReconciliationRun reconcile() {
+        var startedAt = LocalDateTime.now();
+        var watermark = reconciliationRunRepository.findFirstByFinishedAtIsNotNullOrderByStartedAtDesc()
+            .map(lastRun -> lastRun.getStartedAt().minus(Duration.ofSeconds(graceSeconds)))
+            .orElse(null);
+        var run = reconciliationRunRepository.save(ReconciliationRun.builder()
+            .watermark(watermark)
+            .startedAt(startedAt)
+            .build());
+
+        var results = new EnumMap<ReconciliationResult, LongAdder>(ReconciliationResult.class);
+        for (ReconciliationResult result : ReconciliationResult.values())
+            results.put(result, new LongAdder());
+
+        var maxId = accountRepository.findMaxId();
+        var partitions = new ArrayList<CompletableFuture<Void>>();
+        for (long fromId = 1; fromId <= maxId; fromId += partitionSize) {
+            var partitionFromId = fromId;
+            var partitionToId = fromId + partitionSize - 1;
+            partitions.add(CompletableFuture.runAsync(
+                () -> reconcilePartition(partitionFromId, partitionToId, watermark, startedAt, results),
+                executor));
+        }
+        CompletableFuture.allOf(partitions.toArray(CompletableFuture[]::new)).join();
+
+        run.setFinishedAt(LocalDateTime.now());
+        run.setCheckedAccounts(results.get(ReconciliationResult.MATCHED).sum() + results.get(ReconciliationResult.MISMATCHED).sum());
+        run.setMismatchedAccounts(results.get(ReconciliationResult.MISMATCHED).sum());
+        run.setSkippedAccounts(results.get(ReconciliationResult.SKIPPED).sum());
+        reconciliationRunRepository.save(run);
+        openMismatches.set(reconciliationMismatchRepository.countByResolvedAtIsNull());
+
+        log.info("Conciliação concluída desde {}: {} contas verificadas, {} divergentes, {} adiadas",
+            isNull(watermark) ? "o início" : watermark, run.getCheckedAccounts(), run.getMismatchedAccounts(), run.getSkippedAccounts());
+        return run;
+    }
+
+    private void reconcilePartition(Long fromId, Long toId, LocalDateTime watermark, LocalDateTime checkedAt,
+            Map<ReconciliationResult, LongAdder> results) {
+        findCandidateAccountIds(fromId, toId, watermark).forEach(accountId -> {
+            try {
+                var result = accountReconciliationService.reconcile(accountId, checkedAt);
+                results.get(result).increment();
+                resultCounters.get(result).increment();
+            } catch (Exception e) {
+                failedAccountsCounter.increment();
+                log.error("Erro ao conciliar a conta {}", accountId, e);
+            }
+        });
+    }
+
+    private Collection<Long> findCandidateAccountIds(Long fromId, Long toId, LocalDateTime watermark) {
+        if (isNull(watermark))
+            return accountRepository.findIdsBetween(fromId, toId);
+
+        var accountIds = new TreeSet<Long>(accountRepository.findIdsUpdatedSince(fromId, toId, watermark));
+        accountIds.addAll(transactionRepository.findPartyAccountIdsUpdatedSince(fromId, toId, watermark));
+        return accountIds;
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.nimblebaas.payment_gateway.services.transaction;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.export.ExportColumnRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.transaction.TransactionExportRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.enums.export.ExportFormat;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import br.com.nimblebaas.payment_gateway.services.export.StreamExportWriter;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class TransactionExportService {
+
+    private static final String EXPORT_NAME = "transactions";
+
+    private static final List<ExportColumnRecord<TransactionExportRecord>> COLUMNS = List.of(
+        new ExportColumnRecord<>("id", TransactionExportRecord::id),
+        new ExportColumnRecord<>("createdAt", TransactionExportRecord::createdAt),
+        new ExportColumnRecord<>("type", TransactionExportRecord::type),
+        new ExportColumnRecord<>("purpose", TransactionExportRecord::purpose),
+        new ExportColumnRecord<>("status", TransactionExportRecord::status),
+        new ExportColumnRecord<>("amount", TransactionExportRecord::amount),
+        new ExportColumnRecord<>("counterpartCpf", TransactionExportRecord::counterpartCpf),
+        new ExportColumnRecord<>("chargeIdentifier", TransactionExportRecord::chargeIdentifier),
+        new ExportColumnRecord<>("authorizationIdentifier", TransactionExportRecord::authorizationIdentifier),
+        new ExportColumnRecord<>("errorMessage", TransactionExportRecord::errorMessage)
+    );
+
+    private final TransactionRepository transactionRepository;
+    private final StreamExportWriter streamExportWriter;
+
+    @Transactional
+    public long export(Account account, LocalDateTime createdFrom, LocalDateTime createdTo, ExportFormat format, OutputStream outputStream) throws IOException {
+        try (var transactions = transactionRepository.streamByPartyAccount(account, createdFrom, createdTo)) {
+            return streamExportWriter.write(EXPORT_NAME, transactions, format, COLUMNS, outputStream);
+        }
+    }
+}
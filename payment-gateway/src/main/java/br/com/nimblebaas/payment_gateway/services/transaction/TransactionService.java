@@ -12,6 +12,8 @@ import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
 import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
 import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
 import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import br.com.nimblebaas.payment_gateway.services.outbox.OutboxService;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -19,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 public class TransactionService {
     
     private final TransactionRepository transactionRepository;
+    private final OutboxService outboxService;
 
     public Transaction createDepositTransaction(Account account, BigDecimal amount, String authorizationIdentifier) {
         var transaction = Transaction.builder()
@@ -63,6 +66,8 @@ public class TransactionService {
 
     public Transaction createChargePaymentCreditTransaction(Charge charge, String authorizationIdentifier) {
         var transaction = Transaction.builder()
+            .partyAccount(charge.getOriginatorUser().getAccount())
+            .counterpartAccount(charge.getDestinationUser().getAccount())
             .charge(charge)
             .amount(charge.getAmount())
             .type(TransactionType.CREDIT)
@@ -86,14 +91,16 @@ public class TransactionService {
         return transactionRepository.save(transaction);
     }
 
+    @Transactional
     public void completeSuccessTransaction(Transaction transaction) {
         transaction.setStatus(TransactionStatus.SUCCESS);
-        transactionRepository.save(transaction);
+        outboxService.record(transactionRepository.save(transaction));
     }
 
+    @Transactional
     public void completeFailedTransaction(Transaction transaction, String errorMessage) {
         transaction.setStatus(TransactionStatus.FAILED);
         transaction.setErrorMessage(errorMessage);
-        transactionRepository.save(transaction);
+        outboxService.record(transactionRepository.save(transaction));
     }
 }
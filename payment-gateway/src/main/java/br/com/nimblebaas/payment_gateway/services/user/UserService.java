@@ -20,6 +20,7 @@ import br.com.nimblebaas.payment_gateway.helpers.HttpRequestHelper;
 import br.com.nimblebaas.payment_gateway.helpers.StringHelper;
 import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
 import br.com.nimblebaas.payment_gateway.services.account.AccountService;
+import br.com.nimblebaas.payment_gateway.services.authentication.AuthenticationCacheService;
 import br.com.nimblebaas.payment_gateway.services.authentication.RefreshTokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,7 @@ public class UserService {
     private final AccountService accountService;
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenService refreshTokenService;
+    private final AuthenticationCacheService authenticationCacheService;
     private final ApplicationEventPublisher eventPublisher;
     private final HttpServletRequest httpServletRequest;
     
@@ -63,6 +65,7 @@ public class UserService {
         refreshTokenService.revokeUserRefreshTokens(user);
 
         userRepository.save(user);
+        authenticationCacheService.evictUser(user.getCpf());
 
         String requestInfo = HttpRequestHelper.formatRequestInfo(httpServletRequest);
         eventPublisher.publishEvent(new PasswordChangeEvent(
@@ -72,6 +75,12 @@ public class UserService {
         ));
     }
 
+    public void upgradePasswordHash(User user, String encodedPassword) {
+        user.setPassword(encodedPassword);
+        userRepository.save(user);
+        authenticationCacheService.evictUser(user.getCpf());
+    }
+
     public UserOutputRecord getUser(String cpfOrEmail) {
         var user = findByCpfOrEmail(cpfOrEmail)
             .orElseThrow(() -> new BusinessRuleException(getClass(), BusinessRules.USER_NOT_FOUND, "Usuário não encontrado"));
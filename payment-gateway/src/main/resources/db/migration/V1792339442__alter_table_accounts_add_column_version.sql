@@ -0,0 +1 @@
+alter table if exists accounts add column if not exists version bigint not null default 0;
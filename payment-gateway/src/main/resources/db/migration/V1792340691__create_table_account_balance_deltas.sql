@@ -0,0 +1,8 @@
+create table if not exists account_balance_deltas (
+    id bigserial primary key,
+    account_id bigint not null references accounts(id),
+    amount numeric not null,
+    created_at timestamp not null default current_timestamp
+);
+
+create index if not exists idx_account_balance_deltas_account_id_id on account_balance_deltas (account_id, id);
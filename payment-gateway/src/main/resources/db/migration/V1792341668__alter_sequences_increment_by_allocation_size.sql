@@ -0,0 +1,26 @@
+create sequence if not exists users_id_seq;
+alter sequence users_id_seq increment by 50;
+
+create sequence if not exists accounts_id_seq;
+alter sequence accounts_id_seq increment by 50;
+
+create sequence if not exists refresh_tokens_id_seq;
+alter sequence refresh_tokens_id_seq increment by 50;
+
+create sequence if not exists authentication_audits_id_seq;
+alter sequence authentication_audits_id_seq increment by 50;
+
+create sequence if not exists hold_balances_id_seq;
+alter sequence hold_balances_id_seq increment by 50;
+
+create sequence if not exists charges_id_seq;
+alter sequence charges_id_seq increment by 50;
+
+create sequence if not exists transactions_id_seq;
+alter sequence transactions_id_seq increment by 50;
+
+create sequence if not exists charge_payments_id_seq;
+alter sequence charge_payments_id_seq increment by 50;
+
+create sequence if not exists account_balance_deltas_id_seq;
+alter sequence account_balance_deltas_id_seq increment by 50;
\ No newline at end of file
@@ -0,0 +1,2 @@
+create index if not exists idx_charges_originator_user_id_created_at_id on charges (originator_user_id, created_at, id, status, amount);
+create index if not exists idx_charges_destination_user_id_created_at_id on charges (destination_user_id, created_at, id, status, amount);
@@ -0,0 +1 @@
+create index if not exists idx_transactions_party_account_id_created_at_id on transactions (party_account_id, created_at, id);
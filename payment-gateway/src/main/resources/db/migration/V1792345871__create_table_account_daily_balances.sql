@@ -0,0 +1,12 @@
+create table if not exists account_daily_balances (
+    id bigserial primary key,
+    account_id bigint not null references accounts(id),
+    balance_date date not null,
+    closing_balance numeric not null,
+    created_at timestamp not null default current_timestamp,
+    updated_at timestamp not null default current_timestamp,
+    unique (account_id, balance_date)
+);
+
+create sequence if not exists account_daily_balances_id_seq;
+alter sequence account_daily_balances_id_seq increment by 50;
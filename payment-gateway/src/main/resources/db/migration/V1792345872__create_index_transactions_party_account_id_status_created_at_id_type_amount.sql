@@ -0,0 +1 @@
+create index if not exists idx_transactions_party_account_id_status_created_at_id_type_amount on transactions (party_account_id, status, created_at, id, type, amount);
@@ -0,0 +1 @@
+alter table if exists account_daily_balances add column if not exists closing_hold_balance numeric not null default 0;
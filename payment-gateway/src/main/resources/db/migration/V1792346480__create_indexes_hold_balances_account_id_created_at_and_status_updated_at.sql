@@ -0,0 +1,2 @@
+create index if not exists idx_hold_balances_account_id_created_at on hold_balances (account_id, created_at, amount);
+create index if not exists idx_hold_balances_account_id_status_updated_at on hold_balances (account_id, status, updated_at, amount);
@@ -0,0 +1,12 @@
+create table if not exists reconciliation_runs (
+    id bigserial primary key,
+    watermark timestamp,
+    started_at timestamp not null,
+    finished_at timestamp,
+    checked_accounts bigint not null default 0,
+    mismatched_accounts bigint not null default 0,
+    skipped_accounts bigint not null default 0
+);
+
+create sequence if not exists reconciliation_runs_id_seq;
+alter sequence reconciliation_runs_id_seq increment by 50;
@@ -0,0 +1,16 @@
+create table if not exists reconciliation_mismatches (
+    id bigserial primary key,
+    account_id bigint not null references accounts(id),
+    expected_total_balance numeric not null,
+    actual_total_balance numeric not null,
+    expected_hold_balance numeric not null,
+    actual_hold_balance numeric not null,
+    detected_at timestamp not null,
+    checked_at timestamp not null,
+    resolved_at timestamp
+);
+
+create index if not exists idx_reconciliation_mismatches_account_id_resolved_at on reconciliation_mismatches (account_id, resolved_at);
+
+create sequence if not exists reconciliation_mismatches_id_seq;
+alter sequence reconciliation_mismatches_id_seq increment by 50;
@@ -0,0 +1 @@
+create index if not exists idx_accounts_updated_at_id on accounts (updated_at, id);
@@ -0,0 +1 @@
+create index if not exists idx_transactions_updated_at_party_account_id on transactions (updated_at, party_account_id);
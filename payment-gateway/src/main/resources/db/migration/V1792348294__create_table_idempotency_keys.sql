@@ -0,0 +1,19 @@
+create table if not exists idempotency_keys (
+    id bigserial primary key,
+    user_id bigint not null references users(id),
+    idempotency_key varchar(255) not null,
+    operation varchar(50) not null,
+    request_hash varchar(64) not null,
+    status varchar(20) not null,
+    response_body text,
+    lease_owner varchar(36),
+    lease_expires_at timestamp,
+    created_at timestamp not null default now(),
+    updated_at timestamp not null default now(),
+    constraint uk_idempotency_keys_user_id_idempotency_key unique (user_id, idempotency_key)
+);
+
+create index if not exists idx_idempotency_keys_created_at on idempotency_keys (created_at);
+
+create sequence if not exists idempotency_keys_id_seq;
+alter sequence idempotency_keys_id_seq increment by 50;
@@ -0,0 +1,17 @@
+create table if not exists charge_payment_requests (
+    id bigserial primary key,
+    charge_id bigint not null references charges(id),
+    installments integer,
+    owner_node varchar(64),
+    status varchar(20) not null,
+    attempts integer not null default 0,
+    available_at timestamp not null,
+    error_message text,
+    created_at timestamp not null default now(),
+    updated_at timestamp not null default now()
+);
+
+create index if not exists idx_charge_payment_requests_status_available_at on charge_payment_requests (status, available_at);
+
+create sequence if not exists charge_payment_requests_id_seq;
+alter sequence charge_payment_requests_id_seq increment by 50;
@@ -0,0 +1,19 @@
+create table if not exists outbox_events (
+    id bigserial primary key,
+    aggregate_type varchar(50) not null,
+    aggregate_id varchar(255) not null,
+    event_type varchar(50) not null,
+    payload text not null,
+    status varchar(20) not null,
+    attempts integer not null default 0,
+    available_at timestamp not null,
+    error_message text,
+    published_at timestamp,
+    created_at timestamp not null default now(),
+    updated_at timestamp not null default now()
+);
+
+create index if not exists idx_outbox_events_published_at on outbox_events (published_at);
+
+create sequence if not exists outbox_events_id_seq;
+alter sequence outbox_events_id_seq increment by 1;
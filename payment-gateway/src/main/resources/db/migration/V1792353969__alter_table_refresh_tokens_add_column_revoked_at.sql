@@ -0,0 +1,3 @@
+alter table refresh_tokens add column if not exists revoked_at timestamp;
+
+create index if not exists idx_refresh_tokens_revoked_at on refresh_tokens (revoked_at);
@@ -0,0 +1,127 @@
+package br.com.nimblebaas.payment_gateway.clients.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import br.com.nimblebaas.payment_gateway.clients.authorizer.clients.AuthorizerApiClient;
+import br.com.nimblebaas.payment_gateway.clients.authorizer.models.AuthorizerResponse;
+import feign.Feign;
+import feign.RetryableException;
+
+class AuthorizerApiClientTest {
+
+    private static final int CONCURRENT_CALLS = 20;
+    private static final long STUB_LATENCY_MILLIS = 200L;
+
+    private final AtomicLong latencyMillis = new AtomicLong();
+
+    private HttpServer stubAuthorizer;
+    private ExecutorService callers;
+    private CloseableHttpClient httpClient;
+    private AuthorizerApiClient authorizerApiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubAuthorizer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubAuthorizer.setExecutor(Executors.newCachedThreadPool());
+        stubAuthorizer.createContext("/authorizer", this::respond);
+        stubAuthorizer.start();
+
+        var feignClientConfig = new FeignClientConfig();
+        ReflectionTestUtils.setField(feignClientConfig, "maxConnections", CONCURRENT_CALLS);
+        ReflectionTestUtils.setField(feignClientConfig, "maxConnectionsPerRoute", CONCURRENT_CALLS);
+        ReflectionTestUtils.setField(feignClientConfig, "idleTimeout", 30000L);
+        ReflectionTestUtils.setField(feignClientConfig, "connectTimeout", 1000L);
+        ReflectionTestUtils.setField(feignClientConfig, "readTimeout", 1000L);
+        ReflectionTestUtils.setField(feignClientConfig, "connectionRequestTimeout", 500L);
+
+        httpClient = feignClientConfig.feignHttpClient(feignClientConfig.feignConnectionManager());
+        authorizerApiClient = Feign.builder()
+            .client(feignClientConfig.feignClient(httpClient))
+            .options(feignClientConfig.feignRequestOptions())
+            .retryer(feignClientConfig.feignRetryer())
+            .contract(new SpringMvcContract())
+            .decoder(new SpringDecoder(() -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter())))
+            .target(AuthorizerApiClient.class, "http://localhost:" + stubAuthorizer.getAddress().getPort() + "/");
+
+        callers = Executors.newFixedThreadPool(CONCURRENT_CALLS);
+        authorizerApiClient.authorizeDeposit("12345678900", BigDecimal.TEN, "warm-up");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        callers.shutdownNow();
+        httpClient.close();
+        stubAuthorizer.stop(0);
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(latencyMillis.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        var body = "{\"status\":\"success\",\"data\":{\"authorized\":true}}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    @Test
+    void authorizeDeposit_WithStubLatency_ShouldServeConcurrentCallsFromThePool() throws Exception {
+        latencyMillis.set(STUB_LATENCY_MILLIS);
+        List<Future<AuthorizerResponse>> responses = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int call = 0; call < CONCURRENT_CALLS; call++) {
+            var identifier = "identifier-" + call;
+            responses.add(callers.submit(() -> authorizerApiClient.authorizeDeposit("12345678900", BigDecimal.TEN, identifier)));
+        }
+        for (Future<AuthorizerResponse> response : responses) {
+            assertTrue(response.get(5, TimeUnit.SECONDS).isAuthorized());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < CONCURRENT_CALLS * STUB_LATENCY_MILLIS / 2,
+            "Chamadas concorrentes levaram " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void authorizeDeposit_WhenStubExceedsReadTimeout_ShouldFailFast() {
+        latencyMillis.set(3000L);
+
+        long start = System.nanoTime();
+        assertThrows(RetryableException.class,
+            () -> authorizerApiClient.authorizeDeposit("12345678900", BigDecimal.TEN, "identifier"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 2500L, "Timeout de leitura levou " + elapsedMillis + " ms");
+    }
+}
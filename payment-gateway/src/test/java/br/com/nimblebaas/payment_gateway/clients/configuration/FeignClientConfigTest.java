@@ -6,8 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import feign.Client;
 import feign.Logger;
+import feign.Request;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
 
 class FeignClientConfigTest {
 
@@ -16,6 +21,12 @@ class FeignClientConfigTest {
     @BeforeEach
     void setUp() {
         feignClientConfig = new FeignClientConfig();
+        ReflectionTestUtils.setField(feignClientConfig, "maxConnections", 200);
+        ReflectionTestUtils.setField(feignClientConfig, "maxConnectionsPerRoute", 50);
+        ReflectionTestUtils.setField(feignClientConfig, "idleTimeout", 30000L);
+        ReflectionTestUtils.setField(feignClientConfig, "connectTimeout", 1000L);
+        ReflectionTestUtils.setField(feignClientConfig, "readTimeout", 3000L);
+        ReflectionTestUtils.setField(feignClientConfig, "connectionRequestTimeout", 500L);
     }
 
     @Test
@@ -33,5 +44,35 @@ class FeignClientConfigTest {
         assertNotNull(logger);
         assertInstanceOf(CustomFeignLogger.class, logger);
     }
-}
 
+    @Test
+    void shouldCreatePooledConnectionManagerWithConfiguredLimits() {
+        var connectionManager = feignClientConfig.feignConnectionManager();
+
+        assertEquals(200, connectionManager.getMaxTotal());
+        assertEquals(50, connectionManager.getDefaultMaxPerRoute());
+        connectionManager.close();
+    }
+
+    @Test
+    void shouldCreateApacheHttp5Client() throws Exception {
+        try (var httpClient = feignClientConfig.feignHttpClient(feignClientConfig.feignConnectionManager())) {
+            Client client = feignClientConfig.feignClient(httpClient);
+
+            assertInstanceOf(ApacheHttp5Client.class, client);
+        }
+    }
+
+    @Test
+    void shouldCreateRequestOptionsWithConfiguredTimeouts() {
+        Request.Options options = feignClientConfig.feignRequestOptions();
+
+        assertEquals(1000L, options.connectTimeoutMillis());
+        assertEquals(3000L, options.readTimeoutMillis());
+    }
+
+    @Test
+    void shouldNotRetryAuthorizerCalls() {
+        assertEquals(Retryer.NEVER_RETRY, feignClientConfig.feignRetryer());
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.nimblebaas.payment_gateway.configs.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.enums.async.AsyncRejectionPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AsyncConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncConfig asyncConfig;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        asyncConfig = new AsyncConfig(meterRegistry);
+        release = new CountDownLatch(1);
+        ReflectionTestUtils.setField(asyncConfig, "poolSize", 1);
+        ReflectionTestUtils.setField(asyncConfig, "queueCapacity", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        asyncConfig.shutdown();
+    }
+
+    @Test
+    void getAsyncExecutor_ShouldRunTasksOnNamedMonitoredPool() throws Exception {
+        ReflectionTestUtils.setField(asyncConfig, "rejectionPolicy", AsyncRejectionPolicy.ABORT);
+        asyncConfig.init();
+        var executor = asyncConfig.getAsyncExecutor();
+        var threadName = new String[1];
+        var done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            threadName[0] = Thread.currentThread().getName();
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(threadName[0].startsWith("async-"));
+        assertSame(executor, asyncConfig.getAsyncExecutor());
+        assertNotNull(meterRegistry.find("executor.queued").tag("name", "async").gauge());
+        assertNotNull(meterRegistry.find("executor.active").tag("name", "async").gauge());
+        assertNotNull(meterRegistry.find("executor").tag("name", "async").timer());
+    }
+
+    @Test
+    void getAsyncExecutor_WhenSaturatedWithAbortPolicy_ShouldRejectAndCount() {
+        ReflectionTestUtils.setField(asyncConfig, "rejectionPolicy", AsyncRejectionPolicy.ABORT);
+        asyncConfig.init();
+        var executor = asyncConfig.getAsyncExecutor();
+        saturate(executor);
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+        assertEquals(1.0, meterRegistry.get("executor.rejected.tasks").tag("name", "async").tag("policy", "ABORT").counter().count());
+    }
+
+    @Test
+    void getAsyncExecutor_WhenSaturatedWithCallerRunsPolicy_ShouldRunOnCallerThread() {
+        ReflectionTestUtils.setField(asyncConfig, "rejectionPolicy", AsyncRejectionPolicy.CALLER_RUNS);
+        asyncConfig.init();
+        var executor = asyncConfig.getAsyncExecutor();
+        saturate(executor);
+        var threadName = new String[1];
+
+        executor.execute(() -> threadName[0] = Thread.currentThread().getName());
+
+        assertEquals(Thread.currentThread().getName(), threadName[0]);
+        assertEquals(1.0, meterRegistry.get("executor.rejected.tasks").tag("policy", "CALLER_RUNS").counter().count());
+    }
+
+    @Test
+    void getAsyncExecutor_WithVirtualThreadsEnabled_ShouldRunOnAsyncThreadsForTheRuntime() throws Exception {
+        ReflectionTestUtils.setField(asyncConfig, "rejectionPolicy", AsyncRejectionPolicy.ABORT);
+        ReflectionTestUtils.setField(asyncConfig, "virtualThreadsEnabled", true);
+        asyncConfig.init();
+        var threadName = new String[1];
+        var done = new CountDownLatch(1);
+
+        asyncConfig.getAsyncExecutor().execute(() -> {
+            threadName[0] = Thread.currentThread().getName();
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(threadName[0].startsWith("async-"));
+    }
+
+    private void saturate(Executor executor) {
+        var started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        await(started);
+        executor.execute(() -> await(release));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
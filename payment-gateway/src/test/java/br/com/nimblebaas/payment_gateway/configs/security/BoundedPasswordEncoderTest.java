@@ -0,0 +1,259 @@
+package br.com.nimblebaas.payment_gateway.configs.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedPasswordEncoderTest.class);
+
+    private static final String PASSWORD = "StrongPass123!";
+
+    private SimpleMeterRegistry meterRegistry;
+    private BlockingPasswordEncoder blockingPasswordEncoder;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+    private ExecutorService requestThreads;
+
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{noop}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        blockingPasswordEncoder = new BlockingPasswordEncoder();
+        boundedPasswordEncoder = new BoundedPasswordEncoder(blockingPasswordEncoder, meterRegistry, 1, 1, 2000L);
+        requestThreads = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockingPasswordEncoder.release.countDown();
+        boundedPasswordEncoder.shutdown();
+        requestThreads.shutdownNow();
+    }
+
+    @Test
+    void encode_ShouldRunOnHashingPoolAndRecordQueueWaitAndDuration() {
+        var hashingThread = new String[1];
+        var encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashingThread[0] = Thread.currentThread().getName();
+                return super.encode(rawPassword);
+            }
+        }, meterRegistry, 1, 1, 2000L);
+
+        var encoded = encoder.encode(PASSWORD);
+        encoder.shutdown();
+
+        assertEquals("{noop}" + PASSWORD, encoded);
+        assertTrue(hashingThread[0].startsWith("password-hashing-"));
+        assertNotEquals(Thread.currentThread().getName(), hashingThread[0]);
+        assertEquals(1, meterRegistry.get("password.hash.queue.wait").timer().count());
+        assertEquals(1, meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void upgradeEncoding_ShouldDelegateWithoutUsingThePool() {
+        assertFalse(boundedPasswordEncoder.upgradeEncoding("{noop}" + PASSWORD));
+
+        assertEquals(0, meterRegistry.get("password.hash.queue.wait").timer().count());
+    }
+
+    @Test
+    void matches_WhenQueueIsFull_ShouldFailFastWithServiceUnavailable() throws Exception {
+        requestThreads.submit(() -> boundedPasswordEncoder.matches(PASSWORD, "running"));
+        assertTrue(blockingPasswordEncoder.started.await(5, TimeUnit.SECONDS));
+        requestThreads.submit(() -> boundedPasswordEncoder.matches(PASSWORD, "queued"));
+        awaitQueued(1);
+
+        var start = System.nanoTime();
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> boundedPasswordEncoder.matches(PASSWORD, "rejected"));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getErrorDTO().getStatus());
+        assertEquals(BusinessRules.PASSWORD_HASHING_CAPACITY_EXCEEDED.name(), exception.getErrorDTO().getReason());
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").tag("reason", "queue_full").counter().count());
+    }
+
+    @Test
+    void matches_WhenQueuedLongerThanMaxWait_ShouldRejectWhenTaskStarts() throws Exception {
+        boundedPasswordEncoder.shutdown();
+        meterRegistry = new SimpleMeterRegistry();
+        var encoder = new BoundedPasswordEncoder(blockingPasswordEncoder, meterRegistry, 1, 1, 50L);
+        boundedPasswordEncoder = encoder;
+        var running = requestThreads.submit(() -> encoder.matches(PASSWORD, "running"));
+        assertTrue(blockingPasswordEncoder.started.await(5, TimeUnit.SECONDS));
+        var queued = requestThreads.submit(() -> encoder.matches(PASSWORD, "queued"));
+        awaitQueued(1);
+
+        Thread.sleep(100);
+        blockingPasswordEncoder.release.countDown();
+
+        var exception = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+
+        assertEquals(BusinessRules.PASSWORD_HASHING_CAPACITY_EXCEEDED.name(), ((BusinessRuleException) exception.getCause()).getErrorDTO().getReason());
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").tag("reason", "timeout").counter().count());
+    }
+
+    @Test
+    void matches_WhenHashRunsLongerThanMaxWait_ShouldStillReturnResult() throws Exception {
+        var encoder = new BoundedPasswordEncoder(blockingPasswordEncoder, meterRegistry, 1, 1, 50L);
+        var running = requestThreads.submit(() -> encoder.matches(PASSWORD, "slow"));
+        assertTrue(blockingPasswordEncoder.started.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(100);
+        blockingPasswordEncoder.release.countDown();
+
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        encoder.shutdown();
+        assertEquals(0.0, meterRegistry.get("password.hash.rejected").tag("reason", "timeout").counter().count());
+    }
+
+    @Test
+    void verifyHashFitsMaxWait_WhenHashIsSlowerThanMaxWait_ShouldFailStartup() {
+        var encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(12), meterRegistry, 1, 1, 1L);
+
+        assertThrows(IllegalStateException.class, encoder::verifyHashFitsMaxWait);
+        encoder.shutdown();
+    }
+
+    @Test
+    void encode_WhenDelegateFails_ShouldPropagateOriginalException() {
+        var encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("senha inválida");
+            }
+        }, meterRegistry, 1, 1, 2000L);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> encoder.encode(PASSWORD));
+        encoder.shutdown();
+
+        assertEquals("senha inválida", exception.getMessage());
+    }
+
+    @Test
+    void simulatedLoginBurst_ShouldBoundHashingThreadsAndKeepPaymentLatency() throws Exception {
+        var bcryptPasswordEncoder = new BCryptPasswordEncoder(6);
+        var storedHash = bcryptPasswordEncoder.encode(PASSWORD);
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder() {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    return bcryptPasswordEncoder.matches(rawPassword, encodedPassword);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        }, meterRegistry, 2, 8, 500L);
+
+        var baseline = measurePayments("payment.baseline");
+
+        var served = new AtomicInteger();
+        var rejected = new AtomicInteger();
+        var logins = new ArrayList<CompletableFuture<Void>>();
+        for (int thread = 0; thread < 12; thread++) {
+            logins.add(CompletableFuture.runAsync(() -> {
+                for (int attempt = 0; attempt < 40; attempt++) {
+                    try {
+                        encoder.matches("guess-" + attempt, storedHash);
+                        served.incrementAndGet();
+                    } catch (BusinessRuleException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+            }, requestThreads));
+        }
+        var duringBurst = measurePayments("payment.burst");
+        CompletableFuture.allOf(logins.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        encoder.shutdown();
+
+        log.info("Rajada de login: {} hashes, {} rejeitados com 503, espera na fila p99 {} ms, pagamento p99 {} ms sem rajada e {} ms com rajada",
+            served.get(),
+            rejected.get(),
+            Math.round(percentile(meterRegistry.get("password.hash.queue.wait").timer())),
+            Math.round(percentile(baseline)),
+            Math.round(percentile(duringBurst)));
+
+        assertTrue(maxInFlight.get() <= 2);
+        assertEquals(12 * 40, served.get() + rejected.get());
+        assertTrue(rejected.get() > 0);
+    }
+
+    private Timer measurePayments(String name) throws Exception {
+        var timer = Timer.builder(name).publishPercentiles(0.99).register(meterRegistry);
+        var payload = new byte[64 * 1024];
+        for (int payment = 0; payment < 200; payment++) {
+            var start = System.nanoTime();
+            requestThreads.submit(() -> MessageDigest.getInstance("SHA-256").digest(payload)).get();
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return timer;
+    }
+
+    private double percentile(Timer timer) {
+        var percentiles = timer.takeSnapshot().percentileValues();
+        return percentiles[percentiles.length - 1].value(TimeUnit.MILLISECONDS);
+    }
+
+    private void awaitQueued(double expected) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+    }
+}
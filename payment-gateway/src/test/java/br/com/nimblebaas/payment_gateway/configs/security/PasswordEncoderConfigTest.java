@@ -0,0 +1,62 @@
+package br.com.nimblebaas.payment_gateway.configs.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PasswordEncoderConfigTest {
+
+    private static final String PASSWORD = "StrongPass123!";
+
+    @Test
+    void passwordEncoder_ShouldMatchLegacyHashAndFlagItForUpgrade() {
+        var passwordEncoder = passwordEncoder("bcrypt", 4);
+        var legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        assertTrue(passwordEncoder.matches(PASSWORD, legacyHash));
+        assertTrue(passwordEncoder.upgradeEncoding(legacyHash));
+    }
+
+    @Test
+    void passwordEncoder_ShouldEncodeWithConfiguredIdAndKeepCurrentHashes() {
+        var passwordEncoder = passwordEncoder("bcrypt", 4);
+
+        var encoded = passwordEncoder.encode(PASSWORD);
+
+        assertTrue(encoded.startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches(PASSWORD, encoded));
+        assertFalse(passwordEncoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    void passwordEncoder_WhenCostIsRaised_ShouldFlagWeakerHashesForUpgrade() {
+        var encoded = passwordEncoder("bcrypt", 4).encode(PASSWORD);
+
+        var strongerPasswordEncoder = passwordEncoder("bcrypt", 5);
+
+        assertTrue(strongerPasswordEncoder.matches(PASSWORD, encoded));
+        assertTrue(strongerPasswordEncoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    void passwordEncoder_WhenEncoderIdChanges_ShouldFlagPreviousHashesForUpgrade() {
+        var encoded = passwordEncoder("bcrypt", 4).encode(PASSWORD);
+
+        var pbkdf2PasswordEncoder = passwordEncoder("pbkdf2", 4);
+
+        assertTrue(pbkdf2PasswordEncoder.matches(PASSWORD, encoded));
+        assertTrue(pbkdf2PasswordEncoder.upgradeEncoding(encoded));
+        assertTrue(pbkdf2PasswordEncoder.encode(PASSWORD).startsWith("{pbkdf2}"));
+    }
+
+    private PasswordEncoder passwordEncoder(String encoderId, int bcryptStrength) {
+        var passwordEncoderConfig = new PasswordEncoderConfig();
+        ReflectionTestUtils.setField(passwordEncoderConfig, "encoderId", encoderId);
+        ReflectionTestUtils.setField(passwordEncoderConfig, "bcryptStrength", bcryptStrength);
+        return passwordEncoderConfig.delegatingPasswordEncoder();
+    }
+}
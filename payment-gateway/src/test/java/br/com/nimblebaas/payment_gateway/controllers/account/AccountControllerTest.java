@@ -1,32 +1,53 @@
 package br.com.nimblebaas.payment_gateway.controllers.account;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.nimblebaas.payment_gateway.configs.security.SecurityConfig;
 import br.com.nimblebaas.payment_gateway.dtos.input.account.MakeSelfDepositInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.account.StatementFilterInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.export.ExportFilterInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.output.account.BalanceOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.account.StatementEntryOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.account.StatementOutputRecord;
+import br.com.nimblebaas.payment_gateway.enums.export.ExportFormat;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
 import br.com.nimblebaas.payment_gateway.filters.authentication.AuthenticationFilter;
 import br.com.nimblebaas.payment_gateway.services.account.AccountService;
 
@@ -55,7 +76,8 @@ class AccountControllerTest {
         BalanceOutputRecord balanceOutput = new BalanceOutputRecord(
             new BigDecimal("1000.00"),
             new BigDecimal("100.00"),
-            new BigDecimal("900.00")
+            new BigDecimal("900.00"),
+            new BigDecimal("25.00")
         );
 
         when(accountService.getBalance(any())).thenReturn(balanceOutput);
@@ -65,11 +87,92 @@ class AccountControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.totalBalance").value(1000.00))
                 .andExpect(jsonPath("$.holdBalance").value(100.00))
-                .andExpect(jsonPath("$.availableBalance").value(900.00));
+                .andExpect(jsonPath("$.availableBalance").value(900.00))
+                .andExpect(jsonPath("$.pendingCreditBalance").value(25.00));
 
         verify(accountService).getBalance(any());
     }
 
+    @Test
+    @WithMockUser
+    void getBalance_WithAt_ShouldReturnHistoricalBalance() throws Exception {
+        BalanceOutputRecord balanceOutput = new BalanceOutputRecord(
+            new BigDecimal("500.00"),
+            BigDecimal.ZERO,
+            new BigDecimal("500.00"),
+            BigDecimal.ZERO
+        );
+
+        when(accountService.getBalanceAt(any(), any(LocalDateTime.class))).thenReturn(balanceOutput);
+
+        mockMvc.perform(get(AccountRoutes.GET_BALANCE.getPath())
+                .param("at", "2025-01-01T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalBalance").value(500.00));
+
+        verify(accountService).getBalanceAt(any(), eq(LocalDateTime.of(2025, 1, 1, 12, 0)));
+        verify(accountService, never()).getBalance(any());
+    }
+
+    @Test
+    @WithMockUser
+    void getStatement_ShouldReturnEntriesWithRunningBalance() throws Exception {
+        StatementOutputRecord statementOutput = new StatementOutputRecord(
+            new BigDecimal("1000.00"),
+            List.of(new StatementEntryOutputRecord(
+                LocalDateTime.of(2025, 1, 2, 10, 0),
+                TransactionType.DEBIT,
+                TransactionPurpose.CHARGE_PAYMENT,
+                new BigDecimal("100.00"),
+                "98765432100",
+                "charge-1",
+                new BigDecimal("900.00"))),
+            "next-cursor"
+        );
+
+        when(accountService.getStatement(any(), any(StatementFilterInputRecord.class))).thenReturn(statementOutput);
+
+        mockMvc.perform(get(AccountRoutes.STATEMENT.getPath())
+                .param("createdFrom", "2025-01-01T00:00:00")
+                .param("cursor", "abc")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openingBalance").value(1000.00))
+                .andExpect(jsonPath("$.items[0].type").value("DEBIT"))
+                .andExpect(jsonPath("$.items[0].balance").value(900.00))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+
+        ArgumentCaptor<StatementFilterInputRecord> captor = ArgumentCaptor.forClass(StatementFilterInputRecord.class);
+        verify(accountService).getStatement(any(), captor.capture());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), captor.getValue().createdFrom());
+        assertEquals("abc", captor.getValue().cursor());
+        assertEquals(10, captor.getValue().size());
+    }
+
+    @Test
+    @WithMockUser
+    void exportTransactions_WithoutFormat_ShouldStreamNdjsonAttachment() throws Exception {
+        StreamingResponseBody export = outputStream -> outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+
+        when(accountService.exportTransactions(any(), any(ExportFilterInputRecord.class))).thenReturn(export);
+
+        MvcResult mvcResult = mockMvc.perform(get(AccountRoutes.EXPORT_TRANSACTIONS.getPath())
+                .param("createdFrom", "2025-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.ndjson\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n"));
+
+        ArgumentCaptor<ExportFilterInputRecord> captor = ArgumentCaptor.forClass(ExportFilterInputRecord.class);
+        verify(accountService).exportTransactions(any(), captor.capture());
+        assertEquals(ExportFormat.NDJSON, captor.getValue().format());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), captor.getValue().createdFrom());
+    }
+
     @Test
     @WithMockUser
     void makeSelfDeposit_ShouldReturnNoContent() throws Exception {
@@ -77,14 +180,14 @@ class AccountControllerTest {
             new BigDecimal("500.00")
         );
 
-        doNothing().when(accountService).makeSelfDeposit(any(), any());
+        doNothing().when(accountService).makeSelfDeposit(any(), any(), any());
 
         mockMvc.perform(post(AccountRoutes.DEPOSIT.getPath())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(depositInput)))
                 .andExpect(status().isNoContent());
 
-        verify(accountService).makeSelfDeposit(any(), any());
+        verify(accountService).makeSelfDeposit(any(), any(), any());
     }
 
 }
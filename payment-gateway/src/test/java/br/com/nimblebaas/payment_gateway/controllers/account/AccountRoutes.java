@@ -3,7 +3,9 @@ package br.com.nimblebaas.payment_gateway.controllers.account;
 public enum AccountRoutes {
     BASE("/accounts"),
     GET_BALANCE("/accounts/balance"),
-    DEPOSIT("/accounts/deposit");
+    DEPOSIT("/accounts/deposit"),
+    STATEMENT("/accounts/statement"),
+    EXPORT_TRANSACTIONS("/accounts/transactions/export");
 
     private final String path;
 
@@ -1,39 +1,55 @@
 package br.com.nimblebaas.payment_gateway.controllers.charge;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.nimblebaas.payment_gateway.configs.security.SecurityConfig;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeCancelInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeFilterInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargePaymentInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.export.ExportFilterInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargeOutputDTO;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargePageOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargePaymentStatusOutputRecord;
 import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
 import br.com.nimblebaas.payment_gateway.enums.charge.PaymentMethod;
+import br.com.nimblebaas.payment_gateway.enums.export.ExportFormat;
 import br.com.nimblebaas.payment_gateway.filters.authentication.AuthenticationFilter;
 import br.com.nimblebaas.payment_gateway.services.charge.ChargeService;
 
@@ -74,7 +90,7 @@ class ChargeControllerTest {
         chargeOutput.setStatus(ChargeStatus.PENDING);
         chargeOutput.setCreatedAt(LocalDateTime.now());
 
-        when(chargeService.create(any(), any())).thenReturn(chargeOutput);
+        when(chargeService.create(any(), any(), any())).thenReturn(chargeOutput);
 
         mockMvc.perform(post(ChargeRoutes.CREATE.getPath())
                 .contentType(MediaType.APPLICATION_JSON)
@@ -84,13 +100,13 @@ class ChargeControllerTest {
                 .andExpect(jsonPath("$.amount").value(100.00))
                 .andExpect(jsonPath("$.status").value("PENDING"));
 
-        verify(chargeService).create(any(), any());
+        verify(chargeService).create(any(), any(), any());
     }
 
     @Test
     @WithMockUser
     void getSentCharges_ShouldReturnOk() throws Exception {
-        when(chargeService.getSentChargesByUser(any(), any())).thenReturn(List.of());
+        when(chargeService.getSentChargesByUser(any(), any())).thenReturn(new ChargePageOutputRecord(List.of(), null));
 
         mockMvc.perform(get(ChargeRoutes.SENT.getPath())
                 .contentType(MediaType.APPLICATION_JSON))
@@ -105,23 +121,32 @@ class ChargeControllerTest {
         charge1.setStatus(ChargeStatus.PENDING);
         charge1.setAmount(new BigDecimal("100.00"));
 
-        List<ChargeOutputDTO> charges = List.of(charge1);
+        ChargePageOutputRecord page = new ChargePageOutputRecord(List.of(charge1), "next-cursor");
 
-        when(chargeService.getSentChargesByUser(any(), anyList())).thenReturn(charges);
+        when(chargeService.getSentChargesByUser(any(), any(ChargeFilterInputRecord.class))).thenReturn(page);
 
         mockMvc.perform(get(ChargeRoutes.SENT.getPath())
                 .param("statuses", "PENDING")
+                .param("minAmount", "50.00")
+                .param("cursor", "cursor-1")
+                .param("size", "10")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].status").value("PENDING"));
-
-        verify(chargeService).getSentChargesByUser(any(), anyList());
+                .andExpect(jsonPath("$.items[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+
+        ArgumentCaptor<ChargeFilterInputRecord> captor = ArgumentCaptor.forClass(ChargeFilterInputRecord.class);
+        verify(chargeService).getSentChargesByUser(any(), captor.capture());
+        assertEquals(List.of(ChargeStatus.PENDING), captor.getValue().statuses());
+        assertEquals(new BigDecimal("50.00"), captor.getValue().minAmount());
+        assertEquals("cursor-1", captor.getValue().cursor());
+        assertEquals(10, captor.getValue().size());
     }
 
     @Test
     @WithMockUser
     void getReceivedCharges_ShouldReturnOk() throws Exception {
-        when(chargeService.getReceivedChargesByUser(any(), any())).thenReturn(List.of());
+        when(chargeService.getReceivedChargesByUser(any(), any())).thenReturn(new ChargePageOutputRecord(List.of(), null));
 
         mockMvc.perform(get(ChargeRoutes.RECEIVED.getPath())
                 .contentType(MediaType.APPLICATION_JSON))
@@ -136,17 +161,45 @@ class ChargeControllerTest {
         charge1.setStatus(ChargeStatus.PAID);
         charge1.setAmount(new BigDecimal("150.00"));
 
-        List<ChargeOutputDTO> charges = List.of(charge1);
+        ChargePageOutputRecord page = new ChargePageOutputRecord(List.of(charge1), null);
 
-        when(chargeService.getReceivedChargesByUser(any(), anyList())).thenReturn(charges);
+        when(chargeService.getReceivedChargesByUser(any(), any(ChargeFilterInputRecord.class))).thenReturn(page);
 
         mockMvc.perform(get(ChargeRoutes.RECEIVED.getPath())
                 .param("statuses", "PAID")
+                .param("createdFrom", "2025-01-01T00:00:00")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].status").value("PAID"));
+                .andExpect(jsonPath("$.items[0].status").value("PAID"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        ArgumentCaptor<ChargeFilterInputRecord> captor = ArgumentCaptor.forClass(ChargeFilterInputRecord.class);
+        verify(chargeService).getReceivedChargesByUser(any(), captor.capture());
+        assertEquals(List.of(ChargeStatus.PAID), captor.getValue().statuses());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), captor.getValue().createdFrom());
+    }
+
+    @Test
+    @WithMockUser
+    void exportCharges_AsCsv_ShouldStreamAttachment() throws Exception {
+        StreamingResponseBody export = outputStream -> outputStream.write("identifier\ncharge-1\n".getBytes(StandardCharsets.UTF_8));
+
+        when(chargeService.exportCharges(any(), any(ExportFilterInputRecord.class))).thenReturn(export);
+
+        MvcResult mvcResult = mockMvc.perform(get(ChargeRoutes.EXPORT.getPath())
+                .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"charges.csv\""))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string("identifier\ncharge-1\n"));
 
-        verify(chargeService).getReceivedChargesByUser(any(), anyList());
+        ArgumentCaptor<ExportFilterInputRecord> captor = ArgumentCaptor.forClass(ExportFilterInputRecord.class);
+        verify(chargeService).exportCharges(any(), captor.capture());
+        assertEquals(ExportFormat.CSV, captor.getValue().format());
     }
 
     @Test
@@ -161,14 +214,15 @@ class ChargeControllerTest {
             null
         );
 
-        doNothing().when(chargeService).pay(any(), any());
+        when(chargeService.pay(any(), any(), any())).thenReturn(new ChargePaymentStatusOutputRecord("charge-123", ChargeStatus.PAID));
 
         mockMvc.perform(post(ChargeRoutes.PAY.getPath())
+                .header("Idempotency-Key", "key-1")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(paymentInput)))
                 .andExpect(status().isNoContent());
 
-        verify(chargeService).pay(any(), any());
+        verify(chargeService).pay(any(), any(), eq("key-1"));
     }
 
     @Test
@@ -183,14 +237,59 @@ class ChargeControllerTest {
             1
         );
 
-        doNothing().when(chargeService).pay(any(), any());
+        when(chargeService.pay(any(), any(), any())).thenReturn(new ChargePaymentStatusOutputRecord("charge-123", ChargeStatus.PAID));
 
         mockMvc.perform(post(ChargeRoutes.PAY.getPath())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(paymentInput)))
                 .andExpect(status().isNoContent());
 
-        verify(chargeService).pay(any(), any());
+        verify(chargeService).pay(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void pay_WithCreditCardProcessedAsynchronously_ShouldReturnAccepted() throws Exception {
+        ChargePaymentInputRecord paymentInput = new ChargePaymentInputRecord(
+            "charge-123",
+            PaymentMethod.CREDIT_CARD,
+            "1234567812345678",
+            "12/25",
+            "123",
+            1
+        );
+
+        when(chargeService.pay(any(), any(), any())).thenReturn(new ChargePaymentStatusOutputRecord("charge-123", ChargeStatus.PAYMENT_PROCESSING));
+
+        mockMvc.perform(post(ChargeRoutes.PAY.getPath())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(paymentInput)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/charges/charge-123"))
+                .andExpect(jsonPath("$.identifier").value("charge-123"))
+                .andExpect(jsonPath("$.status").value("PAYMENT_PROCESSING"));
+    }
+
+    @Test
+    @WithMockUser
+    void getCharge_WithWaitSeconds_ShouldReturnChargeWhenResultIsReady() throws Exception {
+        ChargeOutputDTO chargeOutput = new ChargeOutputDTO();
+        chargeOutput.setIdentifier("charge-123");
+        chargeOutput.setStatus(ChargeStatus.PAID);
+
+        DeferredResult<ChargeOutputDTO> deferredResult = new DeferredResult<>();
+        deferredResult.setResult(chargeOutput);
+        when(chargeService.getCharge(any(), eq("charge-123"), eq(10))).thenReturn(deferredResult);
+
+        MvcResult mvcResult = mockMvc.perform(get(ChargeRoutes.BASE.getPath() + "/charge-123")
+                .param("waitSeconds", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.identifier").value("charge-123"))
+                .andExpect(jsonPath("$.status").value("PAID"));
     }
 
     @Test
@@ -5,6 +5,7 @@ public enum ChargeRoutes {
     CREATE("/charges"),
     SENT("/charges/sent"),
     RECEIVED("/charges/received"),
+    EXPORT("/charges/export"),
     PAY("/charges/pay"),
     CANCEL("/charges/cancel");
 
@@ -4,11 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
 
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeListItemRecord;
 import br.com.nimblebaas.payment_gateway.entities.charge.ChargePayment;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
 import br.com.nimblebaas.payment_gateway.enums.charge.PaymentMethod;
 
 class ChargePaymentOutputDTOTest {
@@ -113,6 +116,24 @@ class ChargePaymentOutputDTOTest {
         assertEquals("1111", dto.getLastCardDigits());
     }
 
+    @Test
+    void shouldCreateDTOFromChargeListItem() {
+        LocalDateTime paidAt = LocalDateTime.now();
+
+        ChargeListItemRecord chargeListItem = new ChargeListItemRecord(
+            1L, "charge-1", "12345678900", "98765432100", new BigDecimal("100.00"), null,
+            ChargeStatus.PAID, paidAt.minusMinutes(1),
+            PaymentMethod.CREDIT_CARD, "AUTH-123456", "1234567890123456", paidAt, null);
+
+        ChargePaymentOutputDTO dto = new ChargePaymentOutputDTO(chargeListItem);
+
+        assertEquals("AUTH-123456", dto.getAuthorizationIdentifier());
+        assertEquals(PaymentMethod.CREDIT_CARD, dto.getPaymentMethod());
+        assertEquals("3456", dto.getLastCardDigits());
+        assertEquals(paidAt, dto.getPaidAt());
+        assertNull(dto.getCancelledAt());
+    }
+
     @Test
     void shouldCreateDTOWithNoArgsConstructor() {
         ChargePaymentOutputDTO dto = new ChargePaymentOutputDTO();
@@ -1,8 +1,9 @@
 package br.com.nimblebaas.payment_gateway.filters.authentication;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -18,18 +19,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 import br.com.nimblebaas.payment_gateway.exceptions.ErrorDTO;
+import br.com.nimblebaas.payment_gateway.services.authentication.AuthenticationCacheService;
 import br.com.nimblebaas.payment_gateway.services.authentication.JwtService;
 import br.com.nimblebaas.payment_gateway.services.authentication.RefreshTokenService;
 import br.com.nimblebaas.payment_gateway.services.user.UserService;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -50,6 +55,12 @@ class AuthenticationFilterTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Spy
+    private AuthenticationCacheService authenticationCacheService = new AuthenticationCacheService(new SimpleMeterRegistry());
+
+    @Spy
+    private PublicEndpointMatcher publicEndpointMatcher = new PublicEndpointMatcher();
+
     @InjectMocks
     private AuthenticationFilter authenticationFilter;
 
@@ -71,6 +82,10 @@ class AuthenticationFilterTest {
     void setUp() {
         SecurityContextHolder.clearContext();
 
+        ReflectionTestUtils.setField(authenticationCacheService, "maximumSize", 100L);
+        ReflectionTestUtils.setField(authenticationCacheService, "expiration", 60L);
+        authenticationCacheService.init();
+
         user = new User();
         user.setCpf("12345678900");
         user.setName("Test User");
@@ -78,20 +93,23 @@ class AuthenticationFilterTest {
     }
 
     @Test
-    void shouldAllowPublicEndpoint() throws ServletException, IOException {
+    void shouldNotFilterPublicEndpoint() {
         when(request.getRequestURI()).thenReturn("/users/register");
 
-        authenticationFilter.doFilterInternal(request, response, filterChain);
+        assertTrue(authenticationFilter.shouldNotFilter(request));
+    }
 
-        verify(filterChain, times(1)).doFilter(request, response);
-        verify(jwtService, never()).parseToken(anyString());
+    @Test
+    void shouldFilterProtectedEndpoint() {
+        when(request.getRequestURI()).thenReturn("/api/v1/accounts/balance");
+
+        assertFalse(authenticationFilter.shouldNotFilter(request));
     }
 
     @Test
     void shouldAuthenticateSuccessfully() throws ServletException, IOException {
         String token = "valid.jwt.token";
         
-        when(request.getRequestURI()).thenReturn("/api/v1/accounts/balance");
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
         when(jwtService.parseToken(token)).thenReturn(claims);
         when(claims.getSubject()).thenReturn("12345678900");
@@ -106,12 +124,28 @@ class AuthenticationFilterTest {
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
     }
 
+    @Test
+    void shouldReuseCachedUserOnSubsequentRequests() throws ServletException, IOException {
+        String token = "valid.jwt.token";
+        
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(jwtService.parseToken(token)).thenReturn(claims);
+        when(claims.getSubject()).thenReturn("12345678900");
+        when(userService.findByCpf("12345678900")).thenReturn(Optional.of(user));
+
+        authenticationFilter.doFilterInternal(request, response, filterChain);
+        authenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(userService, times(1)).findByCpf("12345678900");
+        verify(refreshTokenService, times(2)).validateAccessToken(claims, user);
+        verify(filterChain, times(2)).doFilter(request, response);
+    }
+
     @Test
     void shouldFailWhenTokenNotProvided() throws ServletException, IOException {
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
         
-        when(request.getRequestURI()).thenReturn("/api/v1/accounts/balance");
         when(request.getHeader("Authorization")).thenReturn(null);
         when(response.getWriter()).thenReturn(writer);
         when(objectMapper.writeValueAsString(any(ErrorDTO.class))).thenReturn("{\"status\":\"UNAUTHORIZED\"}");
@@ -129,7 +163,6 @@ class AuthenticationFilterTest {
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
         
-        when(request.getRequestURI()).thenReturn("/api/v1/accounts/balance");
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
         when(jwtService.parseToken(token)).thenReturn(claims);
         when(claims.getSubject()).thenReturn("12345678900");
@@ -150,7 +183,6 @@ class AuthenticationFilterTest {
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
         
-        when(request.getRequestURI()).thenReturn("/api/v1/accounts/balance");
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
         when(jwtService.parseToken(token)).thenThrow(new RuntimeException("Unexpected error"));
         when(response.getWriter()).thenReturn(writer);
@@ -167,7 +199,6 @@ class AuthenticationFilterTest {
     void shouldExtractTokenCorrectly() throws ServletException, IOException {
         String token = "my.jwt.token";
         
-        when(request.getRequestURI()).thenReturn("/api/v1/protected");
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
         when(jwtService.parseToken(token)).thenReturn(claims);
         when(claims.getSubject()).thenReturn("12345678900");
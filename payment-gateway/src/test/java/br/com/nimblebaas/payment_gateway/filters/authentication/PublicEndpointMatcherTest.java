@@ -0,0 +1,96 @@
+package br.com.nimblebaas.payment_gateway.filters.authentication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.AntPathMatcher;
+
+import br.com.nimblebaas.payment_gateway.configs.security.SecurityConfig;
+
+class PublicEndpointMatcherTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicEndpointMatcherTest.class);
+
+    private static final int ITERATIONS = 200_000;
+    private static final List<String> PATHS = List.of(
+        "/users/register",
+        "/authentication/login",
+        "/swagger-ui/index.html",
+        "/v3/api-docs/swagger-config",
+        "/charges",
+        "/charges/6f0d6f4e-7b1a-4d1e-9a53-1f6b8c2d9e10/payment",
+        "/accounts/balance",
+        "/accounts/statement/export");
+
+    private final PublicEndpointMatcher publicEndpointMatcher = new PublicEndpointMatcher();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/users/register",
+        "/authentication/login",
+        "/authentication/refresh-token",
+        "/swagger-ui.html",
+        "/swagger-ui/index.html",
+        "/v3/api-docs",
+        "/v3/api-docs/swagger-config",
+        "/api-docs/payment"
+    })
+    void matches_WithPublicEndpoint_ShouldReturnTrue(String path) {
+        assertTrue(publicEndpointMatcher.matches(path));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/users",
+        "/users/register/extra",
+        "/authentication/logout",
+        "/charges",
+        "/accounts/balance",
+        "/swagger-uix/index.html"
+    })
+    void matches_WithProtectedEndpoint_ShouldReturnFalse(String path) {
+        assertFalse(publicEndpointMatcher.matches(path));
+    }
+
+    @Test
+    void matches_ShouldAgreeWithAntPathMatcherForConfiguredEndpoints() {
+        var antPathMatcher = new AntPathMatcher();
+        Predicate<String> streamOfPatterns = path -> Arrays.stream(SecurityConfig.getPublicEndpoints())
+            .anyMatch(endpoint -> antPathMatcher.match(endpoint, path));
+
+        PATHS.forEach(path -> assertEquals(streamOfPatterns.test(path), publicEndpointMatcher.matches(path), path));
+
+        var streamNanos = measure(streamOfPatterns);
+        var precompiledNanos = measure(publicEndpointMatcher::matches);
+        log.info("Verificação de endpoint público: AntPathMatcher {} ns/op, PathPattern pré-compilado {} ns/op",
+            streamNanos, precompiledNanos);
+    }
+
+    private long measure(Predicate<String> matcher) {
+        var matched = 0;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            if (matcher.test(PATHS.get(iteration % PATHS.size())))
+                matched++;
+        }
+
+        var start = System.nanoTime();
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            if (matcher.test(PATHS.get(iteration % PATHS.size())))
+                matched++;
+        }
+        var elapsed = System.nanoTime() - start;
+
+        assertTrue(matched > 0);
+        return elapsed / ITERATIONS;
+    }
+}
@@ -5,10 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,21 +22,39 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.nimblebaas.payment_gateway.configs.authentication.UserAuthenticated;
 import br.com.nimblebaas.payment_gateway.dtos.input.account.MakeSelfDepositInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.account.StatementFilterInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.export.ExportFilterInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.StatementCursorRecord;
 import br.com.nimblebaas.payment_gateway.dtos.internal.authorizer.GetAuthorizerDTO;
 import br.com.nimblebaas.payment_gateway.dtos.output.account.BalanceOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.account.StatementOutputRecord;
 import br.com.nimblebaas.payment_gateway.entities.account.Account;
 import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.account.AccountCreditMode;
 import br.com.nimblebaas.payment_gateway.enums.authorizer.AuthorizerPurpose;
 import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.enums.export.ExportFormat;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotentOperation;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountBalanceDeltaService;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountBalanceUpdateService;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountDailyBalanceService;
+import br.com.nimblebaas.payment_gateway.services.account.lock.AccountLockManager;
 import br.com.nimblebaas.payment_gateway.services.authorizer.AuthorizerService;
+import br.com.nimblebaas.payment_gateway.services.idempotency.IdempotencyService;
+import br.com.nimblebaas.payment_gateway.services.transaction.TransactionExportService;
 import br.com.nimblebaas.payment_gateway.services.transaction.TransactionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class AccountServiceTest {
@@ -44,6 +68,27 @@ class AccountServiceTest {
     @Mock
     private TransactionService transactionService;
 
+    @Mock
+    private AccountBalanceUpdateService accountBalanceUpdateService;
+
+    @Mock
+    private AccountBalanceDeltaService accountBalanceDeltaService;
+
+    @Mock
+    private TransactionExportService transactionExportService;
+
+    @Mock
+    private AccountStatementService accountStatementService;
+
+    @Mock
+    private AccountDailyBalanceService accountDailyBalanceService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Spy
+    private AccountLockManager accountLockManager = new AccountLockManager(new SimpleMeterRegistry());
+
     @InjectMocks
     private AccountService accountService;
 
@@ -53,6 +98,11 @@ class AccountServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(accountLockManager, "stripes", 16);
+        ReflectionTestUtils.setField(accountLockManager, "timeoutMillis", 100L);
+        accountLockManager.init();
+        ReflectionTestUtils.setField(accountService, "accountCreditMode", AccountCreditMode.DIRECT);
+
         user = new User();
         user.setCpf("12345678900");
         user.setEmail("john@example.com");
@@ -75,19 +125,32 @@ class AccountServiceTest {
 
     @Test
     void getBalance_WithValidUser_ShouldReturnBalance() {
-        when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.of(account));
+        when(accountRepository.findBalanceByUser(any(User.class)))
+            .thenReturn(Optional.of(new AccountBalanceRecord(new BigDecimal("1000.00"), new BigDecimal("1200.00"))));
 
         BalanceOutputRecord result = accountService.getBalance(userAuthenticated);
 
         assertNotNull(result);
         assertEquals(new BigDecimal("1000.00"), result.totalBalance());
-        assertEquals(BigDecimal.ZERO, result.holdBalance());
-        assertEquals(new BigDecimal("1000.00"), result.availableBalance());
+        assertEquals(new BigDecimal("1200.00"), result.holdBalance());
+        assertEquals(BigDecimal.ZERO, result.availableBalance());
+    }
+
+    @Test
+    void getBalance_WithPendingCredits_ShouldReportThemApartFromAvailableBalance() {
+        when(accountRepository.findBalanceByUser(any(User.class)))
+            .thenReturn(Optional.of(new AccountBalanceRecord(new BigDecimal("1000.00"), new BigDecimal("100.00"), new BigDecimal("250.00"))));
+
+        BalanceOutputRecord result = accountService.getBalance(userAuthenticated);
+
+        assertEquals(new BigDecimal("1000.00"), result.totalBalance());
+        assertEquals(new BigDecimal("900.00"), result.availableBalance());
+        assertEquals(new BigDecimal("250.00"), result.pendingCreditBalance());
     }
 
     @Test
     void getBalance_WithInvalidUser_ShouldThrowException() {
-        when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.empty());
+        when(accountRepository.findBalanceByUser(any(User.class))).thenReturn(Optional.empty());
 
         BusinessRuleException exception = assertThrows(
             BusinessRuleException.class,
@@ -97,6 +160,143 @@ class AccountServiceTest {
         assertEquals(BusinessRules.ACCOUNT_NOT_FOUND.name(), exception.getErrorDTO().getReason());
     }
 
+    @Test
+    void getBalanceAt_ShouldReturnBalanceFromDailySnapshots() {
+        var at = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.of(account));
+        when(accountDailyBalanceService.getBalanceAt(account, at))
+            .thenReturn(new AccountBalanceRecord(new BigDecimal("300.00"), new BigDecimal("100.00")));
+
+        BalanceOutputRecord result = accountService.getBalanceAt(userAuthenticated, at);
+
+        assertEquals(new BigDecimal("300.00"), result.totalBalance());
+        assertEquals(new BigDecimal("100.00"), result.holdBalance());
+        assertEquals(new BigDecimal("200.00"), result.availableBalance());
+    }
+
+    @Test
+    void getBalanceAt_WithoutAccount_ShouldThrowException() {
+        when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.empty());
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> accountService.getBalanceAt(userAuthenticated, LocalDateTime.now())
+        );
+
+        assertEquals(BusinessRules.ACCOUNT_NOT_FOUND.name(), exception.getErrorDTO().getReason());
+    }
+
+    @Test
+    void getStatement_WithoutCursor_ShouldStartAtCreatedFrom() {
+        var createdFrom = LocalDateTime.of(2025, 1, 1, 0, 0);
+        var statement = new StatementOutputRecord(BigDecimal.ZERO, List.of(), null);
+
+        when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.of(account));
+        when(accountStatementService.getStatement(eq(account), any(LocalDateTime.class), any(StatementCursorRecord.class), eq(10)))
+            .thenReturn(statement);
+
+        StatementOutputRecord result = accountService.getStatement(
+            userAuthenticated,
+            new StatementFilterInputRecord(createdFrom, null, null, 10));
+
+        assertEquals(statement, result);
+        verify(accountStatementService).getStatement(eq(account), any(LocalDateTime.class), eq(new StatementCursorRecord(createdFrom, 0L)), eq(10));
+    }
+
+    @Test
+    void getStatement_WithCursor_ShouldResumeFromCursor() {
+        var cursor = new StatementCursorRecord(LocalDateTime.of(2025, 2, 1, 12, 30), 42L);
+        var createdTo = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+        when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.of(account));
+
+        accountService.getStatement(
+            userAuthenticated,
+            new StatementFilterInputRecord(null, createdTo, cursor.encode(), null));
+
+        verify(accountStatementService).getStatement(account, createdTo, cursor, null);
+    }
+
+    @Test
+    void getStatement_WithInvalidCursor_ShouldThrowException() {
+        var filter = new StatementFilterInputRecord(null, null, "invalid", null);
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> accountService.getStatement(userAuthenticated, filter)
+        );
+
+        assertEquals(BusinessRules.INVALID_INPUT_DATA.name(), exception.getErrorDTO().getReason());
+        verify(accountRepository, never()).findByUser(any(User.class));
+    }
+
+    @Test
+    void getStatement_WithCreatedFromAfterCreatedTo_ShouldThrowException() {
+        var now = LocalDateTime.now();
+        var filter = new StatementFilterInputRecord(now, now.minusDays(1), null, null);
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> accountService.getStatement(userAuthenticated, filter)
+        );
+
+        assertEquals(BusinessRules.INVALID_INPUT_DATA.name(), exception.getErrorDTO().getReason());
+    }
+
+    @Test
+    void getStatement_WithoutAccount_ShouldThrowException() {
+        when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.empty());
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> accountService.getStatement(userAuthenticated, new StatementFilterInputRecord(null, null, null, null))
+        );
+
+        assertEquals(BusinessRules.ACCOUNT_NOT_FOUND.name(), exception.getErrorDTO().getReason());
+    }
+
+    @Test
+    void exportTransactions_ShouldStreamAccountTransactionsInRequestedFormat() throws Exception {
+        var createdFrom = LocalDateTime.of(2025, 1, 1, 0, 0);
+        var outputStream = new ByteArrayOutputStream();
+
+        when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.of(account));
+
+        StreamingResponseBody export = accountService.exportTransactions(
+            userAuthenticated,
+            new ExportFilterInputRecord(ExportFormat.CSV, createdFrom, null));
+        export.writeTo(outputStream);
+
+        verify(transactionExportService).export(eq(account), eq(createdFrom), any(LocalDateTime.class), eq(ExportFormat.CSV), eq(outputStream));
+    }
+
+    @Test
+    void exportTransactions_WithCreatedFromAfterCreatedTo_ShouldThrowException() {
+        var now = LocalDateTime.now();
+        var filter = new ExportFilterInputRecord(null, now, now.minusDays(1));
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> accountService.exportTransactions(userAuthenticated, filter)
+        );
+
+        assertEquals(BusinessRules.INVALID_INPUT_DATA.name(), exception.getErrorDTO().getReason());
+        verify(accountRepository, never()).findByUser(any(User.class));
+    }
+
+    @Test
+    void exportTransactions_WithoutAccount_ShouldThrowException() {
+        when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.empty());
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> accountService.exportTransactions(userAuthenticated, new ExportFilterInputRecord(null, null, null))
+        );
+
+        assertEquals(BusinessRules.ACCOUNT_NOT_FOUND.name(), exception.getErrorDTO().getReason());
+    }
+
     @Test
     void makeSelfDeposit_WithAuthorization_ShouldDepositSuccessfully() {
         MakeSelfDepositInputRecord depositInput = new MakeSelfDepositInputRecord(new BigDecimal("100.00"));
@@ -105,12 +305,31 @@ class AccountServiceTest {
         when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.of(account));
         when(transactionService.createDepositTransaction(any(), any(), anyString())).thenReturn(transaction);
         when(authorizerService.authorize(any(AuthorizerPurpose.class), any(GetAuthorizerDTO.class))).thenReturn(true);
-        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(true);
 
         accountService.makeSelfDeposit(depositInput, userAuthenticated);
 
         verify(transactionService).completeSuccessTransaction(transaction);
-        verify(accountRepository).save(account);
+        verify(accountBalanceUpdateService).update(account, new BigDecimal("100.00"), BigDecimal.ZERO);
+    }
+
+    @Test
+    void makeSelfDeposit_WithIdempotencyKey_ShouldDepositThroughIdempotencyService() {
+        MakeSelfDepositInputRecord depositInput = new MakeSelfDepositInputRecord(new BigDecimal("100.00"));
+        Transaction transaction = new Transaction();
+
+        when(accountRepository.findByUser(any(User.class))).thenReturn(Optional.of(account));
+        when(transactionService.createDepositTransaction(any(), any(), anyString())).thenReturn(transaction);
+        when(authorizerService.authorize(any(AuthorizerPurpose.class), any(GetAuthorizerDTO.class))).thenReturn(true);
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(true);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(4).run();
+            return null;
+        }).when(idempotencyService).execute(eq(user), eq("key-1"), eq(IdempotentOperation.ACCOUNT_DEPOSIT), eq(depositInput), any(Runnable.class));
+
+        accountService.makeSelfDeposit(depositInput, userAuthenticated, "key-1");
+
+        verify(transactionService).completeSuccessTransaction(transaction);
     }
 
     @Test
@@ -135,18 +354,19 @@ class AccountServiceTest {
     void makeWithdrawal_WithSufficientBalance_ShouldWithdrawSuccessfully() {
         BigDecimal withdrawalAmount = new BigDecimal("500.00");
 
-        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(true);
 
         accountService.makeWithdrawal(account, withdrawalAmount);
 
-        assertEquals(new BigDecimal("500.00"), account.getTotalBalance());
-        verify(accountRepository).save(account);
+        verify(accountBalanceUpdateService).update(account, new BigDecimal("-500.00"), BigDecimal.ZERO);
     }
 
     @Test
     void makeWithdrawal_WithInsufficientBalance_ShouldThrowException() {
         BigDecimal withdrawalAmount = new BigDecimal("1500.00");
 
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(false);
+
         BusinessRuleException exception = assertThrows(
             BusinessRuleException.class,
             () -> accountService.makeWithdrawal(account, withdrawalAmount)
@@ -171,12 +391,23 @@ class AccountServiceTest {
     void makeDeposit_WithPositiveAmount_ShouldDepositSuccessfully() {
         BigDecimal depositAmount = new BigDecimal("500.00");
 
-        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(true);
+
+        accountService.makeDeposit(account, depositAmount);
+
+        verify(accountBalanceUpdateService).update(account, depositAmount, BigDecimal.ZERO);
+        verify(accountBalanceDeltaService, never()).append(any(Account.class), any(BigDecimal.class));
+    }
+
+    @Test
+    void makeDeposit_WithAggregatedCreditMode_ShouldAppendDelta() {
+        BigDecimal depositAmount = new BigDecimal("500.00");
+        ReflectionTestUtils.setField(accountService, "accountCreditMode", AccountCreditMode.AGGREGATED);
 
         accountService.makeDeposit(account, depositAmount);
 
-        assertEquals(new BigDecimal("1500.00"), account.getTotalBalance());
-        verify(accountRepository).save(account);
+        verify(accountBalanceDeltaService).append(account, depositAmount);
+        verify(accountBalanceUpdateService, never()).update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class));
     }
 
     @Test
@@ -0,0 +1,181 @@
+package br.com.nimblebaas.payment_gateway.services.account;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.StatementCursorRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.account.StatementEntryOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.account.StatementOutputRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.AccountDailyBalance;
+import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountDailyBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AccountStatementService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountStatementPersistenceTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    private static final LocalDateTime CREATED_TO = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final int DAYS = 3;
+    private static final int TRANSACTIONS_PER_DAY = 5;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private AccountStatementService accountStatementService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountDailyBalanceRepository accountDailyBalanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String suffix;
+    private Account account;
+    private List<BigDecimal> expectedBalances;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        suffix = UUID.randomUUID().toString();
+
+        account = accountRepository.save(new Account(createUser("party")));
+        var counterpartAccount = accountRepository.save(new Account(createUser("counterpart")));
+
+        expectedBalances = new ArrayList<>();
+        var balance = BigDecimal.ZERO;
+        for (int day = 0; day < DAYS; day++) {
+            for (int index = 0; index < TRANSACTIONS_PER_DAY; index++) {
+                var type = index % 2 == 0 ? TransactionType.CREDIT : TransactionType.DEBIT;
+                var amount = BigDecimal.valueOf((day + 1) * 10L + index);
+                var createdAt = FIRST_DAY.plusDays(day).atTime(10 + index, 0);
+                createTransaction(counterpartAccount, type, amount, TransactionStatus.SUCCESS, createdAt);
+                balance = TransactionType.CREDIT.equals(type) ? balance.add(amount) : balance.subtract(amount);
+                expectedBalances.add(normalize(balance));
+            }
+            createTransaction(counterpartAccount, TransactionType.CREDIT, BigDecimal.valueOf(1000), TransactionStatus.FAILED,
+                FIRST_DAY.plusDays(day).atTime(9, 0));
+        }
+    }
+
+    @Test
+    void getStatement_WithoutSnapshot_ShouldComputeRunningBalanceAcrossPages() {
+        var items = readAllPages(new StatementCursorRecord(FIRST_DAY.atStartOfDay(), 0L));
+
+        assertEquals(expectedBalances, items.stream().map(item -> normalize(item.balance())).toList());
+    }
+
+    @Test
+    void getStatement_FromMiddleOfHistory_ShouldOpenWithSnapshotBalance() {
+        var closingBalance = expectedBalances.get(TRANSACTIONS_PER_DAY - 1);
+        accountDailyBalanceRepository.save(AccountDailyBalance.builder()
+            .account(account)
+            .balanceDate(FIRST_DAY)
+            .closingBalance(closingBalance)
+            .closingHoldBalance(BigDecimal.ZERO)
+            .build());
+
+        statistics.clear();
+        var statement = accountStatementService.getStatement(
+            account, CREATED_TO, new StatementCursorRecord(FIRST_DAY.plusDays(1).atStartOfDay(), 0L), PAGE_SIZE);
+
+        assertEquals(normalize(closingBalance), normalize(statement.openingBalance()));
+        assertEquals(PAGE_SIZE, statement.items().size());
+        assertEquals(
+            expectedBalances.subList(TRANSACTIONS_PER_DAY, TRANSACTIONS_PER_DAY + PAGE_SIZE),
+            statement.items().stream().map(item -> normalize(item.balance())).toList());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+
+        var items = readAllPages(new StatementCursorRecord(FIRST_DAY.plusDays(1).atStartOfDay(), 0L));
+        assertEquals(
+            expectedBalances.subList(TRANSACTIONS_PER_DAY, expectedBalances.size()),
+            items.stream().map(item -> normalize(item.balance())).toList());
+    }
+
+    private List<StatementEntryOutputRecord> readAllPages(StatementCursorRecord firstCursor) {
+        var items = new ArrayList<StatementEntryOutputRecord>();
+        StatementOutputRecord statement;
+        var cursor = firstCursor;
+        do {
+            statement = accountStatementService.getStatement(account, CREATED_TO, cursor, PAGE_SIZE);
+            if (!items.isEmpty())
+                assertEquals(normalize(items.get(items.size() - 1).balance()), normalize(statement.openingBalance()));
+            items.addAll(statement.items());
+            cursor = statement.nextCursor() == null ? null : StatementCursorRecord.decode(statement.nextCursor());
+        } while (cursor != null);
+
+        assertNull(statement.nextCursor());
+        return items;
+    }
+
+    private BigDecimal normalize(BigDecimal value) {
+        return value.setScale(2);
+    }
+
+    private void createTransaction(Account counterpartAccount, TransactionType type, BigDecimal amount,
+            TransactionStatus status, LocalDateTime createdAt) {
+        var transaction = transactionRepository.save(Transaction.builder()
+            .partyAccount(account)
+            .counterpartAccount(counterpartAccount)
+            .amount(amount)
+            .type(type)
+            .purpose(TransactionPurpose.CHARGE_PAYMENT)
+            .status(status)
+            .build());
+        jdbcTemplate.update("update transactions set created_at = ? where id = ?", createdAt, transaction.getId());
+    }
+
+    private User createUser(String name) {
+        var user = new User();
+        user.setName(name);
+        user.setCpf(name + "-" + suffix);
+        user.setEmail(name + "-" + suffix + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+}
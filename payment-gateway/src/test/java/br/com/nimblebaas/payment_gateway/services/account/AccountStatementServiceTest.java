@@ -0,0 +1,129 @@
+package br.com.nimblebaas.payment_gateway.services.account;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.StatementCursorRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.StatementEntryRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.AccountDailyBalance;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountDailyBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AccountStatementServiceTest {
+
+    private static final LocalDateTime CREATED_TO = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountDailyBalanceRepository accountDailyBalanceRepository;
+
+    @InjectMocks
+    private AccountStatementService accountStatementService;
+
+    private Account account;
+    private StatementCursorRecord cursor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(accountStatementService, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(accountStatementService, "maxPageSize", 3);
+
+        account = new Account(new User());
+        cursor = new StatementCursorRecord(LocalDateTime.of(2025, 1, 10, 0, 0), 0L);
+    }
+
+    @Test
+    void getStatement_WithSnapshot_ShouldSumOnlyTransactionsAfterSnapshotDay() {
+        var snapshot = AccountDailyBalance.builder()
+            .account(account)
+            .balanceDate(LocalDate.of(2025, 1, 9))
+            .closingBalance(new BigDecimal("100.00"))
+            .build();
+
+        when(accountDailyBalanceRepository.findFirstByAccountAndBalanceDateLessThanOrderByBalanceDateDesc(account, LocalDate.of(2025, 1, 10)))
+            .thenReturn(Optional.of(snapshot));
+        when(transactionRepository.sumSignedAmountUpTo(account, LocalDateTime.of(2025, 1, 10, 0, 0), cursor.createdAt(), cursor.id()))
+            .thenReturn(BigDecimal.ZERO);
+        when(transactionRepository.findStatementPage(account, CREATED_TO, cursor.createdAt(), cursor.id(), Limit.of(3)))
+            .thenReturn(List.of(
+                buildEntry(1L, TransactionType.CREDIT, "50.00"),
+                buildEntry(2L, TransactionType.DEBIT, "30.00")));
+
+        var statement = accountStatementService.getStatement(account, CREATED_TO, cursor, null);
+
+        assertEquals(new BigDecimal("100.00"), statement.openingBalance());
+        assertEquals(new BigDecimal("150.00"), statement.items().get(0).balance());
+        assertEquals(new BigDecimal("120.00"), statement.items().get(1).balance());
+        assertNull(statement.nextCursor());
+    }
+
+    @Test
+    void getStatement_WithoutSnapshot_ShouldSumFromBeginningOfHistory() {
+        when(accountDailyBalanceRepository.findFirstByAccountAndBalanceDateLessThanOrderByBalanceDateDesc(any(), any()))
+            .thenReturn(Optional.empty());
+        when(transactionRepository.sumSignedAmountUpTo(account, LocalDateTime.of(1970, 1, 1, 0, 0), cursor.createdAt(), cursor.id()))
+            .thenReturn(new BigDecimal("10.00"));
+        when(transactionRepository.findStatementPage(eq(account), eq(CREATED_TO), any(), any(), any(Limit.class)))
+            .thenReturn(List.of());
+
+        var statement = accountStatementService.getStatement(account, CREATED_TO, cursor, null);
+
+        assertEquals(new BigDecimal("10.00"), statement.openingBalance());
+        assertEquals(0, statement.items().size());
+    }
+
+    @Test
+    void getStatement_WithMoreEntriesThanPage_ShouldReturnNextCursorAndCapSize() {
+        var entries = List.of(
+            buildEntry(1L, TransactionType.CREDIT, "10.00"),
+            buildEntry(2L, TransactionType.CREDIT, "10.00"),
+            buildEntry(3L, TransactionType.CREDIT, "10.00"),
+            buildEntry(4L, TransactionType.CREDIT, "10.00"));
+
+        when(accountDailyBalanceRepository.findFirstByAccountAndBalanceDateLessThanOrderByBalanceDateDesc(any(), any()))
+            .thenReturn(Optional.empty());
+        when(transactionRepository.sumSignedAmountUpTo(any(), any(), any(), any())).thenReturn(BigDecimal.ZERO);
+        when(transactionRepository.findStatementPage(eq(account), eq(CREATED_TO), any(), any(), any(Limit.class)))
+            .thenReturn(entries);
+
+        var statement = accountStatementService.getStatement(account, CREATED_TO, cursor, 500);
+
+        verify(transactionRepository).findStatementPage(account, CREATED_TO, cursor.createdAt(), cursor.id(), Limit.of(4));
+        assertEquals(3, statement.items().size());
+        assertNotNull(statement.nextCursor());
+        assertEquals(new StatementCursorRecord(entries.get(2)), StatementCursorRecord.decode(statement.nextCursor()));
+    }
+
+    private StatementEntryRecord buildEntry(Long id, TransactionType type, String amount) {
+        return new StatementEntryRecord(
+            id, LocalDateTime.of(2025, 1, 10, 10, 0).plusMinutes(id), type,
+            TransactionPurpose.CHARGE_PAYMENT, new BigDecimal(amount), "98765432100", null);
+    }
+}
@@ -2,7 +2,9 @@ package br.com.nimblebaas.payment_gateway.services.account;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,14 +15,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import br.com.nimblebaas.payment_gateway.entities.account.Account;
 import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus;
 import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceType;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountBalanceUpdateService;
+import br.com.nimblebaas.payment_gateway.services.account.lock.AccountLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class HoldBalanceServiceTest {
@@ -29,7 +38,10 @@ class HoldBalanceServiceTest {
     private HoldBalanceRepository holdBalanceRepository;
 
     @Mock
-    private AccountService accountService;
+    private AccountBalanceUpdateService accountBalanceUpdateService;
+
+    @Spy
+    private AccountLockManager accountLockManager = new AccountLockManager(new SimpleMeterRegistry());
 
     @InjectMocks
     private HoldBalanceService holdBalanceService;
@@ -40,6 +52,10 @@ class HoldBalanceServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(accountLockManager, "stripes", 16);
+        ReflectionTestUtils.setField(accountLockManager, "timeoutMillis", 100L);
+        accountLockManager.init();
+
         user = new User();
         user.setCpf("12345678900");
         user.setEmail("john@example.com");
@@ -60,46 +76,81 @@ class HoldBalanceServiceTest {
     void createHold_ShouldCreateAndSaveHoldBalance() {
         BigDecimal holdAmount = new BigDecimal("200.00");
 
-        when(accountService.save(any(Account.class))).thenReturn(account);
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(true);
         when(holdBalanceRepository.save(any(HoldBalance.class))).thenReturn(holdBalance);
 
         HoldBalance result = holdBalanceService.createHold(account, holdAmount, HoldBalanceType.CHARGE_PAYMENT);
 
         assertNotNull(result);
-        assertEquals(holdAmount, account.getHoldBalance());
-        verify(accountService).save(account);
+        assertEquals(holdAmount, result.getAmount());
+        assertEquals(HoldBalanceStatus.PENDING, result.getStatus());
+        verify(accountBalanceUpdateService).update(account, BigDecimal.ZERO, holdAmount);
         verify(holdBalanceRepository).save(any(HoldBalance.class));
     }
 
     @Test
-    void confirmHold_ShouldConfirmHoldAndUpdateBalance() {
-        account.setHoldBalance(new BigDecimal("100.00"));
-        account.setTotalBalance(new BigDecimal("1000.00"));
+    void createHold_WithInsufficientBalance_ShouldThrowException() {
+        BigDecimal holdAmount = new BigDecimal("2000.00");
+
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(false);
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> holdBalanceService.createHold(account, holdAmount, HoldBalanceType.CHARGE_PAYMENT)
+        );
 
-        when(accountService.save(any(Account.class))).thenReturn(account);
+        assertEquals(BusinessRules.INSUFFICIENT_BALANCE.name(), exception.getErrorDTO().getReason());
+        verify(holdBalanceRepository, never()).save(any(HoldBalance.class));
+    }
+
+    @Test
+    void confirmHold_ShouldConfirmHoldAndUpdateBalance() {
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(true);
         when(holdBalanceRepository.save(any(HoldBalance.class))).thenReturn(holdBalance);
 
         holdBalanceService.confirmHold(holdBalance);
 
-        assertEquals(0, account.getHoldBalance().compareTo(BigDecimal.ZERO));
         assertEquals(HoldBalanceStatus.CONFIRMED, holdBalance.getStatus());
-        verify(accountService).makeWithdrawal(account, new BigDecimal("100.00"));
+        verify(accountBalanceUpdateService).update(account, new BigDecimal("-100.00"), new BigDecimal("-100.00"));
         verify(holdBalanceRepository).save(holdBalance);
     }
 
     @Test
-    void cancelHold_ShouldCancelHoldAndReleaseBalance() {
-        account.setHoldBalance(new BigDecimal("100.00"));
+    void confirmHold_WithInsufficientBalance_ShouldThrowException() {
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(false);
 
-        when(accountService.save(any(Account.class))).thenReturn(account);
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> holdBalanceService.confirmHold(holdBalance)
+        );
+
+        assertEquals(BusinessRules.INSUFFICIENT_BALANCE.name(), exception.getErrorDTO().getReason());
+        assertEquals(HoldBalanceStatus.PENDING, holdBalance.getStatus());
+    }
+
+    @Test
+    void cancelHold_ShouldCancelHoldAndReleaseBalance() {
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(true);
         when(holdBalanceRepository.save(any(HoldBalance.class))).thenReturn(holdBalance);
 
         holdBalanceService.cancelHold(holdBalance);
 
-        assertEquals(0, account.getHoldBalance().compareTo(BigDecimal.ZERO));
         assertEquals(HoldBalanceStatus.CANCELLED, holdBalance.getStatus());
-        verify(accountService).save(account);
+        verify(accountBalanceUpdateService).update(account, BigDecimal.ZERO, new BigDecimal("-100.00"));
         verify(holdBalanceRepository).save(holdBalance);
     }
-}
 
+    @Test
+    void cancelHold_WhenBalanceUpdateFails_ShouldThrowExceptionAndKeepHoldPending() {
+        when(accountBalanceUpdateService.update(any(Account.class), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(false);
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> holdBalanceService.cancelHold(holdBalance)
+        );
+
+        assertEquals(BusinessRules.INSUFFICIENT_BALANCE.name(), exception.getErrorDTO().getReason());
+        assertEquals(HoldBalanceStatus.PENDING, holdBalance.getStatus());
+        verify(holdBalanceRepository, never()).save(any(HoldBalance.class));
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.account.AccountConcurrencyMode;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+
+@DataJpaTest(showSql = false, properties = {
+    "app.account.concurrency.mode=ATOMIC",
+    "app.account.concurrency.max-retries=1000"
+})
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AccountBalanceUpdateService.class, AtomicAccountBalanceUpdater.class, OptimisticAccountBalanceUpdater.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountBalanceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountBalanceConcurrencyTest.class);
+
+    private static final int WRITERS = 64;
+    private static final int OPERATIONS_PER_WRITER = 25;
+
+    @Autowired
+    private AccountBalanceUpdateService accountBalanceUpdateService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @ParameterizedTest
+    @EnumSource(AccountConcurrencyMode.class)
+    void update_WithConcurrentDeposits_ShouldNotLoseUpdates(AccountConcurrencyMode mode) throws Exception {
+        ReflectionTestUtils.setField(accountBalanceUpdateService, "accountConcurrencyMode", mode);
+        var account = createAccount(mode, "deposit", BigDecimal.ZERO);
+        var amount = new BigDecimal("1.00");
+        var failures = new AtomicInteger();
+
+        var elapsed = runConcurrently(() -> {
+            for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                try {
+                    accountBalanceUpdateService.update(copyOf(account), amount, BigDecimal.ZERO);
+                } catch (BusinessRuleException e) {
+                    failures.incrementAndGet();
+                }
+            }
+        });
+
+        var operations = WRITERS * OPERATIONS_PER_WRITER;
+        var finalBalance = accountRepository.findById(account.getId()).orElseThrow().getTotalBalance();
+        log.info("Modo {}: {} depósitos concorrentes em {} ms ({} ops/s)",
+            mode, operations, elapsed, operations * 1000L / Math.max(elapsed, 1));
+
+        assertEquals(0, failures.get());
+        assertEquals(0, amount.multiply(BigDecimal.valueOf(operations)).compareTo(finalBalance));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccountConcurrencyMode.class)
+    void update_WithConcurrentWithdrawals_ShouldNeverOverdraw(AccountConcurrencyMode mode) throws Exception {
+        ReflectionTestUtils.setField(accountBalanceUpdateService, "accountConcurrencyMode", mode);
+        var account = createAccount(mode, "withdrawal", new BigDecimal("100.00"));
+        var amount = new BigDecimal("-10.00");
+        var accepted = new AtomicInteger();
+
+        runConcurrently(() -> {
+            if (accountBalanceUpdateService.update(copyOf(account), amount, BigDecimal.ZERO))
+                accepted.incrementAndGet();
+        });
+
+        var finalBalance = accountRepository.findById(account.getId()).orElseThrow().getTotalBalance();
+
+        assertEquals(10, accepted.get());
+        assertEquals(0, BigDecimal.ZERO.compareTo(finalBalance));
+    }
+
+    private Account createAccount(AccountConcurrencyMode mode, String scenario, BigDecimal totalBalance) {
+        var user = new User();
+        user.setName("Concurrency " + scenario);
+        user.setCpf(scenario + "-" + mode.name());
+        user.setEmail(scenario + "-" + mode.name().toLowerCase() + "@example.com");
+        user.setPassword("password");
+        user = userRepository.save(user);
+
+        var account = new Account(user);
+        account.setTotalBalance(totalBalance);
+        return accountRepository.save(account);
+    }
+
+    private Account copyOf(Account account) {
+        var copy = new Account(account.getUser());
+        ReflectionTestUtils.setField(copy, "id", account.getId());
+        return copy;
+    }
+
+    private long runConcurrently(Runnable writer) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        var start = new CountDownLatch(1);
+        var futures = new ArrayList<Future<?>>();
+
+        try {
+            for (int i = 0; i < WRITERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    writer.run();
+                    return null;
+                }));
+            }
+
+            var startedAt = System.nanoTime();
+            start.countDown();
+            for (var future : futures)
+                future.get(2, TimeUnit.MINUTES);
+
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountBalanceDeltaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBalanceDeltaAggregatorTest {
+
+    @Mock
+    private AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+
+    @Mock
+    private AccountBalanceDeltaService accountBalanceDeltaService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountBalanceDeltaAggregator accountBalanceDeltaAggregator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accountBalanceDeltaAggregator = new AccountBalanceDeltaAggregator(accountBalanceDeltaRepository, accountBalanceDeltaService, meterRegistry);
+        ReflectionTestUtils.setField(accountBalanceDeltaAggregator, "maxAccounts", 10);
+        accountBalanceDeltaAggregator.init();
+    }
+
+    @Test
+    void aggregate_ShouldFoldEveryPendingAccount() {
+        when(accountBalanceDeltaRepository.findPendingAccountIds(any(Pageable.class))).thenReturn(List.of(1L, 2L));
+
+        accountBalanceDeltaAggregator.aggregate();
+
+        verify(accountBalanceDeltaRepository).findPendingAccountIds(PageRequest.of(0, 10));
+        verify(accountBalanceDeltaService).fold(1L);
+        verify(accountBalanceDeltaService).fold(2L);
+        assertEquals(2.0, meterRegistry.get("account.credit.aggregation.accounts").tag("result", "folded").counter().count());
+    }
+
+    @Test
+    void aggregate_WhenOneAccountFails_ShouldKeepFoldingOthers() {
+        when(accountBalanceDeltaRepository.findPendingAccountIds(any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(accountBalanceDeltaService.fold(1L)).thenThrow(new IllegalStateException("falha"));
+        when(accountBalanceDeltaService.fold(2L)).thenReturn(BigDecimal.TEN);
+
+        accountBalanceDeltaAggregator.aggregate();
+
+        verify(accountBalanceDeltaService).fold(2L);
+        assertEquals(1.0, meterRegistry.get("account.credit.aggregation.accounts").tag("result", "failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.credit.aggregation.accounts").tag("result", "folded").counter().count());
+        assertEquals(1L, meterRegistry.get("account.credit.aggregation").timer().count());
+    }
+}
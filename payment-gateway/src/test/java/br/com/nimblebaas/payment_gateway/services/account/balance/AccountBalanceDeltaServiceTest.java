@@ -0,0 +1,74 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.AccountBalanceDelta;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountBalanceDeltaRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBalanceDeltaServiceTest {
+
+    @Mock
+    private AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @InjectMocks
+    private AccountBalanceDeltaService accountBalanceDeltaService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(accountBalanceDeltaService, "batchSize", 500);
+    }
+
+    @Test
+    void append_ShouldSaveDeltaForAccount() {
+        var account = new Account(new User());
+
+        accountBalanceDeltaService.append(account, new BigDecimal("25.00"));
+
+        var captor = ArgumentCaptor.forClass(AccountBalanceDelta.class);
+        verify(accountBalanceDeltaRepository).save(captor.capture());
+        assertEquals(account, captor.getValue().getAccount());
+        assertEquals(new BigDecimal("25.00"), captor.getValue().getAmount());
+    }
+
+    @Test
+    void fold_WithPendingDeltas_ShouldAddClaimedAmountToBalance() {
+        when(accountBalanceDeltaRepository.claimPendingAmount(1L, 500)).thenReturn(new BigDecimal("75.00"));
+
+        var folded = accountBalanceDeltaService.fold(1L);
+
+        assertEquals(new BigDecimal("75.00"), folded);
+        verify(accountRepository).addBalances(1L, new BigDecimal("75.00"), BigDecimal.ZERO);
+    }
+
+    @Test
+    void fold_WithoutPendingDeltas_ShouldNotTouchAccount() {
+        when(accountBalanceDeltaRepository.claimPendingAmount(1L, 500)).thenReturn(BigDecimal.ZERO);
+
+        accountBalanceDeltaService.fold(1L);
+
+        verify(accountRepository, never()).addBalances(anyLong(), any(), any());
+    }
+}
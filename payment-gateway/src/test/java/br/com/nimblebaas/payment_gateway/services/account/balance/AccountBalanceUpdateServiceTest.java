@@ -0,0 +1,116 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceSnapshotRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.account.AccountConcurrencyMode;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBalanceUpdateServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private AccountBalanceUpdateService accountBalanceUpdateService;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        var optimisticAccountBalanceUpdater = new OptimisticAccountBalanceUpdater(accountRepository);
+        ReflectionTestUtils.setField(optimisticAccountBalanceUpdater, "maxRetries", 2);
+
+        accountBalanceUpdateService = new AccountBalanceUpdateService(
+            List.of(new AtomicAccountBalanceUpdater(accountRepository), optimisticAccountBalanceUpdater),
+            accountRepository,
+            entityManager);
+        ReflectionTestUtils.setField(accountBalanceUpdateService, "accountConcurrencyMode", AccountConcurrencyMode.ATOMIC);
+
+        account = new Account(new User());
+        ReflectionTestUtils.setField(account, "id", 1L);
+        account.setTotalBalance(new BigDecimal("100.00"));
+    }
+
+    @Test
+    void update_WithAtomicMode_ShouldApplyDeltasAndRefreshDetachedAccount() {
+        when(accountRepository.addBalances(1L, new BigDecimal("50.00"), BigDecimal.ZERO)).thenReturn(1);
+        when(entityManager.contains(account)).thenReturn(false);
+        when(accountRepository.findBalanceSnapshotById(1L))
+            .thenReturn(Optional.of(new AccountBalanceSnapshotRecord(new BigDecimal("150.00"), BigDecimal.ZERO, 1L)));
+
+        assertTrue(accountBalanceUpdateService.update(account, new BigDecimal("50.00"), BigDecimal.ZERO));
+
+        assertEquals(new BigDecimal("150.00"), account.getTotalBalance());
+        assertEquals(1L, account.getVersion());
+    }
+
+    @Test
+    void update_WithManagedAccount_ShouldRefreshFromPersistenceContext() {
+        when(accountRepository.addBalances(1L, new BigDecimal("50.00"), BigDecimal.ZERO)).thenReturn(1);
+        when(entityManager.contains(account)).thenReturn(true);
+
+        assertTrue(accountBalanceUpdateService.update(account, new BigDecimal("50.00"), BigDecimal.ZERO));
+
+        verify(entityManager).refresh(account);
+        verify(accountRepository, never()).findBalanceSnapshotById(anyLong());
+    }
+
+    @Test
+    void update_WhenUpdateIsRejected_ShouldNotTouchAccount() {
+        when(accountRepository.addBalances(1L, new BigDecimal("-500.00"), BigDecimal.ZERO)).thenReturn(0);
+
+        assertFalse(accountBalanceUpdateService.update(account, new BigDecimal("-500.00"), BigDecimal.ZERO));
+
+        assertEquals(new BigDecimal("100.00"), account.getTotalBalance());
+        verify(entityManager, never()).refresh(any());
+    }
+
+    @Test
+    void update_WithOptimisticMode_ShouldUseVersionedUpdate() {
+        ReflectionTestUtils.setField(accountBalanceUpdateService, "accountConcurrencyMode", AccountConcurrencyMode.OPTIMISTIC);
+        when(accountRepository.findBalanceSnapshotById(1L))
+            .thenReturn(Optional.of(new AccountBalanceSnapshotRecord(new BigDecimal("100.00"), BigDecimal.ZERO, 0L)));
+        when(accountRepository.updateBalancesIfVersionMatches(1L, new BigDecimal("150.00"), BigDecimal.ZERO, 0L)).thenReturn(1);
+        when(entityManager.contains(account)).thenReturn(true);
+
+        assertTrue(accountBalanceUpdateService.update(account, new BigDecimal("50.00"), BigDecimal.ZERO));
+
+        verify(accountRepository, never()).addBalances(anyLong(), any(), any());
+    }
+
+    @Test
+    void update_WithoutResponsibleUpdater_ShouldThrowException() {
+        ReflectionTestUtils.setField(accountBalanceUpdateService, "accountConcurrencyMode", null);
+
+        assertThrows(
+            IllegalStateException.class,
+            () -> accountBalanceUpdateService.update(account, new BigDecimal("50.00"), BigDecimal.ZERO)
+        );
+    }
+}
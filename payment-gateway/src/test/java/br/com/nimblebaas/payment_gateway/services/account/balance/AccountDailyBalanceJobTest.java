@@ -0,0 +1,92 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AccountDailyBalanceJobTest {
+
+    private static final LocalDate BALANCE_DATE = LocalDate.of(2025, 1, 10);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountDailyBalanceService accountDailyBalanceService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountDailyBalanceJob accountDailyBalanceJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accountDailyBalanceJob = new AccountDailyBalanceJob(accountRepository, accountDailyBalanceService, meterRegistry);
+        ReflectionTestUtils.setField(accountDailyBalanceJob, "parallelism", 2);
+        ReflectionTestUtils.setField(accountDailyBalanceJob, "partitionSize", 1000);
+        ReflectionTestUtils.setField(accountDailyBalanceJob, "settlementLagMinutes", 15L);
+        accountDailyBalanceJob.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountDailyBalanceJob.shutdown();
+    }
+
+    @Test
+    void rollForward_ShouldSplitAccountIdsIntoPartitions() {
+        when(accountRepository.findMaxId()).thenReturn(2500L);
+        when(accountRepository.findIdsBetween(1L, 1000L)).thenReturn(List.of(1L, 2L));
+        when(accountRepository.findIdsBetween(1001L, 2000L)).thenReturn(List.of());
+        when(accountRepository.findIdsBetween(2001L, 3000L)).thenReturn(List.of(2500L));
+        when(accountDailyBalanceService.rollForward(anyLong(), any(LocalDate.class))).thenReturn(2);
+
+        accountDailyBalanceJob.rollForward(BALANCE_DATE);
+
+        verify(accountDailyBalanceService).rollForward(1L, BALANCE_DATE);
+        verify(accountDailyBalanceService).rollForward(2L, BALANCE_DATE);
+        verify(accountDailyBalanceService).rollForward(2500L, BALANCE_DATE);
+        assertEquals(3.0, meterRegistry.get("account.daily-balance.accounts").tag("result", "rolled").counter().count());
+        assertEquals(6.0, meterRegistry.get("account.daily-balance.snapshots").counter().count());
+    }
+
+    @Test
+    void rollForward_WhenOneAccountFails_ShouldKeepRollingOthers() {
+        when(accountRepository.findMaxId()).thenReturn(2L);
+        when(accountRepository.findIdsBetween(1L, 1000L)).thenReturn(List.of(1L, 2L));
+        when(accountDailyBalanceService.rollForward(1L, BALANCE_DATE)).thenThrow(new IllegalStateException("falha"));
+        when(accountDailyBalanceService.rollForward(2L, BALANCE_DATE)).thenReturn(1);
+
+        accountDailyBalanceJob.rollForward(BALANCE_DATE);
+
+        assertEquals(1.0, meterRegistry.get("account.daily-balance.accounts").tag("result", "failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.daily-balance.accounts").tag("result", "rolled").counter().count());
+    }
+
+    @Test
+    void run_WithoutAccounts_ShouldRecordRunWithoutPartitions() {
+        when(accountRepository.findMaxId()).thenReturn(0L);
+
+        accountDailyBalanceJob.run();
+
+        verify(accountRepository, never()).findIdsBetween(anyLong(), anyLong());
+        assertEquals(1L, meterRegistry.get("account.daily-balance.run").timer().count());
+    }
+}
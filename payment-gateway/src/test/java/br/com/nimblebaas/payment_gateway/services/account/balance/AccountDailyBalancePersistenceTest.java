@@ -0,0 +1,178 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.AccountDailyBalance;
+import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
+import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceType;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountDailyBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AccountDailyBalanceService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountDailyBalancePersistenceTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate SECOND_DAY = FIRST_DAY.plusDays(1);
+    private static final LocalDate THIRD_DAY = FIRST_DAY.plusDays(2);
+
+    @Autowired
+    private AccountDailyBalanceService accountDailyBalanceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private HoldBalanceRepository holdBalanceRepository;
+
+    @Autowired
+    private AccountDailyBalanceRepository accountDailyBalanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String suffix;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString();
+        account = accountRepository.save(new Account(createUser("party")));
+
+        createTransaction(TransactionType.CREDIT, "100", TransactionStatus.SUCCESS, FIRST_DAY.atTime(9, 0));
+        createTransaction(TransactionType.DEBIT, "30", TransactionStatus.SUCCESS, FIRST_DAY.atTime(18, 0));
+        createTransaction(TransactionType.CREDIT, "500", TransactionStatus.FAILED, FIRST_DAY.atTime(19, 0));
+        createTransaction(TransactionType.CREDIT, "45", TransactionStatus.SUCCESS, THIRD_DAY.atTime(10, 0));
+        createTransaction(TransactionType.DEBIT, "5", TransactionStatus.SUCCESS, THIRD_DAY.atTime(20, 0));
+
+        createHold("30", HoldBalanceStatus.CONFIRMED, FIRST_DAY.atTime(17, 0), SECOND_DAY.atTime(8, 0));
+        createHold("12", HoldBalanceStatus.PENDING, THIRD_DAY.atTime(11, 0), THIRD_DAY.atTime(11, 0));
+    }
+
+    @Test
+    void rollForward_ShouldResumeFromLastSnapshot() {
+        assertEquals(2, accountDailyBalanceService.rollForward(account.getId(), SECOND_DAY));
+        assertEquals(1, accountDailyBalanceService.rollForward(account.getId(), THIRD_DAY));
+        assertEquals(0, accountDailyBalanceService.rollForward(account.getId(), THIRD_DAY));
+
+        var snapshots = accountDailyBalanceRepository.findAll().stream()
+            .filter(snapshot -> snapshot.getAccount().getId().equals(account.getId()))
+            .sorted((left, right) -> left.getBalanceDate().compareTo(right.getBalanceDate()))
+            .toList();
+
+        assertEquals(List.of(FIRST_DAY, SECOND_DAY, THIRD_DAY), snapshots.stream().map(AccountDailyBalance::getBalanceDate).toList());
+        assertEquals(List.of("70.00", "70.00", "110.00"), snapshots.stream().map(snapshot -> normalize(snapshot.getClosingBalance())).toList());
+        assertEquals(List.of("30.00", "0.00", "12.00"), snapshots.stream().map(snapshot -> normalize(snapshot.getClosingHoldBalance())).toList());
+    }
+
+    @Test
+    void rollForward_WhenTransactionCompletesAfterItsDayWasSnapshotted_ShouldCountIt() {
+        var lateTransaction = createTransaction(TransactionType.CREDIT, "25", TransactionStatus.PENDING, FIRST_DAY.atTime(20, 0));
+        assertEquals(2, accountDailyBalanceService.rollForward(account.getId(), SECOND_DAY));
+
+        jdbcTemplate.update("update transactions set status = 'SUCCESS', updated_at = ? where id = ?", LocalDateTime.now(), lateTransaction.getId());
+        assertEquals(3, accountDailyBalanceService.rollForward(account.getId(), THIRD_DAY));
+
+        var snapshots = accountDailyBalanceRepository.findAll().stream()
+            .filter(snapshot -> snapshot.getAccount().getId().equals(account.getId()))
+            .sorted((left, right) -> left.getBalanceDate().compareTo(right.getBalanceDate()))
+            .toList();
+
+        assertEquals(List.of(FIRST_DAY, SECOND_DAY, THIRD_DAY), snapshots.stream().map(AccountDailyBalance::getBalanceDate).toList());
+        assertEquals(List.of("95.00", "95.00", "135.00"), snapshots.stream().map(snapshot -> normalize(snapshot.getClosingBalance())).toList());
+        assertEquals("135.00", normalize(accountDailyBalanceService.getTotalBalanceAt(account, THIRD_DAY.atTime(23, 0))));
+    }
+
+    @Test
+    void getBalanceAt_WithSnapshots_ShouldMatchFullHistorySum() {
+        var instants = List.of(
+            FIRST_DAY.atTime(12, 0),
+            SECOND_DAY.atStartOfDay(),
+            SECOND_DAY.atTime(12, 0),
+            THIRD_DAY.atTime(10, 30),
+            THIRD_DAY.atTime(23, 0));
+        var expected = instants.stream().map(at -> format(accountDailyBalanceService.getBalanceAt(account, at))).toList();
+
+        accountDailyBalanceService.rollForward(account.getId(), SECOND_DAY);
+
+        assertEquals(expected, instants.stream().map(at -> format(accountDailyBalanceService.getBalanceAt(account, at))).toList());
+        assertEquals(List.of("100.00/0.00", "70.00/30.00", "70.00/0.00", "115.00/0.00", "110.00/12.00"), expected);
+    }
+
+    private String format(AccountBalanceRecord balance) {
+        return normalize(balance.totalBalance()) + "/" + normalize(balance.holdBalance());
+    }
+
+    private String normalize(BigDecimal value) {
+        return value.setScale(2).toPlainString();
+    }
+
+    private Transaction createTransaction(TransactionType type, String amount, TransactionStatus status, LocalDateTime createdAt) {
+        var transaction = transactionRepository.save(Transaction.builder()
+            .partyAccount(account)
+            .counterpartAccount(account)
+            .amount(new BigDecimal(amount))
+            .type(type)
+            .purpose(TransactionPurpose.DEPOSIT)
+            .status(status)
+            .build());
+        jdbcTemplate.update("update transactions set created_at = ?, updated_at = ? where id = ?", createdAt, createdAt, transaction.getId());
+        return transaction;
+    }
+
+    private void createHold(String amount, HoldBalanceStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        var holdBalance = holdBalanceRepository.save(HoldBalance.builder()
+            .account(account)
+            .amount(new BigDecimal(amount))
+            .type(HoldBalanceType.CHARGE_PAYMENT)
+            .status(status)
+            .build());
+        jdbcTemplate.update("update hold_balances set created_at = ?, updated_at = ? where id = ?", createdAt, updatedAt, holdBalance.getId());
+    }
+
+    private User createUser(String name) {
+        var user = new User();
+        user.setName(name);
+        user.setCpf(name + "-" + suffix);
+        user.setEmail(name + "-" + suffix + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,190 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.DailyAmountRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.AccountDailyBalance;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountDailyBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AccountDailyBalanceServiceTest {
+
+    private static final LocalDate SNAPSHOT_DATE = LocalDate.of(2025, 1, 5);
+    private static final LocalDate BALANCE_DATE = LocalDate.of(2025, 1, 10);
+
+    @Mock
+    private AccountDailyBalanceRepository accountDailyBalanceRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private HoldBalanceRepository holdBalanceRepository;
+
+    @InjectMocks
+    private AccountDailyBalanceService accountDailyBalanceService;
+
+    private Account account;
+    private AccountDailyBalance snapshot;
+
+    @BeforeEach
+    void setUp() {
+        account = new Account(new User());
+        snapshot = AccountDailyBalance.builder()
+            .account(account)
+            .balanceDate(SNAPSHOT_DATE)
+            .closingBalance(new BigDecimal("100"))
+            .closingHoldBalance(new BigDecimal("10"))
+            .updatedAt(SNAPSHOT_DATE.plusDays(1).atTime(0, 30))
+            .build();
+        ReflectionTestUtils.setField(accountDailyBalanceService, "settlementLagMinutes", 15L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rollForward_ShouldWriteSnapshotForEachActiveDayAndBalanceDate() {
+        var from = SNAPSHOT_DATE.plusDays(1).atStartOfDay();
+        var to = BALANCE_DATE.plusDays(1).atStartOfDay();
+
+        when(accountRepository.getReferenceById(1L)).thenReturn(account);
+        when(accountDailyBalanceRepository.findFirstByAccountOrderByBalanceDateDesc(account)).thenReturn(Optional.of(snapshot));
+        when(transactionRepository.sumSignedAmountByDay(account, from, to)).thenReturn(List.of(
+            new DailyAmountRecord(LocalDate.of(2025, 1, 6), new BigDecimal("50")),
+            new DailyAmountRecord(LocalDate.of(2025, 1, 8), new BigDecimal("-30"))));
+        when(holdBalanceRepository.sumCreatedAmountByDay(account, from, to)).thenReturn(List.of(
+            new DailyAmountRecord(LocalDate.of(2025, 1, 7), new BigDecimal("20"))));
+        when(holdBalanceRepository.sumReleasedAmountByDay(account, from, to)).thenReturn(List.of(
+            new DailyAmountRecord(LocalDate.of(2025, 1, 8), new BigDecimal("25"))));
+
+        var written = accountDailyBalanceService.rollForward(1L, BALANCE_DATE);
+
+        ArgumentCaptor<List<AccountDailyBalance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(accountDailyBalanceRepository).saveAll(captor.capture());
+        var snapshots = captor.getValue();
+        assertEquals(4, written);
+        assertEquals(
+            List.of(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 7), LocalDate.of(2025, 1, 8), BALANCE_DATE),
+            snapshots.stream().map(AccountDailyBalance::getBalanceDate).toList());
+        assertEquals(
+            List.of(new BigDecimal("150"), new BigDecimal("150"), new BigDecimal("120"), new BigDecimal("120")),
+            snapshots.stream().map(AccountDailyBalance::getClosingBalance).toList());
+        assertEquals(
+            List.of(new BigDecimal("10"), new BigDecimal("30"), new BigDecimal("5"), new BigDecimal("5")),
+            snapshots.stream().map(AccountDailyBalance::getClosingHoldBalance).toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rollForward_WhenTransactionCompletedLateOnSnapshottedDay_ShouldRollAgainFromThatDay() {
+        var lateDay = LocalDate.of(2025, 1, 3);
+        var previousSnapshot = AccountDailyBalance.builder()
+            .account(account)
+            .balanceDate(LocalDate.of(2025, 1, 2))
+            .closingBalance(new BigDecimal("80"))
+            .closingHoldBalance(BigDecimal.ZERO)
+            .build();
+        var from = lateDay.atStartOfDay();
+        var to = BALANCE_DATE.plusDays(1).atStartOfDay();
+
+        when(accountRepository.getReferenceById(1L)).thenReturn(account);
+        when(accountDailyBalanceRepository.findFirstByAccountOrderByBalanceDateDesc(account)).thenReturn(Optional.of(snapshot));
+        when(transactionRepository.findFirstCreatedAtCompletedSince(
+                account,
+                SNAPSHOT_DATE.plusDays(1).atStartOfDay(),
+                SNAPSHOT_DATE.plusDays(1).atTime(0, 15)))
+            .thenReturn(Optional.of(lateDay.atTime(14, 0)));
+        when(accountDailyBalanceRepository.findFirstByAccountAndBalanceDateLessThanOrderByBalanceDateDesc(account, lateDay))
+            .thenReturn(Optional.of(previousSnapshot));
+        when(transactionRepository.sumSignedAmountByDay(account, from, to)).thenReturn(List.of(
+            new DailyAmountRecord(lateDay, new BigDecimal("40"))));
+        when(holdBalanceRepository.sumCreatedAmountByDay(account, from, to)).thenReturn(List.of());
+        when(holdBalanceRepository.sumReleasedAmountByDay(account, from, to)).thenReturn(List.of());
+
+        var written = accountDailyBalanceService.rollForward(1L, BALANCE_DATE);
+
+        ArgumentCaptor<List<AccountDailyBalance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(accountDailyBalanceRepository).deleteFromBalanceDate(account, lateDay);
+        verify(accountDailyBalanceRepository).saveAll(captor.capture());
+        assertEquals(2, written);
+        assertEquals(
+            List.of(lateDay, BALANCE_DATE),
+            captor.getValue().stream().map(AccountDailyBalance::getBalanceDate).toList());
+        assertEquals(
+            List.of(new BigDecimal("120"), new BigDecimal("120")),
+            captor.getValue().stream().map(AccountDailyBalance::getClosingBalance).toList());
+    }
+
+    @Test
+    void rollForward_WithoutPreviousSnapshot_ShouldStartFromBeginningOfHistory() {
+        var from = LocalDateTime.of(1970, 1, 1, 0, 0);
+        var to = BALANCE_DATE.plusDays(1).atStartOfDay();
+
+        when(accountRepository.getReferenceById(1L)).thenReturn(account);
+        when(accountDailyBalanceRepository.findFirstByAccountOrderByBalanceDateDesc(account)).thenReturn(Optional.empty());
+        when(transactionRepository.sumSignedAmountByDay(account, from, to)).thenReturn(List.of());
+        when(holdBalanceRepository.sumCreatedAmountByDay(account, from, to)).thenReturn(List.of());
+        when(holdBalanceRepository.sumReleasedAmountByDay(account, from, to)).thenReturn(List.of());
+
+        var written = accountDailyBalanceService.rollForward(1L, BALANCE_DATE);
+
+        assertEquals(1, written);
+    }
+
+    @Test
+    void rollForward_WhenAlreadyUpToDate_ShouldNotWriteSnapshots() {
+        snapshot.setBalanceDate(BALANCE_DATE);
+
+        when(accountRepository.getReferenceById(1L)).thenReturn(account);
+        when(accountDailyBalanceRepository.findFirstByAccountOrderByBalanceDateDesc(account)).thenReturn(Optional.of(snapshot));
+
+        var written = accountDailyBalanceService.rollForward(1L, BALANCE_DATE);
+
+        assertEquals(0, written);
+        verify(transactionRepository, never()).sumSignedAmountByDay(any(), any(), any());
+        verify(accountDailyBalanceRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void getBalanceAt_ShouldAddTailAfterSnapshot() {
+        var at = LocalDateTime.of(2025, 1, 7, 12, 0);
+        var from = SNAPSHOT_DATE.plusDays(1).atStartOfDay();
+
+        when(accountDailyBalanceRepository.findFirstByAccountAndBalanceDateLessThanOrderByBalanceDateDesc(account, at.toLocalDate()))
+            .thenReturn(Optional.of(snapshot));
+        when(transactionRepository.sumSignedAmountUpTo(account, from, at, 0L)).thenReturn(new BigDecimal("15"));
+        when(holdBalanceRepository.sumCreatedAmount(account, from, at)).thenReturn(new BigDecimal("7"));
+        when(holdBalanceRepository.sumReleasedAmount(account, from, at)).thenReturn(new BigDecimal("10"));
+
+        var balance = accountDailyBalanceService.getBalanceAt(account, at);
+
+        assertEquals(new BigDecimal("115"), balance.totalBalance());
+        assertEquals(new BigDecimal("7"), balance.holdBalance());
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.nimblebaas.payment_gateway.services.account.balance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceSnapshotRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.account.AccountConcurrencyMode;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticAccountBalanceUpdaterTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @InjectMocks
+    private OptimisticAccountBalanceUpdater optimisticAccountBalanceUpdater;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(optimisticAccountBalanceUpdater, "maxRetries", 2);
+
+        account = new Account(new User());
+        ReflectionTestUtils.setField(account, "id", 1L);
+    }
+
+    @Test
+    void isResponsible_ShouldOnlyAcceptOptimisticMode() {
+        assertTrue(optimisticAccountBalanceUpdater.isResponsible(AccountConcurrencyMode.OPTIMISTIC));
+        assertFalse(optimisticAccountBalanceUpdater.isResponsible(AccountConcurrencyMode.ATOMIC));
+    }
+
+    @Test
+    void update_WhenVersionMatches_ShouldWriteNewBalances() {
+        when(accountRepository.findBalanceSnapshotById(1L))
+            .thenReturn(Optional.of(new AccountBalanceSnapshotRecord(new BigDecimal("100.00"), BigDecimal.ZERO, 3L)));
+        when(accountRepository.updateBalancesIfVersionMatches(1L, new BigDecimal("150.00"), BigDecimal.ZERO, 3L))
+            .thenReturn(1);
+
+        assertTrue(optimisticAccountBalanceUpdater.update(account, new BigDecimal("50.00"), BigDecimal.ZERO));
+    }
+
+    @Test
+    void update_WhenVersionConflicts_ShouldRetryWithFreshSnapshot() {
+        when(accountRepository.findBalanceSnapshotById(1L))
+            .thenReturn(Optional.of(new AccountBalanceSnapshotRecord(new BigDecimal("100.00"), BigDecimal.ZERO, 3L)))
+            .thenReturn(Optional.of(new AccountBalanceSnapshotRecord(new BigDecimal("120.00"), BigDecimal.ZERO, 4L)));
+        when(accountRepository.updateBalancesIfVersionMatches(1L, new BigDecimal("150.00"), BigDecimal.ZERO, 3L))
+            .thenReturn(0);
+        when(accountRepository.updateBalancesIfVersionMatches(1L, new BigDecimal("170.00"), BigDecimal.ZERO, 4L))
+            .thenReturn(1);
+
+        assertTrue(optimisticAccountBalanceUpdater.update(account, new BigDecimal("50.00"), BigDecimal.ZERO));
+        verify(accountRepository, times(2)).findBalanceSnapshotById(1L);
+    }
+
+    @Test
+    void update_WhenBalanceIsInsufficient_ShouldReturnFalseWithoutWriting() {
+        when(accountRepository.findBalanceSnapshotById(1L))
+            .thenReturn(Optional.of(new AccountBalanceSnapshotRecord(new BigDecimal("100.00"), new BigDecimal("80.00"), 3L)));
+
+        assertFalse(optimisticAccountBalanceUpdater.update(account, BigDecimal.ZERO, new BigDecimal("50.00")));
+        verify(accountRepository, never()).updateBalancesIfVersionMatches(anyLong(), any(), any(), anyLong());
+    }
+
+    @Test
+    void update_WhenRetriesAreExhausted_ShouldThrowConflict() {
+        when(accountRepository.findBalanceSnapshotById(1L))
+            .thenReturn(Optional.of(new AccountBalanceSnapshotRecord(new BigDecimal("100.00"), BigDecimal.ZERO, 3L)));
+        when(accountRepository.updateBalancesIfVersionMatches(anyLong(), any(), any(), anyLong())).thenReturn(0);
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> optimisticAccountBalanceUpdater.update(account, new BigDecimal("50.00"), BigDecimal.ZERO)
+        );
+
+        assertEquals(BusinessRules.ACCOUNT_CONCURRENT_UPDATE.name(), exception.getErrorDTO().getReason());
+        assertEquals(HttpStatus.CONFLICT, exception.getErrorDTO().getStatus());
+        verify(accountRepository, times(3)).updateBalancesIfVersionMatches(anyLong(), any(), any(), anyLong());
+    }
+
+    @Test
+    void update_WhenAccountDoesNotExist_ShouldThrowException() {
+        when(accountRepository.findBalanceSnapshotById(1L)).thenReturn(Optional.empty());
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> optimisticAccountBalanceUpdater.update(account, new BigDecimal("50.00"), BigDecimal.ZERO)
+        );
+
+        assertEquals(BusinessRules.ACCOUNT_NOT_FOUND.name(), exception.getErrorDTO().getReason());
+    }
+}
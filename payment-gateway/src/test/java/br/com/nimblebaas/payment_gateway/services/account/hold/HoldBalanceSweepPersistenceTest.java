@@ -0,0 +1,111 @@
+package br.com.nimblebaas.payment_gateway.services.account.hold;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceType;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HoldBalanceSweepPersistenceTest {
+
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(1990, 1, 1, 0, 0);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private HoldBalanceRepository holdBalanceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> expiredIds;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("update hold_balances set status = 'CANCELLED' where created_at < ?", EXPIRED_AT.plusDays(1));
+        var account = accountRepository.save(new Account(createUser()));
+
+        var holdBalances = holdBalanceRepository.saveAll(IntStream.range(0, 4).mapToObj(index -> HoldBalance.builder()
+            .account(account)
+            .amount(BigDecimal.ONE)
+            .type(HoldBalanceType.CHARGE_PAYMENT)
+            .status(index == 3 ? HoldBalanceStatus.CONFIRMED : HoldBalanceStatus.PENDING)
+            .build()).toList());
+
+        expiredIds = holdBalances.stream().map(HoldBalance::getId).toList();
+        IntStream.range(0, holdBalances.size()).forEach(index -> jdbcTemplate.update(
+            "update hold_balances set created_at = ? where id = ?", EXPIRED_AT.plusMinutes(index), expiredIds.get(index)));
+    }
+
+    @Test
+    void findExpiredPending_ShouldPageOldestPendingHoldsFirst() {
+        var firstPage = holdBalanceRepository.findExpiredPending(EXPIRED_AT.plusDays(1), MIN_CREATED_AT, 0L, Limit.of(2));
+        var last = firstPage.get(firstPage.size() - 1);
+        var secondPage = holdBalanceRepository.findExpiredPending(EXPIRED_AT.plusDays(1), last.getCreatedAt(), last.getId(), Limit.of(2));
+
+        assertEquals(expiredIds.subList(0, 2), firstPage.stream().map(HoldBalance::getId).toList());
+        assertEquals(expiredIds.subList(2, 3), secondPage.stream().map(HoldBalance::getId).toList());
+    }
+
+    @Test
+    void claimPending_ShouldSkipHoldLockedByAnotherSweeper() {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+
+        var claimed = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList("select id from hold_balances where id = ? for update", Long.class, expiredIds.get(0));
+            return CompletableFuture.supplyAsync(() -> transactionTemplate.execute(otherStatus -> List.of(
+                holdBalanceRepository.claimPending(expiredIds.get(0)).isPresent(),
+                holdBalanceRepository.claimPending(expiredIds.get(1)).isPresent(),
+                holdBalanceRepository.claimPending(expiredIds.get(3)).isPresent()))).join();
+        });
+
+        assertEquals(List.of(false, true, false), claimed);
+    }
+
+    private User createUser() {
+        var suffix = UUID.randomUUID().toString();
+        var user = new User();
+        user.setName("hold-" + suffix);
+        user.setCpf(suffix);
+        user.setEmail(suffix + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.nimblebaas.payment_gateway.services.account.hold;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
+import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceType;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
+import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import br.com.nimblebaas.payment_gateway.services.account.HoldBalanceService;
+import br.com.nimblebaas.payment_gateway.services.transaction.TransactionService;
+
+@ExtendWith(MockitoExtension.class)
+class HoldBalanceSweepServiceTest {
+
+    private static final LocalDateTime EXPIRED_BEFORE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private HoldBalanceRepository holdBalanceRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private HoldBalanceService holdBalanceService;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @InjectMocks
+    private HoldBalanceSweepService holdBalanceSweepService;
+
+    private HoldBalance holdBalance;
+
+    @BeforeEach
+    void setUp() {
+        holdBalance = HoldBalance.builder()
+            .amount(BigDecimal.TEN)
+            .type(HoldBalanceType.CHARGE_PAYMENT)
+            .status(HoldBalanceStatus.PENDING)
+            .createdAt(EXPIRED_BEFORE.minusMinutes(10))
+            .build();
+        ReflectionTestUtils.setField(holdBalance, "id", 1L);
+
+        lenient().when(holdBalanceRepository.claimPending(1L)).thenReturn(Optional.of(holdBalance));
+        lenient().doAnswer(invocation -> {
+            holdBalance.setStatus(HoldBalanceStatus.CONFIRMED);
+            return null;
+        }).when(holdBalanceService).confirmHold(any());
+        lenient().doAnswer(invocation -> {
+            holdBalance.setStatus(HoldBalanceStatus.CANCELLED);
+            return null;
+        }).when(holdBalanceService).cancelHold(any());
+    }
+
+    @Test
+    void sweep_WhenTransactionSucceeded_ShouldConfirmHold() {
+        var transaction = createTransaction(TransactionStatus.SUCCESS);
+        when(transactionRepository.findFirstByHoldBalance(holdBalance)).thenReturn(Optional.of(transaction));
+
+        var swept = holdBalanceSweepService.sweep(1L);
+
+        verify(holdBalanceService).confirmHold(holdBalance);
+        verify(holdBalanceService, never()).cancelHold(any());
+        verifyNoInteractions(transactionService);
+        assertTrue(swept.isPresent());
+        assertEquals(HoldBalanceStatus.CONFIRMED, swept.get().status());
+        assertEquals(holdBalance.getCreatedAt(), swept.get().createdAt());
+    }
+
+    @Test
+    void sweep_WhenTransactionIsStillPending_ShouldReleaseHoldAndFailTransaction() {
+        var transaction = createTransaction(TransactionStatus.PENDING);
+        when(transactionRepository.findFirstByHoldBalance(holdBalance)).thenReturn(Optional.of(transaction));
+
+        var swept = holdBalanceSweepService.sweep(1L);
+
+        verify(holdBalanceService).cancelHold(holdBalance);
+        verify(transactionService).completeFailedTransaction(transaction, "Reserva de saldo expirada");
+        assertEquals(HoldBalanceStatus.CANCELLED, swept.get().status());
+    }
+
+    @Test
+    void sweep_WhenTransactionFailed_ShouldOnlyReleaseHold() {
+        var transaction = createTransaction(TransactionStatus.FAILED);
+        when(transactionRepository.findFirstByHoldBalance(holdBalance)).thenReturn(Optional.of(transaction));
+
+        holdBalanceSweepService.sweep(1L);
+
+        verify(holdBalanceService).cancelHold(holdBalance);
+        verifyNoInteractions(transactionService);
+    }
+
+    @Test
+    void sweep_WhenHoldHasNoTransaction_ShouldReleaseHold() {
+        when(transactionRepository.findFirstByHoldBalance(holdBalance)).thenReturn(Optional.empty());
+
+        var swept = holdBalanceSweepService.sweep(1L);
+
+        verify(holdBalanceService).cancelHold(holdBalance);
+        assertEquals(HoldBalanceStatus.CANCELLED, swept.get().status());
+    }
+
+    @Test
+    void sweep_WhenHoldWasAlreadyClaimedOrResolved_ShouldSkipIt() {
+        when(holdBalanceRepository.claimPending(1L)).thenReturn(Optional.empty());
+
+        var swept = holdBalanceSweepService.sweep(1L);
+
+        assertTrue(swept.isEmpty());
+        verifyNoInteractions(transactionRepository, holdBalanceService, transactionService);
+    }
+
+    @Test
+    void findExpiredPending_ShouldPageFromCursor() {
+        var cursorCreatedAt = EXPIRED_BEFORE.minusHours(1);
+        when(holdBalanceRepository.findExpiredPending(EXPIRED_BEFORE, cursorCreatedAt, 7L, Limit.of(100))).thenReturn(List.of(holdBalance));
+
+        var holdBalances = holdBalanceSweepService.findExpiredPending(EXPIRED_BEFORE, cursorCreatedAt, 7L, 100);
+
+        assertEquals(List.of(holdBalance), holdBalances);
+    }
+
+    private Transaction createTransaction(TransactionStatus status) {
+        return Transaction.builder()
+            .holdBalance(holdBalance)
+            .amount(BigDecimal.TEN)
+            .status(status)
+            .build();
+    }
+}
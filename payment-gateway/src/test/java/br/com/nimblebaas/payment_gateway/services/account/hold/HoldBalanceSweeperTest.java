@@ -0,0 +1,138 @@
+package br.com.nimblebaas.payment_gateway.services.account.hold;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.SweptHoldBalanceRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class HoldBalanceSweeperTest {
+
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Mock
+    private HoldBalanceSweepService holdBalanceSweepService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HoldBalanceSweeper holdBalanceSweeper;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        holdBalanceSweeper = new HoldBalanceSweeper(holdBalanceSweepService, meterRegistry);
+        ReflectionTestUtils.setField(holdBalanceSweeper, "expirationSeconds", 300L);
+        ReflectionTestUtils.setField(holdBalanceSweeper, "batchSize", 2);
+        ReflectionTestUtils.setField(holdBalanceSweeper, "maxBatches", 5);
+        holdBalanceSweeper.init();
+        createdAt = LocalDateTime.now().minusMinutes(10);
+    }
+
+    @Test
+    void sweep_ShouldPageBatchesUntilOneIsNotFull() {
+        var second = createHoldBalance(2L);
+        when(holdBalanceSweepService.findExpiredPending(any(LocalDateTime.class), eq(MIN_CREATED_AT), eq(0L), eq(2)))
+            .thenReturn(List.of(createHoldBalance(1L), second));
+        when(holdBalanceSweepService.findExpiredPending(any(LocalDateTime.class), eq(second.getCreatedAt()), eq(2L), eq(2)))
+            .thenReturn(List.of(createHoldBalance(3L)));
+        when(holdBalanceSweepService.sweep(1L)).thenReturn(swept(1L, HoldBalanceStatus.CONFIRMED));
+        when(holdBalanceSweepService.sweep(2L)).thenReturn(swept(2L, HoldBalanceStatus.CANCELLED));
+        when(holdBalanceSweepService.sweep(3L)).thenReturn(swept(3L, HoldBalanceStatus.CANCELLED));
+
+        var swept = holdBalanceSweeper.sweep();
+
+        assertEquals(3, swept);
+        assertEquals(1.0, meterRegistry.get("account.hold.sweeper.holds").tag("result", "confirmed").counter().count());
+        assertEquals(2.0, meterRegistry.get("account.hold.sweeper.holds").tag("result", "cancelled").counter().count());
+        var ageTimer = meterRegistry.get("account.hold.sweeper.age").tag("result", "cancelled").timer();
+        assertEquals(2L, ageTimer.count());
+        assertTrue(ageTimer.max(TimeUnit.MINUTES) >= 10);
+    }
+
+    @Test
+    void sweep_ShouldStopAfterMaxBatches() {
+        when(holdBalanceSweepService.findExpiredPending(any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), eq(2)))
+            .thenReturn(List.of(createHoldBalance(1L), createHoldBalance(2L)));
+        when(holdBalanceSweepService.sweep(anyLong())).thenReturn(swept(1L, HoldBalanceStatus.CANCELLED));
+
+        var swept = holdBalanceSweeper.sweep();
+
+        assertEquals(10, swept);
+        verify(holdBalanceSweepService, times(5)).findExpiredPending(any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), eq(2));
+    }
+
+    @Test
+    void sweep_WhenHoldFails_ShouldCountFailureAndResolveTheOthers() {
+        when(holdBalanceSweepService.findExpiredPending(any(LocalDateTime.class), eq(MIN_CREATED_AT), eq(0L), eq(2)))
+            .thenReturn(List.of(createHoldBalance(1L), createHoldBalance(2L)));
+        when(holdBalanceSweepService.findExpiredPending(any(LocalDateTime.class), eq(createdAt), eq(2L), eq(2)))
+            .thenReturn(List.of());
+        when(holdBalanceSweepService.sweep(1L)).thenThrow(new IllegalStateException("falha"));
+        when(holdBalanceSweepService.sweep(2L)).thenReturn(swept(2L, HoldBalanceStatus.CANCELLED));
+
+        var swept = holdBalanceSweeper.sweep();
+
+        assertEquals(1, swept);
+        assertEquals(1.0, meterRegistry.get("account.hold.sweeper.holds").tag("result", "failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.hold.sweeper.holds").tag("result", "cancelled").counter().count());
+    }
+
+    @Test
+    void sweep_WhenHoldWasClaimedElsewhere_ShouldNotCountIt() {
+        when(holdBalanceSweepService.findExpiredPending(any(LocalDateTime.class), eq(MIN_CREATED_AT), eq(0L), eq(2)))
+            .thenReturn(List.of(createHoldBalance(1L)));
+        when(holdBalanceSweepService.sweep(1L)).thenReturn(Optional.empty());
+
+        assertEquals(0, holdBalanceSweeper.sweep());
+    }
+
+    @Test
+    void run_WhenBatchLookupFails_ShouldCountFailureAndStop() {
+        when(holdBalanceSweepService.findExpiredPending(any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), eq(2)))
+            .thenThrow(new IllegalStateException("falha"));
+
+        holdBalanceSweeper.run();
+
+        verify(holdBalanceSweepService).findExpiredPending(any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), eq(2));
+        assertEquals(1.0, meterRegistry.get("account.hold.sweeper.batches").tag("result", "failed").counter().count());
+        assertEquals(1L, meterRegistry.get("account.hold.sweeper.run").timer().count());
+    }
+
+    private HoldBalance createHoldBalance(Long id) {
+        var holdBalance = HoldBalance.builder()
+            .amount(BigDecimal.ONE)
+            .type(HoldBalanceType.CHARGE_PAYMENT)
+            .status(HoldBalanceStatus.PENDING)
+            .createdAt(createdAt)
+            .build();
+        ReflectionTestUtils.setField(holdBalance, "id", id);
+        return holdBalance;
+    }
+
+    private Optional<SweptHoldBalanceRecord> swept(Long id, HoldBalanceStatus status) {
+        return Optional.of(new SweptHoldBalanceRecord(id, status, createdAt));
+    }
+}
@@ -0,0 +1,182 @@
+package br.com.nimblebaas.payment_gateway.services.account.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AccountLockManagerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountLockManager accountLockManager;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accountLockManager = new AccountLockManager(meterRegistry);
+        ReflectionTestUtils.setField(accountLockManager, "stripes", 16);
+        ReflectionTestUtils.setField(accountLockManager, "timeoutMillis", 100L);
+        accountLockManager.init();
+
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void executeLocked_ShouldHoldStripeOnlyWhileActionRuns() {
+        var held = accountLockManager.executeLocked(List.of(account(1L)), () -> getLock(1L).isHeldByCurrentThread());
+
+        assertTrue(held);
+        assertFalse(getLock(1L).isLocked());
+    }
+
+    @Test
+    void executeLocked_WithRepeatedAndCollidingIds_ShouldLockEachStripeOnce() {
+        var collidingId = findIdOnSameStripe(1L);
+
+        var holdCount = accountLockManager.executeLocked(List.of(account(1L), account(collidingId), account(1L)), () -> getLock(1L).getHoldCount());
+
+        assertEquals(1, holdCount);
+        assertFalse(getLock(1L).isLocked());
+    }
+
+    @Test
+    void executeLocked_WhenNested_ShouldReenterHeldStripe() {
+        var holdCount = accountLockManager.executeLocked(List.of(account(1L), account(2L)),
+            () -> accountLockManager.executeLocked(List.of(account(1L)), () -> getLock(1L).getHoldCount()));
+
+        assertEquals(2, holdCount);
+        assertFalse(getLock(1L).isLocked());
+        assertFalse(getLock(2L).isLocked());
+    }
+
+    @Test
+    void executeLocked_WithinTransaction_ShouldReleaseAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        accountLockManager.executeLocked(List.of(account(1L)), () -> {});
+
+        assertTrue(getLock(1L).isHeldByCurrentThread());
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertFalse(getLock(1L).isLocked());
+    }
+
+    @Test
+    void executeLocked_WhenActionFails_ShouldReleaseStripes() {
+        assertThrows(IllegalStateException.class, () -> accountLockManager.executeLocked(List.of(account(1L), account(2L)), () -> {
+            throw new IllegalStateException("falha");
+        }));
+
+        assertFalse(getLock(1L).isLocked());
+        assertFalse(getLock(2L).isLocked());
+    }
+
+    @Test
+    void executeLocked_WhenStripeIsBusy_ShouldTimeOutAndRecordContention() throws Exception {
+        var locked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var holder = executor.submit(() -> accountLockManager.executeLocked(List.of(account(1L)), () -> {
+            locked.countDown();
+            await(release);
+        }));
+        locked.await();
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> accountLockManager.executeLocked(List.of(account(2L), account(1L)), () -> {})
+        );
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        var stripe = String.valueOf(accountLockManager.getStripe(1L));
+        assertEquals(HttpStatus.CONFLICT, exception.getErrorDTO().getStatus());
+        assertEquals(BusinessRules.ACCOUNT_LOCK_TIMEOUT.name(), exception.getErrorDTO().getReason());
+        assertEquals(1.0, meterRegistry.get("account.lock.contended").tag("stripe", stripe).counter().count());
+        assertEquals(1.0, meterRegistry.get("account.lock.timeouts").tag("stripe", stripe).counter().count());
+        assertEquals(1L, meterRegistry.get("account.lock.wait").tag("stripe", stripe).timer().count());
+        assertFalse(getLock(2L).isLocked());
+    }
+
+    @Test
+    void executeLocked_WithOpposingOrders_ShouldNotDeadlock() throws Exception {
+        ReflectionTestUtils.setField(accountLockManager, "timeoutMillis", 5000L);
+        var completed = new AtomicInteger();
+        var futures = new ArrayList<Future<?>>();
+
+        for (int i = 0; i < 8; i++) {
+            var accounts = i % 2 == 0 ? List.of(account(1L), account(2L)) : List.of(account(2L), account(1L));
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 500; j++)
+                    accountLockManager.executeLocked(accounts, completed::incrementAndGet);
+            }));
+        }
+        for (var future : futures)
+            future.get(30, TimeUnit.SECONDS);
+
+        assertEquals(4000, completed.get());
+    }
+
+    private Account account(Long id) {
+        var account = new Account(new User());
+        ReflectionTestUtils.setField(account, "id", id);
+        return account;
+    }
+
+    private ReentrantLock getLock(Long accountId) {
+        var locks = (ReentrantLock[]) ReflectionTestUtils.getField(accountLockManager, "locks");
+        return locks[accountLockManager.getStripe(accountId)];
+    }
+
+    private Long findIdOnSameStripe(Long accountId) {
+        var stripe = accountLockManager.getStripe(accountId);
+        for (long candidate = accountId + 1; ; candidate++) {
+            if (accountLockManager.getStripe(candidate) == stripe) {
+                assertNotEquals(accountId, candidate);
+                return candidate;
+            }
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package br.com.nimblebaas.payment_gateway.services.authentication;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -15,6 +22,7 @@ import br.com.nimblebaas.payment_gateway.entities.authentication.AuthenticationA
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 import br.com.nimblebaas.payment_gateway.enums.authentication.AuthenticationAction;
 import br.com.nimblebaas.payment_gateway.repositories.authentication.AuthenticationAuditRepository;
+import br.com.nimblebaas.payment_gateway.services.authentication.audit.AuthenticationAuditBuffer;
 
 @ExtendWith(MockitoExtension.class)
 class AuthenticationAuditServiceTest {
@@ -22,6 +30,12 @@ class AuthenticationAuditServiceTest {
     @Mock
     private AuthenticationAuditRepository authenticationAuditRepository;
 
+    @Mock
+    private AuthenticationAuditBuffer authenticationAuditBuffer;
+
+    @Mock
+    private Session session;
+
     @InjectMocks
     private AuthenticationAuditService authenticationAuditService;
 
@@ -35,9 +49,8 @@ class AuthenticationAuditServiceTest {
     }
 
     @Test
-    void registerAuditEvent_WithUser_ShouldSaveAudit() {
-        when(authenticationAuditRepository.save(any(AuthenticationAudit.class)))
-            .thenReturn(new AuthenticationAudit());
+    void registerAuditEvent_WithUser_ShouldEnqueueAudit() {
+        when(authenticationAuditBuffer.offer(any(AuthenticationAudit.class))).thenReturn(true);
 
         authenticationAuditService.registerAuditEvent(
             user,
@@ -48,13 +61,16 @@ class AuthenticationAuditServiceTest {
             "Login bem-sucedido"
         );
 
-        verify(authenticationAuditRepository).save(any(AuthenticationAudit.class));
+        ArgumentCaptor<AuthenticationAudit> captor = ArgumentCaptor.forClass(AuthenticationAudit.class);
+        verify(authenticationAuditBuffer).offer(captor.capture());
+        assertEquals(user, captor.getValue().getUser());
+        assertEquals(AuthenticationAction.LOGIN_SUCCESS, captor.getValue().getAction());
+        assertEquals("127.0.0.1", captor.getValue().getIps());
     }
 
     @Test
-    void registerAuditEvent_WithoutUser_ShouldSaveAudit() {
-        when(authenticationAuditRepository.save(any(AuthenticationAudit.class)))
-            .thenReturn(new AuthenticationAudit());
+    void registerAuditEvent_WithoutUser_ShouldEnqueueAudit() {
+        when(authenticationAuditBuffer.offer(any(AuthenticationAudit.class))).thenReturn(true);
 
         authenticationAuditService.registerAuditEvent(
             "12345678900",
@@ -64,13 +80,31 @@ class AuthenticationAuditServiceTest {
             "Credenciais inválidas"
         );
 
-        verify(authenticationAuditRepository).save(any(AuthenticationAudit.class));
+        ArgumentCaptor<AuthenticationAudit> captor = ArgumentCaptor.forClass(AuthenticationAudit.class);
+        verify(authenticationAuditBuffer).offer(captor.capture());
+        assertNull(captor.getValue().getUser());
+        assertFalse(captor.getValue().getSuccess());
+    }
+
+    @Test
+    void registerAuditEvent_WhenBufferRejects_ShouldNotThrow() {
+        when(authenticationAuditBuffer.offer(any(AuthenticationAudit.class))).thenReturn(false);
+
+        authenticationAuditService.registerAuditEvent(
+            "12345678900",
+            "127.0.0.1",
+            AuthenticationAction.LOGIN_FAILURE,
+            false,
+            "Credenciais inválidas"
+        );
+
+        verify(authenticationAuditBuffer).offer(any(AuthenticationAudit.class));
     }
 
     @Test
     void registerAuditEvent_WhenExceptionOccurs_ShouldNotThrow() {
-        when(authenticationAuditRepository.save(any(AuthenticationAudit.class)))
-            .thenThrow(new RuntimeException("Database error"));
+        when(authenticationAuditBuffer.offer(any(AuthenticationAudit.class)))
+            .thenThrow(new RuntimeException("Buffer error"));
 
         authenticationAuditService.registerAuditEvent(
             user,
@@ -81,7 +115,17 @@ class AuthenticationAuditServiceTest {
             "Login bem-sucedido"
         );
 
-        verify(authenticationAuditRepository).save(any(AuthenticationAudit.class));
+        verify(authenticationAuditBuffer).offer(any(AuthenticationAudit.class));
     }
-}
 
+    @Test
+    void saveBatch_ShouldSaveAllUsingBatchSizedJdbcBatches() {
+        List<AuthenticationAudit> audits = List.of(new AuthenticationAudit(), new AuthenticationAudit());
+        when(session.unwrap(Session.class)).thenReturn(session);
+
+        authenticationAuditService.saveBatch(audits);
+
+        verify(session).setJdbcBatchSize(2);
+        verify(authenticationAuditRepository).saveAll(audits);
+    }
+}
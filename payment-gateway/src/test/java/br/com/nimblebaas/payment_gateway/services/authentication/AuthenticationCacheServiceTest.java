@@ -0,0 +1,97 @@
+package br.com.nimblebaas.payment_gateway.services.authentication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuthenticationCacheServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationCacheService authenticationCacheService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authenticationCacheService = new AuthenticationCacheService(meterRegistry);
+        ReflectionTestUtils.setField(authenticationCacheService, "maximumSize", 100L);
+        ReflectionTestUtils.setField(authenticationCacheService, "expiration", 60L);
+        authenticationCacheService.init();
+
+        user = new User();
+        user.setCpf("12345678900");
+        user.setEmail("john@example.com");
+    }
+
+    @Test
+    void getUser_CalledTwice_ShouldLoadOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        authenticationCacheService.getUser("12345678900", cpf -> {
+            loads.incrementAndGet();
+            return Optional.of(user);
+        });
+        Optional<User> result = authenticationCacheService.getUser("12345678900", cpf -> {
+            loads.incrementAndGet();
+            return Optional.of(user);
+        });
+
+        assertTrue(result.isPresent());
+        assertEquals(user, result.get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getUser_WhenNotFound_ShouldNotCacheAbsence() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Optional<User> first = authenticationCacheService.getUser("12345678900", cpf -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        authenticationCacheService.getUser("12345678900", cpf -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertFalse(first.isPresent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictUser_ShouldForceReload() {
+        AtomicInteger loads = new AtomicInteger();
+
+        authenticationCacheService.getUser("12345678900", cpf -> {
+            loads.incrementAndGet();
+            return Optional.of(user);
+        });
+        authenticationCacheService.evictUser("12345678900");
+        authenticationCacheService.getUser("12345678900", cpf -> {
+            loads.incrementAndGet();
+            return Optional.of(user);
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void init_ShouldRegisterCacheMetrics() {
+        authenticationCacheService.getUser("12345678900", cpf -> Optional.of(user));
+        authenticationCacheService.getUser("12345678900", cpf -> Optional.of(user));
+
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "authentication.users").tag("result", "hit").functionCounter());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "authentication.users").tag("result", "hit").functionCounter().count());
+    }
+}
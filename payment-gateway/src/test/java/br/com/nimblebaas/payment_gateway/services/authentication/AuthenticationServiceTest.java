@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -35,6 +38,7 @@ import br.com.nimblebaas.payment_gateway.events.authentication.LoginFailureEvent
 import br.com.nimblebaas.payment_gateway.events.authentication.LoginSuccessEvent;
 import br.com.nimblebaas.payment_gateway.events.authentication.RefreshTokenEvent;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.services.authentication.login.LoginAdmissionService;
 import br.com.nimblebaas.payment_gateway.services.user.UserService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.impl.DefaultClaims;
@@ -62,6 +66,9 @@ class AuthenticationServiceTest {
     @Mock
     private HttpServletRequest httpServletRequest;
 
+    @Mock
+    private LoginAdmissionService loginAdmissionService;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -103,6 +110,7 @@ class AuthenticationServiceTest {
         assertEquals("refresh-token", response.refreshToken());
         assertEquals(3600L, response.expiresIn());
         verify(eventPublisher).publishEvent(any(LoginSuccessEvent.class));
+        verify(loginAdmissionService, never()).recordFailure(anyString(), anyString());
     }
 
     @Test
@@ -134,6 +142,54 @@ class AuthenticationServiceTest {
 
         assertEquals(BusinessRules.INVALID_CREDENTIALS.name(), exception.getErrorDTO().getReason());
         verify(eventPublisher).publishEvent(any(LoginFailureEvent.class));
+        verify(loginAdmissionService).recordFailure("127.0.0.1", "12345678900");
+    }
+
+    @Test
+    void login_WhenAdmissionIsRejected_ShouldNotLookUpUserNorHashPassword() {
+        when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+        doThrow(new BusinessRuleException(
+            HttpStatus.TOO_MANY_REQUESTS,
+            getClass(),
+            BusinessRules.LOGIN_RATE_LIMITED,
+            "Muitas tentativas de login, tente novamente mais tarde"
+        )).when(loginAdmissionService).admit("127.0.0.1", "12345678900");
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> authenticationService.login(loginRequest)
+        );
+
+        assertEquals(BusinessRules.LOGIN_RATE_LIMITED.name(), exception.getErrorDTO().getReason());
+        verify(userService, never()).findByCpfOrEmail(anyString());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    void login_WithOutdatedPasswordHash_ShouldRehashPassword() {
+        when(userService.findByCpfOrEmail(anyString())).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("{bcrypt}upgradedPassword");
+
+        authenticationService.login(loginRequest);
+
+        verify(userService).upgradePasswordHash(user, "{bcrypt}upgradedPassword");
+        verify(eventPublisher).publishEvent(any(LoginSuccessEvent.class));
+    }
+
+    @Test
+    void login_WhenRehashFails_ShouldStillLogin() {
+        when(userService.findByCpfOrEmail(anyString())).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("{bcrypt}upgradedPassword");
+        doThrow(new RuntimeException("Banco indisponível")).when(userService).upgradePasswordHash(user, "{bcrypt}upgradedPassword");
+        when(jwtService.generateAccessToken(any(User.class), anyString())).thenReturn("access-token");
+
+        LoginResponseRecord response = authenticationService.login(loginRequest);
+
+        assertEquals("access-token", response.accessToken());
     }
 
     @Test
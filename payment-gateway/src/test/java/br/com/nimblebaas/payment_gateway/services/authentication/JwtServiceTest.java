@@ -2,6 +2,11 @@ package br.com.nimblebaas.payment_gateway.services.authentication;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,18 +15,21 @@ import org.springframework.test.util.ReflectionTestUtils;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
 import br.com.nimblebaas.payment_gateway.enums.authentication.TokenType;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
 
 class JwtServiceTest {
 
+    private static final String SECRET = "my-super-secret-key-for-testing-purposes-minimum-256-bits";
+    private static final String NEW_SECRET = "my-brand-new-secret-key-for-testing-purposes-minimum-256-bits";
+
     private JwtService jwtService;
     private User user;
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
-        ReflectionTestUtils.setField(jwtService, "secret", "my-super-secret-key-for-testing-purposes-minimum-256-bits");
-        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 3600L);
-        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 86400L);
+        jwtService = buildJwtService(SECRET, "v1", "");
 
         user = new User();
         user.setCpf("12345678900");
@@ -69,5 +77,58 @@ class JwtServiceTest {
         assertNotNull(claims.getIssuedAt());
         assertNotNull(claims.getExpiration());
     }
-}
 
+    @Test
+    void generateAccessToken_ShouldIncludeKeyIdHeader() {
+        String token = jwtService.generateAccessToken(user, "test-kid-jti");
+
+        String header = new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]), StandardCharsets.UTF_8);
+
+        assertTrue(header.contains("\"kid\":\"v1\""));
+    }
+
+    @Test
+    void parseToken_SignedWithRetiredKey_ShouldReturnValidClaims() {
+        String token = jwtService.generateAccessToken(user, "test-rotation-jti");
+
+        JwtService rotatedJwtService = buildJwtService(NEW_SECRET, "v2", "v1:" + SECRET);
+
+        Claims claims = rotatedJwtService.parseToken(token);
+
+        assertEquals("test-rotation-jti", claims.getId());
+        assertEquals(user.getCpf(), claims.getSubject());
+    }
+
+    @Test
+    void parseToken_SignedWithUnknownKey_ShouldThrowException() {
+        String token = jwtService.generateAccessToken(user, "test-unknown-jti");
+
+        JwtService rotatedJwtService = buildJwtService(NEW_SECRET, "v2", "");
+
+        assertThrows(UnsupportedJwtException.class, () -> rotatedJwtService.parseToken(token));
+    }
+
+    @Test
+    void parseToken_WithoutKeyIdHeader_ShouldUseActiveKey() {
+        String token = Jwts.builder()
+            .id("legacy-jti")
+            .subject(user.getCpf())
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+
+        Claims claims = jwtService.parseToken(token);
+
+        assertEquals("legacy-jti", claims.getId());
+    }
+
+    private JwtService buildJwtService(String secret, String keyId, String retiredKeys) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secret", secret);
+        ReflectionTestUtils.setField(service, "keyId", keyId);
+        ReflectionTestUtils.setField(service, "retiredKeys", retiredKeys);
+        ReflectionTestUtils.setField(service, "accessTokenExpiration", 3600L);
+        ReflectionTestUtils.setField(service, "refreshTokenExpiration", 86400L);
+        service.init();
+        return service;
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,7 +20,6 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -29,8 +30,10 @@ import br.com.nimblebaas.payment_gateway.enums.authentication.TokenType;
 import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.authentication.RefreshTokenRepository;
+import br.com.nimblebaas.payment_gateway.services.authentication.revocation.TokenRevocationService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.impl.DefaultClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class RefreshTokenServiceTest {
@@ -38,7 +41,7 @@ class RefreshTokenServiceTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
-    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
     private RefreshTokenService refreshTokenService;
 
     private User user;
@@ -46,6 +49,13 @@ class RefreshTokenServiceTest {
 
     @BeforeEach
     void setUp() {
+        tokenRevocationService = spy(new TokenRevocationService(refreshTokenRepository, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(tokenRevocationService, "accessTokenExpiration", 900L);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveProbability", 0.01);
+        tokenRevocationService.init();
+
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, tokenRevocationService);
         ReflectionTestUtils.setField(refreshTokenService, "refreshTokenExpiration", 86400L);
 
         user = new User();
@@ -94,12 +104,46 @@ class RefreshTokenServiceTest {
         claimsMap.put("jti", "test-jti-123");
         Claims claims = new DefaultClaims(claimsMap);
 
-        when(refreshTokenRepository.findByJtiAndUser(anyString(), any(User.class)))
-            .thenReturn(Optional.of(refreshToken));
+        refreshTokenService.validateAccessToken(claims, user);
+
+        verify(tokenRevocationService).isRevoked("test-jti-123");
+    }
+
+    @Test
+    void validateAccessToken_CalledTwice_ShouldNotQueryRepository() {
+        Map<String, Object> claimsMap = new HashMap<>();
+        claimsMap.put("tokenType", TokenType.ACCESS.name());
+        claimsMap.put("email", user.getEmail());
+        claimsMap.put("jti", "test-jti-123");
+        Claims claims = new DefaultClaims(claimsMap);
 
+        refreshTokenService.validateAccessToken(claims, user);
         refreshTokenService.validateAccessToken(claims, user);
 
-        verify(refreshTokenRepository).findByJtiAndUser("test-jti-123", user);
+        verify(refreshTokenRepository, never()).findByJtiAndUser(anyString(), any(User.class));
+    }
+
+    @Test
+    void validateAccessToken_AfterRevokingUserTokens_ShouldThrowException() {
+        Map<String, Object> claimsMap = new HashMap<>();
+        claimsMap.put("tokenType", TokenType.ACCESS.name());
+        claimsMap.put("email", user.getEmail());
+        claimsMap.put("jti", "test-jti-123");
+        Claims claims = new DefaultClaims(claimsMap);
+
+        when(refreshTokenRepository.findByUserAndRevokedIsFalse(any(User.class)))
+            .thenReturn(List.of(refreshToken));
+
+        refreshTokenService.validateAccessToken(claims, user);
+        refreshTokenService.revokeUserRefreshTokens(user);
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> refreshTokenService.validateAccessToken(claims, user)
+        );
+
+        assertEquals(BusinessRules.INVALID_TOKEN.name(), exception.getErrorDTO().getReason());
+        verify(tokenRevocationService).revoke(List.of("test-jti-123"));
     }
 
     @Test
@@ -124,10 +168,7 @@ class RefreshTokenServiceTest {
         claimsMap.put("jti", "test-jti-123");
         Claims claims = new DefaultClaims(claimsMap);
 
-        refreshToken.setRevoked(true);
-
-        when(refreshTokenRepository.findByJtiAndUser(anyString(), any(User.class)))
-            .thenReturn(Optional.of(refreshToken));
+        tokenRevocationService.revoke("test-jti-123");
 
         BusinessRuleException exception = assertThrows(
             BusinessRuleException.class,
@@ -225,13 +266,16 @@ class RefreshTokenServiceTest {
         assertEquals(true, refreshToken.getUsed());
         assertEquals(true, refreshToken.getRevoked());
         verify(refreshTokenRepository).save(refreshToken);
+        verify(tokenRevocationService).revoke("test-jti-123");
     }
 
     @Test
     void revokeUserRefreshTokens_ShouldRevokeAllUserTokens() {
         RefreshToken token1 = new RefreshToken();
+        token1.setJti("jti-1");
         token1.setRevoked(false);
         RefreshToken token2 = new RefreshToken();
+        token2.setJti("jti-2");
         token2.setRevoked(false);
         
         List<RefreshToken> tokens = Arrays.asList(token1, token2);
@@ -244,6 +288,7 @@ class RefreshTokenServiceTest {
         assertEquals(true, token1.getRevoked());
         assertEquals(true, token2.getRevoked());
         verify(refreshTokenRepository).saveAll(tokens);
+        verify(tokenRevocationService).revoke(List.of("jti-1", "jti-2"));
     }
 }
 
@@ -0,0 +1,99 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.entities.authentication.AuthenticationAudit;
+import br.com.nimblebaas.payment_gateway.enums.authentication.AuditOverflowPolicy;
+import br.com.nimblebaas.payment_gateway.enums.authentication.AuthenticationAction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuthenticationAuditBufferTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationAuditBuffer authenticationAuditBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authenticationAuditBuffer = new AuthenticationAuditBuffer(meterRegistry);
+        ReflectionTestUtils.setField(authenticationAuditBuffer, "capacity", 4);
+        ReflectionTestUtils.setField(authenticationAuditBuffer, "blockTimeout", 10L);
+        ReflectionTestUtils.setField(authenticationAuditBuffer, "sampleRate", 2);
+    }
+
+    private void init(AuditOverflowPolicy overflowPolicy) {
+        ReflectionTestUtils.setField(authenticationAuditBuffer, "overflowPolicy", overflowPolicy);
+        authenticationAuditBuffer.init();
+    }
+
+    private AuthenticationAudit audit(String message, boolean success) {
+        var audit = new AuthenticationAudit();
+        audit.setAction(success ? AuthenticationAction.LOGIN_SUCCESS : AuthenticationAction.LOGIN_FAILURE);
+        audit.setSuccess(success);
+        audit.setMessage(message);
+        return audit;
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get("authentication.audit.dropped").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    void offer_WithDropOldestPolicy_WhenFull_ShouldEvictOldestEntries() {
+        init(AuditOverflowPolicy.DROP_OLDEST);
+
+        for (int index = 0; index < 6; index++)
+            assertTrue(authenticationAuditBuffer.offer(audit("audit-" + index, true)));
+
+        List<AuthenticationAudit> drained = authenticationAuditBuffer.drain(10);
+        assertEquals(List.of("audit-2", "audit-3", "audit-4", "audit-5"), drained.stream().map(AuthenticationAudit::getMessage).toList());
+        assertEquals(2.0, dropped("oldest"));
+    }
+
+    @Test
+    void offer_WithBlockPolicy_WhenFullPastTimeout_ShouldRejectNewEntry() {
+        init(AuditOverflowPolicy.BLOCK);
+
+        for (int index = 0; index < 4; index++)
+            assertTrue(authenticationAuditBuffer.offer(audit("audit-" + index, true)));
+
+        assertFalse(authenticationAuditBuffer.offer(audit("audit-4", true)));
+        assertEquals(4, authenticationAuditBuffer.size());
+        assertEquals(1.0, dropped("timeout"));
+    }
+
+    @Test
+    void offer_WithSampleFailuresPolicy_AboveHalfCapacity_ShouldKeepOneFailureInSampleRate() {
+        init(AuditOverflowPolicy.SAMPLE_FAILURES);
+        authenticationAuditBuffer.offer(audit("success-0", true));
+        authenticationAuditBuffer.offer(audit("success-1", true));
+
+        assertFalse(authenticationAuditBuffer.offer(audit("failure-0", false)));
+        assertTrue(authenticationAuditBuffer.offer(audit("failure-1", false)));
+        assertTrue(authenticationAuditBuffer.offer(audit("success-2", true)));
+        assertFalse(authenticationAuditBuffer.offer(audit("success-3", true)));
+
+        assertEquals(1.0, dropped("sampled"));
+        assertEquals(1.0, dropped("full"));
+    }
+
+    @Test
+    void init_ShouldExposeQueueDepth() {
+        init(AuditOverflowPolicy.DROP_OLDEST);
+
+        authenticationAuditBuffer.offer(audit("audit-0", true));
+        authenticationAuditBuffer.offer(audit("audit-1", true));
+
+        assertEquals(2.0, meterRegistry.get("authentication.audit.queue.depth").gauge().value());
+        authenticationAuditBuffer.drain(1);
+        assertEquals(1.0, meterRegistry.get("authentication.audit.queue.depth").gauge().value());
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.entities.authentication.AuthenticationAudit;
+import br.com.nimblebaas.payment_gateway.services.authentication.AuthenticationAuditService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationAuditWriterTest {
+
+    @Mock
+    private AuthenticationAuditBuffer authenticationAuditBuffer;
+
+    @Mock
+    private AuthenticationAuditService authenticationAuditService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationAuditWriter authenticationAuditWriter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authenticationAuditWriter = new AuthenticationAuditWriter(authenticationAuditBuffer, authenticationAuditService, meterRegistry);
+        ReflectionTestUtils.setField(authenticationAuditWriter, "batchSize", 2);
+        authenticationAuditWriter.init();
+    }
+
+    private List<AuthenticationAudit> audits(int count) {
+        var audits = new ArrayList<AuthenticationAudit>();
+        for (int index = 0; index < count; index++)
+            audits.add(new AuthenticationAudit());
+        return audits;
+    }
+
+    @Test
+    void flush_ShouldWriteEveryDrainedBatch() {
+        List<AuthenticationAudit> first = audits(2);
+        List<AuthenticationAudit> second = audits(1);
+        when(authenticationAuditBuffer.drain(2)).thenReturn(first, second, List.of());
+
+        authenticationAuditWriter.flush();
+
+        verify(authenticationAuditService).saveBatch(first);
+        verify(authenticationAuditService).saveBatch(second);
+        assertEquals(3.0, meterRegistry.get("authentication.audit.written").counter().count());
+    }
+
+    @Test
+    void flush_WhenBufferIsEmpty_ShouldNotWrite() {
+        when(authenticationAuditBuffer.drain(2)).thenReturn(List.of());
+
+        authenticationAuditWriter.flush();
+
+        verify(authenticationAuditService, never()).saveBatch(anyList());
+    }
+
+    @Test
+    void flush_WhenBatchFails_ShouldCountDropsAndKeepDraining() {
+        List<AuthenticationAudit> first = audits(2);
+        List<AuthenticationAudit> second = audits(2);
+        when(authenticationAuditBuffer.drain(2)).thenReturn(first, second, List.of());
+        doThrow(new IllegalStateException("falha")).when(authenticationAuditService).saveBatch(first);
+
+        authenticationAuditWriter.flush();
+
+        verify(authenticationAuditService, times(2)).saveBatch(anyList());
+        assertEquals(2.0, meterRegistry.get("authentication.audit.dropped").tag("reason", "write_error").counter().count());
+        assertEquals(2.0, meterRegistry.get("authentication.audit.written").counter().count());
+    }
+
+    @Test
+    void shutdown_ShouldFlushPendingAudits() {
+        List<AuthenticationAudit> pending = audits(1);
+        when(authenticationAuditBuffer.drain(2)).thenReturn(pending, List.of());
+
+        authenticationAuditWriter.shutdown();
+
+        verify(authenticationAuditService).saveBatch(pending);
+    }
+}
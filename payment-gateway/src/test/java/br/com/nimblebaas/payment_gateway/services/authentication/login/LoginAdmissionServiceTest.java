@@ -0,0 +1,79 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.login;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginAdmissionServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAdmissionService loginAdmissionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginAdmissionService = new LoginAdmissionService(meterRegistry);
+        ReflectionTestUtils.setField(loginAdmissionService, "ipCapacity", 3L);
+        ReflectionTestUtils.setField(loginAdmissionService, "ipRefillPerMinute", 3L);
+        ReflectionTestUtils.setField(loginAdmissionService, "identifierCapacity", 2L);
+        ReflectionTestUtils.setField(loginAdmissionService, "identifierRefillPerMinute", 2L);
+        ReflectionTestUtils.setField(loginAdmissionService, "bucketsMaximumSize", 10_000L);
+        ReflectionTestUtils.setField(loginAdmissionService, "bucketsExpiration", 10L);
+        loginAdmissionService.init();
+    }
+
+    @Test
+    void admit_WhenIpExceedsItsBucket_ShouldRejectWithTooManyRequests() {
+        loginAdmissionService.admit("10.0.0.1", "user-1@example.com");
+        loginAdmissionService.admit("10.0.0.1", "user-2@example.com");
+        loginAdmissionService.admit("10.0.0.1", "user-3@example.com");
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> loginAdmissionService.admit("10.0.0.1", "user-4@example.com"));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getErrorDTO().getStatus());
+        assertEquals(BusinessRules.LOGIN_RATE_LIMITED.name(), exception.getErrorDTO().getReason());
+        assertEquals(1.0, meterRegistry.get("authentication.login.admission").tag("result", "ip_limited").counter().count());
+    }
+
+    @Test
+    void admit_WhenIdentifierFailsTooOftenFromSameIp_ShouldRejectIgnoringCase() {
+        loginAdmissionService.recordFailure("10.0.0.1", "User@Example.com");
+        loginAdmissionService.recordFailure("10.0.0.1", " user@example.com ");
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> loginAdmissionService.admit("10.0.0.1", "user@example.com"));
+
+        assertEquals(BusinessRules.LOGIN_RATE_LIMITED.name(), exception.getErrorDTO().getReason());
+        assertEquals(1.0, meterRegistry.get("authentication.login.admission").tag("result", "identifier_limited").counter().count());
+    }
+
+    @Test
+    void admit_WhenIdentifierFailsFromAnotherIp_ShouldNotLockOutVictim() {
+        loginAdmissionService.recordFailure("10.0.0.66", "user@example.com");
+        loginAdmissionService.recordFailure("10.0.0.66", "user@example.com");
+
+        loginAdmissionService.admit("10.0.0.1", "user@example.com");
+
+        assertEquals(1.0, meterRegistry.get("authentication.login.admission").tag("result", "admitted").counter().count());
+    }
+
+    @Test
+    void admit_WithSuccessfulLogins_ShouldNotChargeIdentifierBucket() {
+        loginAdmissionService.admit("10.0.0.1", "user@example.com");
+        loginAdmissionService.admit("10.0.0.1", "user@example.com");
+        loginAdmissionService.admit("10.0.0.1", "user@example.com");
+
+        assertEquals(3.0, meterRegistry.get("authentication.login.admission").tag("result", "admitted").counter().count());
+    }
+}
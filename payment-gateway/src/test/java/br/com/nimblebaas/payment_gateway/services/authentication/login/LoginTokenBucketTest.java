@@ -0,0 +1,36 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.login;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LoginTokenBucketTest {
+
+    @Test
+    void tryConsume_ShouldAllowBurstUpToCapacity() {
+        var bucket = new LoginTokenBucket(3, 60, 0);
+
+        assertTrue(bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0));
+        assertFalse(bucket.tryConsume(0));
+    }
+
+    @Test
+    void tryConsume_ShouldRefillOverTimeWithoutExceedingCapacity() {
+        var bucket = new LoginTokenBucket(2, 60, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertFalse(bucket.tryConsume(TimeUnit.MILLISECONDS.toNanos(500)));
+        assertTrue(bucket.tryConsume(TimeUnit.SECONDS.toNanos(1)));
+
+        var later = TimeUnit.MINUTES.toNanos(10);
+        assertTrue(bucket.tryConsume(later));
+        assertTrue(bucket.tryConsume(later));
+        assertFalse(bucket.tryConsume(later));
+    }
+}
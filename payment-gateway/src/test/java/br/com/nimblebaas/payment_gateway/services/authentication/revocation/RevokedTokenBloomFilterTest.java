@@ -0,0 +1,41 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.revocation;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RevokedTokenBloomFilterTest {
+
+    @Test
+    void mightContain_ShouldNeverMissInsertedValues() {
+        var bloomFilter = new RevokedTokenBloomFilter(10_000, 0.01);
+        var jtis = IntStream.range(0, 10_000).mapToObj(index -> UUID.randomUUID().toString()).toList();
+
+        jtis.forEach(bloomFilter::put);
+
+        assertTrue(jtis.stream().allMatch(bloomFilter::mightContain));
+    }
+
+    @Test
+    void mightContain_ShouldKeepFalsePositivesNearConfiguredProbability() {
+        var bloomFilter = new RevokedTokenBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(index -> bloomFilter.put(UUID.randomUUID().toString()));
+
+        var falsePositives = IntStream.range(0, 100_000)
+            .filter(index -> bloomFilter.mightContain(UUID.randomUUID().toString()))
+            .count();
+
+        assertTrue(falsePositives < 2_000);
+    }
+
+    @Test
+    void mightContain_WhenEmpty_ShouldReturnFalse() {
+        var bloomFilter = new RevokedTokenBloomFilter(100, 0.01);
+
+        assertFalse(bloomFilter.mightContain(UUID.randomUUID().toString()));
+    }
+}
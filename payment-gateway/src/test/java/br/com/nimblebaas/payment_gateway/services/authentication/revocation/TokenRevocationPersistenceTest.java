@@ -0,0 +1,99 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.revocation;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.entities.authentication.RefreshToken;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.repositories.authentication.RefreshTokenRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TokenRevocationPersistenceTest {
+
+    private static final long ACCESS_TOKEN_EXPIRATION = 900L;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        var suffix = UUID.randomUUID().toString();
+        user = new User();
+        user.setName("revocation");
+        user.setCpf("revocation-" + suffix);
+        user.setEmail("revocation-" + suffix + "@example.com");
+        user.setPassword("password");
+        userRepository.save(user);
+    }
+
+    @Test
+    void init_ShouldLoadOnlyRevokedTokensWhoseAccessTokenIsStillAlive() {
+        var recentlyRevoked = saveRefreshToken(Instant.now().minusSeconds(60), true);
+        var revokedLongAgo = saveRefreshToken(Instant.now().minusSeconds(ACCESS_TOKEN_EXPIRATION + 60), true);
+        var active = saveRefreshToken(Instant.now().minusSeconds(60), false);
+
+        var tokenRevocationService = tokenRevocationService();
+
+        assertTrue(tokenRevocationService.isRevoked(recentlyRevoked));
+        assertFalse(tokenRevocationService.isRevoked(revokedLongAgo));
+        assertFalse(tokenRevocationService.isRevoked(active));
+    }
+
+    @Test
+    void refresh_ShouldPickUpTokensRevokedByAnotherNodeAfterStartup() {
+        var tokenRevocationService = tokenRevocationService();
+        var revokedElsewhere = new RefreshToken();
+        revokedElsewhere.setJti(UUID.randomUUID().toString());
+        revokedElsewhere.setUser(user);
+        revokedElsewhere.setIssuedAt(Instant.now().minusSeconds(60));
+        revokedElsewhere.setExpiresAt(Instant.now().plusSeconds(3600));
+        revokedElsewhere.revoke();
+        refreshTokenRepository.saveAndFlush(revokedElsewhere);
+
+        assertFalse(tokenRevocationService.isRevoked(revokedElsewhere.getJti()));
+        tokenRevocationService.refresh();
+
+        assertTrue(tokenRevocationService.isRevoked(revokedElsewhere.getJti()));
+    }
+
+    private TokenRevocationService tokenRevocationService() {
+        var tokenRevocationService = new TokenRevocationService(refreshTokenRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tokenRevocationService, "accessTokenExpiration", ACCESS_TOKEN_EXPIRATION);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveProbability", 0.01);
+        ReflectionTestUtils.setField(tokenRevocationService, "refreshOverlapSeconds", 30L);
+        tokenRevocationService.init();
+        return tokenRevocationService;
+    }
+
+    private String saveRefreshToken(Instant issuedAt, boolean revoked) {
+        var refreshToken = new RefreshToken();
+        refreshToken.setJti(UUID.randomUUID().toString());
+        refreshToken.setUser(user);
+        refreshToken.setIssuedAt(issuedAt);
+        refreshToken.setExpiresAt(issuedAt.plusSeconds(3600));
+        refreshToken.setRevoked(revoked);
+        refreshTokenRepository.saveAndFlush(refreshToken);
+        return refreshToken.getJti();
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.nimblebaas.payment_gateway.services.authentication.revocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.authentication.RevokedTokenRecord;
+import br.com.nimblebaas.payment_gateway.repositories.authentication.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationServiceTest.class);
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationService = new TokenRevocationService(refreshTokenRepository, meterRegistry);
+        ReflectionTestUtils.setField(tokenRevocationService, "accessTokenExpiration", 900L);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 10_000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveProbability", 0.01);
+        ReflectionTestUtils.setField(tokenRevocationService, "refreshOverlapSeconds", 30L);
+    }
+
+    @Test
+    void init_ShouldLoadRevokedTokensStillWithinAccessTokenLifetime() {
+        when(refreshTokenRepository.findRevokedJtisIssuedAfter(any(Instant.class))).thenReturn(List.of("jti-1", "jti-2"));
+
+        var start = Instant.now();
+        tokenRevocationService.init();
+
+        assertTrue(tokenRevocationService.isRevoked("jti-1"));
+        assertTrue(tokenRevocationService.isRevoked("jti-2"));
+        assertFalse(tokenRevocationService.isRevoked("jti-3"));
+        assertEquals(2.0, meterRegistry.get("authentication.token.revocation.size").gauge().value());
+        verify(refreshTokenRepository).findRevokedJtisIssuedAfter(argThat(
+            issuedAfter -> !issuedAfter.isBefore(start.minusSeconds(900)) && !issuedAfter.isAfter(Instant.now().minusSeconds(900))));
+    }
+
+    @Test
+    void revoke_ShouldMakeTokenRevokedImmediately() {
+        when(refreshTokenRepository.findRevokedJtisIssuedAfter(any(Instant.class))).thenReturn(List.of());
+        tokenRevocationService.init();
+
+        assertFalse(tokenRevocationService.isRevoked("jti-1"));
+        tokenRevocationService.revoke("jti-1");
+        tokenRevocationService.revoke(List.of("jti-2", "jti-3"));
+
+        assertTrue(tokenRevocationService.isRevoked("jti-1"));
+        assertTrue(tokenRevocationService.isRevoked("jti-2"));
+        assertTrue(tokenRevocationService.isRevoked("jti-3"));
+        assertEquals(3.0, meterRegistry.get("authentication.token.revocation.checks").tag("result", "revoked").counter().count());
+        assertEquals(1.0, meterRegistry.get("authentication.token.revocation.checks").tag("result", "not_revoked").counter().count());
+    }
+
+    @Test
+    void refresh_ShouldLoadTokensRevokedByOtherNodesSinceWatermark() {
+        when(refreshTokenRepository.findRevokedJtisIssuedAfter(any(Instant.class))).thenReturn(List.of());
+        var start = Instant.now();
+        tokenRevocationService.init();
+        var revokedAt = Instant.now().plusSeconds(5);
+        when(refreshTokenRepository.findRevokedAfter(any(Instant.class))).thenReturn(List.of(new RevokedTokenRecord("jti-1", revokedAt)));
+
+        tokenRevocationService.refresh();
+        tokenRevocationService.refresh();
+
+        assertTrue(tokenRevocationService.isRevoked("jti-1"));
+        verify(refreshTokenRepository).findRevokedAfter(argThat(revokedAfter -> !revokedAfter.isBefore(start.minusSeconds(30))
+            && revokedAfter.isBefore(revokedAt.minusSeconds(30))));
+        verify(refreshTokenRepository).findRevokedAfter(revokedAt.minusSeconds(30));
+    }
+
+    @Test
+    void refresh_WhenDatabaseFails_ShouldKeepWatermark() {
+        when(refreshTokenRepository.findRevokedJtisIssuedAfter(any(Instant.class))).thenReturn(List.of());
+        tokenRevocationService.init();
+        var watermark = ReflectionTestUtils.getField(tokenRevocationService, "revokedWatermark");
+        when(refreshTokenRepository.findRevokedAfter(any(Instant.class))).thenThrow(new IllegalStateException("Banco indisponível"));
+
+        tokenRevocationService.refresh();
+
+        assertEquals(watermark, ReflectionTestUtils.getField(tokenRevocationService, "revokedWatermark"));
+    }
+
+    @Test
+    void isRevoked_ShouldKeepEntriesForOneAccessTokenLifetimeAcrossFilterRotation() {
+        when(refreshTokenRepository.findRevokedJtisIssuedAfter(any(Instant.class))).thenReturn(List.of());
+        tokenRevocationService.init();
+        tokenRevocationService.revoke("jti-1");
+
+        expireCurrentFilter();
+        assertTrue(tokenRevocationService.isRevoked("jti-1"));
+
+        expireCurrentFilter();
+        assertFalse(tokenRevocationService.isRevoked("jti-1"));
+    }
+
+    @Test
+    void isRevoked_ShouldAnswerHappyPathFromMemory() {
+        when(refreshTokenRepository.findRevokedJtisIssuedAfter(any(Instant.class))).thenReturn(List.of());
+        tokenRevocationService.init();
+        for (int index = 0; index < 10_000; index++)
+            tokenRevocationService.revoke(UUID.randomUUID().toString());
+        var jtis = IntStream.range(0, 100_000).mapToObj(index -> UUID.randomUUID().toString()).toList();
+
+        jtis.forEach(tokenRevocationService::isRevoked);
+        var start = System.nanoTime();
+        var revoked = jtis.stream().filter(tokenRevocationService::isRevoked).count();
+        var elapsed = System.nanoTime() - start;
+
+        var falsePositives = meterRegistry.get("authentication.token.revocation.checks").tag("result", "false_positive").counter().count();
+        log.info("Verificação de revogação: {} ns/op, {} falsos positivos do filtro de Bloom em {} consultas",
+            elapsed / jtis.size(), (long) falsePositives / 2, jtis.size());
+
+        assertEquals(0, revoked);
+        assertTrue(falsePositives / 2 < jtis.size() * 0.03);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(elapsed) < 5_000);
+    }
+
+    private void expireCurrentFilter() {
+        var filterCreatedAt = (long) ReflectionTestUtils.getField(tokenRevocationService, "filterCreatedAt");
+        ReflectionTestUtils.setField(tokenRevocationService, "filterCreatedAt", filterCreatedAt - TimeUnit.SECONDS.toNanos(901));
+    }
+}
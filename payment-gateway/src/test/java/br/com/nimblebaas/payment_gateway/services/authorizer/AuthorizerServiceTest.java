@@ -1,25 +1,39 @@
 package br.com.nimblebaas.payment_gateway.services.authorizer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import br.com.nimblebaas.payment_gateway.dtos.internal.authorizer.GetAuthorizerDTO;
 import br.com.nimblebaas.payment_gateway.enums.authorizer.AuthorizerPurpose;
 import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class AuthorizerServiceTest {
@@ -30,6 +44,8 @@ class AuthorizerServiceTest {
     @Mock
     private IAuthorizerService cardPaymentAuthorizerService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     private AuthorizerService authorizerService;
 
     private GetAuthorizerDTO getAuthorizerDTO;
@@ -40,7 +56,19 @@ class AuthorizerServiceTest {
             depositAuthorizerService,
             cardPaymentAuthorizerService
         );
-        authorizerService = new AuthorizerService(authorizerServices);
+        meterRegistry = new SimpleMeterRegistry();
+        authorizerService = new AuthorizerService(authorizerServices, meterRegistry);
+        ReflectionTestUtils.setField(authorizerService, "poolSize", 1);
+        ReflectionTestUtils.setField(authorizerService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(authorizerService, "failureRateThreshold", 50F);
+        ReflectionTestUtils.setField(authorizerService, "slowCallDurationThreshold", 5000L);
+        ReflectionTestUtils.setField(authorizerService, "slidingWindowSize", 2);
+        ReflectionTestUtils.setField(authorizerService, "minimumNumberOfCalls", 2);
+        ReflectionTestUtils.setField(authorizerService, "waitDurationInOpenState", 60000L);
+        ReflectionTestUtils.setField(authorizerService, "permittedCallsInHalfOpenState", 1);
+        ReflectionTestUtils.setField(authorizerService, "maxConcurrentCalls", 1);
+        ReflectionTestUtils.setField(authorizerService, "maxWait", 0L);
+        authorizerService.init();
 
         getAuthorizerDTO = GetAuthorizerDTO.builder()
             .cpf("12345678900")
@@ -49,6 +77,11 @@ class AuthorizerServiceTest {
             .build();
     }
 
+    @AfterEach
+    void tearDown() {
+        authorizerService.shutdown();
+    }
+
     @Test
     void authorize_WithDepositPurpose_ShouldReturnTrue() {
         when(depositAuthorizerService.isResponsible(AuthorizerPurpose.DEPOSIT)).thenReturn(true);
@@ -81,5 +114,158 @@ class AuthorizerServiceTest {
 
         assertEquals(BusinessRules.AUTHORIZER_SERVICE_NOT_FOUND.name(), exception.getErrorDTO().getReason());
     }
-}
 
+    @Test
+    void authorizeAsync_WithDepositPurpose_ShouldCompleteWithAuthorization() throws Exception {
+        when(depositAuthorizerService.isResponsible(AuthorizerPurpose.DEPOSIT)).thenReturn(true);
+        when(depositAuthorizerService.authorize(any(GetAuthorizerDTO.class))).thenReturn(true);
+
+        CompletableFuture<Boolean> result = authorizerService.authorizeAsync(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO);
+
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void authorizeAsync_WhenAuthorizerFails_ShouldCompleteExceptionally() {
+        when(depositAuthorizerService.isResponsible(AuthorizerPurpose.DEPOSIT)).thenReturn(true);
+        when(depositAuthorizerService.authorize(any(GetAuthorizerDTO.class)))
+            .thenThrow(new BusinessRuleException(getClass(), BusinessRules.AUTHORIZER_SERVICE_ERROR, "timeout"));
+
+        CompletableFuture<Boolean> result = authorizerService.authorizeAsync(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BusinessRuleException.class, exception.getCause());
+    }
+
+    @Test
+    void authorizeAsync_WhenQueueIsFull_ShouldFailWithServiceUnavailable() throws Exception {
+        var release = new CountDownLatch(1);
+        when(depositAuthorizerService.isResponsible(AuthorizerPurpose.DEPOSIT)).thenReturn(true);
+        when(depositAuthorizerService.authorize(any(GetAuthorizerDTO.class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        CompletableFuture<Boolean> running = authorizerService.authorizeAsync(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO);
+        CompletableFuture<Boolean> queued = authorizerService.authorizeAsync(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO);
+        CompletableFuture<Boolean> rejected = authorizerService.authorizeAsync(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        BusinessRuleException cause = assertInstanceOf(BusinessRuleException.class, exception.getCause());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, cause.getErrorDTO().getStatus());
+        assertEquals(BusinessRules.AUTHORIZER_SERVICE_ERROR.name(), cause.getErrorDTO().getReason());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void authorize_WhenFailureRateExceedsThreshold_ShouldOpenCircuitAndFailFast() {
+        when(depositAuthorizerService.isResponsible(AuthorizerPurpose.DEPOSIT)).thenReturn(true);
+        when(depositAuthorizerService.authorize(any(GetAuthorizerDTO.class)))
+            .thenThrow(new BusinessRuleException(getClass(), BusinessRules.AUTHORIZER_SERVICE_ERROR, "timeout"));
+
+        assertThrows(BusinessRuleException.class, () -> authorizerService.authorize(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO));
+        assertThrows(BusinessRuleException.class, () -> authorizerService.authorize(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO));
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> authorizerService.authorize(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO)
+        );
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getErrorDTO().getStatus());
+        assertEquals(BusinessRules.AUTHORIZER_SERVICE_ERROR.name(), exception.getErrorDTO().getReason());
+        verify(depositAuthorizerService, times(2)).authorize(any(GetAuthorizerDTO.class));
+        assertEquals(1.0, meterRegistry.get("authorizer.circuit-breaker.transitions")
+            .tag("purpose", AuthorizerPurpose.DEPOSIT.name())
+            .tag("from", "CLOSED")
+            .tag("to", "OPEN")
+            .counter().count());
+    }
+
+    @Test
+    void authorize_WhenDepositCircuitIsOpen_ShouldStillAuthorizeCardPayments() {
+        respondFor(depositAuthorizerService, AuthorizerPurpose.DEPOSIT);
+        respondFor(cardPaymentAuthorizerService, AuthorizerPurpose.CARD_PAYMENT);
+        when(depositAuthorizerService.authorize(any(GetAuthorizerDTO.class)))
+            .thenThrow(new BusinessRuleException(getClass(), BusinessRules.AUTHORIZER_SERVICE_ERROR, "timeout"));
+        when(cardPaymentAuthorizerService.authorize(any(GetAuthorizerDTO.class))).thenReturn(true);
+
+        assertThrows(BusinessRuleException.class, () -> authorizerService.authorize(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO));
+        assertThrows(BusinessRuleException.class, () -> authorizerService.authorize(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO));
+
+        assertTrue(authorizerService.authorize(AuthorizerPurpose.CARD_PAYMENT, getAuthorizerDTO));
+    }
+
+    @Test
+    void authorize_WhenRejectedForInvalidInput_ShouldNotOpenCircuit() {
+        when(depositAuthorizerService.isResponsible(AuthorizerPurpose.DEPOSIT)).thenReturn(true);
+        when(depositAuthorizerService.authorize(any(GetAuthorizerDTO.class)))
+            .thenThrow(new BusinessRuleException(getClass(), BusinessRules.INVALID_INPUT_DATA, "cartão inválido"));
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            BusinessRuleException exception = assertThrows(
+                BusinessRuleException.class,
+                () -> authorizerService.authorize(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO)
+            );
+            assertEquals(BusinessRules.INVALID_INPUT_DATA.name(), exception.getErrorDTO().getReason());
+        }
+
+        verify(depositAuthorizerService, times(3)).authorize(any(GetAuthorizerDTO.class));
+    }
+
+    @Test
+    void authorize_WhenBulkheadIsFull_ShouldFailFastWithoutStarvingOtherPurposes() throws Exception {
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        respondFor(depositAuthorizerService, AuthorizerPurpose.DEPOSIT);
+        respondFor(cardPaymentAuthorizerService, AuthorizerPurpose.CARD_PAYMENT);
+        when(depositAuthorizerService.authorize(any(GetAuthorizerDTO.class))).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        when(cardPaymentAuthorizerService.authorize(any(GetAuthorizerDTO.class))).thenReturn(true);
+
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            var running = caller.submit(() -> authorizerService.authorize(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            BusinessRuleException exception = assertThrows(
+                BusinessRuleException.class,
+                () -> authorizerService.authorize(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO)
+            );
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getErrorDTO().getStatus());
+            assertEquals(BusinessRules.AUTHORIZER_SERVICE_ERROR.name(), exception.getErrorDTO().getReason());
+            assertTrue(authorizerService.authorize(AuthorizerPurpose.CARD_PAYMENT, getAuthorizerDTO));
+
+            release.countDown();
+            assertTrue(running.get(5, TimeUnit.SECONDS));
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void authorizeAsync_WithVirtualThreadsEnabled_ShouldRunOnAuthorizerThreadsForTheRuntime() throws Exception {
+        ReflectionTestUtils.setField(authorizerService, "virtualThreadsEnabled", true);
+        authorizerService.shutdown();
+        authorizerService.init();
+        var threadName = new AtomicReference<String>();
+        when(depositAuthorizerService.isResponsible(AuthorizerPurpose.DEPOSIT)).thenReturn(true);
+        when(depositAuthorizerService.authorize(any(GetAuthorizerDTO.class))).thenAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            return true;
+        });
+
+        CompletableFuture<Boolean> result = authorizerService.authorizeAsync(AuthorizerPurpose.DEPOSIT, getAuthorizerDTO);
+
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+        assertTrue(threadName.get().startsWith("authorizer-"));
+    }
+
+    private void respondFor(IAuthorizerService authorizerService, AuthorizerPurpose authorizerPurpose) {
+        when(authorizerService.isResponsible(any())).thenAnswer(invocation -> authorizerPurpose.equals(invocation.getArgument(0)));
+    }
+}
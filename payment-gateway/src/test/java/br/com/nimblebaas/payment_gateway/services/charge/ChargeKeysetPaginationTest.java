@@ -0,0 +1,199 @@
+package br.com.nimblebaas.payment_gateway.services.charge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.nimblebaas.payment_gateway.configs.authentication.UserAuthenticated;
+import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeFilterInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargeOutputDTO;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargePageOutputRecord;
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.charge.ChargePayment;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.enums.charge.PaymentMethod;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargePaymentRepository;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+import br.com.nimblebaas.payment_gateway.services.charge.payment.ChargePaymentRequestService;
+import br.com.nimblebaas.payment_gateway.services.charge.payment.ChargePaymentService;
+import br.com.nimblebaas.payment_gateway.services.idempotency.IdempotencyService;
+import br.com.nimblebaas.payment_gateway.services.user.UserService;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ChargeService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChargeKeysetPaginationTest {
+
+    private static final int CHARGES = 7;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private ChargePaymentService chargePaymentService;
+
+    @MockitoBean
+    private ChargeExportService chargeExportService;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
+    @MockitoBean
+    private ChargePaymentRequestService chargePaymentRequestService;
+
+    @MockitoBean
+    private ChargeStatusNotifier chargeStatusNotifier;
+
+    @MockitoBean
+    private ChargeStatusService chargeStatusService;
+
+    @Autowired
+    private ChargeService chargeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private ChargePaymentRepository chargePaymentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String suffix;
+    private User originatorUser;
+    private User destinationUser;
+    private List<Charge> charges;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString();
+        originatorUser = createUser("originator");
+        destinationUser = createUser("destination");
+
+        charges = new ArrayList<>();
+        for (int index = 1; index <= CHARGES; index++) {
+            charges.add(chargeRepository.save(Charge.builder()
+                .identifier(UUID.randomUUID().toString())
+                .originatorUser(originatorUser)
+                .destinationUser(destinationUser)
+                .amount(BigDecimal.TEN.multiply(BigDecimal.valueOf(index)))
+                .status(index % 2 == 0 ? ChargeStatus.PAID : ChargeStatus.PENDING)
+                .build()));
+        }
+        charges.stream()
+            .filter(charge -> ChargeStatus.PAID.equals(charge.getStatus()))
+            .forEach(charge -> chargePaymentRepository.save(ChargePayment.builder()
+                .charge(charge)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .authorizationIdentifier("auth-" + charge.getIdentifier())
+                .cardNumber("4111111111111111")
+                .paidAt(LocalDateTime.now())
+                .build()));
+        charges.sort(Comparator.comparing(Charge::getCreatedAt).thenComparing(Charge::getId).reversed());
+    }
+
+    @Test
+    void getSentChargesByUser_PagingWithCursor_ShouldReturnEveryChargeOnceNewestFirst() {
+        var identifiers = new ArrayList<String>();
+        var pages = 0;
+        String cursor = null;
+
+        do {
+            ChargePageOutputRecord page = chargeService.getSentChargesByUser(
+                new UserAuthenticated(originatorUser),
+                new ChargeFilterInputRecord(null, null, null, null, null, cursor, 3));
+            page.items().stream().map(ChargeOutputDTO::getIdentifier).forEach(identifiers::add);
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(charges.stream().map(Charge::getIdentifier).toList(), identifiers);
+    }
+
+    @Test
+    void getSentChargesByUser_WithStatusAndAmountFilters_ShouldReturnOnlyMatchingCharges() {
+        ChargePageOutputRecord page = chargeService.getSentChargesByUser(
+            new UserAuthenticated(originatorUser),
+            new ChargeFilterInputRecord(List.of(ChargeStatus.PAID), null, null, new BigDecimal("20.00"), new BigDecimal("40.00"), null, 10));
+
+        assertEquals(List.of(40, 20),
+            page.items().stream().map(charge -> charge.getAmount().intValueExact()).toList());
+        assertTrue(page.items().stream().allMatch(charge -> ChargeStatus.PAID.equals(charge.getStatus())));
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void getReceivedChargesByUser_WithDateRange_ShouldRespectBounds() {
+        ChargePageOutputRecord beforeCreation = chargeService.getReceivedChargesByUser(
+            new UserAuthenticated(destinationUser),
+            new ChargeFilterInputRecord(null, null, LocalDateTime.now().minusDays(1), null, null, null, 10));
+        ChargePageOutputRecord firstPage = chargeService.getReceivedChargesByUser(
+            new UserAuthenticated(destinationUser),
+            new ChargeFilterInputRecord(null, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), null, null, null, 5));
+
+        assertTrue(beforeCreation.items().isEmpty());
+        assertEquals(5, firstPage.items().size());
+        assertNotNull(firstPage.nextCursor());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, CHARGES})
+    void getSentChargesByUser_ShouldRunSingleQueryWithoutLoadingEntities(int size) {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ChargePageOutputRecord page = chargeService.getSentChargesByUser(
+            new UserAuthenticated(originatorUser),
+            new ChargeFilterInputRecord(null, null, null, null, null, null, size));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(size, page.items().size());
+        assertTrue(page.items().stream()
+            .filter(charge -> ChargeStatus.PAID.equals(charge.getStatus()))
+            .allMatch(charge -> "1111".equals(charge.getPayment().getLastCardDigits())));
+        assertTrue(page.items().stream()
+            .filter(charge -> ChargeStatus.PENDING.equals(charge.getStatus()))
+            .allMatch(charge -> charge.getPayment() == null));
+    }
+
+    private User createUser(String name) {
+        var user = new User();
+        user.setName(name);
+        user.setCpf(name + "-" + suffix);
+        user.setEmail(name + "-" + suffix + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+}
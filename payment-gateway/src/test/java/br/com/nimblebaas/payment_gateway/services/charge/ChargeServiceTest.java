@@ -1,42 +1,65 @@
 package br.com.nimblebaas.payment_gateway.services.charge;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.nimblebaas.payment_gateway.configs.authentication.UserAuthenticated;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeCancelInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeFilterInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargePaymentInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.input.export.ExportFilterInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeCursorRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargeListItemRecord;
 import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentDTO;
 import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargeOutputDTO;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargePageOutputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargePaymentStatusOutputRecord;
 import br.com.nimblebaas.payment_gateway.entities.account.Account;
 import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
 import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargePaymentMode;
 import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
 import br.com.nimblebaas.payment_gateway.enums.charge.PaymentMethod;
 import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.enums.export.ExportFormat;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotentOperation;
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.services.charge.payment.ChargePaymentRequestService;
 import br.com.nimblebaas.payment_gateway.services.charge.payment.ChargePaymentService;
+import br.com.nimblebaas.payment_gateway.services.idempotency.IdempotencyService;
 import br.com.nimblebaas.payment_gateway.services.user.UserService;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +74,21 @@ class ChargeServiceTest {
     @Mock
     private ChargePaymentService chargePaymentService;
 
+    @Mock
+    private ChargeExportService chargeExportService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private ChargePaymentRequestService chargePaymentRequestService;
+
+    @Mock
+    private ChargeStatusNotifier chargeStatusNotifier;
+
+    @Mock
+    private ChargeStatusService chargeStatusService;
+
     @InjectMocks
     private ChargeService chargeService;
 
@@ -76,6 +114,11 @@ class ChargeServiceTest {
         destinationUser.setAccount(destinationAccount);
 
         userAuthenticated = new UserAuthenticated(originatorUser);
+
+        ReflectionTestUtils.setField(chargeService, "defaultPageSize", 50);
+        ReflectionTestUtils.setField(chargeService, "maxPageSize", 200);
+        ReflectionTestUtils.setField(chargeService, "cardPaymentMode", ChargePaymentMode.SYNC);
+        ReflectionTestUtils.setField(chargeService, "maxPollWaitSeconds", 30);
     }
 
     @Test
@@ -102,6 +145,24 @@ class ChargeServiceTest {
         verify(chargeRepository).save(any(Charge.class));
     }
 
+    @Test
+    void create_WithIdempotencyKey_ShouldCreateChargeThroughIdempotencyService() {
+        ChargeInputRecord chargeInput = new ChargeInputRecord(
+            "98765432100",
+            new BigDecimal("100.00"),
+            "Test charge"
+        );
+
+        when(userService.getUserByCpf(anyString())).thenReturn(destinationUser);
+        when(idempotencyService.execute(eq(originatorUser), eq("key-1"), eq(IdempotentOperation.CHARGE_CREATE), eq(chargeInput), eq(ChargeOutputDTO.class), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<ChargeOutputDTO>>getArgument(5).get());
+
+        ChargeOutputDTO result = chargeService.create(userAuthenticated, chargeInput, "key-1");
+
+        assertEquals("98765432100", result.getDestinationCpf());
+        verify(chargeRepository).save(any(Charge.class));
+    }
+
     @Test
     void create_WithSameOriginatorAndDestination_ShouldThrowException() {
         ChargeInputRecord chargeInput = new ChargeInputRecord(
@@ -120,48 +181,224 @@ class ChargeServiceTest {
 
     @Test
     void getSentChargesByUser_ShouldReturnCharges() {
+        ChargeListItemRecord charge = buildListItem(1L, ChargeStatus.PENDING);
+
+        when(chargeRepository.findSentPage(any(User.class), anyList(), any(), any(), any(), any(), any(), any(), any(Limit.class)))
+            .thenReturn(List.of(charge));
+
+        ChargePageOutputRecord result = chargeService.getSentChargesByUser(
+            userAuthenticated,
+            filter(List.of(ChargeStatus.PENDING), null, null)
+        );
+
+        assertNotNull(result);
+        assertEquals(1, result.items().size());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getReceivedChargesByUser_ShouldReturnCharges() {
+        ChargeListItemRecord charge = buildListItem(1L, ChargeStatus.PENDING);
+
+        when(chargeRepository.findReceivedPage(any(User.class), anyList(), any(), any(), any(), any(), any(), any(), any(Limit.class)))
+            .thenReturn(List.of(charge));
+
+        ChargePageOutputRecord result = chargeService.getReceivedChargesByUser(
+            userAuthenticated,
+            filter(List.of(ChargeStatus.PENDING), null, null)
+        );
+
+        assertNotNull(result);
+        assertEquals(1, result.items().size());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getSentChargesByUser_WithNullStatuses_ShouldQueryAllStatuses() {
+        when(chargeRepository.findSentPage(any(User.class), anyList(), any(), any(), any(), any(), any(), any(), any(Limit.class)))
+            .thenReturn(List.of(buildListItem(1L, ChargeStatus.PENDING)));
+
+        chargeService.getSentChargesByUser(userAuthenticated, filter(null, null, null));
+
+        verify(chargeRepository).findSentPage(
+            eq(originatorUser),
+            eq(List.of(ChargeStatus.PENDING, ChargeStatus.PAID, ChargeStatus.CANCELLED)),
+            any(), any(), any(), any(),
+            eq(ChargeCursorRecord.FIRST_PAGE.createdAt()),
+            eq(ChargeCursorRecord.FIRST_PAGE.id()),
+            eq(Limit.of(51)));
+    }
+
+    @Test
+    void getReceivedChargesByUser_WithEmptyStatuses_ShouldQueryAllStatuses() {
+        when(chargeRepository.findReceivedPage(any(User.class), anyList(), any(), any(), any(), any(), any(), any(), any(Limit.class)))
+            .thenReturn(List.of(buildListItem(1L, ChargeStatus.PAID)));
+
+        chargeService.getReceivedChargesByUser(userAuthenticated, filter(List.of(), null, null));
+
+        verify(chargeRepository).findReceivedPage(
+            eq(originatorUser),
+            eq(List.of(ChargeStatus.PENDING, ChargeStatus.PAID, ChargeStatus.CANCELLED)),
+            any(), any(), any(), any(), any(), any(), any(Limit.class));
+    }
+
+    @Test
+    void getSentChargesByUser_WhenMoreRowsThanPageSize_ShouldReturnNextCursorFromLastItem() {
+        ChargeListItemRecord first = buildListItem(3L, ChargeStatus.PENDING);
+        ChargeListItemRecord second = buildListItem(2L, ChargeStatus.PENDING);
+        ChargeListItemRecord extra = buildListItem(1L, ChargeStatus.PENDING);
+
+        when(chargeRepository.findSentPage(any(User.class), anyList(), any(), any(), any(), any(), any(), any(), eq(Limit.of(3))))
+            .thenReturn(List.of(first, second, extra));
+
+        ChargePageOutputRecord result = chargeService.getSentChargesByUser(userAuthenticated, filter(null, null, 2));
+
+        assertEquals(2, result.items().size());
+        assertEquals(new ChargeCursorRecord(second), ChargeCursorRecord.decode(result.nextCursor()));
+    }
+
+    @Test
+    void getSentChargesByUser_WithCursor_ShouldQueryAfterCursor() {
+        ChargeListItemRecord last = buildListItem(10L, ChargeStatus.PENDING);
+        String cursor = new ChargeCursorRecord(last).encode();
+
+        when(chargeRepository.findSentPage(any(User.class), anyList(), any(), any(), any(), any(), any(), any(), any(Limit.class)))
+            .thenReturn(List.of());
+
+        ChargePageOutputRecord result = chargeService.getSentChargesByUser(userAuthenticated, filter(null, cursor, null));
+
+        assertEquals(0, result.items().size());
+        assertNull(result.nextCursor());
+        verify(chargeRepository).findSentPage(
+            any(User.class), anyList(), any(), any(), any(), any(),
+            eq(last.createdAt()), eq(10L), any(Limit.class));
+    }
+
+    @Test
+    void getSentChargesByUser_WithSizeAboveMax_ShouldCapPageSize() {
+        when(chargeRepository.findSentPage(any(User.class), anyList(), any(), any(), any(), any(), any(), any(), any(Limit.class)))
+            .thenReturn(List.of());
+
+        chargeService.getSentChargesByUser(userAuthenticated, filter(null, null, 10_000));
+
+        verify(chargeRepository).findSentPage(
+            any(User.class), anyList(), any(), any(), any(), any(), any(), any(), eq(Limit.of(201)));
+    }
+
+    @Test
+    void getSentChargesByUser_WithInvalidCursor_ShouldThrowException() {
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class,
+            () -> chargeService.getSentChargesByUser(userAuthenticated, filter(null, "not-a-cursor", null)));
+
+        assertEquals(BusinessRules.INVALID_INPUT_DATA.name(), exception.getErrorDTO().getReason());
+    }
+
+    @Test
+    void getSentChargesByUser_WithCreatedFromAfterCreatedTo_ShouldThrowException() {
+        LocalDateTime now = LocalDateTime.now();
+        ChargeFilterInputRecord filter = new ChargeFilterInputRecord(null, now, now.minusDays(1), null, null, null, null);
+
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class,
+            () -> chargeService.getSentChargesByUser(userAuthenticated, filter));
+
+        assertEquals(BusinessRules.INVALID_INPUT_DATA.name(), exception.getErrorDTO().getReason());
+    }
+
+    @Test
+    void getReceivedChargesByUser_WithMinAmountAboveMaxAmount_ShouldThrowException() {
+        ChargeFilterInputRecord filter = new ChargeFilterInputRecord(
+            null, null, null, new BigDecimal("200.00"), new BigDecimal("100.00"), null, null);
+
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class,
+            () -> chargeService.getReceivedChargesByUser(userAuthenticated, filter));
+
+        assertEquals(BusinessRules.INVALID_INPUT_DATA.name(), exception.getErrorDTO().getReason());
+    }
+
+    @Test
+    void exportCharges_ShouldStreamUserChargesInRequestedFormat() throws Exception {
+        LocalDateTime createdTo = LocalDateTime.of(2025, 2, 1, 0, 0);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        StreamingResponseBody export = chargeService.exportCharges(
+            userAuthenticated,
+            new ExportFilterInputRecord(null, null, createdTo));
+        export.writeTo(outputStream);
+
+        verify(chargeExportService).export(eq(originatorUser), any(LocalDateTime.class), eq(createdTo), eq(ExportFormat.NDJSON), eq(outputStream));
+    }
+
+    @Test
+    void exportCharges_WithCreatedFromAfterCreatedTo_ShouldThrowException() {
+        LocalDateTime now = LocalDateTime.now();
+        ExportFilterInputRecord filter = new ExportFilterInputRecord(ExportFormat.CSV, now, now);
+
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class,
+            () -> chargeService.exportCharges(userAuthenticated, filter));
+
+        assertEquals(BusinessRules.INVALID_INPUT_DATA.name(), exception.getErrorDTO().getReason());
+    }
+
+    @Test
+    void pay_WithValidData_ShouldPayCharge() {
+        ChargePaymentInputRecord paymentInput = new ChargePaymentInputRecord(
+            "charge-identifier",
+            PaymentMethod.ACCOUNT_BALANCE,
+            null, null, null, null
+        );
+
         Charge charge = Charge.builder()
+            .identifier("charge-identifier")
             .originatorUser(originatorUser)
             .destinationUser(destinationUser)
             .amount(new BigDecimal("100.00"))
             .status(ChargeStatus.PENDING)
             .build();
 
-        when(chargeRepository.findByOriginatorUserAndStatusIn(any(User.class), anyList()))
-            .thenReturn(Arrays.asList(charge));
+        UserAuthenticated destinationAuthenticated = new UserAuthenticated(destinationUser);
 
-        List<ChargeOutputDTO> result = chargeService.getSentChargesByUser(
-            userAuthenticated,
-            Arrays.asList(ChargeStatus.PENDING)
-        );
+        when(chargeRepository.findByIdentifier(anyString())).thenReturn(Optional.of(charge));
+        when(chargeStatusService.save(any(Charge.class))).thenReturn(charge);
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
+        ChargePaymentStatusOutputRecord result = chargeService.pay(destinationAuthenticated, paymentInput);
+
+        assertEquals(ChargeStatus.PAID, result.status());
+        assertEquals(ChargeStatus.PAID, charge.getStatus());
+        verify(chargeStatusService).save(charge);
     }
 
     @Test
-    void getReceivedChargesByUser_ShouldReturnCharges() {
+    void pay_WithCardInAsyncMode_ShouldEnqueuePaymentAndReturnProcessing() {
+        ReflectionTestUtils.setField(chargeService, "cardPaymentMode", ChargePaymentMode.ASYNC);
+        ChargePaymentInputRecord paymentInput = new ChargePaymentInputRecord(
+            "charge-identifier",
+            PaymentMethod.CREDIT_CARD,
+            "4111111111111111", "12/2030", "123", 1
+        );
+
         Charge charge = Charge.builder()
+            .identifier("charge-identifier")
             .originatorUser(originatorUser)
             .destinationUser(destinationUser)
             .amount(new BigDecimal("100.00"))
             .status(ChargeStatus.PENDING)
             .build();
 
-        when(chargeRepository.findByDestinationUserAndStatusIn(any(User.class), anyList()))
-            .thenReturn(Arrays.asList(charge));
+        when(chargeRepository.findByIdentifier(anyString())).thenReturn(Optional.of(charge));
 
-        List<ChargeOutputDTO> result = chargeService.getReceivedChargesByUser(
-            userAuthenticated,
-            Arrays.asList(ChargeStatus.PENDING)
-        );
+        ChargePaymentStatusOutputRecord result = chargeService.pay(new UserAuthenticated(destinationUser), paymentInput);
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
+        assertEquals(new ChargePaymentStatusOutputRecord("charge-identifier", ChargeStatus.PAYMENT_PROCESSING), result);
+        ArgumentCaptor<ChargePaymentDTO> captor = ArgumentCaptor.forClass(ChargePaymentDTO.class);
+        verify(chargePaymentRequestService).enqueue(captor.capture());
+        assertEquals(charge, captor.getValue().getCharge());
+        assertEquals("4111111111111111", captor.getValue().getCardNumber());
+        verify(chargePaymentService, never()).pay(any(ChargePaymentDTO.class), any(PaymentMethod.class));
     }
 
     @Test
-    void pay_WithValidData_ShouldPayCharge() {
+    void pay_WithBalanceInAsyncMode_ShouldPaySynchronously() {
+        ReflectionTestUtils.setField(chargeService, "cardPaymentMode", ChargePaymentMode.ASYNC);
         ChargePaymentInputRecord paymentInput = new ChargePaymentInputRecord(
             "charge-identifier",
             PaymentMethod.ACCOUNT_BALANCE,
@@ -176,15 +413,81 @@ class ChargeServiceTest {
             .status(ChargeStatus.PENDING)
             .build();
 
-        UserAuthenticated destinationAuthenticated = new UserAuthenticated(destinationUser);
-
         when(chargeRepository.findByIdentifier(anyString())).thenReturn(Optional.of(charge));
-        when(chargeRepository.save(any(Charge.class))).thenReturn(charge);
 
-        chargeService.pay(destinationAuthenticated, paymentInput);
+        ChargePaymentStatusOutputRecord result = chargeService.pay(new UserAuthenticated(destinationUser), paymentInput);
 
-        assertEquals(ChargeStatus.PAID, charge.getStatus());
-        verify(chargeRepository).save(charge);
+        assertEquals(ChargeStatus.PAID, result.status());
+        verify(chargePaymentService).pay(any(ChargePaymentDTO.class), eq(PaymentMethod.ACCOUNT_BALANCE));
+        verify(chargePaymentRequestService, never()).enqueue(any());
+    }
+
+    @Test
+    void getCharge_WithoutWait_ShouldReturnChargeImmediately() {
+        Charge charge = Charge.builder()
+            .identifier("charge-identifier")
+            .originatorUser(originatorUser)
+            .destinationUser(destinationUser)
+            .amount(new BigDecimal("100.00"))
+            .status(ChargeStatus.PAYMENT_PROCESSING)
+            .build();
+
+        when(chargeRepository.findByIdentifier("charge-identifier")).thenReturn(Optional.of(charge));
+
+        var result = chargeService.getCharge(userAuthenticated, "charge-identifier", null);
+
+        assertTrue(result.hasResult());
+        assertEquals(ChargeStatus.PAYMENT_PROCESSING, ((ChargeOutputDTO) result.getResult()).getStatus());
+        verify(chargeStatusNotifier, never()).subscribe(anyString(), any());
+    }
+
+    @Test
+    void getCharge_WhenProcessing_ShouldAnswerWhenStatusChanges() {
+        Charge charge = Charge.builder()
+            .identifier("charge-identifier")
+            .originatorUser(originatorUser)
+            .destinationUser(destinationUser)
+            .amount(new BigDecimal("100.00"))
+            .status(ChargeStatus.PAYMENT_PROCESSING)
+            .build();
+
+        when(chargeRepository.findByIdentifier("charge-identifier")).thenReturn(Optional.of(charge));
+        when(chargeStatusNotifier.subscribe(eq("charge-identifier"), any())).thenReturn(() -> {});
+
+        var result = chargeService.getCharge(new UserAuthenticated(destinationUser), "charge-identifier", 10);
+
+        assertFalse(result.hasResult());
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        verify(chargeStatusNotifier).subscribe(eq("charge-identifier"), listener.capture());
+
+        charge.setStatus(ChargeStatus.PAID);
+        listener.getValue().run();
+
+        assertTrue(result.hasResult());
+        assertEquals(ChargeStatus.PAID, ((ChargeOutputDTO) result.getResult()).getStatus());
+    }
+
+    @Test
+    void getCharge_WithUserOutsideCharge_ShouldThrowException() {
+        User otherUser = new User();
+        otherUser.setCpf("11122233344");
+
+        Charge charge = Charge.builder()
+            .identifier("charge-identifier")
+            .originatorUser(originatorUser)
+            .destinationUser(destinationUser)
+            .amount(new BigDecimal("100.00"))
+            .status(ChargeStatus.PAID)
+            .build();
+
+        when(chargeRepository.findByIdentifier("charge-identifier")).thenReturn(Optional.of(charge));
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> chargeService.getCharge(new UserAuthenticated(otherUser), "charge-identifier", 10)
+        );
+
+        assertEquals(BusinessRules.CHARGE_NOT_FOUND.name(), exception.getErrorDTO().getReason());
     }
 
     @Test
@@ -254,12 +557,12 @@ class ChargeServiceTest {
             .build();
 
         when(chargeRepository.findByIdentifier(anyString())).thenReturn(Optional.of(charge));
-        when(chargeRepository.save(any(Charge.class))).thenReturn(charge);
+        when(chargeStatusService.save(any(Charge.class))).thenReturn(charge);
 
         chargeService.cancel(userAuthenticated, cancelInput);
 
         assertEquals(ChargeStatus.CANCELLED, charge.getStatus());
-        verify(chargeRepository).save(charge);
+        verify(chargeStatusService).save(charge);
     }
 
     @Test
@@ -338,78 +641,6 @@ class ChargeServiceTest {
         assertEquals(BusinessRules.CHARGE_NOT_FOUND.name(), exception.getErrorDTO().getReason());
     }
 
-    @Test
-    void getSentChargesByUser_WithNullStatuses_ShouldReturnAllStatuses() {
-        Charge charge = Charge.builder()
-            .originatorUser(originatorUser)
-            .destinationUser(destinationUser)
-            .amount(new BigDecimal("100.00"))
-            .status(ChargeStatus.PENDING)
-            .build();
-
-        when(chargeRepository.findByOriginatorUserAndStatusIn(any(User.class), anyList()))
-            .thenReturn(Arrays.asList(charge));
-
-        List<ChargeOutputDTO> result = chargeService.getSentChargesByUser(userAuthenticated, null);
-
-        assertNotNull(result);
-        assertEquals(1, result.size());
-    }
-
-    @Test
-    void getSentChargesByUser_WithEmptyStatuses_ShouldReturnAllStatuses() {
-        Charge charge = Charge.builder()
-            .originatorUser(originatorUser)
-            .destinationUser(destinationUser)
-            .amount(new BigDecimal("100.00"))
-            .status(ChargeStatus.PAID)
-            .build();
-
-        when(chargeRepository.findByOriginatorUserAndStatusIn(any(User.class), anyList()))
-            .thenReturn(Arrays.asList(charge));
-
-        List<ChargeOutputDTO> result = chargeService.getSentChargesByUser(userAuthenticated, Arrays.asList());
-
-        assertNotNull(result);
-        assertEquals(1, result.size());
-    }
-
-    @Test
-    void getReceivedChargesByUser_WithNullStatuses_ShouldReturnAllStatuses() {
-        Charge charge = Charge.builder()
-            .originatorUser(originatorUser)
-            .destinationUser(destinationUser)
-            .amount(new BigDecimal("100.00"))
-            .status(ChargeStatus.CANCELLED)
-            .build();
-
-        when(chargeRepository.findByDestinationUserAndStatusIn(any(User.class), anyList()))
-            .thenReturn(Arrays.asList(charge));
-
-        List<ChargeOutputDTO> result = chargeService.getReceivedChargesByUser(userAuthenticated, null);
-
-        assertNotNull(result);
-        assertEquals(1, result.size());
-    }
-
-    @Test
-    void getReceivedChargesByUser_WithEmptyStatuses_ShouldReturnAllStatuses() {
-        Charge charge = Charge.builder()
-            .originatorUser(originatorUser)
-            .destinationUser(destinationUser)
-            .amount(new BigDecimal("100.00"))
-            .status(ChargeStatus.PAID)
-            .build();
-
-        when(chargeRepository.findByDestinationUserAndStatusIn(any(User.class), anyList()))
-            .thenReturn(Arrays.asList(charge));
-
-        List<ChargeOutputDTO> result = chargeService.getReceivedChargesByUser(userAuthenticated, Arrays.asList());
-
-        assertNotNull(result);
-        assertEquals(1, result.size());
-    }
-
     @Test
     void pay_WhenPaymentServiceThrowsBusinessRuleException_ShouldSetStatusToPaymentFailed() {
         ChargePaymentInputRecord paymentInput = new ChargePaymentInputRecord(
@@ -445,7 +676,7 @@ class ChargeServiceTest {
 
         assertEquals(ChargeStatus.PAYMENT_FAILED, charge.getStatus());
         assertEquals("Saldo insuficiente", charge.getErrorMessage());
-        verify(chargeRepository).save(charge);
+        verify(chargeStatusService).save(charge);
     }
 
     @Test
@@ -477,7 +708,7 @@ class ChargeServiceTest {
         assertEquals(ChargeStatus.PAYMENT_FAILED, charge.getStatus());
         assertEquals("Erro inesperado", charge.getErrorMessage());
         assertEquals(BusinessRules.CHARGE_PAYMENT_ERROR.name(), exception.getErrorDTO().getReason());
-        verify(chargeRepository).save(charge);
+        verify(chargeStatusService).save(charge);
     }
 
     @Test
@@ -509,7 +740,7 @@ class ChargeServiceTest {
 
         assertEquals(ChargeStatus.CANCELLED_FAILED, charge.getStatus());
         assertEquals("Autorização negada", charge.getErrorMessage());
-        verify(chargeRepository).save(charge);
+        verify(chargeStatusService).save(charge);
     }
 
     @Test
@@ -535,7 +766,7 @@ class ChargeServiceTest {
         assertEquals(ChargeStatus.CANCELLED_FAILED, charge.getStatus());
         assertEquals("Erro de conexão", charge.getErrorMessage());
         assertEquals(BusinessRules.CHARGE_CANCEL_ERROR.name(), exception.getErrorDTO().getReason());
-        verify(chargeRepository).save(charge);
+        verify(chargeStatusService).save(charge);
     }
 
     @Test
@@ -551,13 +782,29 @@ class ChargeServiceTest {
             .build();
 
         when(chargeRepository.findByIdentifier(anyString())).thenReturn(Optional.of(charge));
-        when(chargeRepository.save(any(Charge.class))).thenReturn(charge);
+        when(chargeStatusService.save(any(Charge.class))).thenReturn(charge);
 
         chargeService.cancel(userAuthenticated, cancelInput);
 
         assertEquals(ChargeStatus.CANCELLED, charge.getStatus());
         verify(chargePaymentService).cancel(charge);
-        verify(chargeRepository).save(charge);
+        verify(chargeStatusService).save(charge);
     }
-}
 
+    private ChargeListItemRecord buildListItem(Long id, ChargeStatus status) {
+        return new ChargeListItemRecord(
+            id,
+            "charge-" + id,
+            originatorUser.getCpf(),
+            destinationUser.getCpf(),
+            new BigDecimal("100.00"),
+            null,
+            status,
+            LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(id),
+            null, null, null, null, null);
+    }
+
+    private ChargeFilterInputRecord filter(List<ChargeStatus> statuses, String cursor, Integer size) {
+        return new ChargeFilterInputRecord(statuses, null, null, null, null, cursor, size);
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.nimblebaas.payment_gateway.services.charge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ChargeStatusNotifierTest {
+
+    private final ChargeStatusNotifier chargeStatusNotifier = new ChargeStatusNotifier();
+
+    @Test
+    void publish_ShouldNotifyEachListenerOnce() {
+        var notified = new AtomicInteger();
+        chargeStatusNotifier.subscribe("charge-1", notified::incrementAndGet);
+        chargeStatusNotifier.subscribe("charge-1", notified::incrementAndGet);
+        chargeStatusNotifier.subscribe("charge-2", notified::incrementAndGet);
+
+        chargeStatusNotifier.publish("charge-1");
+        chargeStatusNotifier.publish("charge-1");
+
+        assertEquals(2, notified.get());
+    }
+
+    @Test
+    void publish_AfterUnsubscribe_ShouldNotNotifyListener() {
+        var notified = new AtomicInteger();
+        var unsubscribe = chargeStatusNotifier.subscribe("charge-1", notified::incrementAndGet);
+
+        unsubscribe.run();
+        chargeStatusNotifier.publish("charge-1");
+
+        assertEquals(0, notified.get());
+    }
+
+    @Test
+    void publish_WhenListenerFails_ShouldNotifyRemainingListeners() {
+        var notified = new AtomicInteger();
+        chargeStatusNotifier.subscribe("charge-1", () -> {
+            throw new IllegalStateException("falha");
+        });
+        chargeStatusNotifier.subscribe("charge-1", notified::incrementAndGet);
+
+        chargeStatusNotifier.publish("charge-1");
+
+        assertEquals(1, notified.get());
+    }
+}
@@ -0,0 +1,207 @@
+package br.com.nimblebaas.payment_gateway.services.charge.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentDTO;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+import br.com.nimblebaas.payment_gateway.services.account.AccountService;
+import br.com.nimblebaas.payment_gateway.services.account.AccountStatementService;
+import br.com.nimblebaas.payment_gateway.services.account.HoldBalanceService;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountBalanceDeltaService;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountBalanceUpdateService;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountDailyBalanceService;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AtomicAccountBalanceUpdater;
+import br.com.nimblebaas.payment_gateway.services.account.balance.OptimisticAccountBalanceUpdater;
+import br.com.nimblebaas.payment_gateway.services.account.lock.AccountLockManager;
+import br.com.nimblebaas.payment_gateway.services.authorizer.AuthorizerService;
+import br.com.nimblebaas.payment_gateway.services.idempotency.IdempotencyService;
+import br.com.nimblebaas.payment_gateway.services.outbox.OutboxService;
+import br.com.nimblebaas.payment_gateway.services.transaction.TransactionExportService;
+import br.com.nimblebaas.payment_gateway.services.transaction.TransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles({"h2", "batching"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+    BalanceChargePaymentService.class,
+    HoldBalanceService.class,
+    TransactionService.class,
+    AccountService.class,
+    AccountLockManager.class,
+    AccountBalanceUpdateService.class,
+    AtomicAccountBalanceUpdater.class,
+    OptimisticAccountBalanceUpdater.class,
+    AccountBalanceDeltaService.class,
+    BalanceChargePaymentPersistenceTest.MeterRegistryConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BalanceChargePaymentPersistenceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceChargePaymentPersistenceTest.class);
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockitoBean
+    private AuthorizerService authorizerService;
+
+    @MockitoBean
+    private TransactionExportService transactionExportService;
+
+    @MockitoBean
+    private AccountStatementService accountStatementService;
+
+    @MockitoBean
+    private AccountDailyBalanceService accountDailyBalanceService;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
+    @MockitoBean
+    private OutboxService outboxService;
+
+    @Autowired
+    private BalanceChargePaymentService balanceChargePaymentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private String identifier;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        identifier = UUID.randomUUID().toString();
+
+        var originatorUser = createUser("originator");
+        var destinationUser = createUser("destination");
+        createAccount(originatorUser, BigDecimal.ZERO);
+        createAccount(destinationUser, new BigDecimal("1000.00"));
+
+        chargeRepository.save(Charge.builder()
+            .identifier(identifier)
+            .originatorUser(originatorUser)
+            .destinationUser(destinationUser)
+            .amount(new BigDecimal("100.00"))
+            .status(ChargeStatus.PENDING)
+            .build());
+    }
+
+    @Test
+    void pay_ShouldFlushOncePerPayment() {
+        var payStatistics = runMeasured(() -> {
+            var charge = chargeRepository.findByIdentifier(identifier).orElseThrow();
+            balanceChargePaymentService.pay(ChargePaymentDTO.builder().charge(charge).build());
+        });
+
+        log.info("Pagamento com saldo: {} statements, {} flushes", payStatistics.statements(), payStatistics.flushes());
+
+        assertEquals(1, payStatistics.flushes());
+        assertEquals(0, new BigDecimal("100.00").compareTo(accountBalanceOf("originator")));
+        assertEquals(0, new BigDecimal("900.00").compareTo(accountBalanceOf("destination")));
+    }
+
+    @Test
+    void cancel_ShouldFlushOncePerRefund() {
+        transactionTemplate.executeWithoutResult(status -> {
+            var charge = chargeRepository.findByIdentifier(identifier).orElseThrow();
+            balanceChargePaymentService.pay(ChargePaymentDTO.builder().charge(charge).build());
+        });
+
+        var cancelStatistics = runMeasured(() -> {
+            var charge = chargeRepository.findByIdentifier(identifier).orElseThrow();
+            balanceChargePaymentService.cancel(charge);
+        });
+
+        log.info("Reembolso com saldo: {} statements, {} flushes", cancelStatistics.statements(), cancelStatistics.flushes());
+
+        assertEquals(1, cancelStatistics.flushes());
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountBalanceOf("originator")));
+        assertEquals(0, new BigDecimal("1000.00").compareTo(accountBalanceOf("destination")));
+    }
+
+    private record MeasuredStatistics(long statements, long flushes) {}
+
+    private MeasuredStatistics runMeasured(Runnable action) {
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> action.run());
+        return new MeasuredStatistics(statistics.getPrepareStatementCount(), statistics.getFlushCount());
+    }
+
+    private BigDecimal accountBalanceOf(String name) {
+        var user = userRepository.findByCpf(cpfOf(name)).orElseThrow();
+        return accountRepository.findByUser(user).orElseThrow().getTotalBalance();
+    }
+
+    private String cpfOf(String name) {
+        return name + "-" + identifier;
+    }
+
+    private User createUser(String name) {
+        var user = new User();
+        user.setName(name);
+        user.setCpf(cpfOf(name));
+        user.setEmail(cpfOf(name) + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+
+    private void createAccount(User user, BigDecimal totalBalance) {
+        var account = new Account(user);
+        account.setTotalBalance(totalBalance);
+        accountRepository.save(account);
+    }
+}
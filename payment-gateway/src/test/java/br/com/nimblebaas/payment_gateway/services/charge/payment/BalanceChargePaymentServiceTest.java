@@ -16,7 +16,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargePaymentInputRecord;
 import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentDTO;
@@ -34,7 +36,9 @@ import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.charge.ChargePaymentRepository;
 import br.com.nimblebaas.payment_gateway.services.account.AccountService;
 import br.com.nimblebaas.payment_gateway.services.account.HoldBalanceService;
+import br.com.nimblebaas.payment_gateway.services.account.lock.AccountLockManager;
 import br.com.nimblebaas.payment_gateway.services.transaction.TransactionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class BalanceChargePaymentServiceTest {
@@ -51,6 +55,9 @@ class BalanceChargePaymentServiceTest {
     @Mock
     private ChargePaymentRepository chargePaymentRepository;
 
+    @Spy
+    private AccountLockManager accountLockManager = new AccountLockManager(new SimpleMeterRegistry());
+
     @InjectMocks
     private BalanceChargePaymentService balanceChargePaymentService;
 
@@ -63,6 +70,10 @@ class BalanceChargePaymentServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(accountLockManager, "stripes", 16);
+        ReflectionTestUtils.setField(accountLockManager, "timeoutMillis", 100L);
+        accountLockManager.init();
+
         originatorUser = new User();
         originatorUser.setCpf("12345678900");
 
@@ -269,15 +280,17 @@ class BalanceChargePaymentServiceTest {
 
         HoldBalance holdBalance = new HoldBalance();
         Transaction debitTransaction = new Transaction();
+        Transaction creditTransaction = new Transaction();
 
         when(holdBalanceService.createHold(any(), any(), any())).thenReturn(holdBalance);
         when(transactionService.createChargeRefundDebitTransaction(any(), any())).thenReturn(debitTransaction);
-        when(transactionService.createChargeRefundCreditTransaction(any())).thenReturn(new Transaction());
+        when(transactionService.createChargeRefundCreditTransaction(any())).thenReturn(creditTransaction);
         when(chargePaymentRepository.save(any())).thenReturn(payment);
 
         balanceChargePaymentService.cancel(charge);
 
         verify(transactionService).completeSuccessTransaction(debitTransaction);
+        verify(transactionService).completeSuccessTransaction(creditTransaction);
     }
 }
 
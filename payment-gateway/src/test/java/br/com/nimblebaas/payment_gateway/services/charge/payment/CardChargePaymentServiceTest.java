@@ -5,15 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -146,6 +149,22 @@ class CardChargePaymentServiceTest {
         assertEquals(BusinessRules.AUTHORIZATION_FAILED.name(), exception.getErrorDTO().getReason());
     }
 
+    @Test
+    void authorizeAsync_ShouldAuthorizeCardPaymentWithChargeIdentifier() {
+        ChargePaymentDTO chargePaymentDTO = new ChargePaymentDTO(chargePaymentInputRecord, charge);
+
+        when(authorizerService.authorizeAsync(eq(AuthorizerPurpose.CARD_PAYMENT), any(GetAuthorizerDTO.class)))
+            .thenReturn(CompletableFuture.completedFuture(true));
+
+        assertTrue(cardChargePaymentService.authorizeAsync(chargePaymentDTO).join());
+
+        ArgumentCaptor<GetAuthorizerDTO> captor = ArgumentCaptor.forClass(GetAuthorizerDTO.class);
+        verify(authorizerService).authorizeAsync(eq(AuthorizerPurpose.CARD_PAYMENT), captor.capture());
+        assertEquals("CARD_PAYMENT_charge-identifier", captor.getValue().getIdentifier());
+        assertEquals("98765432100", captor.getValue().getCpf());
+        assertEquals("1234567890123456", captor.getValue().getCardDetails().getCardNumber());
+    }
+
     @Test
     void cancel_WithAuthorization_ShouldCancelSuccessfully() {
         ChargePayment payment = ChargePayment.builder()
@@ -300,16 +319,18 @@ class CardChargePaymentServiceTest {
 
         HoldBalance holdBalance = new HoldBalance();
         Transaction debitTransaction = new Transaction();
+        Transaction creditTransaction = new Transaction();
 
         when(holdBalanceService.createHold(any(), any(), any())).thenReturn(holdBalance);
         when(transactionService.createChargeRefundDebitTransaction(any(), any())).thenReturn(debitTransaction);
         when(authorizerService.authorize(any(AuthorizerPurpose.class), any(GetAuthorizerDTO.class))).thenReturn(true);
-        when(transactionService.createChargeRefundCreditTransaction(any())).thenReturn(new Transaction());
+        when(transactionService.createChargeRefundCreditTransaction(any())).thenReturn(creditTransaction);
         when(chargePaymentRepository.save(any())).thenReturn(payment);
 
         cardChargePaymentService.cancel(charge);
 
         verify(transactionService).completeSuccessTransaction(debitTransaction);
+        verify(transactionService).completeSuccessTransaction(creditTransaction);
     }
 }
 
@@ -0,0 +1,159 @@
+package br.com.nimblebaas.payment_gateway.services.charge.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentDTO;
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargePaymentRequestStatus;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargePaymentRequestRepository;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+import br.com.nimblebaas.payment_gateway.services.charge.ChargeStatusService;
+import br.com.nimblebaas.payment_gateway.services.outbox.OutboxService;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ChargePaymentRequestService.class, ChargePaymentCardVault.class, ChargeStatusService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChargePaymentRequestPersistenceTest {
+
+    @Autowired
+    private ChargePaymentRequestService chargePaymentRequestService;
+
+    @Autowired
+    private ChargePaymentCardVault chargePaymentCardVault;
+
+    @Autowired
+    private ChargePaymentRequestRepository chargePaymentRequestRepository;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private CardChargePaymentService cardChargePaymentService;
+
+    @MockitoBean
+    private OutboxService outboxService;
+
+    private Charge charge;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("update charge_payment_requests set status = 'FAILED' where status = 'PENDING'");
+
+        charge = chargeRepository.save(Charge.builder()
+            .identifier(UUID.randomUUID().toString())
+            .originatorUser(createUser())
+            .destinationUser(createUser())
+            .amount(new BigDecimal("100.00"))
+            .status(ChargeStatus.PAYMENT_FAILED)
+            .errorMessage("Cobrança não autorizada")
+            .build());
+    }
+
+    @Test
+    void enqueue_ShouldMoveChargeToProcessingOnlyOnce() {
+        chargePaymentRequestService.enqueue(cardPayment());
+
+        var processing = chargeRepository.findById(charge.getId()).orElseThrow();
+        assertEquals(ChargeStatus.PAYMENT_PROCESSING, processing.getStatus());
+        assertNull(processing.getErrorMessage());
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> chargePaymentRequestService.enqueue(cardPayment())
+        );
+        assertEquals(BusinessRules.CHARGE_NOT_ALLOWED_TO_PAY.name(), exception.getErrorDTO().getReason());
+    }
+
+    @Test
+    void claim_ShouldLeaseRequestUntilItIsCompleted() {
+        var chargePaymentRequest = chargePaymentRequestService.enqueue(cardPayment());
+
+        var claimed = chargePaymentRequestService.claim(10);
+
+        assertEquals(1, claimed.size());
+        assertEquals(chargePaymentRequest.getId(), claimed.get(0).getId());
+        assertEquals(1, claimed.get(0).getAttempts());
+        assertEquals(charge.getIdentifier(), claimed.get(0).getCharge().getIdentifier());
+        assertTrue(chargePaymentRequestService.claim(10).isEmpty());
+
+        var status = chargePaymentRequestService.complete(chargePaymentRequest.getId(), false);
+
+        assertEquals(ChargeStatus.PAYMENT_FAILED, status);
+        assertEquals(ChargeStatus.PAYMENT_FAILED, chargeRepository.findById(charge.getId()).orElseThrow().getStatus());
+        var completed = chargePaymentRequestRepository.findById(chargePaymentRequest.getId()).orElseThrow();
+        assertEquals(ChargePaymentRequestStatus.FAILED, completed.getStatus());
+        assertTrue(chargePaymentCardVault.get(chargePaymentRequest.getId()).isEmpty());
+    }
+
+    @Test
+    void enqueue_ShouldNotPersistCardData() {
+        var chargePaymentRequest = chargePaymentRequestService.enqueue(cardPayment());
+
+        var columns = jdbcTemplate.queryForList("select * from charge_payment_requests where id = ?", chargePaymentRequest.getId()).get(0);
+        assertFalse(columns.keySet().stream().anyMatch(column -> column.toLowerCase().startsWith("card_")));
+        assertEquals(chargePaymentCardVault.getOwner(), columns.get("OWNER_NODE"));
+        assertEquals("123", chargePaymentCardVault.get(chargePaymentRequest.getId()).orElseThrow().cardCvv());
+    }
+
+    @Test
+    void failOrphaned_ShouldFailExpiredRequestsOfOtherNodesOnly() {
+        var chargePaymentRequest = chargePaymentRequestService.enqueue(cardPayment());
+        jdbcTemplate.update("update charge_payment_requests set owner_node = 'other-node', available_at = ? where id = ?",
+            Timestamp.valueOf(LocalDateTime.now().minusMinutes(10)), chargePaymentRequest.getId());
+
+        assertTrue(chargePaymentRequestService.claim(10).isEmpty());
+        var failed = chargePaymentRequestService.failOrphaned(10);
+
+        assertEquals(1, failed.size());
+        assertEquals(ChargePaymentRequestStatus.FAILED, chargePaymentRequestRepository.findById(chargePaymentRequest.getId()).orElseThrow().getStatus());
+        assertEquals(ChargeStatus.PAYMENT_FAILED, chargeRepository.findById(charge.getId()).orElseThrow().getStatus());
+    }
+
+    private ChargePaymentDTO cardPayment() {
+        return new ChargePaymentDTO(charge, "4111111111111111", "12/2030", "123", 1);
+    }
+
+    private User createUser() {
+        var suffix = UUID.randomUUID().toString();
+        var user = new User();
+        user.setName("charge-" + suffix);
+        user.setCpf(suffix);
+        user.setEmail(suffix + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+}
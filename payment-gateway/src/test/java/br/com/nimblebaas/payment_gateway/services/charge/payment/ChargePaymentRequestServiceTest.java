@@ -0,0 +1,234 @@
+package br.com.nimblebaas.payment_gateway.services.charge.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentCardRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentDTO;
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.charge.ChargePaymentRequest;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargePaymentRequestStatus;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargePaymentRequestRepository;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.services.charge.ChargeStatusService;
+import br.com.nimblebaas.payment_gateway.services.outbox.OutboxService;
+
+@ExtendWith(MockitoExtension.class)
+class ChargePaymentRequestServiceTest {
+
+    @Mock
+    private ChargePaymentRequestRepository chargePaymentRequestRepository;
+
+    @Mock
+    private ChargeRepository chargeRepository;
+
+    @Mock
+    private CardChargePaymentService cardChargePaymentService;
+
+    @Mock
+    private ChargeStatusService chargeStatusService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private ChargePaymentCardVault chargePaymentCardVault = new ChargePaymentCardVault(60L, 3);
+
+    @InjectMocks
+    private ChargePaymentRequestService chargePaymentRequestService;
+
+    private Charge charge;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chargePaymentRequestService, "leaseSeconds", 60L);
+        ReflectionTestUtils.setField(chargePaymentRequestService, "maxAttempts", 3);
+
+        charge = Charge.builder()
+            .id(10L)
+            .identifier("charge-identifier")
+            .amount(new BigDecimal("100.00"))
+            .status(ChargeStatus.PAYMENT_PROCESSING)
+            .build();
+    }
+
+    @Test
+    void enqueue_ShouldMarkChargeAsProcessingAndKeepCardDataOutOfTheRequest() {
+        var chargePaymentDTO = new ChargePaymentDTO(charge, "4111111111111111", "12/2030", "123", 1);
+        when(chargeRepository.markPaymentProcessing(10L)).thenReturn(1);
+        when(chargePaymentRequestRepository.save(any(ChargePaymentRequest.class))).thenAnswer(invocation -> {
+            ChargePaymentRequest saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 1L);
+            return saved;
+        });
+
+        var chargePaymentRequest = chargePaymentRequestService.enqueue(chargePaymentDTO);
+
+        assertEquals(ChargePaymentRequestStatus.PENDING, chargePaymentRequest.getStatus());
+        assertEquals(0, chargePaymentRequest.getAttempts());
+        assertEquals(chargePaymentCardVault.getOwner(), chargePaymentRequest.getOwnerNode());
+        assertEquals(new ChargePaymentCardRecord("4111111111111111", "12/2030", "123"), chargePaymentCardVault.get(1L).orElseThrow());
+        assertEquals(charge, chargePaymentRequest.getCharge());
+        verify(outboxService).record(charge);
+    }
+
+    @Test
+    void enqueue_WhenChargeIsNoLongerPayable_ShouldThrowException() {
+        when(chargeRepository.markPaymentProcessing(10L)).thenReturn(0);
+
+        BusinessRuleException exception = assertThrows(
+            BusinessRuleException.class,
+            () -> chargePaymentRequestService.enqueue(new ChargePaymentDTO(charge, null, null, null, null))
+        );
+
+        assertEquals(BusinessRules.CHARGE_NOT_ALLOWED_TO_PAY.name(), exception.getErrorDTO().getReason());
+        verify(chargePaymentRequestRepository, never()).save(any());
+        verify(outboxService, never()).record(any(Charge.class));
+    }
+
+    @Test
+    void claim_ShouldLeaseClaimedRequestsAndCountAttempt() {
+        var chargePaymentRequest = pendingRequest(0);
+        when(chargePaymentRequestRepository.claimAvailable(eq(chargePaymentCardVault.getOwner()), any(LocalDateTime.class), any())).thenReturn(List.of(chargePaymentRequest));
+        when(chargePaymentRequestRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var before = LocalDateTime.now();
+        var claimed = chargePaymentRequestService.claim(10);
+
+        assertEquals(1, claimed.size());
+        assertEquals(1, chargePaymentRequest.getAttempts());
+        assertTrue(chargePaymentRequest.getAvailableAt().isAfter(before.plusSeconds(59)));
+    }
+
+    @Test
+    void complete_WhenAuthorized_ShouldCreditOriginatorAndEvictCardData() {
+        var chargePaymentRequest = pendingRequest(1);
+        chargePaymentCardVault.put(1L, new ChargePaymentCardRecord("4111111111111111", "12/2030", "123"));
+        when(chargePaymentRequestRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(chargePaymentRequest));
+
+        var status = chargePaymentRequestService.complete(1L, true);
+
+        assertEquals(ChargeStatus.PAID, status);
+        assertEquals(ChargeStatus.PAID, charge.getStatus());
+        assertEquals(ChargePaymentRequestStatus.COMPLETED, chargePaymentRequest.getStatus());
+        assertTrue(chargePaymentCardVault.get(1L).isEmpty());
+        verify(cardChargePaymentService).completePayment(charge, "4111111111111111");
+        verify(chargeStatusService).save(charge);
+    }
+
+    @Test
+    void complete_WhenDenied_ShouldFailChargeWithoutCrediting() {
+        var chargePaymentRequest = pendingRequest(1);
+        when(chargePaymentRequestRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(chargePaymentRequest));
+
+        var status = chargePaymentRequestService.complete(1L, false);
+
+        assertEquals(ChargeStatus.PAYMENT_FAILED, status);
+        assertEquals("Cobrança não autorizada", charge.getErrorMessage());
+        assertEquals(ChargePaymentRequestStatus.FAILED, chargePaymentRequest.getStatus());
+        verify(cardChargePaymentService, never()).completePayment(any(), anyString());
+    }
+
+    @Test
+    void complete_WhenAlreadyProcessed_ShouldKeepCurrentStatus() {
+        var chargePaymentRequest = pendingRequest(1);
+        chargePaymentRequest.setStatus(ChargePaymentRequestStatus.COMPLETED);
+        charge.setStatus(ChargeStatus.PAID);
+        when(chargePaymentRequestRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(chargePaymentRequest));
+
+        var status = chargePaymentRequestService.complete(1L, true);
+
+        assertEquals(ChargeStatus.PAID, status);
+        verify(cardChargePaymentService, never()).completePayment(any(), anyString());
+        verify(chargePaymentRequestRepository, never()).save(any());
+    }
+
+    @Test
+    void retryOrFail_BeforeMaxAttempts_ShouldKeepRequestPending() {
+        var chargePaymentRequest = pendingRequest(2);
+        when(chargePaymentRequestRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(chargePaymentRequest));
+
+        var status = chargePaymentRequestService.retryOrFail(1L, "Autorizador indisponível");
+
+        assertEquals(ChargeStatus.PAYMENT_PROCESSING, status);
+        assertEquals(ChargePaymentRequestStatus.PENDING, chargePaymentRequest.getStatus());
+        assertEquals("Autorizador indisponível", chargePaymentRequest.getErrorMessage());
+        verify(chargeStatusService, never()).save(any());
+    }
+
+    @Test
+    void retryOrFail_AfterMaxAttempts_ShouldFailCharge() {
+        var chargePaymentRequest = pendingRequest(3);
+        when(chargePaymentRequestRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(chargePaymentRequest));
+
+        var status = chargePaymentRequestService.retryOrFail(1L, "Autorizador indisponível");
+
+        assertEquals(ChargeStatus.PAYMENT_FAILED, status);
+        assertEquals(ChargePaymentRequestStatus.FAILED, chargePaymentRequest.getStatus());
+        assertEquals("Autorizador indisponível", charge.getErrorMessage());
+        assertTrue(chargePaymentCardVault.get(1L).isEmpty());
+    }
+
+    @Test
+    void failWithoutCardData_ShouldFailPendingRequest() {
+        var chargePaymentRequest = pendingRequest(1);
+        when(chargePaymentRequestRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(chargePaymentRequest));
+
+        var status = chargePaymentRequestService.failWithoutCardData(1L);
+
+        assertEquals(ChargeStatus.PAYMENT_FAILED, status);
+        assertEquals(ChargePaymentRequestStatus.FAILED, chargePaymentRequest.getStatus());
+        assertEquals("Dados do cartão indisponíveis, refaça o pagamento", charge.getErrorMessage());
+        verify(cardChargePaymentService, never()).completePayment(any(), anyString());
+    }
+
+    @Test
+    void failOrphaned_ShouldFailRequestsOwnedByOtherNodes() {
+        var chargePaymentRequest = pendingRequest(1);
+        chargePaymentRequest.setOwnerNode("other-node");
+        when(chargePaymentRequestRepository.claimOrphaned(eq(chargePaymentCardVault.getOwner()), any(LocalDateTime.class), eq(10)))
+            .thenReturn(List.of(chargePaymentRequest));
+
+        var failed = chargePaymentRequestService.failOrphaned(10);
+
+        assertEquals(List.of(chargePaymentRequest), failed);
+        assertEquals(ChargePaymentRequestStatus.FAILED, chargePaymentRequest.getStatus());
+        assertEquals(ChargeStatus.PAYMENT_FAILED, charge.getStatus());
+    }
+
+    private ChargePaymentRequest pendingRequest(Integer attempts) {
+        return ChargePaymentRequest.builder()
+            .id(1L)
+            .charge(charge)
+            .installments(1)
+            .status(ChargePaymentRequestStatus.PENDING)
+            .attempts(attempts)
+            .availableAt(LocalDateTime.now())
+            .build();
+    }
+}
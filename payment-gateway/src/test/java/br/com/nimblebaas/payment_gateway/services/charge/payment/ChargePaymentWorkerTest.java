@@ -0,0 +1,169 @@
+package br.com.nimblebaas.payment_gateway.services.charge.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentCardRecord;
+import br.com.nimblebaas.payment_gateway.dtos.internal.charge.ChargePaymentDTO;
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.charge.ChargePaymentRequest;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargePaymentRequestStatus;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.services.charge.ChargeStatusNotifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ChargePaymentWorkerTest {
+
+    @Mock
+    private ChargePaymentRequestService chargePaymentRequestService;
+
+    @Mock
+    private CardChargePaymentService cardChargePaymentService;
+
+    @Mock
+    private ChargeStatusNotifier chargeStatusNotifier;
+
+    private ChargePaymentCardVault chargePaymentCardVault;
+    private SimpleMeterRegistry meterRegistry;
+    private ChargePaymentWorker chargePaymentWorker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chargePaymentCardVault = new ChargePaymentCardVault(60L, 3);
+        chargePaymentWorker = new ChargePaymentWorker(chargePaymentRequestService, chargePaymentCardVault, cardChargePaymentService, chargeStatusNotifier, meterRegistry);
+        ReflectionTestUtils.setField(chargePaymentWorker, "batchSize", 10);
+        ReflectionTestUtils.setField(chargePaymentWorker, "poolSize", 2);
+        ReflectionTestUtils.setField(chargePaymentWorker, "queueCapacity", 10);
+        chargePaymentWorker.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        chargePaymentWorker.shutdown();
+    }
+
+    @Test
+    void drain_ShouldCompleteAuthorizedAndDeniedPaymentsAndNotifyPollers() {
+        var approved = request(1L, "charge-1");
+        var denied = request(2L, "charge-2");
+        when(chargePaymentRequestService.claim(10)).thenReturn(List.of(approved, denied));
+        when(cardChargePaymentService.authorizeAsync(any(ChargePaymentDTO.class))).thenAnswer(invocation -> CompletableFuture.completedFuture(
+            invocation.<ChargePaymentDTO>getArgument(0).getCharge().getIdentifier().equals("charge-1")));
+        when(chargePaymentRequestService.complete(1L, true)).thenReturn(ChargeStatus.PAID);
+        when(chargePaymentRequestService.complete(2L, false)).thenReturn(ChargeStatus.PAYMENT_FAILED);
+
+        var drained = chargePaymentWorker.drain();
+
+        assertEquals(2, drained);
+        verify(chargeStatusNotifier).publish("charge-1");
+        verify(chargeStatusNotifier).publish("charge-2");
+        assertEquals(1.0, meterRegistry.get("charge.payment.async.requests").tag("result", "paid").counter().count());
+        assertEquals(1.0, meterRegistry.get("charge.payment.async.requests").tag("result", "failed").counter().count());
+        assertEquals(2L, meterRegistry.get("charge.payment.async.duration").timer().count());
+    }
+
+    @Test
+    void drain_WhenAuthorizerFails_ShouldScheduleRetryWithoutNotifying() {
+        var chargePaymentRequest = request(1L, "charge-1");
+        when(chargePaymentRequestService.claim(10)).thenReturn(List.of(chargePaymentRequest));
+        when(cardChargePaymentService.authorizeAsync(any(ChargePaymentDTO.class))).thenReturn(CompletableFuture.failedFuture(new BusinessRuleException(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            getClass(),
+            BusinessRules.AUTHORIZER_SERVICE_ERROR,
+            "Autorizador indisponível")));
+        when(chargePaymentRequestService.retryOrFail(1L, "Autorizador indisponível")).thenReturn(ChargeStatus.PAYMENT_PROCESSING);
+
+        chargePaymentWorker.drain();
+
+        verify(chargePaymentRequestService, never()).complete(any(), any(Boolean.class));
+        verify(chargeStatusNotifier, never()).publish(anyString());
+        assertEquals(1.0, meterRegistry.get("charge.payment.async.requests").tag("result", "retried").counter().count());
+    }
+
+    @Test
+    void drain_WhenCompletionFails_ShouldRetryOrFailRequest() {
+        var chargePaymentRequest = request(1L, "charge-1");
+        when(chargePaymentRequestService.claim(10)).thenReturn(List.of(chargePaymentRequest));
+        when(cardChargePaymentService.authorizeAsync(any(ChargePaymentDTO.class))).thenReturn(CompletableFuture.completedFuture(true));
+        when(chargePaymentRequestService.complete(1L, true)).thenThrow(new IllegalStateException("Falha ao creditar"));
+        when(chargePaymentRequestService.retryOrFail(1L, "Falha ao creditar")).thenReturn(ChargeStatus.PAYMENT_FAILED);
+
+        chargePaymentWorker.drain();
+
+        verify(chargeStatusNotifier).publish("charge-1");
+        assertEquals(1.0, meterRegistry.get("charge.payment.async.requests").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    void drain_WhenCardDataIsMissing_ShouldFailWithoutCallingAuthorizer() {
+        var chargePaymentRequest = request(1L, "charge-1");
+        chargePaymentCardVault.evict(1L);
+        when(chargePaymentRequestService.claim(10)).thenReturn(List.of(chargePaymentRequest));
+        when(chargePaymentRequestService.failWithoutCardData(1L)).thenReturn(ChargeStatus.PAYMENT_FAILED);
+
+        chargePaymentWorker.drain();
+
+        verify(cardChargePaymentService, never()).authorizeAsync(any());
+        verify(chargeStatusNotifier).publish("charge-1");
+        assertEquals(1.0, meterRegistry.get("charge.payment.async.requests").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    void drain_ShouldFailRequestsOrphanedByOtherNodes() {
+        var orphaned = request(3L, "charge-3");
+        when(chargePaymentRequestService.failOrphaned(10)).thenReturn(List.of(orphaned));
+        when(chargePaymentRequestService.claim(10)).thenReturn(List.of());
+
+        chargePaymentWorker.drain();
+
+        verify(chargeStatusNotifier).publish("charge-3");
+        assertEquals(1.0, meterRegistry.get("charge.payment.async.requests").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    void drain_WhenClaimFails_ShouldReturnZero() {
+        when(chargePaymentRequestService.claim(10)).thenThrow(new IllegalStateException("Banco indisponível"));
+
+        assertEquals(0, chargePaymentWorker.drain());
+    }
+
+    private ChargePaymentRequest request(Long id, String identifier) {
+        var charge = Charge.builder()
+            .identifier(identifier)
+            .amount(new BigDecimal("100.00"))
+            .status(ChargeStatus.PAYMENT_PROCESSING)
+            .build();
+        chargePaymentCardVault.put(id, new ChargePaymentCardRecord("4111111111111111", "12/2030", "123"));
+        return ChargePaymentRequest.builder()
+            .id(id)
+            .charge(charge)
+            .ownerNode(chargePaymentCardVault.getOwner())
+            .status(ChargePaymentRequestStatus.PENDING)
+            .attempts(1)
+            .availableAt(LocalDateTime.now())
+            .createdAt(LocalDateTime.now().minusSeconds(1))
+            .build();
+    }
+}
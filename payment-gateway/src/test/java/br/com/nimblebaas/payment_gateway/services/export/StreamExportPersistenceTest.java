@@ -0,0 +1,238 @@
+package br.com.nimblebaas.payment_gateway.services.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.enums.export.ExportFormat;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+import br.com.nimblebaas.payment_gateway.services.charge.ChargeExportService;
+import br.com.nimblebaas.payment_gateway.services.transaction.TransactionExportService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles({"h2", "batching"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+    ChargeExportService.class,
+    TransactionExportService.class,
+    StreamExportWriter.class,
+    StreamExportPersistenceTest.ExportConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StreamExportPersistenceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamExportPersistenceTest.class);
+
+    private static final int ROWS = 1000;
+    private static final LocalDateTime CREATED_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime CREATED_TO = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @TestConfiguration
+    static class ExportConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        }
+    }
+
+    private static class LineCountingOutputStream extends OutputStream {
+
+        private long lines;
+
+        @Override
+        public void write(int value) {
+            if (value == '\n')
+                lines++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int index = offset; index < offset + length; index++)
+                write(bytes[index]);
+        }
+    }
+
+    @Autowired
+    private ChargeExportService chargeExportService;
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String suffix;
+    private User originatorUser;
+    private User destinationUser;
+    private Account originatorAccount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        suffix = UUID.randomUUID().toString();
+
+        originatorUser = createUser("originator");
+        destinationUser = createUser("destination");
+        var otherUser = createUser("other");
+        originatorAccount = accountRepository.save(new Account(originatorUser));
+        var destinationAccount = accountRepository.save(new Account(destinationUser));
+
+        var charges = new ArrayList<Charge>();
+        IntStream.range(0, ROWS).forEach(index -> charges.add(Charge.builder()
+            .identifier(UUID.randomUUID().toString())
+            .originatorUser(index % 2 == 0 ? originatorUser : destinationUser)
+            .destinationUser(index % 2 == 0 ? destinationUser : originatorUser)
+            .amount(BigDecimal.valueOf(index + 1))
+            .description("cobrança " + index)
+            .status(ChargeStatus.PENDING)
+            .build()));
+        charges.add(Charge.builder()
+            .identifier(UUID.randomUUID().toString())
+            .originatorUser(otherUser)
+            .destinationUser(destinationUser)
+            .amount(BigDecimal.TEN)
+            .status(ChargeStatus.PENDING)
+            .build());
+        chargeRepository.saveAll(charges);
+
+        var transactions = new ArrayList<Transaction>();
+        IntStream.range(0, ROWS).forEach(index -> transactions.add(Transaction.builder()
+            .partyAccount(index % 3 == 0 ? destinationAccount : originatorAccount)
+            .counterpartAccount(index % 3 == 0 ? originatorAccount : destinationAccount)
+            .amount(BigDecimal.valueOf(index + 1))
+            .type(TransactionType.DEBIT)
+            .purpose(TransactionPurpose.CHARGE_PAYMENT)
+            .status(TransactionStatus.SUCCESS)
+            .build()));
+        transactionRepository.saveAll(transactions);
+    }
+
+    @Test
+    void exportCharges_AsNdjson_ShouldStreamEveryChargeOfTheUserInOneQuery() throws Exception {
+        var outputStream = new LineCountingOutputStream();
+
+        var count = measure("charges", () -> chargeExportService.export(
+            originatorUser, CREATED_FROM, CREATED_TO, ExportFormat.NDJSON, outputStream));
+
+        assertEquals(ROWS, count);
+        assertEquals(ROWS, outputStream.lines);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void exportTransactions_AsCsv_ShouldStreamOnlyPartyAccountTransactions() throws Exception {
+        var expected = IntStream.range(0, ROWS).filter(index -> index % 3 != 0).count();
+        var outputStream = new LineCountingOutputStream();
+
+        var count = measure("transactions", () -> transactionExportService.export(
+            originatorAccount, CREATED_FROM, CREATED_TO, ExportFormat.CSV, outputStream));
+
+        assertEquals(expected, count);
+        assertEquals(expected + 1, outputStream.lines);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void exportTransactions_AsCsv_ShouldWriteCounterpartCpf() throws Exception {
+        var outputStream = new ByteArrayOutputStream();
+
+        transactionExportService.export(originatorAccount, CREATED_FROM, CREATED_TO, ExportFormat.CSV, outputStream);
+
+        var lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,createdAt,type,purpose,status,amount,counterpartCpf,chargeIdentifier,authorizationIdentifier,errorMessage", lines[0]);
+        assertTrue(lines[1].contains(",DEBIT,CHARGE_PAYMENT,SUCCESS,2," + destinationUser.getCpf() + ",,,"));
+    }
+
+    private interface ExportAction {
+        long run() throws Exception;
+    }
+
+    private long measure(String name, ExportAction action) throws Exception {
+        var runtime = Runtime.getRuntime();
+        statistics.clear();
+        var usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        var start = System.nanoTime();
+
+        var count = action.run();
+
+        var elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        var usedAfter = runtime.totalMemory() - runtime.freeMemory();
+        log.info("Exportação de {}: {} linhas em {} ms ({} linhas/s), heap {} KB -> {} KB",
+            name, count, elapsedMillis, count * 1000 / elapsedMillis, usedBefore / 1024, usedAfter / 1024);
+        return count;
+    }
+
+    private User createUser(String name) {
+        var user = new User();
+        user.setName(name);
+        user.setCpf(name + "-" + suffix);
+        user.setEmail(name + "-" + suffix + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+}
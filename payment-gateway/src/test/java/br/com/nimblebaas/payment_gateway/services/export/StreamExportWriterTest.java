@@ -0,0 +1,95 @@
+package br.com.nimblebaas.payment_gateway.services.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.export.ExportColumnRecord;
+import br.com.nimblebaas.payment_gateway.enums.export.ExportFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StreamExportWriterTest {
+
+    private record Row(Long id, String description, BigDecimal amount, LocalDateTime createdAt) {}
+
+    private static final List<ExportColumnRecord<Row>> COLUMNS = List.of(
+        new ExportColumnRecord<>("id", Row::id),
+        new ExportColumnRecord<>("description", Row::description),
+        new ExportColumnRecord<>("amount", Row::amount),
+        new ExportColumnRecord<>("createdAt", Row::createdAt)
+    );
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private StreamExportWriter streamExportWriter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        meterRegistry = new SimpleMeterRegistry();
+        streamExportWriter = new StreamExportWriter(objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(streamExportWriter, "flushIntervalRows", 2);
+    }
+
+    @Test
+    void write_AsNdjson_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        var outputStream = new ByteArrayOutputStream();
+        var rows = Stream.of(
+            new Row(1L, "primeira", new BigDecimal("10.50"), CREATED_AT),
+            new Row(2L, null, new BigDecimal("20.00"), CREATED_AT));
+
+        var count = streamExportWriter.write("test", rows, ExportFormat.NDJSON, COLUMNS, outputStream);
+
+        var lines = outputStream.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(2, count);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        assertEquals("{\"id\":1,\"description\":\"primeira\",\"amount\":10.50,\"createdAt\":\"2025-01-02T03:04:05\"}", lines[0]);
+        assertTrue(objectMapper.readTree(lines[1]).get("description").isNull());
+    }
+
+    @Test
+    void write_AsCsv_ShouldWriteHeaderAndEscapeValues() throws Exception {
+        var outputStream = new ByteArrayOutputStream();
+        var rows = Stream.of(
+            new Row(1L, "aluguel, janeiro", new BigDecimal("1E+3"), CREATED_AT),
+            new Row(2L, "dito \"isso\"\nnova linha", null, null));
+
+        streamExportWriter.write("test", rows, ExportFormat.CSV, COLUMNS, outputStream);
+
+        assertEquals(
+            "id,description,amount,createdAt\n" +
+            "1,\"aluguel, janeiro\",1000,2025-01-02T03:04:05\n" +
+            "2,\"dito \"\"isso\"\"\nnova linha\",,\n",
+            outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void write_ShouldRecordRowsAndDuration() throws Exception {
+        var rows = IntStream.rangeClosed(1, 5).mapToObj(id -> new Row((long) id, "linha", BigDecimal.ONE, CREATED_AT));
+
+        streamExportWriter.write("test", rows, ExportFormat.CSV, COLUMNS, new ByteArrayOutputStream());
+
+        assertEquals(5.0, meterRegistry.get("export.rows").tag("name", "test").tag("format", "CSV").counter().count());
+        assertEquals(1, meterRegistry.get("export.duration").tag("name", "test").tag("format", "CSV").timer().count());
+    }
+}
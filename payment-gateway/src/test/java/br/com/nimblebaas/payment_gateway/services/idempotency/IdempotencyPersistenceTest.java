@@ -0,0 +1,176 @@
+package br.com.nimblebaas.payment_gateway.services.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.nimblebaas.payment_gateway.dtos.input.charge.ChargeInputRecord;
+import br.com.nimblebaas.payment_gateway.dtos.output.charge.ChargeOutputDTO;
+import br.com.nimblebaas.payment_gateway.entities.idempotency.IdempotencyKey;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotencyStatus;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotentOperation;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.idempotency.IdempotencyKeyRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyPersistenceTest {
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        var suffix = UUID.randomUUID().toString();
+        user = new User();
+        user.setName("idempotency-" + suffix);
+        user.setCpf(suffix);
+        user.setEmail(suffix + "@example.com");
+        user.setPassword("password");
+        user = userRepository.save(user);
+        key = UUID.randomUUID().toString();
+    }
+
+    @Test
+    void execute_WhenRetriedOnAnotherNode_ShouldReplayStoredResponse() {
+        var request = new ChargeInputRecord("12345678900", new BigDecimal("100.00"), "cobrança");
+        var executions = new AtomicInteger();
+        var response = new ChargeOutputDTO();
+        response.setIdentifier("charge-1");
+        response.setAmount(new BigDecimal("100.00"));
+
+        var first = createNode().execute(user, key, IdempotentOperation.CHARGE_CREATE, request, ChargeOutputDTO.class, () -> {
+            executions.incrementAndGet();
+            return response;
+        });
+        var retried = createNode().execute(user, key, IdempotentOperation.CHARGE_CREATE, request, ChargeOutputDTO.class, () -> {
+            executions.incrementAndGet();
+            return new ChargeOutputDTO();
+        });
+
+        assertEquals(1, executions.get());
+        assertEquals("charge-1", first.getIdentifier());
+        assertEquals("charge-1", retried.getIdentifier());
+        assertEquals(0, new BigDecimal("100.00").compareTo(retried.getAmount()));
+        assertEquals(IdempotencyStatus.COMPLETED, idempotencyKeyRepository.findByUserAndKey(user, key).orElseThrow().getStatus());
+    }
+
+    @Test
+    void execute_WhenPreviousAttemptCrashedAndLeaseExpired_ShouldTakeOverKey() {
+        var request = new ChargeInputRecord("12345678900", new BigDecimal("100.00"), "cobrança");
+        var node = createNode();
+        var abandoned = createIdempotencyKey();
+        abandoned.setOperation(IdempotentOperation.CHARGE_CREATE);
+        abandoned.setRequestHash(ReflectionTestUtils.invokeMethod(node, "hash", request));
+        abandoned.setLeaseOwner("crashed-node");
+        abandoned.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1));
+        idempotencyKeyRepository.saveAndFlush(abandoned);
+        var response = new ChargeOutputDTO();
+        response.setIdentifier("charge-1");
+
+        var result = node.execute(user, key, IdempotentOperation.CHARGE_CREATE, request, ChargeOutputDTO.class, () -> response);
+
+        assertEquals("charge-1", result.getIdentifier());
+        var completed = idempotencyKeyRepository.findByUserAndKey(user, key).orElseThrow();
+        assertEquals(IdempotencyStatus.COMPLETED, completed.getStatus());
+        assertNull(completed.getLeaseOwner());
+    }
+
+    @Test
+    void execute_WhenLeaseIsTakenOverWhileRunning_ShouldKeepBusinessChangeAndLeaveKeyToNewOwner() {
+        var request = new ChargeInputRecord("12345678900", new BigDecimal("100.00"), "cobrança");
+        var email = UUID.randomUUID() + "@example.com";
+
+        var response = createNode().execute(
+            user, key, IdempotentOperation.CHARGE_CREATE, request, ChargeOutputDTO.class, () -> {
+                assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+                var created = new User();
+                created.setName("committed");
+                created.setCpf(UUID.randomUUID().toString());
+                created.setEmail(email);
+                created.setPassword("password");
+                userRepository.save(created);
+                CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                    "update idempotency_keys set lease_owner = 'other-node' where user_id = ? and idempotency_key = ?", user.getId(), key)).join();
+                return new ChargeOutputDTO();
+            });
+
+        var idempotencyKey = idempotencyKeyRepository.findByUserAndKey(user, key).orElseThrow();
+        assertNotNull(response);
+        assertTrue(userRepository.findAll().stream().anyMatch(saved -> email.equals(saved.getEmail())));
+        assertEquals(IdempotencyStatus.IN_PROGRESS, idempotencyKey.getStatus());
+        assertEquals("other-node", idempotencyKey.getLeaseOwner());
+    }
+
+    @Test
+    void saveAndFlush_WithDuplicatedKeyForUser_ShouldViolateUniqueConstraint() {
+        idempotencyKeyRepository.saveAndFlush(createIdempotencyKey());
+
+        assertThrows(DataIntegrityViolationException.class, () -> idempotencyKeyRepository.saveAndFlush(createIdempotencyKey()));
+    }
+
+    private IdempotencyKey createIdempotencyKey() {
+        return IdempotencyKey.builder()
+            .user(user)
+            .key(key)
+            .operation(IdempotentOperation.CHARGE_PAY)
+            .requestHash("hash")
+            .status(IdempotencyStatus.IN_PROGRESS)
+            .build();
+    }
+
+    private IdempotencyService createNode() {
+        var idempotencyService = new IdempotencyService(idempotencyKeyRepository, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), transactionManager);
+        ReflectionTestUtils.setField(idempotencyService, "cacheMaximumSize", 100L);
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(idempotencyService, "pollIntervalMillis", 10L);
+        ReflectionTestUtils.setField(idempotencyService, "retentionHours", 24L);
+        ReflectionTestUtils.setField(idempotencyService, "leaseSeconds", 30L);
+        ReflectionTestUtils.setField(idempotencyService, "requestHashSecret", "segredo-de-teste");
+        idempotencyService.init();
+        return idempotencyService;
+    }
+}
@@ -0,0 +1,310 @@
+package br.com.nimblebaas.payment_gateway.services.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.nimblebaas.payment_gateway.dtos.input.account.MakeSelfDepositInputRecord;
+import br.com.nimblebaas.payment_gateway.entities.idempotency.IdempotencyKey;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotencyStatus;
+import br.com.nimblebaas.payment_gateway.enums.idempotency.IdempotentOperation;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.idempotency.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "key-1";
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyService idempotencyService;
+    private User user;
+    private MakeSelfDepositInputRecord request;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyService = new IdempotencyService(idempotencyKeyRepository, new ObjectMapper(), meterRegistry, transactionManager);
+        ReflectionTestUtils.setField(idempotencyService, "cacheMaximumSize", 100L);
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(idempotencyService, "pollIntervalMillis", 10L);
+        ReflectionTestUtils.setField(idempotencyService, "retentionHours", 24L);
+        ReflectionTestUtils.setField(idempotencyService, "leaseSeconds", 30L);
+        ReflectionTestUtils.setField(idempotencyService, "requestHashSecret", "segredo-de-teste");
+        idempotencyService.init();
+        lenient().when(idempotencyKeyRepository.complete(any(), anyString(), any(), any(LocalDateTime.class))).thenReturn(1);
+
+        user = new User();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        request = new MakeSelfDepositInputRecord(new BigDecimal("100.00"));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void execute_WithoutKey_ShouldRunActionWithoutStoringResponse() {
+        var result = idempotencyService.execute(user, " ", IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, this::run);
+
+        assertEquals("resposta-1", result);
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+
+    @Test
+    void execute_WithTooLongKey_ShouldThrowBadRequest() {
+        var key = "k".repeat(256);
+
+        var exception = assertThrows(BusinessRuleException.class,
+            () -> idempotencyService.execute(user, key, IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, this::run));
+
+        assertEquals(BusinessRules.INVALID_IDEMPOTENCY_KEY.name(), exception.getErrorDTO().getReason());
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void execute_WhenRetried_ShouldReplayCachedResponseWithoutRunningActionAgain() {
+        when(idempotencyKeyRepository.findByUserAndKey(user, KEY)).thenReturn(Optional.empty());
+
+        var first = idempotencyService.execute(user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, this::run);
+        var retried = idempotencyService.execute(user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, this::run);
+
+        assertEquals("resposta-1", first);
+        assertEquals("resposta-1", retried);
+        assertEquals(1, executions.get());
+        verify(idempotencyKeyRepository).findByUserAndKey(user, KEY);
+        verify(idempotencyKeyRepository).saveAndFlush(any(IdempotencyKey.class));
+        verify(idempotencyKeyRepository).complete(isNull(), anyString(), eq("\"resposta-1\""), any(LocalDateTime.class));
+        verify(transactionManager).commit(any());
+        assertEquals(1.0, meterRegistry.get("idempotency.requests").tag("result", "replayed").counter().count());
+    }
+
+    @Test
+    void execute_WhenReusedWithAnotherRequest_ShouldThrowUnprocessableEntity() {
+        when(idempotencyKeyRepository.findByUserAndKey(user, KEY)).thenReturn(Optional.empty());
+        idempotencyService.execute(user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, this::run);
+        var otherRequest = new MakeSelfDepositInputRecord(new BigDecimal("200.00"));
+
+        var exception = assertThrows(BusinessRuleException.class,
+            () -> idempotencyService.execute(user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, otherRequest, String.class, this::run));
+
+        assertEquals(BusinessRules.IDEMPOTENCY_KEY_REUSED.name(), exception.getErrorDTO().getReason());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getErrorDTO().getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_WhenCompletedOnAnotherNode_ShouldReplayStoredResponse() {
+        var stored = IdempotencyKey.builder()
+            .operation(IdempotentOperation.ACCOUNT_DEPOSIT)
+            .requestHash(hashOf(request))
+            .status(IdempotencyStatus.COMPLETED)
+            .responseBody("\"resposta-armazenada\"")
+            .build();
+        when(idempotencyKeyRepository.findByUserAndKey(user, KEY)).thenReturn(Optional.of(stored));
+
+        var result = idempotencyService.execute(user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, this::run);
+
+        assertEquals("resposta-armazenada", result);
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void execute_WhenAnotherNodeClaimsKeyFirst_ShouldWaitForItsResponse() {
+        var inProgress = IdempotencyKey.builder()
+            .operation(IdempotentOperation.CHARGE_PAY)
+            .requestHash(hashOf(request))
+            .status(IdempotencyStatus.IN_PROGRESS)
+            .build();
+        var completed = IdempotencyKey.builder()
+            .operation(IdempotentOperation.CHARGE_PAY)
+            .requestHash(hashOf(request))
+            .status(IdempotencyStatus.COMPLETED)
+            .build();
+        when(idempotencyKeyRepository.findByUserAndKey(user, KEY))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(inProgress))
+            .thenReturn(Optional.of(completed));
+        when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKey.class))).thenThrow(new DataIntegrityViolationException("duplicada"));
+
+        idempotencyService.execute(user, KEY, IdempotentOperation.CHARGE_PAY, request, executions::incrementAndGet);
+
+        assertEquals(0, executions.get());
+        verify(idempotencyKeyRepository, times(3)).findByUserAndKey(user, KEY);
+    }
+
+    @Test
+    void execute_WhenAnotherNodeNeverCompletes_ShouldThrowConflict() {
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeoutMillis", 30L);
+        var inProgress = IdempotencyKey.builder()
+            .operation(IdempotentOperation.CHARGE_PAY)
+            .requestHash(hashOf(request))
+            .status(IdempotencyStatus.IN_PROGRESS)
+            .leaseExpiresAt(LocalDateTime.now().plusSeconds(30))
+            .build();
+        when(idempotencyKeyRepository.findByUserAndKey(user, KEY)).thenReturn(Optional.of(inProgress));
+
+        var exception = assertThrows(BusinessRuleException.class,
+            () -> idempotencyService.execute(user, KEY, IdempotentOperation.CHARGE_PAY, request, executions::incrementAndGet));
+
+        assertEquals(BusinessRules.IDEMPOTENCY_KEY_IN_PROGRESS.name(), exception.getErrorDTO().getReason());
+        assertEquals(HttpStatus.CONFLICT, exception.getErrorDTO().getStatus());
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void execute_WhenLeaseOfAbandonedKeyExpired_ShouldTakeOverAndRunAction() {
+        var abandoned = IdempotencyKey.builder()
+            .id(7L)
+            .key(KEY)
+            .operation(IdempotentOperation.ACCOUNT_DEPOSIT)
+            .requestHash(hashOf(request))
+            .status(IdempotencyStatus.IN_PROGRESS)
+            .leaseOwner("crashed-node")
+            .leaseExpiresAt(LocalDateTime.now().minusSeconds(1))
+            .build();
+        when(idempotencyKeyRepository.findByUserAndKey(user, KEY)).thenReturn(Optional.of(abandoned));
+        when(idempotencyKeyRepository.takeOverExpiredLease(eq(7L), anyString(), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+
+        var result = idempotencyService.execute(user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, this::run);
+
+        assertEquals("resposta-1", result);
+        assertEquals(1, executions.get());
+        verify(idempotencyKeyRepository).complete(eq(7L), anyString(), eq("\"resposta-1\""), any(LocalDateTime.class));
+        assertEquals(1.0, meterRegistry.get("idempotency.requests").tag("result", "taken_over").counter().count());
+    }
+
+    @Test
+    void execute_WhenLeaseIsTakenOverWhileRunning_ShouldReturnResponseWithoutReleasingKey() {
+        when(idempotencyKeyRepository.findByUserAndKey(user, KEY)).thenReturn(Optional.empty());
+        when(idempotencyKeyRepository.complete(any(), anyString(), any(), any(LocalDateTime.class))).thenReturn(0);
+
+        var result = idempotencyService.execute(user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, this::run);
+
+        assertEquals("resposta-1", result);
+        verify(idempotencyKeyRepository).complete(isNull(), anyString(), eq("\"resposta-1\""), any(LocalDateTime.class));
+        verify(idempotencyKeyRepository, never()).release(any(), anyString());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    void execute_WhenActionFails_ShouldReleaseKeySoRetryCanRunAgain() {
+        when(idempotencyKeyRepository.findByUserAndKey(user, KEY)).thenReturn(Optional.empty());
+        var failure = new BusinessRuleException(getClass(), BusinessRules.AUTHORIZATION_FAILED, "Depósito não autorizado");
+
+        var exception = assertThrows(BusinessRuleException.class,
+            () -> idempotencyService.execute(user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, request, () -> {
+                throw failure;
+            }));
+        var retried = idempotencyService.execute(user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, this::run);
+
+        assertSame(failure, exception);
+        verify(idempotencyKeyRepository).release(isNull(), anyString());
+        verify(transactionManager, never()).rollback(any());
+        assertEquals("resposta-1", retried);
+    }
+
+    @Test
+    void execute_WithConcurrentDuplicates_ShouldRunActionOnce() throws Exception {
+        when(idempotencyKeyRepository.findByUserAndKey(user, KEY)).thenReturn(Optional.empty());
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var first = CompletableFuture.supplyAsync(() -> idempotencyService.execute(
+            user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, () -> {
+                started.countDown();
+                await(release);
+                return run();
+            }));
+        started.await(1, TimeUnit.SECONDS);
+        var duplicate = CompletableFuture.supplyAsync(() -> idempotencyService.execute(
+            user, KEY, IdempotentOperation.ACCOUNT_DEPOSIT, request, String.class, this::run));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertEquals("resposta-1", first.get(1, TimeUnit.SECONDS));
+        assertEquals("resposta-1", duplicate.get(1, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        verify(idempotencyKeyRepository, never()).release(any(), anyString());
+    }
+
+    @Test
+    void execute_WithoutResponseBody_ShouldReplayNull() {
+        when(idempotencyKeyRepository.findByUserAndKey(user, KEY)).thenReturn(Optional.empty());
+
+        idempotencyService.execute(user, KEY, IdempotentOperation.CHARGE_PAY, request, executions::incrementAndGet);
+        var replayed = idempotencyService.execute(user, KEY, IdempotentOperation.CHARGE_PAY, request, Void.class, () -> null);
+
+        assertNull(replayed);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void hash_WithAnotherSecret_ShouldNotMatchStoredHash() {
+        var otherNode = new IdempotencyService(idempotencyKeyRepository, new ObjectMapper(), meterRegistry, transactionManager);
+        ReflectionTestUtils.setField(otherNode, "cacheMaximumSize", 100L);
+        ReflectionTestUtils.setField(otherNode, "retentionHours", 24L);
+        ReflectionTestUtils.setField(otherNode, "requestHashSecret", "outro-segredo");
+        otherNode.init();
+
+        String otherHash = ReflectionTestUtils.invokeMethod(otherNode, "hash", request);
+
+        assertEquals(64, hashOf(request).length());
+        assertNotEquals(hashOf(request), otherHash);
+    }
+
+    private String run() {
+        return "resposta-" + executions.incrementAndGet();
+    }
+
+    private String hashOf(Object request) {
+        return ReflectionTestUtils.invokeMethod(idempotencyService, "hash", request);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
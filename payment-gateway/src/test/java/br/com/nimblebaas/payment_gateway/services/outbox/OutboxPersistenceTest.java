@@ -0,0 +1,223 @@
+package br.com.nimblebaas.payment_gateway.services.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.OutboxEventRecord;
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.outbox.OutboxEvent;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxEventStatus;
+import br.com.nimblebaas.payment_gateway.repositories.charge.ChargeRepository;
+import br.com.nimblebaas.payment_gateway.repositories.outbox.OutboxEventRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+import br.com.nimblebaas.payment_gateway.services.charge.ChargeStatusService;
+import br.com.nimblebaas.payment_gateway.services.outbox.sink.MemoryOutboxSink;
+
+@DataJpaTest(showSql = false, properties = "app.outbox.sink=MEMORY")
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+    OutboxService.class,
+    OutboxRelayService.class,
+    ChargeStatusService.class,
+    MemoryOutboxSink.class,
+    OutboxPersistenceTest.OutboxConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxPersistenceTest {
+
+    @TestConfiguration
+    static class OutboxConfig {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        }
+    }
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRelayService outboxRelayService;
+
+    @Autowired
+    private ChargeStatusService chargeStatusService;
+
+    @Autowired
+    private MemoryOutboxSink memoryOutboxSink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("update outbox_events set status = 'PUBLISHED', published_at = current_timestamp where status = 'PENDING'");
+        memoryOutboxSink.clear();
+    }
+
+    @Test
+    void save_ShouldWriteChargeAndOutboxEventInTheSameTransaction() {
+        var charge = createCharge();
+        charge.setStatus(ChargeStatus.PAID);
+
+        chargeStatusService.save(charge);
+
+        var outboxEvents = pendingEvents();
+        assertEquals(1, outboxEvents.size());
+        assertEquals(charge.getIdentifier(), outboxEvents.get(0).getAggregateId());
+        assertEquals("CHARGE_PAID", outboxEvents.get(0).getEventType());
+        assertEquals(ChargeStatus.PAID, chargeRepository.findById(charge.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void record_WithoutTransaction_ShouldBeRejected() {
+        var charge = createCharge();
+
+        assertThrows(IllegalTransactionStateException.class, () -> outboxService.record(charge));
+        assertTrue(pendingEvents().isEmpty());
+    }
+
+    @Test
+    void relay_ShouldPublishPendingEventsToSinkInIdOrder() {
+        var charges = List.of(createCharge(), createCharge(), createCharge());
+        charges.forEach(chargeStatusService::save);
+        var pendingIds = pendingEvents().stream().map(OutboxEvent::getId).toList();
+
+        var result = outboxRelayService.relay(10);
+
+        assertEquals(3, result.published());
+        assertEquals(pendingIds, memoryOutboxSink.getEvents().stream().map(OutboxEventRecord::id).toList());
+        assertEquals(
+            charges.stream().map(Charge::getIdentifier).toList(),
+            memoryOutboxSink.getEvents().stream().map(OutboxEventRecord::aggregateId).toList());
+        assertTrue(pendingEvents().isEmpty());
+        pendingIds.forEach(id -> assertEquals(OutboxEventStatus.PUBLISHED, outboxEventRepository.findById(id).orElseThrow().getStatus()));
+    }
+
+    @Test
+    void relay_ShouldSkipEventsLockedByAnotherRelay() {
+        List.of(createCharge(), createCharge(), createCharge()).forEach(chargeStatusService::save);
+        var pendingIds = pendingEvents().stream().map(OutboxEvent::getId).toList();
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+
+        var result = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList("select id from outbox_events where id in (?, ?) for update", Long.class, pendingIds.get(0), pendingIds.get(1));
+            return CompletableFuture.supplyAsync(() -> outboxRelayService.relay(10)).join();
+        });
+
+        assertEquals(1, result.published());
+        assertEquals(pendingIds.subList(2, 3), memoryOutboxSink.getEvents().stream().map(OutboxEventRecord::id).toList());
+        assertEquals(pendingIds.subList(0, 2), pendingEvents().stream().map(OutboxEvent::getId).toList());
+    }
+
+    @Test
+    void relay_ShouldHoldLaterEventsOfAnAggregateWhileAnEarlierOneIsPending() {
+        var charge = createCharge();
+        var other = createCharge();
+        charge.setStatus(ChargeStatus.PAYMENT_PROCESSING);
+        chargeStatusService.save(charge);
+        charge.setStatus(ChargeStatus.PAID);
+        chargeStatusService.save(charge);
+        chargeStatusService.save(other);
+        var pendingIds = pendingEvents().stream().map(OutboxEvent::getId).toList();
+        jdbcTemplate.update("update outbox_events set available_at = dateadd('MINUTE', 10, current_timestamp) where id = ?", pendingIds.get(0));
+
+        var held = outboxRelayService.relay(10);
+
+        assertEquals(1, held.published());
+        assertEquals(List.of(other.getIdentifier()), memoryOutboxSink.getEvents().stream().map(OutboxEventRecord::aggregateId).toList());
+
+        jdbcTemplate.update("update outbox_events set available_at = current_timestamp where id = ?", pendingIds.get(0));
+        outboxRelayService.relay(10);
+        outboxRelayService.relay(10);
+
+        assertEquals(
+            List.of("CHARGE_PAYMENT_PROCESSING", "CHARGE_PAID"),
+            memoryOutboxSink.getEvents().stream()
+                .filter(event -> event.aggregateId().equals(charge.getIdentifier()))
+                .map(OutboxEventRecord::eventType)
+                .toList());
+        assertTrue(pendingEvents().isEmpty());
+    }
+
+    @Test
+    void record_ShouldAssignConsecutiveIds() {
+        var charge = createCharge();
+        chargeStatusService.save(charge);
+        chargeStatusService.save(charge);
+
+        var ids = pendingEvents().stream().map(OutboxEvent::getId).toList();
+
+        assertEquals(ids.get(0) + 1, ids.get(1));
+    }
+
+    private List<OutboxEvent> pendingEvents() {
+        return outboxEventRepository.findAll().stream()
+            .filter(outboxEvent -> outboxEvent.getStatus() == OutboxEventStatus.PENDING)
+            .sorted((first, second) -> first.getId().compareTo(second.getId()))
+            .toList();
+    }
+
+    private Charge createCharge() {
+        return chargeRepository.save(Charge.builder()
+            .identifier(UUID.randomUUID().toString())
+            .originatorUser(createUser())
+            .destinationUser(createUser())
+            .amount(new BigDecimal("100.00"))
+            .status(ChargeStatus.PENDING)
+            .build());
+    }
+
+    private User createUser() {
+        var suffix = UUID.randomUUID().toString();
+        var user = new User();
+        user.setName("outbox-" + suffix);
+        user.setCpf(suffix);
+        user.setEmail(suffix + "@example.com");
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+}
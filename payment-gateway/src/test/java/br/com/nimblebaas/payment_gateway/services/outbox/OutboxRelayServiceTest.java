@@ -0,0 +1,147 @@
+package br.com.nimblebaas.payment_gateway.services.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.OutboxEventRecord;
+import br.com.nimblebaas.payment_gateway.entities.outbox.OutboxEvent;
+import br.com.nimblebaas.payment_gateway.enums.exception.BusinessRules;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxAggregateType;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxEventStatus;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxSinkType;
+import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
+import br.com.nimblebaas.payment_gateway.repositories.outbox.OutboxEventRepository;
+import br.com.nimblebaas.payment_gateway.services.outbox.sink.IOutboxSink;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private IOutboxSink outboxSink;
+
+    private OutboxRelayService outboxRelayService;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelayService = new OutboxRelayService(outboxEventRepository, List.of(outboxSink));
+        ReflectionTestUtils.setField(outboxRelayService, "outboxSinkType", OutboxSinkType.MEMORY);
+        ReflectionTestUtils.setField(outboxRelayService, "retryBaseMillis", 1000L);
+        ReflectionTestUtils.setField(outboxRelayService, "retryMaxMillis", 60000L);
+        ReflectionTestUtils.setField(outboxRelayService, "retentionHours", 72L);
+        lenient().when(outboxSink.isResponsible(OutboxSinkType.MEMORY)).thenReturn(true);
+    }
+
+    @Test
+    void relay_ShouldSendClaimedEventsInOrderAndMarkThemPublished() {
+        var first = event(1L, 0);
+        var second = event(2L, 0);
+        when(outboxEventRepository.claimAvailable(any(LocalDateTime.class), any())).thenReturn(List.of(first, second));
+
+        var result = outboxRelayService.relay(10);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEventRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxSink).send(captor.capture());
+        assertEquals(List.of(1L, 2L), captor.getValue().stream().map(OutboxEventRecord::id).toList());
+        assertEquals(2, result.claimed());
+        assertEquals(2, result.published());
+        assertEquals(OutboxEventStatus.PUBLISHED, first.getStatus());
+        assertEquals(1, first.getAttempts());
+        assertNotNull(first.getPublishedAt());
+        verify(outboxEventRepository).saveAll(List.of(first, second));
+    }
+
+    @Test
+    void relay_WithNothingToClaim_ShouldNotCallSink() {
+        when(outboxEventRepository.claimAvailable(any(LocalDateTime.class), any())).thenReturn(List.of());
+
+        var result = outboxRelayService.relay(10);
+
+        assertEquals(0, result.claimed());
+        verify(outboxSink, never()).send(anyList());
+    }
+
+    @Test
+    void relay_WhenSinkFails_ShouldKeepEventsPendingWithCappedBackoff() {
+        var first = event(1L, 0);
+        var retried = event(2L, 9);
+        when(outboxEventRepository.claimAvailable(any(LocalDateTime.class), any())).thenReturn(List.of(first, retried));
+        doThrow(new IllegalStateException("Webhook indisponível")).when(outboxSink).send(anyList());
+
+        var before = LocalDateTime.now();
+        var result = outboxRelayService.relay(10);
+
+        assertEquals(2, result.claimed());
+        assertEquals(0, result.published());
+        assertEquals(OutboxEventStatus.PENDING, first.getStatus());
+        assertEquals(1, first.getAttempts());
+        assertEquals("Webhook indisponível", first.getErrorMessage());
+        assertNull(first.getPublishedAt());
+        assertFalse(first.getAvailableAt().isBefore(before.plusSeconds(1)));
+        assertTrue(first.getAvailableAt().isBefore(before.plusSeconds(2)));
+        assertEquals(10, retried.getAttempts());
+        assertFalse(retried.getAvailableAt().isBefore(before.plusSeconds(60)));
+        assertTrue(retried.getAvailableAt().isBefore(before.plusSeconds(61)));
+        verify(outboxEventRepository).saveAll(List.of(first, retried));
+    }
+
+    @Test
+    void relay_WithoutResponsibleSink_ShouldThrowException() {
+        ReflectionTestUtils.setField(outboxRelayService, "outboxSinkType", OutboxSinkType.WEBHOOK);
+
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class, () -> outboxRelayService.relay(10));
+
+        assertEquals(BusinessRules.OUTBOX_SINK_NOT_FOUND.name(), exception.getErrorDTO().getReason());
+        verify(outboxEventRepository, never()).claimAvailable(any(LocalDateTime.class), any());
+    }
+
+    @Test
+    void purgePublished_ShouldDeleteEventsPublishedBeforeRetention() {
+        when(outboxEventRepository.deletePublishedBefore(any(LocalDateTime.class))).thenReturn(3);
+
+        var before = LocalDateTime.now().minusHours(72);
+        outboxRelayService.purgePublished();
+
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository).deletePublishedBefore(captor.capture());
+        assertFalse(captor.getValue().isBefore(before));
+    }
+
+    private OutboxEvent event(Long id, int attempts) {
+        return OutboxEvent.builder()
+            .id(id)
+            .aggregateType(OutboxAggregateType.CHARGE)
+            .aggregateId("charge-" + id)
+            .eventType("CHARGE_PAID")
+            .payload("{}")
+            .status(OutboxEventStatus.PENDING)
+            .attempts(attempts)
+            .availableAt(LocalDateTime.now())
+            .build();
+    }
+}
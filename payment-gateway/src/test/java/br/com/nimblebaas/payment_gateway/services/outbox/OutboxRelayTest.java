@@ -0,0 +1,78 @@
+package br.com.nimblebaas.payment_gateway.services.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.outbox.OutboxRelayResultRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRelayService outboxRelayService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxRelayService, meterRegistry);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 2);
+        ReflectionTestUtils.setField(outboxRelay, "maxBatches", 5);
+        outboxRelay.init();
+    }
+
+    @Test
+    void run_ShouldRelayBatchesUntilOneComesBackShort() {
+        when(outboxRelayService.relay(2)).thenReturn(
+            new OutboxRelayResultRecord(2, 2),
+            new OutboxRelayResultRecord(2, 2),
+            new OutboxRelayResultRecord(1, 1));
+
+        outboxRelay.run();
+
+        verify(outboxRelayService, times(3)).relay(2);
+        assertEquals(5.0, meterRegistry.get("outbox.relay.events").tag("result", "published").counter().count());
+        assertEquals(0.0, meterRegistry.get("outbox.relay.events").tag("result", "failed").counter().count());
+        assertEquals(1L, meterRegistry.get("outbox.relay.run").timer().count());
+    }
+
+    @Test
+    void drain_ShouldStopAtMaxBatches() {
+        when(outboxRelayService.relay(2)).thenReturn(new OutboxRelayResultRecord(2, 2));
+
+        var published = outboxRelay.drain();
+
+        assertEquals(10, published);
+        verify(outboxRelayService, times(5)).relay(2);
+    }
+
+    @Test
+    void drain_WhenSinkFails_ShouldStopAndCountFailedEvents() {
+        when(outboxRelayService.relay(2)).thenReturn(new OutboxRelayResultRecord(2, 0));
+
+        var published = outboxRelay.drain();
+
+        assertEquals(0, published);
+        verify(outboxRelayService, times(1)).relay(2);
+        assertEquals(2.0, meterRegistry.get("outbox.relay.events").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    void drain_WhenRelayThrows_ShouldStopWithoutPropagating() {
+        when(outboxRelayService.relay(2)).thenThrow(new IllegalStateException("Banco indisponível"));
+
+        assertEquals(0, outboxRelay.drain());
+    }
+}
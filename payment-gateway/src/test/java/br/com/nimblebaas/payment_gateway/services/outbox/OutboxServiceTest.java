@@ -0,0 +1,90 @@
+package br.com.nimblebaas.payment_gateway.services.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.nimblebaas.payment_gateway.entities.charge.Charge;
+import br.com.nimblebaas.payment_gateway.entities.outbox.OutboxEvent;
+import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.charge.ChargeStatus;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxAggregateType;
+import br.com.nimblebaas.payment_gateway.enums.outbox.OutboxEventStatus;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
+import br.com.nimblebaas.payment_gateway.repositories.outbox.OutboxEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxService(outboxEventRepository, new ObjectMapper());
+        when(outboxEventRepository.save(any(OutboxEvent.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void record_WithCharge_ShouldSavePendingChargeEvent() {
+        var originatorUser = new User();
+        originatorUser.setCpf("12345678900");
+        var destinationUser = new User();
+        destinationUser.setCpf("98765432100");
+        var charge = Charge.builder()
+            .identifier("charge-identifier")
+            .originatorUser(originatorUser)
+            .destinationUser(destinationUser)
+            .amount(new BigDecimal("100.00"))
+            .status(ChargeStatus.PAID)
+            .build();
+
+        var outboxEvent = outboxService.record(charge);
+
+        assertEquals(OutboxAggregateType.CHARGE, outboxEvent.getAggregateType());
+        assertEquals("charge-identifier", outboxEvent.getAggregateId());
+        assertEquals("CHARGE_PAID", outboxEvent.getEventType());
+        assertEquals(OutboxEventStatus.PENDING, outboxEvent.getStatus());
+        assertEquals(0, outboxEvent.getAttempts());
+        assertNotNull(outboxEvent.getAvailableAt());
+        assertTrue(outboxEvent.getPayload().contains("\"identifier\":\"charge-identifier\""));
+        assertTrue(outboxEvent.getPayload().contains("\"destinationCpf\":\"98765432100\""));
+    }
+
+    @Test
+    void record_WithTransaction_ShouldSavePendingTransactionEvent() {
+        var transaction = Transaction.builder()
+            .id(7L)
+            .amount(new BigDecimal("50.00"))
+            .type(TransactionType.CREDIT)
+            .purpose(TransactionPurpose.DEPOSIT)
+            .status(TransactionStatus.FAILED)
+            .errorMessage("Depósito não autorizado")
+            .build();
+
+        var outboxEvent = outboxService.record(transaction);
+
+        assertEquals(OutboxAggregateType.TRANSACTION, outboxEvent.getAggregateType());
+        assertEquals("7", outboxEvent.getAggregateId());
+        assertEquals("TRANSACTION_FAILED", outboxEvent.getEventType());
+        assertTrue(outboxEvent.getPayload().contains("\"purpose\":\"DEPOSIT\""));
+        assertTrue(outboxEvent.getPayload().contains("\"errorMessage\":\"Depósito não autorizado\""));
+    }
+}
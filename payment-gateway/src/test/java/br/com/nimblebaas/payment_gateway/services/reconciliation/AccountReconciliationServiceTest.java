@@ -0,0 +1,165 @@
+package br.com.nimblebaas.payment_gateway.services.reconciliation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.dtos.internal.account.AccountBalanceSnapshotRecord;
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.reconciliation.ReconciliationMismatch;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.reconciliation.ReconciliationResult;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountBalanceDeltaRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.reconciliation.ReconciliationMismatchRepository;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountDailyBalanceService;
+
+@ExtendWith(MockitoExtension.class)
+class AccountReconciliationServiceTest {
+
+    private static final LocalDateTime CHECKED_AT = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+
+    @Mock
+    private HoldBalanceRepository holdBalanceRepository;
+
+    @Mock
+    private AccountDailyBalanceService accountDailyBalanceService;
+
+    @Mock
+    private ReconciliationMismatchRepository reconciliationMismatchRepository;
+
+    @InjectMocks
+    private AccountReconciliationService accountReconciliationService;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(accountReconciliationService, "graceSeconds", 60L);
+
+        account = new Account(new User());
+        account.setTotalBalance(new BigDecimal("100.00"));
+        account.setHoldBalance(new BigDecimal("20.00"));
+        ReflectionTestUtils.setField(account, "updatedAt", CHECKED_AT.minusHours(1));
+    }
+
+    @Test
+    void reconcile_WhenLedgerMatches_ShouldReturnMatched() {
+        mockBalances(new BigDecimal("110.00"), new BigDecimal("10.00"), new BigDecimal("20.00"));
+        when(reconciliationMismatchRepository.findFirstByAccountAndResolvedAtIsNull(account)).thenReturn(Optional.empty());
+
+        var result = accountReconciliationService.reconcile(1L, CHECKED_AT);
+
+        assertEquals(ReconciliationResult.MATCHED, result);
+        verify(reconciliationMismatchRepository, never()).save(any());
+    }
+
+    @Test
+    void reconcile_WhenLedgerDiverges_ShouldRecordMismatch() {
+        mockBalances(new BigDecimal("80.00"), BigDecimal.ZERO, new BigDecimal("20.00"));
+        when(reconciliationMismatchRepository.findFirstByAccountAndResolvedAtIsNull(account)).thenReturn(Optional.empty());
+
+        var result = accountReconciliationService.reconcile(1L, CHECKED_AT);
+
+        ArgumentCaptor<ReconciliationMismatch> captor = ArgumentCaptor.forClass(ReconciliationMismatch.class);
+        verify(reconciliationMismatchRepository).save(captor.capture());
+        assertEquals(ReconciliationResult.MISMATCHED, result);
+        assertEquals(account, captor.getValue().getAccount());
+        assertEquals(new BigDecimal("80.00"), captor.getValue().getExpectedTotalBalance());
+        assertEquals(new BigDecimal("100.00"), captor.getValue().getActualTotalBalance());
+        assertEquals(CHECKED_AT, captor.getValue().getDetectedAt());
+        assertNull(captor.getValue().getResolvedAt());
+    }
+
+    @Test
+    void reconcile_WhenHoldDiverges_ShouldUpdateOpenMismatch() {
+        var openMismatch = ReconciliationMismatch.builder()
+            .account(account)
+            .detectedAt(CHECKED_AT.minusDays(1))
+            .build();
+        mockBalances(new BigDecimal("100.00"), BigDecimal.ZERO, new BigDecimal("5.00"));
+        when(reconciliationMismatchRepository.findFirstByAccountAndResolvedAtIsNull(account)).thenReturn(Optional.of(openMismatch));
+
+        var result = accountReconciliationService.reconcile(1L, CHECKED_AT);
+
+        assertEquals(ReconciliationResult.MISMATCHED, result);
+        assertEquals(CHECKED_AT.minusDays(1), openMismatch.getDetectedAt());
+        assertEquals(CHECKED_AT, openMismatch.getCheckedAt());
+        assertEquals(new BigDecimal("5.00"), openMismatch.getExpectedHoldBalance());
+        assertEquals(new BigDecimal("20.00"), openMismatch.getActualHoldBalance());
+    }
+
+    @Test
+    void reconcile_WhenOpenMismatchIsFixed_ShouldResolveIt() {
+        var openMismatch = ReconciliationMismatch.builder()
+            .account(account)
+            .detectedAt(CHECKED_AT.minusDays(1))
+            .build();
+        mockBalances(new BigDecimal("100.00"), BigDecimal.ZERO, new BigDecimal("20.00"));
+        when(reconciliationMismatchRepository.findFirstByAccountAndResolvedAtIsNull(account)).thenReturn(Optional.of(openMismatch));
+
+        var result = accountReconciliationService.reconcile(1L, CHECKED_AT);
+
+        assertEquals(ReconciliationResult.MATCHED, result);
+        assertEquals(CHECKED_AT, openMismatch.getResolvedAt());
+        verify(reconciliationMismatchRepository).save(openMismatch);
+    }
+
+    @Test
+    void reconcile_WhenAccountWasRecentlyUpdated_ShouldSkip() {
+        ReflectionTestUtils.setField(account, "updatedAt", CHECKED_AT.minusSeconds(10));
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+
+        var result = accountReconciliationService.reconcile(1L, CHECKED_AT);
+
+        assertEquals(ReconciliationResult.SKIPPED, result);
+        verify(accountDailyBalanceService, never()).getTotalBalanceAt(any(), any());
+    }
+
+    @Test
+    void reconcile_WhenAccountChangesDuringCheck_ShouldSkip() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(accountDailyBalanceService.getTotalBalanceAt(any(), any())).thenReturn(new BigDecimal("100.00"));
+        when(holdBalanceRepository.sumPendingAmount(account)).thenReturn(new BigDecimal("20.00"));
+        when(accountBalanceDeltaRepository.sumPendingAmount(account)).thenReturn(BigDecimal.ZERO);
+        when(accountRepository.findBalanceSnapshotById(1L))
+            .thenReturn(Optional.of(new AccountBalanceSnapshotRecord(new BigDecimal("50.00"), BigDecimal.ZERO, 1L)));
+
+        var result = accountReconciliationService.reconcile(1L, CHECKED_AT);
+
+        assertEquals(ReconciliationResult.SKIPPED, result);
+        verify(reconciliationMismatchRepository, never()).save(any());
+    }
+
+    private void mockBalances(BigDecimal expectedTotalBalance, BigDecimal pendingDeltas, BigDecimal expectedHoldBalance) {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(accountDailyBalanceService.getTotalBalanceAt(any(), any())).thenReturn(expectedTotalBalance);
+        when(holdBalanceRepository.sumPendingAmount(account)).thenReturn(expectedHoldBalance);
+        when(accountBalanceDeltaRepository.sumPendingAmount(account)).thenReturn(pendingDeltas);
+        when(accountRepository.findBalanceSnapshotById(1L))
+            .thenReturn(Optional.of(new AccountBalanceSnapshotRecord(account.getTotalBalance(), account.getHoldBalance(), account.getVersion())));
+    }
+}
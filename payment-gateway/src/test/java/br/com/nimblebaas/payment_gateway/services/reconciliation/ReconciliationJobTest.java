@@ -0,0 +1,134 @@
+package br.com.nimblebaas.payment_gateway.services.reconciliation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.nimblebaas.payment_gateway.entities.reconciliation.ReconciliationRun;
+import br.com.nimblebaas.payment_gateway.enums.reconciliation.ReconciliationResult;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.reconciliation.ReconciliationMismatchRepository;
+import br.com.nimblebaas.payment_gateway.repositories.reconciliation.ReconciliationRunRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliationJobTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ReconciliationRunRepository reconciliationRunRepository;
+
+    @Mock
+    private ReconciliationMismatchRepository reconciliationMismatchRepository;
+
+    @Mock
+    private AccountReconciliationService accountReconciliationService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReconciliationJob reconciliationJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciliationJob = new ReconciliationJob(
+            accountRepository,
+            transactionRepository,
+            reconciliationRunRepository,
+            reconciliationMismatchRepository,
+            accountReconciliationService,
+            meterRegistry);
+        ReflectionTestUtils.setField(reconciliationJob, "parallelism", 2);
+        ReflectionTestUtils.setField(reconciliationJob, "partitionSize", 1000);
+        ReflectionTestUtils.setField(reconciliationJob, "graceSeconds", 60L);
+        reconciliationJob.init();
+
+        when(reconciliationRunRepository.save(any(ReconciliationRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciliationJob.shutdown();
+    }
+
+    @Test
+    void reconcile_WithoutPreviousRun_ShouldCheckEveryAccount() {
+        when(reconciliationRunRepository.findFirstByFinishedAtIsNotNullOrderByStartedAtDesc()).thenReturn(Optional.empty());
+        when(accountRepository.findMaxId()).thenReturn(1500L);
+        when(accountRepository.findIdsBetween(1L, 1000L)).thenReturn(List.of(1L, 2L));
+        when(accountRepository.findIdsBetween(1001L, 2000L)).thenReturn(List.of(1500L));
+        when(accountReconciliationService.reconcile(eq(1L), any())).thenReturn(ReconciliationResult.MATCHED);
+        when(accountReconciliationService.reconcile(eq(2L), any())).thenReturn(ReconciliationResult.MISMATCHED);
+        when(accountReconciliationService.reconcile(eq(1500L), any())).thenReturn(ReconciliationResult.SKIPPED);
+        when(reconciliationMismatchRepository.countByResolvedAtIsNull()).thenReturn(3L);
+
+        var run = reconciliationJob.reconcile();
+
+        assertNull(run.getWatermark());
+        assertEquals(2L, run.getCheckedAccounts());
+        assertEquals(1L, run.getMismatchedAccounts());
+        assertEquals(1L, run.getSkippedAccounts());
+        assertEquals(3.0, meterRegistry.get("reconciliation.mismatches.open").gauge().value());
+        assertEquals(1.0, meterRegistry.get("reconciliation.accounts").tag("result", "mismatched").counter().count());
+        verify(transactionRepository, never()).findPartyAccountIdsUpdatedSince(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void reconcile_AfterPreviousRun_ShouldCheckOnlyAccountsTouchedSinceWatermark() {
+        var lastStartedAt = LocalDateTime.of(2025, 1, 10, 12, 0);
+        var watermark = lastStartedAt.minusSeconds(60);
+        var lastRun = ReconciliationRun.builder().startedAt(lastStartedAt).finishedAt(lastStartedAt.plusMinutes(1)).build();
+
+        when(reconciliationRunRepository.findFirstByFinishedAtIsNotNullOrderByStartedAtDesc()).thenReturn(Optional.of(lastRun));
+        when(accountRepository.findMaxId()).thenReturn(10L);
+        when(accountRepository.findIdsUpdatedSince(1L, 1000L, watermark)).thenReturn(List.of(3L, 5L));
+        when(transactionRepository.findPartyAccountIdsUpdatedSince(1L, 1000L, watermark)).thenReturn(List.of(5L, 7L));
+        when(accountReconciliationService.reconcile(anyLong(), any())).thenReturn(ReconciliationResult.MATCHED);
+
+        var run = reconciliationJob.reconcile();
+
+        assertEquals(watermark, run.getWatermark());
+        assertEquals(3L, run.getCheckedAccounts());
+        verify(accountReconciliationService).reconcile(eq(3L), any());
+        verify(accountReconciliationService).reconcile(eq(5L), any());
+        verify(accountReconciliationService).reconcile(eq(7L), any());
+        verify(accountRepository, never()).findIdsBetween(anyLong(), anyLong());
+    }
+
+    @Test
+    void reconcile_WhenOneAccountFails_ShouldKeepCheckingOthers() {
+        when(reconciliationRunRepository.findFirstByFinishedAtIsNotNullOrderByStartedAtDesc()).thenReturn(Optional.empty());
+        when(accountRepository.findMaxId()).thenReturn(2L);
+        when(accountRepository.findIdsBetween(1L, 1000L)).thenReturn(List.of(1L, 2L));
+        when(accountReconciliationService.reconcile(eq(1L), any())).thenThrow(new IllegalStateException("falha"));
+        when(accountReconciliationService.reconcile(eq(2L), any())).thenReturn(ReconciliationResult.MATCHED);
+
+        reconciliationJob.run();
+
+        assertEquals(1.0, meterRegistry.get("reconciliation.accounts").tag("result", "failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("reconciliation.accounts").tag("result", "matched").counter().count());
+        assertEquals(1L, meterRegistry.get("reconciliation.run").timer().count());
+    }
+}
@@ -0,0 +1,178 @@
+package br.com.nimblebaas.payment_gateway.services.reconciliation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.nimblebaas.payment_gateway.entities.account.Account;
+import br.com.nimblebaas.payment_gateway.entities.account.HoldBalance;
+import br.com.nimblebaas.payment_gateway.entities.transaction.Transaction;
+import br.com.nimblebaas.payment_gateway.entities.user.User;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceStatus;
+import br.com.nimblebaas.payment_gateway.enums.account.HoldBalanceType;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
+import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
+import br.com.nimblebaas.payment_gateway.repositories.account.AccountRepository;
+import br.com.nimblebaas.payment_gateway.repositories.account.HoldBalanceRepository;
+import br.com.nimblebaas.payment_gateway.repositories.reconciliation.ReconciliationMismatchRepository;
+import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
+import br.com.nimblebaas.payment_gateway.services.account.balance.AccountDailyBalanceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(showSql = false, properties = "app.reconciliation.grace-seconds=0")
+@ActiveProfiles({"h2", "batching"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+    ReconciliationJob.class,
+    AccountReconciliationService.class,
+    AccountDailyBalanceService.class,
+    ReconciliationPersistenceTest.MeterRegistryConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReconciliationPersistenceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationPersistenceTest.class);
+
+    private static final int ACCOUNTS = 50;
+    private static final int TRANSACTIONS_PER_ACCOUNT = 100;
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ReconciliationJob reconciliationJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private HoldBalanceRepository holdBalanceRepository;
+
+    @Autowired
+    private ReconciliationMismatchRepository reconciliationMismatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Account> accounts;
+    private List<Transaction> transactions;
+
+    @BeforeEach
+    void setUp() {
+        var suffix = UUID.randomUUID().toString();
+        var users = userRepository.saveAll(IntStream.range(0, ACCOUNTS).mapToObj(index -> createUser(index + "-" + suffix)).toList());
+
+        accounts = accountRepository.saveAll(users.stream().map(user -> {
+            var account = new Account(user);
+            account.setTotalBalance(BigDecimal.valueOf(TRANSACTIONS_PER_ACCOUNT * 10L));
+            account.setHoldBalance(BigDecimal.ONE);
+            return account;
+        }).toList());
+
+        transactions = new ArrayList<>();
+        var holdBalances = new ArrayList<HoldBalance>();
+        accounts.forEach(account -> {
+            IntStream.range(0, TRANSACTIONS_PER_ACCOUNT).forEach(index -> transactions.add(Transaction.builder()
+                .partyAccount(account)
+                .counterpartAccount(account)
+                .amount(BigDecimal.valueOf(index % 2 == 0 ? 30 : 10))
+                .type(index % 2 == 0 ? TransactionType.CREDIT : TransactionType.DEBIT)
+                .purpose(TransactionPurpose.DEPOSIT)
+                .status(TransactionStatus.SUCCESS)
+                .build()));
+            holdBalances.add(HoldBalance.builder()
+                .account(account)
+                .amount(BigDecimal.ONE)
+                .type(HoldBalanceType.CHARGE_PAYMENT)
+                .status(HoldBalanceStatus.PENDING)
+                .build());
+        });
+        transactions = transactionRepository.saveAll(transactions);
+        holdBalanceRepository.saveAll(holdBalances);
+    }
+
+    @Test
+    void reconcile_ShouldReportDriftAndResolveItOnIncrementalRun() {
+        var driftedBalanceAccount = accounts.get(0);
+        var incompleteTransaction = transactions.get(TRANSACTIONS_PER_ACCOUNT);
+        var incompleteTransactionAccount = accounts.get(1);
+        jdbcTemplate.update("update accounts set total_balance = total_balance + 5 where id = ?", driftedBalanceAccount.getId());
+        jdbcTemplate.update("update transactions set status = ? where id = ?", TransactionStatus.PENDING.name(), incompleteTransaction.getId());
+
+        var start = System.nanoTime();
+        var fullRun = reconciliationJob.reconcile();
+        var elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Conciliação completa: {} contas em {} ms ({} transações/s)",
+            fullRun.getCheckedAccounts(), elapsedMillis, transactions.size() * 1000L / elapsedMillis);
+
+        assertTrue(fullRun.getCheckedAccounts() >= ACCOUNTS);
+        assertEquals(List.of(driftedBalanceAccount.getId(), incompleteTransactionAccount.getId()), findOpenMismatchAccountIds());
+        var mismatch = reconciliationMismatchRepository.findFirstByAccountAndResolvedAtIsNull(driftedBalanceAccount).orElseThrow();
+        assertEquals(0, new BigDecimal("1000").compareTo(mismatch.getExpectedTotalBalance()));
+        assertEquals(0, new BigDecimal("1005").compareTo(mismatch.getActualTotalBalance()));
+
+        var fixedAt = LocalDateTime.now();
+        jdbcTemplate.update("update accounts set total_balance = total_balance - 5, updated_at = ? where id = ?", fixedAt, driftedBalanceAccount.getId());
+        jdbcTemplate.update("update transactions set status = ?, updated_at = ? where id = ?", TransactionStatus.SUCCESS.name(), fixedAt, incompleteTransaction.getId());
+
+        var incrementalRun = reconciliationJob.reconcile();
+
+        assertNotNull(incrementalRun.getWatermark());
+        assertEquals(2L, incrementalRun.getCheckedAccounts());
+        assertEquals(0L, incrementalRun.getMismatchedAccounts());
+        assertEquals(List.of(), findOpenMismatchAccountIds());
+    }
+
+    private List<Long> findOpenMismatchAccountIds() {
+        return accounts.stream()
+            .filter(account -> reconciliationMismatchRepository.findFirstByAccountAndResolvedAtIsNull(account).isPresent())
+            .map(Account::getId)
+            .toList();
+    }
+
+    private User createUser(String name) {
+        var user = new User();
+        user.setName(name);
+        user.setCpf(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("password");
+        return user;
+    }
+}
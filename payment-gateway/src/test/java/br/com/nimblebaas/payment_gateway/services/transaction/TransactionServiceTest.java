@@ -11,6 +11,7 @@ import java.math.BigDecimal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -25,6 +26,7 @@ import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionPurpose;
 import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionStatus;
 import br.com.nimblebaas.payment_gateway.enums.transaction.TransactionType;
 import br.com.nimblebaas.payment_gateway.repositories.transaction.TransactionRepository;
+import br.com.nimblebaas.payment_gateway.services.outbox.OutboxService;
 
 @ExtendWith(MockitoExtension.class)
 class TransactionServiceTest {
@@ -32,6 +34,9 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -161,7 +166,10 @@ class TransactionServiceTest {
         assertEquals(TransactionType.CREDIT, result.getType());
         assertEquals(TransactionPurpose.CHARGE_PAYMENT, result.getPurpose());
         assertEquals(TransactionStatus.PENDING, result.getStatus());
-        verify(transactionRepository).save(any(Transaction.class));
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+        verify(transactionRepository).save(captor.capture());
+        assertEquals(originatorAccount, captor.getValue().getPartyAccount());
+        assertEquals(destinationAccount, captor.getValue().getCounterpartAccount());
     }
 
     @Test
@@ -199,6 +207,7 @@ class TransactionServiceTest {
 
         assertEquals(TransactionStatus.SUCCESS, transaction.getStatus());
         verify(transactionRepository).save(transaction);
+        verify(outboxService).record(transaction);
     }
 
     @Test
@@ -214,6 +223,7 @@ class TransactionServiceTest {
         assertEquals(TransactionStatus.FAILED, transaction.getStatus());
         assertEquals("Error occurred", transaction.getErrorMessage());
         verify(transactionRepository).save(transaction);
+        verify(outboxService).record(transaction);
     }
 }
 
@@ -33,6 +33,7 @@ import br.com.nimblebaas.payment_gateway.events.authentication.PasswordChangeEve
 import br.com.nimblebaas.payment_gateway.exceptions.BusinessRuleException;
 import br.com.nimblebaas.payment_gateway.repositories.user.UserRepository;
 import br.com.nimblebaas.payment_gateway.services.account.AccountService;
+import br.com.nimblebaas.payment_gateway.services.authentication.AuthenticationCacheService;
 import br.com.nimblebaas.payment_gateway.services.authentication.RefreshTokenService;
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -55,6 +56,9 @@ class UserServiceTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private AuthenticationCacheService authenticationCacheService;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
@@ -126,6 +130,7 @@ class UserServiceTest {
         verify(userCreationValidator).validateIfPasswordIsStrong("NewStrongPass456!");
         verify(refreshTokenService).revokeUserRefreshTokens(user);
         verify(userRepository).save(user);
+        verify(authenticationCacheService).evictUser("12345678900");
         verify(eventPublisher).publishEvent(any(PasswordChangeEvent.class));
         assertNotNull(user.getLastChangedPasswordAt());
     }
@@ -148,6 +153,15 @@ class UserServiceTest {
         assertEquals(BusinessRules.INVALID_PASSWORD.name(), exception.getErrorDTO().getReason());
     }
 
+    @Test
+    void upgradePasswordHash_ShouldSaveNewHashAndEvictCachedUser() {
+        userService.upgradePasswordHash(user, "{bcrypt}upgradedPassword");
+
+        assertEquals("{bcrypt}upgradedPassword", user.getPassword());
+        verify(userRepository).save(user);
+        verify(authenticationCacheService).evictUser(user.getCpf());
+    }
+
     @Test
     void getUser_WithValidCpf_ShouldReturnUserOutputRecord() {
         when(userRepository.findByCpfOrEmail(anyString(), any())).thenReturn(Optional.of(user));